@@ -116,6 +116,9 @@ public class SecurityConfig {
 			.antMatchers("/user/**").hasAnyRole("USER", "ADMIN")
 
 			.antMatchers("/auth/**").permitAll()
+
+			.antMatchers("/actuator/health").permitAll()
+			.antMatchers("/actuator/**").hasAnyRole("ADMIN")
 			.anyRequest().permitAll();
 	}
 
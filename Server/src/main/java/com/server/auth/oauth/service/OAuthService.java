@@ -1,5 +1,6 @@
 package com.server.auth.oauth.service;
 
+import static com.server.global.config.GlobalConfig.*;
 import static java.nio.charset.StandardCharsets.*;
 import static org.springframework.http.MediaType.*;
 
@@ -9,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -59,7 +61,7 @@ public class OAuthService {
 
 	public OAuthService(InMemoryClientRegistrationRepository inMemoryRepository, MemberRepository memberRepository,
 		ChannelService channelService, JwtProvider jwtProvider, DefaultOAuth2UserService defaultOAuth2UserService,
-		RestTemplate restTemplate) {
+		@Qualifier(OAUTH_REST_TEMPLATE) RestTemplate restTemplate) {
 		this.inMemoryRepository = inMemoryRepository;
 		this.memberRepository = memberRepository;
 		this.channelService = channelService;
@@ -1,20 +1,52 @@
 package com.server.chat.config;
 
 import com.server.chat.interceptor.StompHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.config.annotation.*;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.websocket.inbound.core-pool-size}")
+    private int inboundCorePoolSize;
+    @Value("${chat.websocket.inbound.max-pool-size}")
+    private int inboundMaxPoolSize;
+    @Value("${chat.websocket.inbound.queue-capacity}")
+    private int inboundQueueCapacity;
+    @Value("${chat.websocket.outbound.core-pool-size}")
+    private int outboundCorePoolSize;
+    @Value("${chat.websocket.outbound.max-pool-size}")
+    private int outboundMaxPoolSize;
+    @Value("${chat.websocket.outbound.queue-capacity}")
+    private int outboundQueueCapacity;
+    @Value("${chat.websocket.send-time-limit-ms}")
+    private int sendTimeLimit;
+    @Value("${chat.websocket.send-buffer-size-limit}")
+    private int sendBufferSizeLimit;
+    @Value("${chat.websocket.message-size-limit}")
+    private int messageSizeLimit;
 
-    public WebSocketConfig(StompHandler stompHandler) {
+    public WebSocketConfig(StompHandler stompHandler, MeterRegistry meterRegistry) {
         this.stompHandler = stompHandler;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -34,5 +66,65 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
+        registration.taskExecutor(createChannelExecutor("inbound", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(createChannelExecutor("outbound", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity));
+    }
+
+    // 느린 구독자는 전송 시간, 버퍼 크기 제한을 넘으면 연결이 끊긴다.
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(this::slowConsumerMonitor);
+    }
+
+    // 큐가 가득 차면 프레임을 거절하고 거절 수를 기록한다.
+    ThreadPoolTaskExecutor createChannelExecutor(String name, int corePoolSize, int maxPoolSize, int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chat-" + name + "-");
+
+        Counter rejectedCounter = Counter.builder("chat.websocket.channel.rejected")
+                .tag("channel", name)
+                .description("큐가 가득 차 거절된 프레임 수")
+                .register(meterRegistry);
+
+        executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
+            rejectedCounter.increment();
+            new ThreadPoolExecutor.AbortPolicy().rejectedExecution(runnable, threadPoolExecutor);
+        });
+
+        Gauge.builder("chat.websocket.channel.queue.size", executor,
+                        e -> e.getThreadPoolExecutor() == null ? 0 : e.getThreadPoolExecutor().getQueue().size())
+                .tag("channel", name)
+                .description("처리 대기 중인 프레임 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    WebSocketHandler slowConsumerMonitor(WebSocketHandler handler) {
+
+        Counter slowConsumerCounter = Counter.builder("chat.websocket.slow-consumer.disconnected")
+                .description("전송 제한을 넘어 연결이 끊긴 세션 수")
+                .register(meterRegistry);
+
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                if(CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+                    slowConsumerCounter.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
     }
 }
@@ -4,10 +4,9 @@ import com.server.auth.util.SecurityUtil;
 import com.server.chat.entity.ChatMessage;
 import com.server.chat.entity.ChatRoom;
 import com.server.chat.service.ChatService;
+import com.server.chat.service.dto.response.ChatRecordResponse;
 import com.server.chat.service.dto.response.ChatRoomResponse;
-import com.server.global.reponse.ApiPageResponse;
 import com.server.global.reponse.ApiSingleResponse;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -48,15 +47,16 @@ public class AdminChatController {
 
     //채팅방 이전 대화 조회
     @GetMapping("/{room-id}")
-    public ResponseEntity<ApiPageResponse<ChatMessage>> getMessages(
+    public ResponseEntity<ApiSingleResponse<ChatRecordResponse>> getMessages(
             @PathVariable("room-id") String roomId,
-            @RequestParam(value = "page", defaultValue = "1") int page
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
 
         String email = SecurityUtil.getEmail();
-        Page<ChatMessage> chatRecord = chatService.getChatRecord(email, roomId, page - 1);
+        ChatRecordResponse chatRecord = chatService.getChatRecord(email, roomId, cursor, size);
 
-        return ResponseEntity.ok(ApiPageResponse.ok(chatRecord, "채팅 메시지 조회 성공"));
+        return ResponseEntity.ok(ApiSingleResponse.ok(chatRecord, "채팅 메시지 조회 성공"));
     }
 
     @PatchMapping("/{room-id}")
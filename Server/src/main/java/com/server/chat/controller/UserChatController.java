@@ -1,10 +1,9 @@
 package com.server.chat.controller;
 
 import com.server.auth.util.SecurityUtil;
-import com.server.chat.entity.ChatMessage;
 import com.server.chat.service.ChatService;
-import com.server.global.reponse.ApiPageResponse;
-import org.springframework.data.domain.Page;
+import com.server.chat.service.dto.response.ChatRecordResponse;
+import com.server.global.reponse.ApiSingleResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,16 +17,17 @@ public class UserChatController {
         this.chatService = chatService;
     }
 
-    //자신이 참여한 채팅방 조회 (페이징)
+    //자신이 참여한 채팅방 조회 (cursor 페이징)
     @GetMapping("/my-rooms")
-    public ResponseEntity<ApiPageResponse<ChatMessage>> getMessages(
-            @RequestParam(value = "page", defaultValue = "1") int page
+    public ResponseEntity<ApiSingleResponse<ChatRecordResponse>> getMessages(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
 
         String email = SecurityUtil.getEmail();
-        Page<ChatMessage> chatRecord = chatService.getChatRecord(email, email, page - 1);
+        ChatRecordResponse chatRecord = chatService.getChatRecord(email, email, cursor, size);
 
-        return ResponseEntity.ok(ApiPageResponse.ok(chatRecord, "채팅 메시지 조회 성공"));
+        return ResponseEntity.ok(ApiSingleResponse.ok(chatRecord, "채팅 메시지 조회 성공"));
     }
 
     @DeleteMapping
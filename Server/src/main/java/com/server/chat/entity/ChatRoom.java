@@ -23,6 +23,9 @@ public class ChatRoom implements Serializable {
     @JsonSerialize(using = ToStringSerializer.class)
     @JsonDeserialize(using = LocalDateTimeDeserializer.class)
     private LocalDateTime inquireDate;
+    @JsonSerialize(using = ToStringSerializer.class)
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    private LocalDateTime completedDate;
 
     public static ChatRoom create(String email) {
         ChatRoom chatRoom = new ChatRoom();
@@ -40,5 +43,10 @@ public class ChatRoom implements Serializable {
 
     public void complete() {
         this.isCompleted = true;
+        this.completedDate = LocalDateTime.now();
+    }
+
+    public boolean isArchivable(LocalDateTime completedBefore) {
+        return this.isCompleted && (this.completedDate == null || this.completedDate.isBefore(completedBefore));
     }
 }
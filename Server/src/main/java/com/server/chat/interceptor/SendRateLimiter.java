@@ -0,0 +1,45 @@
+package com.server.chat.interceptor;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 세션 하나의 SEND 프레임 전송 속도를 제한하는 토큰 버킷
+ */
+public class SendRateLimiter {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillTime;
+
+    public SendRateLimiter(int permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    SendRateLimiter(int permitsPerSecond, int burst, LongSupplier nanoClock) {
+        this.capacity = burst;
+        this.refillPerNano = permitsPerSecond / 1_000_000_000.0;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillTime = nanoClock.getAsLong();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+
+        if(tokens < 1) {
+            return false;
+        }
+
+        tokens -= 1;
+        return true;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillTime) * refillPerNano);
+        lastRefillTime = now;
+    }
+}
@@ -10,9 +10,12 @@ import com.server.chat.repository.ChatRoomRepository;
 import com.server.chat.service.ChatService;
 import com.server.global.exception.businessexception.chatexception.ChatNotValidException;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -28,6 +31,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.server.auth.util.AuthConstant.CLAIM_AUTHORITY;
@@ -37,18 +41,32 @@ import static com.server.auth.util.AuthConstant.CLAIM_ID;
 @Component
 public class StompHandler implements ChannelInterceptor {
 
+    private static final String SESSION_AUTHENTICATION = "authentication";
+    private static final String SESSION_AUTHORIZED_ROOMS = "authorizedRooms";
+    private static final String SESSION_RATE_LIMITER = "sendRateLimiter";
+
     private final ChatRoomRepository chatRoomRepository;
     private final JpaUserDetailsService jpaUserDetailsService;
     private final ChatService chatService;
     private final JwtProvider jwtProvider;
     private final ObjectMapper objectMapper;
+    private final Counter rateLimitedCounter;
+    private final int sendPermitsPerSecond;
+    private final int sendBurst;
 
-    public StompHandler(ChatRoomRepository chatRoomRepository, JpaUserDetailsService jpaUserDetailsService, ChatService chatService, JwtProvider jwtProvider, ObjectMapper objectMapper) {
+    public StompHandler(ChatRoomRepository chatRoomRepository, JpaUserDetailsService jpaUserDetailsService, ChatService chatService, JwtProvider jwtProvider, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                        @Value("${chat.websocket.send-rate.permits-per-second}") int sendPermitsPerSecond,
+                        @Value("${chat.websocket.send-rate.burst}") int sendBurst) {
         this.chatRoomRepository = chatRoomRepository;
         this.jpaUserDetailsService = jpaUserDetailsService;
         this.chatService = chatService;
         this.jwtProvider = jwtProvider;
         this.objectMapper = objectMapper;
+        this.sendPermitsPerSecond = sendPermitsPerSecond;
+        this.sendBurst = sendBurst;
+        this.rateLimitedCounter = Counter.builder("chat.websocket.send.rate-limited")
+                .description("전송 속도 제한으로 버려진 SEND 프레임 수")
+                .register(meterRegistry);
     }
 
     // websocket을 통해 들어온 요청이 처리 되기전 실행된다.
@@ -61,15 +79,18 @@ public class StompHandler implements ChannelInterceptor {
 
             String jwtToken = accessor.getFirstNativeHeader("Authorization");
             Claims claims = jwtProvider.getClaims(jwtToken.replace("Bearer ", ""));
-            setAuthenticationToContext(claims);
+            Authentication authentication = setAuthenticationToContext(claims);
             MDC.put("email", claims.getSubject());
             String authority = (String) claims.get(CLAIM_AUTHORITY);
-            chatRoomRepository.setSessionId((String) message.getHeaders().get("simpSessionId"), claims.getSubject() + "," + authority);
+
+            // 세션 속성에 인증 정보를 보관해 이후 프레임에서는 Redis 를 조회하지 않는다.
+            getSessionAttributes(accessor).put(SESSION_AUTHENTICATION, authentication);
+            chatRoomRepository.setSessionId(accessor.getSessionId(), claims.getSubject() + "," + authority);
         }
 
         if(StompCommand.SUBSCRIBE == accessor.getCommand()) {
 
-            setAuthenticationFrom(message);
+            setAuthenticationFrom(accessor);
 
             String roomId = getRoomId(Optional.ofNullable((String) message.getHeaders().get("simpDestination")).orElse("InvalidRoomId"));
 
@@ -81,6 +102,7 @@ public class StompHandler implements ChannelInterceptor {
 
             if(SecurityUtil.isAdmin() && !roomId.equals(SecurityUtil.getEmail())) {
                 chatService.assignAdmin(SecurityUtil.getEmail(), roomId);
+                getAuthorizedRoomIds(accessor).add(roomId);
             }else {
                 chatService.createChatRoom(roomId);
             }
@@ -88,24 +110,58 @@ public class StompHandler implements ChannelInterceptor {
 
         } else if(StompCommand.SEND == accessor.getCommand()) {
 
-            setAuthenticationFrom(message);
+            // 전송 속도를 넘는 프레임은 채널에 넣지 않고 버린다.
+            if(!getRateLimiter(accessor).tryAcquire()) {
+                rateLimitedCounter.increment();
+                log.warn("전송 속도 제한 초과로 메시지 무시 : session {}", accessor.getSessionId());
+                return null;
+            }
+
+            setAuthenticationFrom(accessor);
 
             String roomId = objectMapper.readValue((byte[]) message.getPayload(), ChatRoom.class).getRoomId();
 
+            // 자신의 채팅방이거나 이미 검증된 채팅방이면 Redis 조회 없이 통과한다.
+            if(SecurityUtil.getEmail().equals(roomId) || getAuthorizedRoomIds(accessor).contains(roomId)) {
+                return message;
+            }
+
             ChatRoom chatRoom = chatService.getChatRoom(roomId);
 
             if(!chatRoom.getRoomId().equals(SecurityUtil.getEmail())) {
-                if(!chatRoom.getAdminEmail().equals(SecurityUtil.getEmail())) {
+                if(!SecurityUtil.getEmail().equals(chatRoom.getAdminEmail())) {
                     throw new ChatNotValidException();
                 }
             }
+
+            getAuthorizedRoomIds(accessor).add(roomId);
         }
 
         return message;
     }
 
-    private void setAuthenticationFrom(Message<?> message) {
-        String emailAndAuthority = chatRoomRepository.getEmailFrom((String) message.getHeaders().get("simpSessionId"));
+    private void setAuthenticationFrom(StompHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = getSessionAttributes(accessor);
+
+        Authentication authentication = (Authentication) sessionAttributes.get(SESSION_AUTHENTICATION);
+
+        if(authentication == null) {
+            // 다른 노드에서 CONNECT 된 세션인 경우에만 Redis 에서 조회한다.
+            authentication = getAuthenticationFromRedis(accessor.getSessionId());
+            sessionAttributes.put(SESSION_AUTHENTICATION, authentication);
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        MDC.put("email", authentication.getName());
+    }
+
+    private Authentication getAuthenticationFromRedis(String sessionId) {
+        String emailAndAuthority = chatRoomRepository.getEmailFrom(sessionId);
+
+        if(emailAndAuthority == null) {
+            throw new ChatNotValidException();
+        }
 
         String[] split = emailAndAuthority.split(",");
 
@@ -113,10 +169,28 @@ public class StompHandler implements ChannelInterceptor {
 
         UserDetails userDetails = new CustomUserDetails(null, split[0], "", Collections.singleton(grantedAuthority));
 
-        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> getAuthorizedRoomIds(StompHeaderAccessor accessor) {
+        return (Set<String>) getSessionAttributes(accessor)
+                .computeIfAbsent(SESSION_AUTHORIZED_ROOMS, key -> ConcurrentHashMap.newKeySet());
+    }
 
-        MDC.put("email", split[1]);
+    private SendRateLimiter getRateLimiter(StompHeaderAccessor accessor) {
+        return (SendRateLimiter) getSessionAttributes(accessor)
+                .computeIfAbsent(SESSION_RATE_LIMITER, key -> new SendRateLimiter(sendPermitsPerSecond, sendBurst));
+    }
+
+    private Map<String, Object> getSessionAttributes(StompHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+
+        if(sessionAttributes == null) {
+            throw new ChatNotValidException();
+        }
+
+        return sessionAttributes;
     }
 
     private String getRoomId(String destination) {
@@ -128,7 +202,7 @@ public class StompHandler implements ChannelInterceptor {
         }
     }
 
-    private void setAuthenticationToContext(Claims claims) {
+    private Authentication setAuthenticationToContext(Claims claims) {
 
         Collection<? extends GrantedAuthority> authorities = getRoles(claims);
 
@@ -139,6 +213,8 @@ public class StompHandler implements ChannelInterceptor {
                 new UsernamePasswordAuthenticationToken(principal, null, authorities);
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        return authentication;
     }
 
     private List<SimpleGrantedAuthority> getRoles(Claims claims) {
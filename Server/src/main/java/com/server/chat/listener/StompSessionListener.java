@@ -0,0 +1,28 @@
+package com.server.chat.listener;
+
+import com.server.chat.repository.ChatRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+@Slf4j
+@Component
+public class StompSessionListener {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    public StompSessionListener(ChatRoomRepository chatRoomRepository) {
+        this.chatRoomRepository = chatRoomRepository;
+    }
+
+    // 세션 종료 시 노드 간 조회용 세션 정보를 정리한다. (세션 속성은 세션과 함께 제거된다.)
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        try {
+            chatRoomRepository.removeSessionId(event.getSessionId());
+        } catch (Exception e) {
+            log.error("세션 정보 삭제 실패 : {}", e.getMessage());
+        }
+    }
+}
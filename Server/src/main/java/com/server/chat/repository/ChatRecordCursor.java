@@ -0,0 +1,69 @@
+package com.server.chat.repository;
+
+import com.server.chat.entity.ChatMessage;
+import com.server.global.exception.businessexception.chatexception.ChatCursorNotValidException;
+import lombok.Getter;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.util.List;
+
+/**
+ * 채팅 기록 조회 위치. score(보낸 시간, 밀리초)가 같은 메시지가 여러 개일 수 있으므로
+ * score 와 그 score 에서 이미 조회한 메시지 수(offset)를 함께 둔다.
+ * 클라이언트와는 "score:offset" 문자열로 주고받는다. (offset 이 없는 이전 형식은 offset 0 으로 본다)
+ */
+@Getter
+public class ChatRecordCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final long score;
+    private final int offset;
+
+    public ChatRecordCursor(long score, int offset) {
+        this.score = score;
+        this.offset = offset;
+    }
+
+    public static ChatRecordCursor from(String value) {
+
+        if(value == null || value.isBlank()) return null;
+
+        try {
+            int index = value.indexOf(DELIMITER);
+
+            if(index < 0) return new ChatRecordCursor(Long.parseLong(value), 0);
+
+            int offset = Integer.parseInt(value.substring(index + 1));
+            if(offset < 0) throw new ChatCursorNotValidException();
+
+            return new ChatRecordCursor(Long.parseLong(value.substring(0, index)), offset);
+
+        } catch (NumberFormatException e) {
+            throw new ChatCursorNotValidException();
+        }
+    }
+
+    /**
+     * cursor 위치부터 최신순으로 조회한 page 의 다음 위치.
+     * page 의 마지막 score 가 cursor 의 score 와 같으면 이전에 건너뛴 개수도 더한다.
+     */
+    public static ChatRecordCursor next(ChatRecordCursor cursor, List<TypedTuple<ChatMessage>> page) {
+
+        long lastScore = page.get(page.size() - 1).getScore().longValue();
+
+        int offset = (int) page.stream()
+                .filter(record -> record.getScore().longValue() == lastScore)
+                .count();
+
+        if(cursor != null && cursor.score == lastScore) {
+            offset += cursor.offset;
+        }
+
+        return new ChatRecordCursor(lastScore, offset);
+    }
+
+    public String value() {
+        return score + DELIMITER + offset;
+    }
+}
@@ -3,17 +3,19 @@ package com.server.chat.repository;
 import com.server.chat.entity.ChatMessage;
 import com.server.chat.entity.ChatRoom;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Repository;
 
 import javax.annotation.Resource;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
@@ -24,6 +26,7 @@ public class ChatRoomRepository {
     // Redis CacheKeys
     private static final String CHAT_ROOMS = "CHAT_ROOM"; // 채팅룸 저장
     private static final String ADMIN_ASSIGN = "ADMIN_INFO";
+    private static final String SESSION_INFO = "SESSION_INFO:"; // 웹소켓 세션 인증 정보 (노드 간 조회용)
 
     @Resource(name = "redisTemplate")
     private HashOperations<String, String, ChatRoom> hashOpsChatRoom;
@@ -31,9 +34,18 @@ public class ChatRoomRepository {
     private HashOperations<String, String, HashSet<String>> hashOpsAdminInfo;
     @Resource(name = "redisTemplateChatMessage")
     private ZSetOperations<String, ChatMessage> zSetOpsChatRecord;
+    @Resource(name = "redisTemplateChatMessage")
+    private RedisTemplate<String, ChatMessage> chatMessageRedisTemplate;
 
     private final StringRedisTemplate stringRedisTemplate;
 
+    @Value("${jwt.access.expiration}")
+    private long sessionExpiration;
+    @Value("${chat.record.max-length}")
+    private long maxRecordLength;
+    @Value("${chat.record.max-age-days}")
+    private long maxRecordAgeDays;
+
     // 모든 채팅방 조회
     public List<ChatRoom> findNotAssignedRoom() {
         List<ChatRoom> allRooms = hashOpsChatRoom.values(CHAT_ROOMS);
@@ -54,33 +66,98 @@ public class ChatRoomRepository {
         return Optional.ofNullable(hashOpsChatRoom.get(CHAT_ROOMS, roomId));
     }
 
-    //채팅방 대화 내용 조회
-    public Page<ChatMessage> getChatRecord(String roomId, int page) {
-        Pageable pageable = PageRequest.of(page, 20);
-        Long size = zSetOpsChatRecord.size(roomId);
-        if(size == null || size == 0) {
-            return Page.empty();
-        }
+    //채팅방 대화 내용 조회 (cursor 위치부터 최신순으로 size + 1 개 조회)
+    public List<TypedTuple<ChatMessage>> getChatRecord(String roomId, ChatRecordCursor cursor, int size) {
 
-        long start = Math.max(0, size - (page + 1) * 20L);
-        long end = Math.max(0, size - page * 20L - 1);
+        // 같은 score 의 메시지 중 이미 조회한 것은 offset 으로 건너뛴다. (같은 score 안에서는 redis 가 항상 같은 순서로 반환한다)
+        double max = cursor == null ? Double.POSITIVE_INFINITY : cursor.getScore();
+        long offset = cursor == null ? 0 : cursor.getOffset();
 
-        Set<ChatMessage> messages = zSetOpsChatRecord.range(roomId, start, end);
-        List<ChatMessage> listMessages = new ArrayList<>(messages);
+        Set<TypedTuple<ChatMessage>> messages =
+                zSetOpsChatRecord.reverseRangeByScoreWithScores(roomId, Double.NEGATIVE_INFINITY, max, offset, size + 1);
+
+        if(messages == null) {
+            return new ArrayList<>();
+        }
 
-        return new PageImpl<>(listMessages, pageable, size);
+        return new ArrayList<>(messages);
     }
 
+    public Set<ChatMessage> getAllChatRecord(String roomId) {
+        return zSetOpsChatRecord.range(roomId, 0, -1);
+    }
 
     //채팅방 대화
     public void addChatRecord(String roomId, ChatMessage chatMessage) {
 
-        LocalDateTime now = LocalDateTime.now();
-        chatMessage.setSendDate(now);
-        double timestamp = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        double timestamp = getTimestamp(chatMessage);
         zSetOpsChatRecord.add(roomId, chatMessage, timestamp);
+
+        trimChatRecord(zSetOpsChatRecord, roomId, (long) timestamp);
     }
 
+    //여러 채팅방의 대화를 하나의 파이프라인으로 저장
+    public void addChatRecords(List<ChatMessage> chatMessages) {
+
+        chatMessageRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+
+                ZSetOperations<String, ChatMessage> zSetOps =
+                        ((RedisOperations<String, ChatMessage>) operations).opsForZSet();
+
+                Map<String, Long> latestTimestamps = new HashMap<>();
+
+                for (ChatMessage chatMessage : chatMessages) {
+                    double timestamp = getTimestamp(chatMessage);
+                    zSetOps.add(chatMessage.getRoomId(), chatMessage, timestamp);
+                    latestTimestamps.merge(chatMessage.getRoomId(), (long) timestamp, Math::max);
+                }
+
+                // 보관 정책은 배치 안에서 채팅방마다 한 번만 적용한다.
+                latestTimestamps.forEach((roomId, timestamp) -> trimChatRecord(zSetOps, roomId, timestamp));
+
+                return null;
+            }
+        });
+    }
+
+    private double getTimestamp(ChatMessage chatMessage) {
+
+        if(chatMessage.getSendDate() == null) {
+            chatMessage.setSendDate(LocalDateTime.now());
+        }
+
+        return chatMessage.getSendDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 채팅방별 보관 개수, 보관 기간을 넘는 오래된 메시지를 제거한다.
+    private void trimChatRecord(ZSetOperations<String, ChatMessage> zSetOps, String roomId, long now) {
+
+        if(maxRecordLength > 0) {
+            zSetOps.removeRange(roomId, 0, -(maxRecordLength + 1));
+        }
+
+        if(maxRecordAgeDays > 0) {
+            long expiredBefore = now - Duration.ofDays(maxRecordAgeDays).toMillis();
+            zSetOps.removeRangeByScore(roomId, Double.NEGATIVE_INFINITY, expiredBefore);
+        }
+    }
+
+    public List<ChatRoom> findCompletedRooms() {
+        List<ChatRoom> allRooms = hashOpsChatRoom.values(CHAT_ROOMS);
+
+        List<ChatRoom> completedRooms = new ArrayList<>();
+
+        for(ChatRoom chatRoom : allRooms) {
+            if(chatRoom.isCompleted()) {
+                completedRooms.add(chatRoom);
+            }
+        }
+
+        return completedRooms;
+    }
 
     public ChatRoom createChatRoom(String name) {
         ChatRoom chatRoom = ChatRoom.create(name);
@@ -142,11 +219,15 @@ public class ChatRoomRepository {
     public void setSessionId(String sessionId, String email) {
 
         ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
-        valueOperations.set(sessionId, email);
+        valueOperations.set(SESSION_INFO + sessionId, email, Duration.ofMillis(sessionExpiration));
     }
 
     public String getEmailFrom(String sessionId) {
         ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
-        return valueOperations.get(sessionId);
+        return valueOperations.get(SESSION_INFO + sessionId);
+    }
+
+    public void removeSessionId(String sessionId) {
+        stringRedisTemplate.delete(SESSION_INFO + sessionId);
     }
 }
@@ -0,0 +1,51 @@
+package com.server.chat.scheduler;
+
+import com.server.chat.service.ChatArchiveService;
+import com.server.global.batch.lock.BatchJobLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 모든 노드에서 같은 시각에 실행되므로 redis 잠금을 얻은 한 노드만 보관 작업을 실행한다.
+ * 잠금은 작업이 끝나도 풀지 않고 임대 시간 동안 유지해, 시계가 조금 늦은 노드가 뒤이어 다시 실행하지 않게 한다.
+ */
+@Component
+@Slf4j
+public class ChatArchiveScheduler {
+
+    static final String JOB_NAME = "chatArchive";
+
+    private final ChatArchiveService chatArchiveService;
+    private final BatchJobLock batchJobLock;
+    private final Duration leaseTime;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ChatArchiveScheduler(ChatArchiveService chatArchiveService,
+                                BatchJobLock batchJobLock,
+                                @Value("${chat.archive.lock-lease-ms}") long leaseMs) {
+        this.chatArchiveService = chatArchiveService;
+        this.batchJobLock = batchJobLock;
+        this.leaseTime = Duration.ofMillis(leaseMs);
+    }
+
+    //매일 새벽 3시에 실행
+    @Scheduled(cron = "0 0 3 * * *")
+    public void archiveCompletedRooms() {
+        try {
+            if (batchJobLock.tryAcquire(JOB_NAME, nodeId, leaseTime).isEmpty()) {
+                log.info("다른 노드에서 채팅 보관 작업을 실행해 건너뜁니다.");
+                return;
+            }
+
+            int archived = chatArchiveService.archiveCompletedRooms();
+            log.info("완료된 채팅방 {} 개 보관 완료", archived);
+        } catch (Exception e) {
+            log.error("채팅 보관 작업 실패", e);
+        }
+    }
+}
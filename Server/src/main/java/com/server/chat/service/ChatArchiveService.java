@@ -0,0 +1,100 @@
+package com.server.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.chat.entity.ChatMessage;
+import com.server.chat.entity.ChatRoom;
+import com.server.chat.repository.ChatRoomRepository;
+import com.server.module.s3.service.AwsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+public class ChatArchiveService {
+
+    // 회원 파일이 아니므로 FileType(회원 경로)을 쓰지 않고 비공개 영상 버킷의 별도 경로에 올린다.
+    static final String ARCHIVE_BUCKET = "itprometheus-videos";
+    static final String ARCHIVE_KEY_PREFIX = "chat-archives/";
+    private static final String ARCHIVE_CONTENT_TYPE = "application/gzip";
+    private static final DateTimeFormatter ARCHIVE_PATH_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final AwsService awsService;
+    private final ObjectMapper objectMapper;
+    private final long completedAfterHours;
+
+    public ChatArchiveService(ChatRoomRepository chatRoomRepository,
+                              AwsService awsService,
+                              ObjectMapper objectMapper,
+                              @Value("${chat.archive.completed-after-hours}") long completedAfterHours) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.awsService = awsService;
+        this.objectMapper = objectMapper;
+        this.completedAfterHours = completedAfterHours;
+    }
+
+    // 상담이 완료된 채팅방의 대화 내용을 압축하여 S3 로 옮기고 Redis 에서 제거한다.
+    public int archiveCompletedRooms() {
+
+        LocalDateTime completedBefore = LocalDateTime.now().minusHours(completedAfterHours);
+
+        List<ChatRoom> completedRooms = chatRoomRepository.findCompletedRooms();
+
+        int archived = 0;
+
+        for (ChatRoom chatRoom : completedRooms) {
+            if(!chatRoom.isArchivable(completedBefore)) continue;
+
+            try {
+                archive(chatRoom);
+                archived++;
+            } catch (Exception e) {
+                log.error("채팅방 {} 보관 실패", chatRoom.getRoomId(), e);
+            }
+        }
+
+        return archived;
+    }
+
+    private void archive(ChatRoom chatRoom) throws IOException {
+
+        Set<ChatMessage> records = chatRoomRepository.getAllChatRecord(chatRoom.getRoomId());
+
+        if(records != null && !records.isEmpty()) {
+            awsService.uploadFile(ARCHIVE_BUCKET, getArchiveKey(chatRoom), compress(records), ARCHIVE_CONTENT_TYPE);
+        }
+
+        chatRoomRepository.removeChatRoom(chatRoom.getRoomId());
+    }
+
+    // 한 줄에 하나의 메시지(JSON Lines)를 기록한 뒤 gzip 으로 압축한다.
+    private byte[] compress(Set<ChatMessage> records) throws IOException {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            for (ChatMessage record : records) {
+                gzipOutputStream.write(objectMapper.writeValueAsBytes(record));
+                gzipOutputStream.write('\n');
+            }
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private String getArchiveKey(ChatRoom chatRoom) {
+
+        LocalDateTime completedDate = chatRoom.getCompletedDate() == null ? LocalDateTime.now() : chatRoom.getCompletedDate();
+
+        return ARCHIVE_KEY_PREFIX + completedDate.format(ARCHIVE_PATH_FORMAT) + "/" + chatRoom.getRoomId() + "-" + System.currentTimeMillis() + ".jsonl.gz";
+    }
+}
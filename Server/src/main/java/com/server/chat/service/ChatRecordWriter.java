@@ -0,0 +1,163 @@
+package com.server.chat.service;
+
+import com.server.chat.entity.ChatMessage;
+import com.server.chat.repository.ChatRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채팅 메시지 저장(ZADD)을 모아 일정 주기(또는 일정 개수)마다 하나의 파이프라인으로 저장한다.
+ * 큐가 가득 차면 메시지를 버리지 않고 호출 스레드에서 바로 저장한다.
+ * 저장에 실패한 배치는 다음 주기에 다시 저장하고(ZADD 는 같은 메시지를 다시 넣어도 한 번만 저장된다),
+ * max-attempts 번 실패하면 포기하고 버린 개수를 기록한다.
+ */
+@Slf4j
+@Component
+public class ChatRecordWriter {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final BlockingQueue<ChatMessage> queue;
+    private final ScheduledExecutorService flushExecutor;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    private final Timer flushTimer;
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int maxAttempts;
+
+    // flush 스레드에서만 접근한다.
+    private List<ChatMessage> failedBatch;
+    private int failedAttempts;
+
+    public ChatRecordWriter(ChatRoomRepository chatRoomRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${chat.record.writer.queue-capacity}") int queueCapacity,
+                            @Value("${chat.record.writer.batch-size}") int batchSize,
+                            @Value("${chat.record.writer.flush-interval-ms}") long flushIntervalMs,
+                            @Value("${chat.record.writer.max-attempts}") int maxAttempts) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxAttempts = maxAttempts;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-record-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("chat.record.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.record.flush")
+                .description("채팅 메시지 파이프라인 저장 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("chat.record.overflow")
+                .description("큐가 가득 차 동기로 저장된 채팅 메시지 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.record.dropped")
+                .description("저장을 재시도하다 포기한 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void write(ChatMessage chatMessage) {
+
+        if(!queue.offer(chatMessage)) {
+            overflowCounter.increment();
+            chatRoomRepository.addChatRecord(chatMessage.getRoomId(), chatMessage);
+            return;
+        }
+
+        // 배치 크기가 차면 주기를 기다리지 않고 바로 저장한다.
+        if(queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flushSafely);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("채팅 메시지 저장 실패", e);
+        }
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+
+        // 이전에 실패한 배치를 먼저 저장하고, 다시 실패하면 새 메시지는 다음 주기로 미룬다.
+        if(failedBatch != null && !save(failedBatch)) return;
+
+        while (!queue.isEmpty()) {
+
+            List<ChatMessage> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+
+            if(batch.isEmpty()) return;
+
+            if(!save(batch)) return;
+        }
+    }
+
+    private boolean save(List<ChatMessage> batch) {
+        try {
+            flushTimer.record(() -> chatRoomRepository.addChatRecords(batch));
+            failedBatch = null;
+            failedAttempts = 0;
+            return true;
+
+        } catch (RuntimeException e) {
+            if(batch != failedBatch) {
+                failedBatch = batch;
+                failedAttempts = 0;
+            }
+
+            if(++failedAttempts < maxAttempts) {
+                log.warn("채팅 메시지 저장 실패, 다음 주기에 다시 저장합니다. size: {} attempts: {}", batch.size(), failedAttempts, e);
+                return false;
+            }
+
+            log.error("채팅 메시지 저장을 {}번 실패해 포기합니다. size: {}", failedAttempts, batch.size(), e);
+            droppedCounter.increment(batch.size());
+            failedBatch = null;
+            failedAttempts = 0;
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+    }
+}
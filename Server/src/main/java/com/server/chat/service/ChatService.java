@@ -2,17 +2,20 @@ package com.server.chat.service;
 
 import com.server.chat.entity.ChatMessage;
 import com.server.chat.entity.ChatRoom;
+import com.server.chat.repository.ChatRecordCursor;
 import com.server.chat.repository.ChatRoomRepository;
+import com.server.chat.service.dto.response.ChatRecordResponse;
 import com.server.chat.service.dto.response.ChatRoomResponse;
 import com.server.domain.member.entity.Member;
 import com.server.domain.member.repository.MemberRepository;
 import com.server.global.exception.businessexception.chatexception.ChatAlreadyAssignedException;
 import com.server.global.exception.businessexception.chatexception.ChatNotValidException;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -25,20 +28,30 @@ public class ChatService {
     private final RedisTemplate redisTemplate;
     private final ChatRoomRepository chatRoomRepository;
     private final MemberRepository memberRepository;
+    private final ChatRecordWriter chatRecordWriter;
+
+    @Value("${chat.record.page-size}")
+    private int defaultPageSize;
+    @Value("${chat.record.max-page-size}")
+    private int maxPageSize;
 
     public ChatService(ChannelTopic channelTopic,
                        RedisTemplate redisTemplate, ChatRoomRepository chatRoomRepository,
-                       MemberRepository memberRepository) {
+                       MemberRepository memberRepository, ChatRecordWriter chatRecordWriter) {
         this.channelTopic = channelTopic;
         this.redisTemplate = redisTemplate;
         this.chatRoomRepository = chatRoomRepository;
         this.memberRepository = memberRepository;
+        this.chatRecordWriter = chatRecordWriter;
     }
 
     public void sendChatMessage(ChatMessage chatMessage) {
 
-        chatRoomRepository.addChatRecord(chatMessage.getRoomId(), chatMessage);
+        chatMessage.setSendDate(LocalDateTime.now());
+
+        // 발행은 바로 하고, 저장은 ChatRecordWriter 가 모아서 파이프라인으로 처리한다.
         redisTemplate.convertAndSend(channelTopic.getTopic(), chatMessage);
+        chatRecordWriter.write(chatMessage);
 
     }
 
@@ -114,7 +127,7 @@ public class ChatService {
         return getValidRoom(roomId);
     }
 
-    public Page<ChatMessage> getChatRecord(String email, String roomId, int page) {
+    public ChatRecordResponse getChatRecord(String email, String roomId, String cursor, Integer size) {
 
         ChatRoom chatRoom = getValidRoom(roomId);
 
@@ -128,7 +141,10 @@ public class ChatService {
             }
         }
 
-        return chatRoomRepository.getChatRecord(roomId, page);
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        ChatRecordCursor recordCursor = ChatRecordCursor.from(cursor);
+
+        return ChatRecordResponse.of(chatRoomRepository.getChatRecord(roomId, recordCursor, pageSize), recordCursor, pageSize);
     }
 
     private ChatRoom getValidRoom(String roomId) {
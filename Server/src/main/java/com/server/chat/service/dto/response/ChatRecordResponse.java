@@ -0,0 +1,43 @@
+package com.server.chat.service.dto.response;
+
+import com.server.chat.entity.ChatMessage;
+import com.server.chat.repository.ChatRecordCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@AllArgsConstructor
+@Getter
+@Builder
+public class ChatRecordResponse {
+
+    private List<ChatMessage> messages;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // records 는 cursor 위치부터 최신순으로 size + 1 개가 조회된 상태
+    public static ChatRecordResponse of(List<TypedTuple<ChatMessage>> records, ChatRecordCursor cursor, int size) {
+
+        boolean hasNext = records.size() > size;
+
+        List<TypedTuple<ChatMessage>> page = hasNext ? records.subList(0, size) : records;
+
+        List<ChatMessage> messages = page.stream()
+                .map(TypedTuple::getValue)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        Collections.reverse(messages);
+
+        return ChatRecordResponse.builder()
+                .messages(messages)
+                .nextCursor(hasNext ? ChatRecordCursor.next(cursor, page).value() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -2,26 +2,41 @@ package com.server.domain.adjustment.controller;
 
 import com.server.domain.account.domain.Bank;
 import com.server.domain.adjustment.controller.dto.request.AccountUpdateApiRequest;
+import com.server.auth.util.SecurityUtil;
+import com.server.domain.adjustment.service.AdjustmentExportService;
 import com.server.domain.adjustment.service.AdjustmentService;
 import com.server.domain.adjustment.service.dto.response.*;
 import com.server.domain.order.controller.dto.request.AdjustmentSort;
 import com.server.global.annotation.LoginId;
+import com.server.global.exception.businessexception.memberexception.MemberAccessDeniedException;
 import com.server.global.exception.businessexception.orderexception.AdjustmentDateException;
 import com.server.global.reponse.ApiPageResponse;
 import com.server.global.reponse.ApiSingleResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.Positive;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 @RestController
@@ -29,10 +44,19 @@ import java.util.stream.Collectors;
 @Validated
 public class AdjustmentController {
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final String EXPORT_INTERCEPTOR = AdjustmentController.class.getName() + ".EXPORT";
+
     private final AdjustmentService adjustmentService;
+    private final AdjustmentExportService adjustmentExportService;
+    private final long exportTimeoutMs;
 
-    public AdjustmentController(AdjustmentService adjustmentService) {
+    public AdjustmentController(AdjustmentService adjustmentService,
+                                AdjustmentExportService adjustmentExportService,
+                                @Value("${adjustment.export.timeout-ms}") long exportTimeoutMs) {
         this.adjustmentService = adjustmentService;
+        this.adjustmentExportService = adjustmentExportService;
+        this.exportTimeoutMs = exportTimeoutMs;
     }
 
     @GetMapping
@@ -105,6 +129,72 @@ public class AdjustmentController {
         return ResponseEntity.ok(ApiSingleResponse.ok(responses, "은행 조회 성공"));
     }
 
+    /**
+     * 판매/환불 내역 전체를 CSV 로 내려받는다. 관리자는 memberId 로 다른 크리에이터의 내역을 받을 수 있다.
+     */
+    @GetMapping("/export/sales")
+    public ResponseEntity<StreamingResponseBody> exportSales(
+            @RequestParam(required = false) Long memberId,
+            @LoginId Long loginMemberId,
+            HttpServletRequest request) {
+
+        Long creatorId = exportTarget(memberId, loginMemberId);
+
+        return csv(request, "sales-" + creatorId + ".csv",
+                outputStream -> adjustmentExportService.writeSales(creatorId, outputStream));
+    }
+
+    @GetMapping("/export/settlements")
+    public ResponseEntity<StreamingResponseBody> exportSettlements(
+            @RequestParam(required = false) Long memberId,
+            @LoginId Long loginMemberId,
+            HttpServletRequest request) {
+
+        Long creatorId = exportTarget(memberId, loginMemberId);
+
+        return csv(request, "settlements-" + creatorId + ".csv",
+                outputStream -> adjustmentExportService.writeSettlements(creatorId, outputStream));
+    }
+
+    private Long exportTarget(Long memberId, Long loginMemberId) {
+
+        if(memberId == null || memberId.equals(loginMemberId)) return loginMemberId;
+
+        if(!SecurityUtil.isAdmin()) throw new MemberAccessDeniedException();
+
+        return memberId;
+    }
+
+    /**
+     * 내보내기 권한을 얻은 뒤 이 요청의 비동기 처리에만 export timeout 을 적용한다.
+     * 권한은 응답이 끝나면(완료, 오류, 시간 초과) 반납한다.
+     */
+    private ResponseEntity<StreamingResponseBody> csv(HttpServletRequest request, String fileName, StreamingResponseBody body) {
+
+        adjustmentExportService.acquirePermit();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_INTERCEPTOR, new ExportInterceptor());
+
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    private class ExportInterceptor implements CallableProcessingInterceptor {
+
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            if (request instanceof AsyncWebRequest) {
+                ((AsyncWebRequest) request).setTimeout(exportTimeoutMs);
+            }
+        }
+
+        @Override
+        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+            adjustmentExportService.releasePermit();
+        }
+    }
+
     private void checkValidDate(Integer month, Integer year) {
         if(month != null && year == null) {
             throw new AdjustmentDateException();
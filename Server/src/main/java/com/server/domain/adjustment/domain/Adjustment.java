@@ -12,6 +12,9 @@ import javax.persistence.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_adjustment_member_year_month",
+        columnNames = {"member_id", "adjustment_year", "adjustment_month"}))
 public class Adjustment extends BaseEntity {
 
     @Id
@@ -70,6 +73,26 @@ public class Adjustment extends BaseEntity {
         );
     }
 
+    /**
+     * 계좌 정보를 이미 조회한 경우 member 엔티티를 로딩하지 않고 정산 내역을 만든다.
+     */
+    public static Adjustment createAdjustment(Integer year,
+                                              Integer month,
+                                              Member member,
+                                              String name,
+                                              String account,
+                                              Bank bank,
+                                              Integer amount,
+                                              AdjustmentStatus adjustmentStatus,
+                                              String reason) {
+        return new Adjustment(year, month, name, account, bank, amount, adjustmentStatus, reason, member);
+    }
+
+    public void complete(AdjustmentStatus adjustmentStatus, String reason) {
+        this.adjustmentStatus = adjustmentStatus;
+        this.reason = reason;
+    }
+
     public boolean isSameMonthAndYear(Integer year, Integer month) {
         return this.adjustmentYear.equals(year) && this.adjustmentMonth.equals(month);
     }
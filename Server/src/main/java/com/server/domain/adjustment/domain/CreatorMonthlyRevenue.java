@@ -0,0 +1,57 @@
+package com.server.domain.adjustment.domain;
+
+import com.server.global.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 크리에이터의 월별 판매/환불 금액 집계.
+ * 주문 완료일(completedDate) 기준 월에 쌓이며, 주문 완료와 취소 시 원자적 update 로 갱신된다.
+ * 다른 트랜잭션에서 먼저 행을 만들 수 있도록 회원, 비디오와 외래키를 두지 않는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_creator_monthly_revenue",
+        columnNames = {"member_id", "revenue_year", "revenue_month"}))
+public class CreatorMonthlyRevenue extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long creatorMonthlyRevenueId;
+
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private Long memberId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer revenueYear;
+
+    @Column(nullable = false, updatable = false)
+    private Integer revenueMonth;
+
+    @Column(nullable = false)
+    private Integer saleAmount;
+
+    @Column(nullable = false)
+    private Integer refundAmount;
+
+    private CreatorMonthlyRevenue(Long memberId, Integer revenueYear, Integer revenueMonth) {
+        this.memberId = memberId;
+        this.revenueYear = revenueYear;
+        this.revenueMonth = revenueMonth;
+        this.saleAmount = 0;
+        this.refundAmount = 0;
+    }
+
+    public static CreatorMonthlyRevenue createEmpty(Long memberId, Integer revenueYear, Integer revenueMonth) {
+        return new CreatorMonthlyRevenue(memberId, revenueYear, revenueMonth);
+    }
+
+    public int getAmount() {
+        return saleAmount - refundAmount;
+    }
+}
@@ -0,0 +1,23 @@
+package com.server.domain.adjustment.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 월별 매출 집계의 증가 update 와 재집계가 겹치지 않도록 잠그는 행. 행은 하나뿐이다. (V9 migration 에서 만든다)
+ * 증가 update 는 공유 잠금을, 재집계는 배타 잠금을 잡으므로 주문끼리는 서로 기다리지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevenueRollupLock {
+
+    public static final Long ID = 1L;
+
+    @Id
+    private Long revenueRollupLockId;
+}
@@ -0,0 +1,61 @@
+package com.server.domain.adjustment.domain;
+
+import com.server.global.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 비디오의 월별 판매/환불 금액 집계. 집계 기준은 CreatorMonthlyRevenue 와 같다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_video_monthly_revenue",
+        columnNames = {"video_id", "revenue_year", "revenue_month"}),
+        indexes = @Index(name = "idx_video_monthly_revenue_member", columnList = "member_id, revenue_year, revenue_month"))
+public class VideoMonthlyRevenue extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long videoMonthlyRevenueId;
+
+    @Column(name = "video_id", nullable = false, updatable = false)
+    private Long videoId;
+
+    // 비디오를 올린 크리에이터 (channel id 와 같다)
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private Long memberId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer revenueYear;
+
+    @Column(nullable = false, updatable = false)
+    private Integer revenueMonth;
+
+    @Column(nullable = false)
+    private Integer saleAmount;
+
+    @Column(nullable = false)
+    private Integer refundAmount;
+
+    private VideoMonthlyRevenue(Long videoId, Long memberId, Integer revenueYear, Integer revenueMonth) {
+        this.videoId = videoId;
+        this.memberId = memberId;
+        this.revenueYear = revenueYear;
+        this.revenueMonth = revenueMonth;
+        this.saleAmount = 0;
+        this.refundAmount = 0;
+    }
+
+    public static VideoMonthlyRevenue createEmpty(Long videoId, Long memberId, Integer revenueYear, Integer revenueMonth) {
+        return new VideoMonthlyRevenue(videoId, memberId, revenueYear, revenueMonth);
+    }
+
+    public int getAmount() {
+        return saleAmount - refundAmount;
+    }
+}
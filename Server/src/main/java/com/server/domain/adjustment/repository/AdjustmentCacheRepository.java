@@ -0,0 +1,103 @@
+package com.server.domain.adjustment.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.domain.adjustment.service.dto.response.MonthAdjustmentResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 크리에이터별 정산 완료 월 목록 캐시.
+ * 정산 내역은 정산 배치만 쓰므로 배치가 저장할 때 지우고, 그 외에는 TTL 까지 재사용한다.
+ * Redis 장애 시에는 캐시 없이 DB 를 읽도록 예외를 삼킨다.
+ */
+@Slf4j
+@Repository
+public class AdjustmentCacheRepository {
+
+    private static final String SETTLED_MONTHS = "ADJUSTMENT_SETTLED_MONTHS:";
+    private static final TypeReference<List<MonthAdjustmentResponse>> MONTHS_TYPE = new TypeReference<>() {};
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${adjustment.settled-cache.ttl-seconds}")
+    private long ttlSeconds;
+
+    public AdjustmentCacheRepository(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<List<MonthAdjustmentResponse>> findSettledMonths(Long memberId) {
+
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key(memberId));
+
+            if(json == null) return Optional.empty();
+
+            return Optional.of(objectMapper.readValue(json, MONTHS_TYPE));
+
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("정산 내역 캐시 조회 실패 memberId={} : {}", memberId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void saveSettledMonths(Long memberId, List<MonthAdjustmentResponse> settledMonths) {
+
+        try {
+            stringRedisTemplate.opsForValue().set(key(memberId),
+                    objectMapper.writeValueAsString(settledMonths),
+                    Duration.ofSeconds(ttlSeconds));
+
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("정산 내역 캐시 저장 실패 memberId={} : {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 지운다. (커밋 전에 지우면 그 사이 조회가 이전 내역을 다시 캐시할 수 있다)
+     */
+    public void deleteSettledMonths(Collection<Long> memberIds) {
+
+        List<String> keys = memberIds.stream().map(AdjustmentCacheRepository::key).collect(Collectors.toList());
+
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(keys);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete(keys);
+            }
+        });
+    }
+
+    private void delete(List<String> keys) {
+
+        try {
+            stringRedisTemplate.delete(keys);
+        } catch (DataAccessException e) {
+            log.warn("정산 내역 캐시 삭제 실패 keys={} : {}", keys, e.getMessage());
+        }
+    }
+
+    private static String key(Long memberId) {
+        return SETTLED_MONTHS + memberId;
+    }
+}
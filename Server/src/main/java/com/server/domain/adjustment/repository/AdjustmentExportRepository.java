@@ -0,0 +1,69 @@
+package com.server.domain.adjustment.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 판매/정산 내역을 한 행씩 읽어 넘긴다. 결과를 메모리에 모으지 않으므로 내역 크기와 관계없이 메모리 사용량이 일정하다.
+ * MySQL 은 fetchSize 가 Integer.MIN_VALUE 일 때만 결과를 스트리밍하고, 그 외 DB 는 설정된 fetchSize 만큼 나눠 읽는다.
+ */
+@Repository
+public class AdjustmentExportRepository {
+
+    private static final String SALES_QUERY =
+            "SELECT o.completed_date, o.order_id, v.video_id, v.video_name, ov.price, ov.order_status " +
+            "FROM order_video ov " +
+            "JOIN orders o ON o.order_id = ov.order_id " +
+            "JOIN video v ON v.video_id = ov.video_id " +
+            "WHERE v.channel_id = ? " +
+            "AND o.payment_key IS NOT NULL " +
+            "ORDER BY o.completed_date, ov.order_video_id";
+
+    private static final String SETTLEMENT_QUERY =
+            "SELECT a.adjustment_year, a.adjustment_month, a.amount, a.adjustment_status, a.reason " +
+            "FROM adjustment a " +
+            "WHERE a.member_id = ? " +
+            "ORDER BY a.adjustment_year, a.adjustment_month";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${adjustment.export.fetch-size}")
+    private int fetchSize;
+
+    public AdjustmentExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 크리에이터 비디오의 결제된 주문 내역 (완료일 순). 취소된 주문 비디오는 환불 내역이다.
+     */
+    public void streamSales(Long memberId, RowCallbackHandler handler) {
+        jdbcTemplate.query(forwardOnly(SALES_QUERY, memberId), handler);
+    }
+
+    public void streamSettlements(Long memberId, RowCallbackHandler handler) {
+        jdbcTemplate.query(forwardOnly(SETTLEMENT_QUERY, memberId), handler);
+    }
+
+    private PreparedStatementCreator forwardOnly(String sql, Long memberId) {
+
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(isMySql(connection) ? Integer.MIN_VALUE : fetchSize);
+            statement.setLong(1, memberId);
+            return statement;
+        };
+    }
+
+    private boolean isMySql(Connection connection) throws SQLException {
+        return "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+}
@@ -1,97 +1,89 @@
 package com.server.domain.adjustment.repository;
 
-import com.querydsl.core.types.Predicate;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.server.domain.adjustment.domain.Adjustment;
 import com.server.domain.adjustment.repository.dto.AdjustmentData;
-import com.server.domain.adjustment.repository.dto.QVideoAdjustmentData;
 import com.server.domain.adjustment.repository.dto.VideoAdjustmentData;
-import com.server.domain.order.entity.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import javax.persistence.EntityManager;
-import javax.persistence.TypedQuery;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static com.server.domain.adjustment.domain.QAdjustment.*;
-import static com.server.domain.order.entity.QOrder.order;
-import static com.server.domain.order.entity.QOrderVideo.orderVideo;
+import static com.server.domain.adjustment.domain.QCreatorMonthlyRevenue.creatorMonthlyRevenue;
+import static com.server.domain.adjustment.domain.QVideoMonthlyRevenue.videoMonthlyRevenue;
 import static com.server.domain.video.entity.QVideo.video;
 
+/**
+ * 매출 조회는 월별 집계(video_monthly_revenue, creator_monthly_revenue)만 읽는다.
+ * 집계 합계는 Hibernate 에서 Long 으로 반환되므로 Tuple 로 받아 int 로 변환한다.
+ */
 public class AdjustmentRepositoryImpl implements AdjustmentRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
-    private final EntityManager em;
 
     public AdjustmentRepositoryImpl(EntityManager em) {
         this.queryFactory = new JPAQueryFactory(em);
-        this.em = em;
     }
 
     @Override
     public Page<AdjustmentData> findByPeriod(Long memberId, Pageable pageable, Integer month, Integer year, String sort) {
 
-        TypedQuery<Object[]> jpqlQuery = em.createQuery(
-                        "SELECT v.videoId, " +
-                                "v.videoName, " +
-                                "SUM(ov.price) AS totalSaleAmount, " +
-                                "SUM(CASE WHEN ov.orderStatus = 'CANCELED' THEN ov.price ELSE 0 END) AS refundAmount " +
-                                "FROM Video v " +
-                                "LEFT JOIN v.orderVideos ov " +
-                                "LEFT JOIN ov.order o " +
-                                "WHERE o.paymentKey != null " +
-                                "AND v.channel.id = :memberId " +
-                                getDateCondition(month, year) +
-                                "GROUP BY v.videoId " +
-                                getAdjustmentSort(sort), Object[].class)
-                .setParameter("memberId", memberId)
-                .setFirstResult((int) pageable.getOffset())
-                .setMaxResults(pageable.getPageSize());
-
-        setDateCondition(month, year, jpqlQuery);
-
-        List<Object[]> resultList = jpqlQuery.getResultList();
-
-        List<AdjustmentData> videoReportDatas = resultList.stream()
-                .map(arr -> new AdjustmentData(
-                        (Long) arr[0],
-                        (String) arr[1],
-                        ((Number) arr[2]).intValue(),
-                        ((Number) arr[3]).intValue()
+        NumberExpression<Integer> totalSaleAmount = videoMonthlyRevenue.saleAmount.sum();
+        NumberExpression<Integer> refundAmount = videoMonthlyRevenue.refundAmount.sum();
+
+        List<Tuple> tuples = queryFactory.select(video.videoId, video.videoName, totalSaleAmount, refundAmount)
+                .from(videoMonthlyRevenue)
+                .join(video).on(video.videoId.eq(videoMonthlyRevenue.videoId))
+                .where(revenueMemberIdEq(memberId),
+                        revenueYearEq(year),
+                        revenueMonthEq(month))
+                .groupBy(video.videoId, video.videoName, video.createdDate)
+                .orderBy(getAdjustmentSort(sort, totalSaleAmount, refundAmount))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        List<AdjustmentData> videoReportDatas = tuples.stream()
+                .map(tuple -> new AdjustmentData(
+                        tuple.get(video.videoId),
+                        tuple.get(video.videoName),
+                        intValue(tuple.get(2, Number.class)),
+                        intValue(tuple.get(3, Number.class))
                 ))
                 .collect(Collectors.toList());
 
-        JPAQuery<Long> countQuery = queryFactory.select(video.count())
-                .from(video)
-                .join(video.orderVideos, orderVideo)
-                .where(eqMemberId(memberId));
+        Long count = queryFactory.select(videoMonthlyRevenue.videoId.countDistinct())
+                .from(videoMonthlyRevenue)
+                .where(revenueMemberIdEq(memberId),
+                        revenueYearEq(year),
+                        revenueMonthEq(month))
+                .fetchOne();
 
-        return new PageImpl<>(videoReportDatas, pageable, countQuery.fetchOne());
+        return new PageImpl<>(videoReportDatas, pageable, count == null ? 0 : count);
     }
 
     @Override
     public Integer calculateAmount(Long memberId, Integer month, Integer year) {
 
-        TypedQuery<Long> jpqlCountQuery = em.createQuery(
-                        "SELECT SUM(ov.price) - SUM(CASE WHEN ov.orderStatus = 'CANCELED' THEN ov.price ELSE 0 END) AS total " +
-                                "FROM Video v " +
-                                "JOIN v.orderVideos ov " +
-                                "JOIN ov.order o " +
-                                "WHERE o.paymentKey != null " +
-                                "AND v.channel.id = :memberId " +
-                                getDateCondition(month, year), Long.class)
-                .setParameter("memberId", memberId);
+        Tuple tuple = queryFactory.select(creatorMonthlyRevenue.saleAmount.sum(), creatorMonthlyRevenue.refundAmount.sum())
+                .from(creatorMonthlyRevenue)
+                .where(creatorMonthlyRevenue.memberId.eq(memberId),
+                        year == null ? null : creatorMonthlyRevenue.revenueYear.eq(year),
+                        month == null ? null : creatorMonthlyRevenue.revenueMonth.eq(month))
+                .fetchOne();
 
-        setDateCondition(month, year, jpqlCountQuery);
+        if(tuple == null) return 0;
 
-        Long singleResult = jpqlCountQuery.getSingleResult();
-
-        return singleResult == null ? 0 : singleResult.intValue();
+        return intValue(tuple.get(0, Number.class)) - intValue(tuple.get(1, Number.class));
     }
 
     @Override
@@ -103,46 +95,48 @@ public class AdjustmentRepositoryImpl implements AdjustmentRepositoryCustom {
                 .fetch();
     }
 
+    /**
+     * 비디오별 순매출(판매 - 환불)을 조회한다. 모두 환불된 비디오는 제외한다.
+     */
     @Override
     public List<VideoAdjustmentData> calculateVideo(Long memberId, Integer month, Integer year) {
 
-        return queryFactory.select(
-                        new QVideoAdjustmentData(
-                                video.videoId,
-                                video.videoName,
-                                orderVideo.price.sum()
-                        )
-                )
-                .from(video)
-                .join(video.orderVideos, orderVideo)
-                .join(orderVideo.order, order)
-                .where(getCompletedOrder(),
-                        eqMemberId(memberId),
-                        eqOrderYear(year),
-                        eqOrderMonth(month)
-                )
-                .groupBy(video.videoId)
+        NumberExpression<Integer> saleAmount = videoMonthlyRevenue.saleAmount.sum();
+        NumberExpression<Integer> refundAmount = videoMonthlyRevenue.refundAmount.sum();
+
+        List<Tuple> tuples = queryFactory.select(video.videoId, video.videoName, saleAmount, refundAmount)
+                .from(videoMonthlyRevenue)
+                .join(video).on(video.videoId.eq(videoMonthlyRevenue.videoId))
+                .where(revenueMemberIdEq(memberId),
+                        revenueYearEq(year),
+                        revenueMonthEq(month))
+                .groupBy(video.videoId, video.videoName)
+                .having(saleAmount.gt(refundAmount))
                 .fetch();
-    }
 
-    private Predicate eqOrderYear(Integer year) {
-        if(year == null) return null;
+        return tuples.stream()
+                .map(tuple -> new VideoAdjustmentData(
+                        tuple.get(video.videoId),
+                        tuple.get(video.videoName),
+                        intValue(tuple.get(2, Number.class)) - intValue(tuple.get(3, Number.class))
+                ))
+                .collect(Collectors.toList());
+    }
 
-        return order.completedDate.year().eq(year);
+    private BooleanExpression revenueMemberIdEq(Long memberId) {
+        return videoMonthlyRevenue.memberId.eq(memberId);
     }
 
-    private Predicate eqOrderMonth(Integer month) {
-        if(month == null) return null;
+    private BooleanExpression revenueYearEq(Integer year) {
+        if(year == null) return null;
 
-        return order.completedDate.month().eq(month);
+        return videoMonthlyRevenue.revenueYear.eq(year);
     }
 
-    private BooleanExpression eqMemberId(Long memberId) {
-        return video.channel.channelId.eq(memberId);
-    }
+    private BooleanExpression revenueMonthEq(Integer month) {
+        if(month == null) return null;
 
-    private BooleanExpression getCompletedOrder() {
-        return orderVideo.orderStatus.eq(OrderStatus.COMPLETED);
+        return videoMonthlyRevenue.revenueMonth.eq(month);
     }
 
     private BooleanExpression YearEq(Integer year) {
@@ -152,42 +146,24 @@ public class AdjustmentRepositoryImpl implements AdjustmentRepositoryCustom {
         return adjustment.adjustmentYear.eq(year);
     }
 
-    private String getDateCondition(Integer month, Integer year) {
-
-        String dateCondition = "";
+    private OrderSpecifier<?>[] getAdjustmentSort(String sort,
+                                                  NumberExpression<Integer> totalSaleAmount,
+                                                  NumberExpression<Integer> refundAmount) {
 
-        if (year != null) {
-            dateCondition += "AND FUNCTION('YEAR', o.completedDate) = :year ";
-        }
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
 
-        if (month != null) {
-            dateCondition += "AND FUNCTION('MONTH', o.completedDate) = :month ";
+        if (sort.equals("totalSaleAmount")) {
+            orders.add(totalSaleAmount.desc());
+        } else if (sort.equals("refundAmount")) {
+            orders.add(refundAmount.desc());
         }
 
-        return dateCondition;
-    }
-
-    private void setDateCondition(Integer month, Integer year, TypedQuery jpqlQuery) {
+        orders.add(video.createdDate.desc());
 
-        if (year != null) {
-            jpqlQuery.setParameter("year", year);
-        }
-
-        if (month != null) {
-            jpqlQuery.setParameter("month", month);
-        }
+        return orders.toArray(OrderSpecifier[]::new);
     }
 
-    private String getAdjustmentSort(String sort) {
-
-        String order = "ORDER BY ";
-
-        if (sort.equals("totalSaleAmount")) {
-            order += "totalSaleAmount DESC, ";
-        } else if (sort.equals("refundAmount")) {
-            order += "refundAmount DESC, ";
-        }
-
-        return order + "v.createdDate DESC";
+    private static int intValue(Number value) {
+        return value == null ? 0 : value.intValue();
     }
 }
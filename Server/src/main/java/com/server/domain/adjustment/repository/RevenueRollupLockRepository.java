@@ -0,0 +1,21 @@
+package com.server.domain.adjustment.repository;
+
+import com.server.domain.adjustment.domain.RevenueRollupLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface RevenueRollupLockRepository extends JpaRepository<RevenueRollupLock, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select l from RevenueRollupLock l where l.revenueRollupLockId = :id")
+    Optional<RevenueRollupLock> findForShare(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from RevenueRollupLock l where l.revenueRollupLockId = :id")
+    Optional<RevenueRollupLock> findForUpdate(@Param("id") Long id);
+}
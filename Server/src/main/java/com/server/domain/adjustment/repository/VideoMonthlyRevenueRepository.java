@@ -0,0 +1,32 @@
+package com.server.domain.adjustment.repository;
+
+import com.server.domain.adjustment.domain.VideoMonthlyRevenue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface VideoMonthlyRevenueRepository extends JpaRepository<VideoMonthlyRevenue, Long>, VideoMonthlyRevenueRepositoryCustom {
+
+    Optional<VideoMonthlyRevenue> findByVideoIdAndRevenueYearAndRevenueMonth(Long videoId, Integer revenueYear, Integer revenueMonth);
+
+
+    /**
+     * 집계 행이 없으면 만들고, 있으면 금액을 더한다.
+     * 호출한 트랜잭션의 커넥션에서 한 문장으로 실행되므로 동시에 같은 행을 만들어도 unique 키 위반이 발생하지 않는다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO video_monthly_revenue " +
+            "(video_id, member_id, revenue_year, revenue_month, sale_amount, refund_amount, created_date, modified_date) " +
+            "VALUES (:videoId, :memberId, :year, :month, :sale, :refund, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE sale_amount = sale_amount + :sale, refund_amount = refund_amount + :refund, " +
+            "modified_date = CURRENT_TIMESTAMP", nativeQuery = true)
+    int addAmount(@Param("videoId") Long videoId,
+                  @Param("memberId") Long memberId,
+                  @Param("year") int year,
+                  @Param("month") int month,
+                  @Param("sale") int sale,
+                  @Param("refund") int refund);
+}
@@ -0,0 +1,14 @@
+package com.server.domain.adjustment.repository;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+public interface VideoMonthlyRevenueRepositoryCustom {
+
+    List<YearMonth> findRevenueMonths();
+
+    int rebuildMonth(YearMonth yearMonth);
+
+    int deleteEmpty(Collection<Long> videoIds, Collection<Long> memberIds, YearMonth yearMonth);
+}
@@ -0,0 +1,151 @@
+package com.server.domain.adjustment.repository;
+
+import javax.persistence.EntityManager;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class VideoMonthlyRevenueRepositoryImpl implements VideoMonthlyRevenueRepositoryCustom {
+
+    private final EntityManager em;
+
+    public VideoMonthlyRevenueRepositoryImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    /**
+     * 결제된 주문이 있거나 집계 행이 남아 있는 월을 오래된 순으로 조회한다.
+     * 집계 행만 남은 월도 포함해야 재집계로 지울 수 있다.
+     */
+    @Override
+    public List<YearMonth> findRevenueMonths() {
+
+        List<?> rows = em.createNativeQuery(
+                "SELECT YEAR(o.completed_date), MONTH(o.completed_date) FROM orders o " +
+                        "WHERE o.payment_key IS NOT NULL AND o.completed_date IS NOT NULL " +
+                        "UNION SELECT r.revenue_year, r.revenue_month FROM video_monthly_revenue r " +
+                        "UNION SELECT c.revenue_year, c.revenue_month FROM creator_monthly_revenue c"
+        ).getResultList();
+
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .map(row -> YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue()))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 원본 주문(order_video)에서 한 달의 비디오, 크리에이터 매출 집계를 다시 만든다.
+     * 결제된 주문(payment_key 가 있는 주문)을 완료일 기준 월로 묶고, 취소된 주문 비디오는 환불 금액으로 더한다.
+     * 채널이 삭제된 비디오는 정산받을 크리에이터가 없으므로 제외한다.
+     * 원본 주문은 잠그지 않는 일반 조회로 읽는다. (INSERT ... SELECT 는 원본 행에 공유 잠금을 걸어
+     * 집계 잠금을 기다리는 주문 트랜잭션과 서로 기다릴 수 있다)
+     * 증가 update 와 겹치지 않도록 RevenueRollupService 가 집계 잠금을 잡은 뒤 호출해야 한다.
+     *
+     * @return 다시 만든 비디오 집계 행 수
+     */
+    @Override
+    public int rebuildMonth(YearMonth yearMonth) {
+
+        em.flush();
+
+        int year = yearMonth.getYear();
+        int month = yearMonth.getMonthValue();
+
+        em.createNativeQuery("DELETE FROM video_monthly_revenue WHERE revenue_year = :year AND revenue_month = :month")
+                .setParameter("year", year)
+                .setParameter("month", month)
+                .executeUpdate();
+        em.createNativeQuery("DELETE FROM creator_monthly_revenue WHERE revenue_year = :year AND revenue_month = :month")
+                .setParameter("year", year)
+                .setParameter("month", month)
+                .executeUpdate();
+
+        List<?> revenues = em.createNativeQuery(
+                "SELECT ov.video_id, v.channel_id, SUM(ov.price), " +
+                        "SUM(CASE WHEN ov.order_status = 'CANCELED' THEN ov.price ELSE 0 END) " +
+                        "FROM order_video ov " +
+                        "JOIN orders o ON o.order_id = ov.order_id " +
+                        "JOIN video v ON v.video_id = ov.video_id " +
+                        "WHERE o.payment_key IS NOT NULL AND v.channel_id IS NOT NULL " +
+                        "AND o.completed_date >= :start AND o.completed_date < :end " +
+                        "GROUP BY ov.video_id, v.channel_id")
+                .setParameter("start", yearMonth.atDay(1).atStartOfDay())
+                .setParameter("end", yearMonth.plusMonths(1).atDay(1).atStartOfDay())
+                .getResultList();
+
+        for (Object revenue : revenues) {
+            Object[] row = (Object[]) revenue;
+            em.createNativeQuery(
+                    "INSERT INTO video_monthly_revenue " +
+                            "(video_id, member_id, revenue_year, revenue_month, sale_amount, refund_amount, created_date, modified_date) " +
+                            "VALUES (:videoId, :memberId, :year, :month, :sale, :refund, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+                    .setParameter("videoId", ((Number) row[0]).longValue())
+                    .setParameter("memberId", ((Number) row[1]).longValue())
+                    .setParameter("year", year)
+                    .setParameter("month", month)
+                    .setParameter("sale", ((Number) row[2]).intValue())
+                    .setParameter("refund", ((Number) row[3]).intValue())
+                    .executeUpdate();
+        }
+
+        em.createNativeQuery(
+                "INSERT INTO creator_monthly_revenue " +
+                        "(member_id, revenue_year, revenue_month, sale_amount, refund_amount, created_date, modified_date) " +
+                        "SELECT r.member_id, r.revenue_year, r.revenue_month, SUM(r.sale_amount), SUM(r.refund_amount), " +
+                        "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                        "FROM video_monthly_revenue r " +
+                        "WHERE r.revenue_year = :year AND r.revenue_month = :month " +
+                        "GROUP BY r.member_id, r.revenue_year, r.revenue_month")
+                .setParameter("year", year)
+                .setParameter("month", month)
+                .executeUpdate();
+
+        em.clear();
+
+        return revenues.size();
+    }
+
+    /**
+     * 금액이 모두 0 이고 그 달에 결제된 주문도 남아 있지 않은 집계 행을 지운다.
+     * 0원 비디오처럼 결제된 주문이 남아 있으면 rebuildMonth 도 같은 행을 만들므로 남겨둔다.
+     * 크리에이터 집계 행은 비디오 집계 행이 하나도 남지 않은 경우에만 지운다.
+     *
+     * @return 지운 비디오 집계 행 수
+     */
+    @Override
+    public int deleteEmpty(Collection<Long> videoIds, Collection<Long> memberIds, YearMonth yearMonth) {
+
+        em.flush();
+
+        int deleted = em.createNativeQuery(
+                "DELETE FROM video_monthly_revenue " +
+                        "WHERE video_id IN (:videoIds) AND revenue_year = :year AND revenue_month = :month " +
+                        "AND sale_amount = 0 AND refund_amount = 0 " +
+                        "AND NOT EXISTS (SELECT 1 FROM order_video ov JOIN orders o ON o.order_id = ov.order_id " +
+                        "WHERE ov.video_id = video_monthly_revenue.video_id AND o.payment_key IS NOT NULL " +
+                        "AND o.completed_date >= :start AND o.completed_date < :end)")
+                .setParameter("videoIds", videoIds)
+                .setParameter("year", yearMonth.getYear())
+                .setParameter("month", yearMonth.getMonthValue())
+                .setParameter("start", yearMonth.atDay(1).atStartOfDay())
+                .setParameter("end", yearMonth.plusMonths(1).atDay(1).atStartOfDay())
+                .executeUpdate();
+
+        em.createNativeQuery(
+                "DELETE FROM creator_monthly_revenue " +
+                        "WHERE member_id IN (:memberIds) AND revenue_year = :year AND revenue_month = :month " +
+                        "AND sale_amount = 0 AND refund_amount = 0 " +
+                        "AND NOT EXISTS (SELECT 1 FROM video_monthly_revenue r " +
+                        "WHERE r.member_id = creator_monthly_revenue.member_id " +
+                        "AND r.revenue_year = :year AND r.revenue_month = :month)")
+                .setParameter("memberIds", memberIds)
+                .setParameter("year", yearMonth.getYear())
+                .setParameter("month", yearMonth.getMonthValue())
+                .executeUpdate();
+
+        return deleted;
+    }
+}
@@ -1,14 +1,27 @@
 package com.server.domain.adjustment.repository.dto;
 
-import lombok.AllArgsConstructor;
+import com.server.domain.account.domain.Bank;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 정산 배치에서 한 크리에이터에게 이체할 금액과 계좌 정보.
+ */
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
 public class AdjustmentFirmBank {
 
-    private int amount;
     private Long memberId;
+    private String name;
+    private String account;
+    private Bank bank;
+    private int amount;
+
+    public AdjustmentFirmBank(Long memberId, String name, String account, Bank bank, Long amount) {
+        this.memberId = memberId;
+        this.name = name;
+        this.account = account;
+        this.bank = bank;
+        this.amount = amount == null ? 0 : amount.intValue();
+    }
 }
@@ -0,0 +1,130 @@
+package com.server.domain.adjustment.service;
+
+import com.server.domain.adjustment.domain.AdjustmentStatus;
+import com.server.domain.adjustment.repository.AdjustmentExportRepository;
+import com.server.domain.order.entity.OrderStatus;
+import com.server.global.exception.businessexception.orderexception.AdjustmentExportBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 판매/환불 내역과 정산 내역을 CSV 로 내보낸다.
+ * DB 에서 읽은 행을 바로 응답 스트림에 쓰므로 내역이 길어도 메모리 사용량이 일정하다.
+ * 응답 스트림에서 실행되므로 트랜잭션을 열지 않는다.
+ */
+@Service
+public class AdjustmentExportService {
+
+    // 엑셀에서 UTF-8 로 열리도록 BOM 을 먼저 쓴다.
+    private static final char BOM = '\uFEFF';
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final AdjustmentExportRepository adjustmentExportRepository;
+    private final Semaphore exportPermits;
+
+    public AdjustmentExportService(AdjustmentExportRepository adjustmentExportRepository,
+                                   @Value("${adjustment.export.max-concurrent}") int maxConcurrent) {
+        this.adjustmentExportRepository = adjustmentExportRepository;
+        this.exportPermits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기는 끝날 때까지 DB 커넥션을 하나 잡고 있으므로 동시에 진행하는 내보내기 수를 제한한다.
+     * 권한이 남아 있지 않으면 기다리지 않고 예외를 던진다. 얻은 권한은 응답이 끝나면 {@link #releasePermit()} 로 반납한다.
+     */
+    public void acquirePermit() {
+        if (!exportPermits.tryAcquire()) {
+            throw new AdjustmentExportBusyException();
+        }
+    }
+
+    public void releasePermit() {
+        exportPermits.release();
+    }
+
+    public void writeSales(Long memberId, OutputStream outputStream) throws IOException {
+
+        Writer writer = csvWriter(outputStream);
+
+        writeRow(writer, "완료일", "주문 번호", "비디오 ID", "비디오 이름", "금액", "구분");
+
+        adjustmentExportRepository.streamSales(memberId, rs -> {
+            Timestamp completedDate = rs.getTimestamp("completed_date");
+            boolean refund = OrderStatus.CANCELED.name().equals(rs.getString("order_status"));
+
+            writeRow(writer,
+                    completedDate == null ? "" : completedDate.toLocalDateTime().format(DATE_TIME_FORMAT),
+                    rs.getString("order_id"),
+                    String.valueOf(rs.getLong("video_id")),
+                    rs.getString("video_name"),
+                    String.valueOf(rs.getInt("price")),
+                    refund ? "환불" : "판매");
+        });
+
+        writer.flush();
+    }
+
+    public void writeSettlements(Long memberId, OutputStream outputStream) throws IOException {
+
+        Writer writer = csvWriter(outputStream);
+
+        writeRow(writer, "연도", "월", "금액", "상태", "사유");
+
+        adjustmentExportRepository.streamSettlements(memberId, rs -> {
+            String status = rs.getString("adjustment_status");
+
+            writeRow(writer,
+                    String.valueOf(rs.getInt("adjustment_year")),
+                    String.valueOf(rs.getInt("adjustment_month")),
+                    String.valueOf(rs.getInt("amount")),
+                    status == null ? "" : AdjustmentStatus.valueOf(status).getDescription(),
+                    rs.getString("reason"));
+        });
+
+        writer.flush();
+    }
+
+    private Writer csvWriter(OutputStream outputStream) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(BOM);
+        return writer;
+    }
+
+    private void writeRow(Writer writer, String... values) {
+
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) writer.write(',');
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            // 클라이언트가 다운로드를 중단한 경우 조회도 중단한다.
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 구분자, 따옴표, 줄바꿈이 있으면 따옴표로 감싼다.
+     * 비디오 이름처럼 사용자가 입력한 값이 수식으로 실행되지 않도록 =, +, -, @ 로 시작하면 ' 를 붙인다.
+     */
+    static String escape(String value) {
+
+        if (value == null || value.isEmpty()) return "";
+
+        String escaped = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+
+        if (escaped.contains(",") || escaped.contains("\"") || escaped.contains("\n") || escaped.contains("\r")) {
+            return "\"" + escaped.replace("\"", "\"\"") + "\"";
+        }
+
+        return escaped;
+    }
+}
@@ -3,9 +3,11 @@ package com.server.domain.adjustment.service;
 import com.server.domain.account.domain.Account;
 import com.server.domain.account.domain.Bank;
 import com.server.domain.account.repository.AccountRepository;
-import com.server.domain.adjustment.domain.Adjustment;
 import com.server.domain.adjustment.domain.AdjustmentStatus;
+import com.server.domain.adjustment.domain.CreatorMonthlyRevenue;
+import com.server.domain.adjustment.repository.AdjustmentCacheRepository;
 import com.server.domain.adjustment.repository.AdjustmentRepository;
+import com.server.domain.adjustment.repository.CreatorMonthlyRevenueRepository;
 import com.server.domain.adjustment.repository.dto.AdjustmentData;
 import com.server.domain.adjustment.repository.dto.VideoAdjustmentData;
 import com.server.domain.adjustment.service.dto.request.AccountUpdateServiceRequest;
@@ -20,7 +22,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,13 +31,21 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AdjustmentService {
 
+    private static final YearMonth FIRST_ADJUSTMENT_MONTH = YearMonth.of(2023, 1);
+
     private final AdjustmentRepository adjustmentRepository;
+    private final AdjustmentCacheRepository adjustmentCacheRepository;
+    private final CreatorMonthlyRevenueRepository creatorMonthlyRevenueRepository;
     private final AccountRepository accountRepository;
     private final MemberRepository memberRepository;
 
     public AdjustmentService(AdjustmentRepository adjustmentRepository,
+                             AdjustmentCacheRepository adjustmentCacheRepository,
+                             CreatorMonthlyRevenueRepository creatorMonthlyRevenueRepository,
                              AccountRepository accountRepository, MemberRepository memberRepository) {
         this.adjustmentRepository = adjustmentRepository;
+        this.adjustmentCacheRepository = adjustmentCacheRepository;
+        this.creatorMonthlyRevenueRepository = creatorMonthlyRevenueRepository;
         this.accountRepository = accountRepository;
         this.memberRepository = memberRepository;
     }
@@ -48,18 +59,27 @@ public class AdjustmentService {
         return datas.map(AdjustmentResponse::of);
     }
 
+    /**
+     * 정산 완료 월은 정산 내역을, 이번 달과 지난달은 월별 매출 집계를, 나머지 월은 0 원을 반환한다.
+     * 연도를 지정하지 않으면 2023년 1월부터 올해 12월까지 반환한다.
+     */
     public List<MonthAdjustmentResponse> totalAdjustment(Long loginMemberId, Integer year) {
 
-        List<Adjustment> monthlyData = adjustmentRepository.findMonthlyData(loginMemberId, year);
-
-        List<MonthAdjustmentResponse> monthAdjustmentResponses = monthlyData.stream()
-                .map(MonthAdjustmentResponse::of)
+        List<MonthAdjustmentResponse> settledMonths = settledMonths(loginMemberId).stream()
+                .filter(response -> year == null || response.getYear().equals(year))
                 .collect(Collectors.toList());
 
-        //없는 데이터 넣기
-        addAdditionalMonthData(monthAdjustmentResponses, year);
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth lastMonth = currentMonth.minusMonths(1);
+
+        YearMonth from = year == null ? FIRST_ADJUSTMENT_MONTH : YearMonth.of(year, 1);
+        YearMonth to = YearMonth.of(year == null ? currentMonth.getYear() : year, 12);
 
-        return monthAdjustmentResponses;
+        return CalendarSeries.merge(from, to, settledMonths,
+                response -> YearMonth.of(response.getYear(), response.getMonth()),
+                month -> month.equals(currentMonth) || month.equals(lastMonth)
+                        ? MonthAdjustmentResponse.of(month.getYear(), month.getMonthValue(), revenueAmount(loginMemberId, month), AdjustmentStatus.NOT_ADJUSTED)
+                        : MonthAdjustmentResponse.of(month.getYear(), month.getMonthValue(), 0, AdjustmentStatus.NO_ADJUSTMENT));
     }
 
     public AccountResponse getAccount(Long loginMemberId) {
@@ -100,136 +120,29 @@ public class AdjustmentService {
         return accountRepository.findByMemberId(loginMemberId).orElse(null);
     }
 
-    private void addAdditionalMonthData(List<MonthAdjustmentResponse> monthAdjustmentResponses, Integer year) {
-
-        LocalDate now = LocalDate.now();
-        int currentMonth = now.getMonthValue();
-        int currentYear = now.getYear();
-
-        if(year == null) {
-
-            //이번달 데이터 세팅
-            int amount = adjustmentRepository.calculateAmount(1L, currentMonth, currentYear);
-            monthAdjustmentResponses.add(MonthAdjustmentResponse.of(currentYear, currentMonth, amount, AdjustmentStatus.NOT_ADJUSTED));
-
-            //지난달 데이터가 있는지 확인
-            if (currentMonth == 1) {
-                currentMonth = 12;
-                currentYear -= 1;
-            } else {
-                currentMonth -= 1;
-            }
-
-            boolean hasLastMonth = false;
-
-            for(MonthAdjustmentResponse monthAdjustmentResponse : monthAdjustmentResponses) {
-                if (monthAdjustmentResponse.isSameMonthAndYear(currentYear, currentMonth)) {
-                    hasLastMonth = true;
-                    break;
-                }
-            }
-
-            //지난달 데이터가 없다면 세팅
-            if (!hasLastMonth) {
-                amount = adjustmentRepository.calculateAmount(1L, currentMonth, currentYear);
-                monthAdjustmentResponses.add(MonthAdjustmentResponse.of(currentYear, currentMonth, amount, AdjustmentStatus.NOT_ADJUSTED));
-            }
-
-            //2023년부터 빈 데이터를 확인해서 0원으로 넣어주기
-            for(int i = 2023; i <= currentYear; i++) {
-                for(int j = 1; j <= 12; j++) {
-                    boolean hasData = false;
-                    for(MonthAdjustmentResponse monthAdjustmentResponse : monthAdjustmentResponses) {
-                        if (monthAdjustmentResponse.isSameMonthAndYear(i, j)) {
-                            hasData = true;
-                            break;
-                        }
-                    }
-                    if(!hasData) {
-                        monthAdjustmentResponses.add(MonthAdjustmentResponse.of(i, j, 0, AdjustmentStatus.NO_ADJUSTMENT));
-                    }
-                }
-            }
-        }else if(year.equals(currentYear)) {
-
-            //이번달 데이터 세팅
-            int amount = adjustmentRepository.calculateAmount(1L, currentMonth, currentYear);
-            monthAdjustmentResponses.add(MonthAdjustmentResponse.of(currentYear, currentMonth, amount, AdjustmentStatus.NOT_ADJUSTED));
-
-            boolean hasLastMonth = false;
-
-            //지난달 데이터가 올해인지 확인
-            if (currentMonth == 1) {
-                hasLastMonth = true;
-            } else {
-                currentMonth -= 1;
-            }
-
-            if(!hasLastMonth) {
-
-                for(MonthAdjustmentResponse monthAdjustmentResponse : monthAdjustmentResponses) {
-                    if (monthAdjustmentResponse.isSameMonthAndYear(currentYear, currentMonth)) {
-                        hasLastMonth = true;
-                        break;
-                    }
-                }
-            }
-
-            //지난달 데이터가 없다면 세팅
-            if (!hasLastMonth) {
-                amount = adjustmentRepository.calculateAmount(1L, currentMonth, currentYear);
-                monthAdjustmentResponses.add(MonthAdjustmentResponse.of(currentYear, currentMonth, amount, AdjustmentStatus.NOT_ADJUSTED));
-            }
-
-            //빈 데이터를 확인해서 0원으로 넣어주기
-            for (int j = 1; j <= 12; j++) {
-                boolean hasData = false;
-                for (MonthAdjustmentResponse monthAdjustmentResponse : monthAdjustmentResponses) {
-                    if (monthAdjustmentResponse.isSameMonthAndYear(year, j)) {
-                        hasData = true;
-                        break;
-                    }
-                }
-                if (!hasData) {
-                    monthAdjustmentResponses.add(MonthAdjustmentResponse.of(year, j, 0, AdjustmentStatus.NO_ADJUSTMENT));
-                }
-            }
-        }else {
-            //현재 월이 1월이라면 지난달 12월 데이터 넣어주기
-            if(currentMonth == 1 && currentYear == year + 1) {
-
-                boolean hasLastMonth = false;
-
-                for(MonthAdjustmentResponse monthAdjustmentResponse : monthAdjustmentResponses) {
-                    if (monthAdjustmentResponse.isSameMonthAndYear(year, 12)) {
-                        hasLastMonth = true;
-                        break;
-                    }
-                }
-
-                //지난달 데이터가 없다면 세팅
-                if (!hasLastMonth) {
-                    int amount = adjustmentRepository.calculateAmount(1L, 12, year);
-                    monthAdjustmentResponses.add(MonthAdjustmentResponse.of(year, 12, amount, AdjustmentStatus.NOT_ADJUSTED));
-                }
-            }
-
-            //빈 데이터를 확인해서 0원으로 넣어주기
-            for (int j = 1; j <= 12; j++) {
-                boolean hasData = false;
-                for (MonthAdjustmentResponse monthAdjustmentResponse : monthAdjustmentResponses) {
-                    if (monthAdjustmentResponse.isSameMonthAndYear(year, j)) {
-                        hasData = true;
-                        break;
-                    }
-                }
-                if (!hasData) {
-                    monthAdjustmentResponses.add(MonthAdjustmentResponse.of(year, j, 0, AdjustmentStatus.NO_ADJUSTMENT));
-                }
-            }
-        }
+    // 월 오름차순으로 정렬된 정산 내역
+    private List<MonthAdjustmentResponse> settledMonths(Long loginMemberId) {
+
+        return adjustmentCacheRepository.findSettledMonths(loginMemberId)
+                .orElseGet(() -> {
+                    List<MonthAdjustmentResponse> settledMonths = adjustmentRepository.findMonthlyData(loginMemberId, null).stream()
+                            .map(MonthAdjustmentResponse::of)
+                            .sorted(Comparator.comparing(MonthAdjustmentResponse::getYear)
+                                    .thenComparing(MonthAdjustmentResponse::getMonth))
+                            .collect(Collectors.toList());
+
+                    adjustmentCacheRepository.saveSettledMonths(loginMemberId, settledMonths);
+
+                    return settledMonths;
+                });
+    }
 
+    private int revenueAmount(Long loginMemberId, YearMonth month) {
 
+        return creatorMonthlyRevenueRepository
+                .findByMemberIdAndRevenueYearAndRevenueMonth(loginMemberId, month.getYear(), month.getMonthValue())
+                .map(CreatorMonthlyRevenue::getAmount)
+                .orElse(0);
     }
 
     private Member verifiedMember(Long memberId) {
@@ -0,0 +1,44 @@
+package com.server.domain.adjustment.service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 월 순으로 정렬된 데이터와 빈틈없는 월 범위를 한 번에 병합한다.
+ * 데이터가 있는 월은 그대로 쓰고, 없는 월은 filler 로 채운다. 범위 밖의 데이터도 순서대로 결과에 포함된다.
+ */
+final class CalendarSeries {
+
+    private CalendarSeries() {
+    }
+
+    /**
+     * @param sorted 월 오름차순으로 정렬된 데이터 (같은 월은 한 번만 있어야 한다)
+     */
+    static <T> List<T> merge(YearMonth from, YearMonth to, List<T> sorted,
+                             Function<T, YearMonth> monthOf, Function<YearMonth, T> filler) {
+
+        List<T> series = new ArrayList<>(sorted.size() + 12);
+        int index = 0;
+
+        while (index < sorted.size() && monthOf.apply(sorted.get(index)).isBefore(from)) {
+            series.add(sorted.get(index++));
+        }
+
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (index < sorted.size() && monthOf.apply(sorted.get(index)).equals(month)) {
+                series.add(sorted.get(index++));
+            } else {
+                series.add(filler.apply(month));
+            }
+        }
+
+        while (index < sorted.size()) {
+            series.add(sorted.get(index++));
+        }
+
+        return series;
+    }
+}
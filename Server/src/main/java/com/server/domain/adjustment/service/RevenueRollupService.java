@@ -0,0 +1,123 @@
+package com.server.domain.adjustment.service;
+
+import com.server.domain.adjustment.domain.RevenueRollupLock;
+import com.server.domain.adjustment.repository.CreatorMonthlyRevenueRepository;
+import com.server.domain.adjustment.repository.RevenueRollupLockRepository;
+import com.server.domain.adjustment.repository.VideoMonthlyRevenueRepository;
+import com.server.domain.order.entity.Order;
+import com.server.domain.order.entity.OrderVideo;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 완료/취소 시 월별 매출 집계(creator_monthly_revenue, video_monthly_revenue)를 갱신한다.
+ * 대시보드는 원본 order_video 대신 이 집계만 읽는다.
+ * 집계를 바꾸기 전에 집계 잠금(revenue_rollup_lock)을 잡아 revenueRollupJob 의 월별 재집계와 겹치지 않게 한다.
+ */
+@Service
+@Transactional
+public class RevenueRollupService {
+
+    private final CreatorMonthlyRevenueRepository creatorMonthlyRevenueRepository;
+    private final VideoMonthlyRevenueRepository videoMonthlyRevenueRepository;
+    private final RevenueRollupLockRepository revenueRollupLockRepository;
+
+    public RevenueRollupService(CreatorMonthlyRevenueRepository creatorMonthlyRevenueRepository,
+                                VideoMonthlyRevenueRepository videoMonthlyRevenueRepository,
+                                RevenueRollupLockRepository revenueRollupLockRepository) {
+        this.creatorMonthlyRevenueRepository = creatorMonthlyRevenueRepository;
+        this.videoMonthlyRevenueRepository = videoMonthlyRevenueRepository;
+        this.revenueRollupLockRepository = revenueRollupLockRepository;
+    }
+
+    public void recordSale(Order order) {
+        record(YearMonth.from(order.getCompletedDate()), order.getOrderVideos(), 1, 0);
+    }
+
+    /**
+     * @param canceledVideos 이번 취소로 상태가 바뀐 주문 비디오 (이미 취소된 비디오는 제외)
+     */
+    public void recordRefund(Order order, List<OrderVideo> canceledVideos) {
+        record(YearMonth.from(order.getCompletedDate()), canceledVideos, 0, 1);
+    }
+
+    /**
+     * 결제 승인에 실패해 결제 전 상태로 되돌린 주문의 매출을 환불로 기록하지 않고 뺀다.
+     * 결제 정보가 지워진 주문은 재집계(rebuild)도 매출로 세지 않으므로 두 경로의 집계가 같아진다.
+     * 비어 있는 집계 행을 지울 때 이 주문을 결제된 주문으로 세지 않도록 주문의 결제 정보를 지운 뒤 호출한다.
+     *
+     * @param soldMonth 되돌리기 전 주문 완료일의 월
+     */
+    public void revertSale(YearMonth soldMonth, List<OrderVideo> revertedVideos) {
+
+        List<OrderVideo> creatorVideos = record(soldMonth, revertedVideos, -1, 0);
+
+        if(creatorVideos.isEmpty()) return;
+
+        videoMonthlyRevenueRepository.deleteEmpty(
+                creatorVideos.stream().map(orderVideo -> orderVideo.getVideo().getVideoId()).collect(Collectors.toSet()),
+                creatorVideos.stream().map(RevenueRollupService::creatorId).collect(Collectors.toSet()),
+                soldMonth);
+    }
+
+    /**
+     * 한 달의 집계를 원본 주문에서 다시 만든다.
+     * 집계 잠금을 배타적으로 잡으므로 그동안 들어온 주문의 증가 update 는 재집계가 커밋된 뒤에 반영된다.
+     * 잠금을 잡기 전에 커밋된 주문은 재집계가 세고, 잠금을 기다린 주문은 증가 update 로 더해지므로 빠지거나 두 번 세지 않는다.
+     *
+     * @return 다시 만든 비디오 집계 행 수
+     */
+    public int rebuild(YearMonth yearMonth) {
+
+        revenueRollupLockRepository.findForUpdate(RevenueRollupLock.ID)
+                .orElseThrow(() -> new IllegalStateException("revenue_rollup_lock 행이 없습니다."));
+
+        return videoMonthlyRevenueRepository.rebuildMonth(yearMonth);
+    }
+
+    @Transactional(readOnly = true)
+    public List<YearMonth> findRevenueMonths() {
+        return videoMonthlyRevenueRepository.findRevenueMonths();
+    }
+
+    /**
+     * @return 집계한 주문 비디오
+     */
+    private List<OrderVideo> record(YearMonth yearMonth, List<OrderVideo> orderVideos, int saleSign, int refundSign) {
+
+        // 채널이 삭제된 비디오는 정산받을 크리에이터가 없으므로 집계하지 않는다. (rebuildMonth 와 같은 기준)
+        List<OrderVideo> creatorVideos = orderVideos.stream()
+                .filter(orderVideo -> orderVideo.getVideo().getChannel() != null)
+                .collect(Collectors.toList());
+
+        if(creatorVideos.isEmpty()) return creatorVideos;
+
+        // 재집계와는 배타적이고 다른 주문과는 함께 잡을 수 있는 공유 잠금
+        revenueRollupLockRepository.findForShare(RevenueRollupLock.ID);
+
+        int year = yearMonth.getYear();
+        int month = yearMonth.getMonthValue();
+
+        Map<Long, Integer> creatorAmounts = creatorVideos.stream()
+                .collect(Collectors.groupingBy(RevenueRollupService::creatorId, Collectors.summingInt(OrderVideo::getPrice)));
+
+        creatorAmounts.forEach((memberId, amount) ->
+                creatorMonthlyRevenueRepository.addAmount(memberId, year, month, amount * saleSign, amount * refundSign));
+
+        creatorVideos.forEach(orderVideo ->
+                videoMonthlyRevenueRepository.addAmount(orderVideo.getVideo().getVideoId(), creatorId(orderVideo), year, month,
+                        orderVideo.getPrice() * saleSign, orderVideo.getPrice() * refundSign));
+
+        return creatorVideos;
+    }
+
+    // channel id 는 채널을 가진 회원의 id 와 같다. (프록시 초기화 없이 id 만 읽는다)
+    private static Long creatorId(OrderVideo orderVideo) {
+        return orderVideo.getVideo().getChannel().getChannelId();
+    }
+}
@@ -5,8 +5,10 @@ import com.server.domain.adjustment.domain.AdjustmentStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
+@NoArgsConstructor
 @Getter
 @Builder
 public class MonthAdjustmentResponse {
@@ -37,8 +39,4 @@ public class MonthAdjustmentResponse {
                 .build();
     }
 
-    public boolean isSameMonthAndYear(Integer year, Integer month) {
-        return this.year.equals(year) && this.month.equals(month);
-    }
-
 }
@@ -0,0 +1,66 @@
+package com.server.domain.cart.listener;
+
+import com.server.domain.cart.service.CartCleanupService;
+import com.server.domain.order.event.OrderCompletedEvent;
+import com.server.global.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 결제 승인이 확정된 뒤(결제 승인 outbox 완료) 별도 스레드에서 장바구니를 정리한다.
+ * 장바구니 정리는 결제 결과에 영향을 주지 않으므로 실패하면 backoff 후 재시도하고, 끝내 실패하면 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class CartCleanupListener {
+
+    private final CartCleanupService cartCleanupService;
+
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    public CartCleanupListener(CartCleanupService cartCleanupService,
+                               @Value("${cart.cleanup.max-attempts}") int maxAttempts,
+                               @Value("${cart.cleanup.retry-backoff-ms}") long retryBackoffMs) {
+        this.cartCleanupService = cartCleanupService;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    @Async(AsyncConfig.CART_CLEANUP_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCompleted(OrderCompletedEvent event) {
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                cartCleanupService.deletePurchasedVideos(event.getMemberId(), event.getVideoIds());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("장바구니 정리 재시도 횟수 초과 memberId={}, orderId={}", event.getMemberId(), event.getOrderId(), e);
+                    return;
+                }
+                log.warn("장바구니 정리 실패 ({}/{}) orderId={}", attempt, maxAttempts, event.getOrderId(), e);
+            }
+
+            if (!sleep(retryBackoffMs << (attempt - 1))) {
+                log.warn("장바구니 정리 재시도 중 인터럽트 orderId={}", event.getOrderId());
+                return;
+            }
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
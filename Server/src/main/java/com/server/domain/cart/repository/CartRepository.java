@@ -19,4 +19,10 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
             "and c.member = :member")
     @Modifying
     int deleteByMemberAndVideoIds(Member member, List<Long> videoIds);
-}
\ No newline at end of file
+
+    @Query("delete Cart c " +
+            "where c.member.memberId = :memberId " +
+            "and c.video.videoId in :videoIds")
+    @Modifying
+    int deleteByMemberIdAndVideoIds(Long memberId, List<Long> videoIds);
+}
@@ -0,0 +1,28 @@
+package com.server.domain.cart.service;
+
+import com.server.domain.cart.repository.CartRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional
+public class CartCleanupService {
+
+    private final CartRepository cartRepository;
+
+    public CartCleanupService(CartRepository cartRepository) {
+        this.cartRepository = cartRepository;
+    }
+
+    /**
+     * 구매한 video 를 회원의 장바구니에서 삭제한다. (member_id, video_id) 로만 조건을 걸어 주문 테이블을 조회하지 않는다.
+     */
+    public int deletePurchasedVideos(Long memberId, List<Long> videoIds) {
+
+        if(videoIds.isEmpty()) return 0;
+
+        return cartRepository.deleteByMemberIdAndVideoIds(memberId, videoIds);
+    }
+}
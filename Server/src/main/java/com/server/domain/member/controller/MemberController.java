@@ -1,11 +1,14 @@
 package com.server.domain.member.controller;
 
+import java.time.LocalDateTime;
+
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.Positive;
 
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -22,6 +25,7 @@ import com.server.domain.member.controller.dto.PlaylistsSort;
 import com.server.domain.member.service.MemberService;
 import com.server.domain.member.service.dto.response.CartsResponse;
 import com.server.domain.member.service.dto.response.RewardsResponse;
+import com.server.domain.member.service.dto.response.OrderHistoryResponse;
 import com.server.domain.member.service.dto.response.OrdersResponse;
 import com.server.domain.member.service.dto.response.PlaylistChannelDetailsResponse;
 import com.server.domain.member.service.dto.response.PlaylistChannelResponse;
@@ -97,6 +101,18 @@ public class MemberController {
 		return ResponseEntity.ok(ApiPageResponse.ok(responses));
 	}
 
+	@GetMapping("/orders/history")
+	public ResponseEntity<ApiSingleResponse<OrderHistoryResponse>> getOrderHistory(@LoginId Long loginId,
+													@RequestParam(value = "cursorDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+													@RequestParam(value = "cursorOrderId", required = false) String cursorOrderId,
+													@RequestParam(value = "size", defaultValue = "4") @Positive(message = "{validation.positive}") @Max(value = 100, message = "{validation.member.size.max}") int size,
+													@RequestParam(value = "month", defaultValue = "1") @Min(value = 1, message = "{validation.member.month.min}") @Max(value = 12, message = "{validation.member.month.max}") int month) {
+
+		OrderHistoryResponse response = memberService.getOrderHistory(loginId, size, month, cursorDate, cursorOrderId);
+
+		return ResponseEntity.ok(ApiSingleResponse.ok(response, "결제 목록 조회 성공"));
+	}
+
 	@GetMapping("/playlists")
 	public ResponseEntity<ApiPageResponse<PlaylistsResponse>> getPlaylists(@LoginId Long loginId,
 													@RequestParam(value = "page", defaultValue = "1") @Positive(message = "{validation.positive}") int page,
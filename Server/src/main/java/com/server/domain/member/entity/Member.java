@@ -57,6 +57,9 @@ public class Member extends BaseEntity {
 
 	private int gradePoint;
 
+	// 잔액은 RewardLedgerService 의 원자적 update 로만 DB 에 반영된다. 엔티티 값은 같은 트랜잭션에서 보여줄 용도이므로
+	// update 에서 제외한다. 엔티티 값을 바꾸는 도메인 로직은 서비스에서 같은 변경량을 RewardLedgerService 로 반영한다.
+	@Column(updatable = false)
 	private int reward;
 	
 	@OneToMany(mappedBy = "member")
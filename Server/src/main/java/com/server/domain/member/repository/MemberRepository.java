@@ -7,7 +7,9 @@ import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.server.domain.member.entity.Member;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
 	Optional<Member> findByEmail(String email);
@@ -17,4 +19,15 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
 
 	@Query("select m from Member m where m.email in ?1")
     List<Member> findAllByEmails(HashSet<String> adminEnterRoomIds);
+
+	// 잔액이 음수가 되는 변경은 반영되지 않는다. (0 반환)
+	@Modifying
+	@Query("update Member m set m.reward = m.reward + :delta where m.memberId = :memberId and m.reward + :delta >= 0")
+	int applyRewardDelta(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+	@Query("select min(m.memberId) from Member m")
+	Long findMinMemberId();
+
+	@Query("select max(m.memberId) from Member m")
+	Long findMaxMemberId();
 }
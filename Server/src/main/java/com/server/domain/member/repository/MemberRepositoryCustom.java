@@ -5,12 +5,14 @@ import com.server.domain.cart.entity.Cart;
 import com.server.domain.channel.entity.Channel;
 import com.server.domain.member.entity.Member;
 import com.server.domain.member.repository.dto.MemberVideoData;
-import com.server.domain.order.entity.Order;
+import com.server.domain.member.repository.dto.OrderHistoryData;
+import com.server.domain.member.repository.dto.OrderVideoHistoryData;
 import com.server.domain.video.entity.Video;
 import com.server.domain.watch.entity.Watch;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,7 +32,11 @@ public interface MemberRepositoryCustom {
 
     Page<Cart> findCartsOrderByCreatedDateForMember(Long memberId, Pageable pageable);
 
-    Page<Order> findOrdersOrderByCreatedDateForMember(Long memberId, Pageable pageable, int month);
+    Page<OrderHistoryData> findOrderHistoryForMember(Long memberId, Pageable pageable, int month);
+
+    List<OrderHistoryData> findOrderHistoryForMember(Long memberId, int month, LocalDateTime cursorDate, String cursorOrderId, int limit);
+
+    List<OrderVideoHistoryData> findOrderVideoHistory(List<String> orderIds);
 
     Page<Watch> findWatchesForMember(Long memberId, Pageable pageable, int days);
 
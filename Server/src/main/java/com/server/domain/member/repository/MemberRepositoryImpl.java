@@ -9,6 +9,7 @@ import static com.server.domain.subscribe.entity.QSubscribe.*;
 import static com.server.domain.video.entity.QVideo.*;
 import static com.server.domain.watch.entity.QWatch.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +23,7 @@ import org.springframework.data.domain.Pageable;
 
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -30,13 +32,18 @@ import com.server.domain.channel.entity.Channel;
 import com.server.domain.member.entity.Member;
 import com.server.domain.member.entity.QMember;
 import com.server.domain.member.repository.dto.MemberVideoData;
+import com.server.domain.member.repository.dto.OrderHistoryData;
+import com.server.domain.member.repository.dto.OrderVideoHistoryData;
 import com.server.domain.member.repository.dto.QMemberVideoData;
+import com.server.domain.member.repository.dto.QOrderHistoryData;
+import com.server.domain.member.repository.dto.QOrderVideoHistoryData;
 import com.server.domain.order.entity.Order;
 import com.server.domain.order.entity.OrderStatus;
 import com.server.domain.video.entity.QVideo;
 import com.server.domain.video.entity.Video;
 import com.server.domain.video.entity.VideoStatus;
 import com.server.domain.watch.entity.Watch;
+import com.server.global.query.DatePeriod;
 
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
 
@@ -185,30 +192,94 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
     }
 
     @Override
-    public Page<Order> findOrdersOrderByCreatedDateForMember(Long memberId, Pageable pageable, int month) {
-        LocalDateTime currentDateTime = LocalDateTime.now();
-        LocalDateTime startDateTime = currentDateTime.minusMonths(month).withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endDateTime = currentDateTime.withHour(23).withMinute(59).withSecond(59);
+    public Page<OrderHistoryData> findOrderHistoryForMember(Long memberId, Pageable pageable, int month) {
 
-        JPAQuery<Order> query = queryFactory
-            .selectFrom(order)
-            .join(order.member, member)
+        List<OrderHistoryData> results = queryFactory
+            .select(orderHistoryData())
+            .from(order)
+            .where(orderHistoryCondition(memberId, month))
+            .orderBy(order.createdDate.desc(), order.orderId.desc())
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        Long totalCount = queryFactory
+            .select(order.count())
+            .from(order)
+            .where(orderHistoryCondition(memberId, month))
+            .fetchOne();
+
+        return new PageImpl<>(results, pageable, totalCount == null ? 0 : totalCount);
+    }
+
+    /**
+     * (createdDate, orderId) 내림차순 keyset 페이징. cursor 가 없으면 최신 주문부터 조회한다.
+     */
+    @Override
+    public List<OrderHistoryData> findOrderHistoryForMember(Long memberId, int month, LocalDateTime cursorDate, String cursorOrderId, int limit) {
+
+        return queryFactory
+            .select(orderHistoryData())
+            .from(order)
             .where(
-                order.member.memberId.eq(memberId)
-                .and(order.createdDate.between(startDateTime, endDateTime))
-                .and(order.orderStatus.ne(OrderStatus.ORDERED))
+                orderHistoryCondition(memberId, month),
+                orderHistoryBefore(cursorDate, cursorOrderId)
             )
             .orderBy(order.createdDate.desc(), order.orderId.desc())
-            .distinct();
+            .limit(limit)
+            .fetch();
+    }
 
-        long totalCount = query.fetchCount();
+    @Override
+    public List<OrderVideoHistoryData> findOrderVideoHistory(List<String> orderIds) {
 
-        List<Order> results = query
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+            .select(new QOrderVideoHistoryData(
+                orderVideo.order.orderId,
+                video.videoId,
+                video.videoName,
+                video.thumbnailFile,
+                channel.channelName,
+                video.price,
+                orderVideo.orderStatus
+            ))
+            .from(orderVideo)
+            .join(orderVideo.video, video)
+            .leftJoin(video.channel, channel)
+            .where(orderVideo.order.orderId.in(orderIds))
+            .orderBy(orderVideo.orderVideoId.asc())
             .fetch();
+    }
 
-        return new PageImpl<>(results, pageable, totalCount);
+    private QOrderHistoryData orderHistoryData() {
+        return new QOrderHistoryData(
+            order.orderId,
+            order.totalPayAmount,
+            order.orderStatus,
+            order.createdDate,
+            order.completedDate
+        );
+    }
+
+    private BooleanExpression orderHistoryCondition(Long memberId, int month) {
+        DatePeriod period = DatePeriod.recentMonths(month, LocalDate.now());
+
+        return order.member.memberId.eq(memberId)
+            .and(period.contains(order.createdDate))
+            .and(order.orderStatus.ne(OrderStatus.ORDERED));
+    }
+
+    private BooleanExpression orderHistoryBefore(LocalDateTime cursorDate, String cursorOrderId) {
+        if (cursorDate == null || cursorOrderId == null) {
+            return null;
+        }
+
+        return order.createdDate.lt(cursorDate)
+            .or(order.createdDate.eq(cursorDate).and(order.orderId.lt(cursorOrderId)));
     }
 
     public Page<Video> findPlaylistsOrderBySort(Long memberId, Pageable pageable, String sort) {
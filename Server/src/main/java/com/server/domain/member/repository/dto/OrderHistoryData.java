@@ -0,0 +1,32 @@
+package com.server.domain.member.repository.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.server.domain.order.entity.OrderStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter
+public class OrderHistoryData {
+
+    private String orderId;
+
+    private int amount;
+
+    private OrderStatus orderStatus;
+
+    private LocalDateTime createdDate;
+
+    private LocalDateTime completedDate;
+
+    @QueryProjection
+    public OrderHistoryData(String orderId, int amount, OrderStatus orderStatus, LocalDateTime createdDate, LocalDateTime completedDate) {
+        this.orderId = orderId;
+        this.amount = amount;
+        this.orderStatus = orderStatus;
+        this.createdDate = createdDate;
+        this.completedDate = completedDate;
+    }
+}
@@ -0,0 +1,36 @@
+package com.server.domain.member.repository.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.server.domain.order.entity.OrderStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class OrderVideoHistoryData {
+
+    private String orderId;
+
+    private Long videoId;
+
+    private String videoName;
+
+    private String thumbnailFile;
+
+    private String channelName;
+
+    private int price;
+
+    private OrderStatus orderStatus;
+
+    @QueryProjection
+    public OrderVideoHistoryData(String orderId, Long videoId, String videoName, String thumbnailFile, String channelName, int price, OrderStatus orderStatus) {
+        this.orderId = orderId;
+        this.videoId = videoId;
+        this.videoName = videoName;
+        this.thumbnailFile = thumbnailFile;
+        this.channelName = channelName;
+        this.price = price;
+        this.orderStatus = orderStatus;
+    }
+}
@@ -1,5 +1,6 @@
 package com.server.domain.member.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,9 +20,12 @@ import com.server.domain.channel.respository.ChannelRepository;
 import com.server.domain.channel.service.ChannelService;
 import com.server.domain.member.entity.Member;
 import com.server.domain.member.repository.MemberRepository;
+import com.server.domain.member.repository.dto.OrderHistoryData;
+import com.server.domain.member.repository.dto.OrderVideoHistoryData;
 import com.server.domain.member.service.dto.request.MemberServiceRequest;
 import com.server.domain.member.service.dto.response.CartsResponse;
 import com.server.domain.member.service.dto.response.RewardsResponse;
+import com.server.domain.member.service.dto.response.OrderHistoryResponse;
 import com.server.domain.member.service.dto.response.OrdersResponse;
 import com.server.domain.member.service.dto.response.PlaylistChannelDetailsResponse;
 import com.server.domain.member.service.dto.response.PlaylistChannelResponse;
@@ -30,7 +34,6 @@ import com.server.domain.member.service.dto.response.ProfileResponse;
 import com.server.domain.member.service.dto.response.SubscribesResponse;
 import com.server.domain.member.service.dto.response.WatchsResponse;
 import com.server.domain.member.util.MemberResponseConverter;
-import com.server.domain.order.entity.Order;
 import com.server.domain.order.repository.OrderRepository;
 import com.server.domain.reply.entity.Reply;
 import com.server.domain.reward.repository.RewardRepository;
@@ -138,9 +141,25 @@ public class MemberService {
 
 		Pageable pageable = PageRequest.of(page - 1, size);
 
-		Page<Order> orders = memberRepository.findOrdersOrderByCreatedDateForMember(member.getMemberId(), pageable, month);
+		Page<OrderHistoryData> orders = memberRepository.findOrderHistoryForMember(member.getMemberId(), pageable, month);
 
-		return converter.convertOrdersToOrdersResponses(orders);
+		List<OrderVideoHistoryData> orderVideos = memberRepository.findOrderVideoHistory(getOrderIds(orders.getContent()));
+
+		return converter.convertOrderHistoryToOrdersResponses(orders, orderVideos);
+	}
+
+	public OrderHistoryResponse getOrderHistory(Long loginId, int size, int month, LocalDateTime cursorDate, String cursorOrderId) {
+		Member member = validateMember(loginId);
+
+		List<OrderHistoryData> orders = memberRepository.findOrderHistoryForMember(
+			member.getMemberId(), month, cursorDate, cursorOrderId, size + 1);
+
+		boolean hasNext = orders.size() > size;
+		List<OrderHistoryData> page = hasNext ? orders.subList(0, size) : orders;
+
+		List<OrderVideoHistoryData> orderVideos = memberRepository.findOrderVideoHistory(getOrderIds(page));
+
+		return OrderHistoryResponse.of(converter.convertOrderHistoryToOrdersResponses(page, orderVideos), hasNext);
 	}
 
 	public Page<PlaylistsResponse> getPlaylists(Long loginId, int page, int size, String sort) {
@@ -264,6 +283,12 @@ public class MemberService {
 			FileType.PROFILE_IMAGE);
 	}
 
+	private List<String> getOrderIds(List<OrderHistoryData> orders) {
+		return orders.stream()
+			.map(OrderHistoryData::getOrderId)
+			.collect(Collectors.toList());
+	}
+
 	private void checkEmailCertify(String email) {
 		if (!"true".equals(redisService.getData(email))) {
 			throw new MailCertificationException();
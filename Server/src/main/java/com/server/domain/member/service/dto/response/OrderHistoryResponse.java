@@ -0,0 +1,31 @@
+package com.server.domain.member.service.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+@Builder
+public class OrderHistoryResponse {
+
+	private List<OrdersResponse> orders;
+	private LocalDateTime nextCursorDate; //마지막 주문의 createdDate
+	private String nextCursorOrderId; //마지막 주문의 orderId
+	private boolean hasNext;
+
+	public static OrderHistoryResponse of(List<OrdersResponse> orders, boolean hasNext) {
+
+		OrdersResponse last = orders.isEmpty() ? null : orders.get(orders.size() - 1);
+
+		return OrderHistoryResponse.builder()
+			.orders(orders)
+			.nextCursorDate(hasNext && last != null ? last.getCreatedDate() : null)
+			.nextCursorOrderId(hasNext && last != null ? last.getOrderId() : null)
+			.hasNext(hasNext)
+			.build();
+	}
+}
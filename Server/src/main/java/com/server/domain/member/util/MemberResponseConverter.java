@@ -1,6 +1,7 @@
 package com.server.domain.member.util;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -12,6 +13,8 @@ import com.server.domain.cart.entity.Cart;
 import com.server.domain.category.service.dto.response.CategoryResponse;
 import com.server.domain.channel.entity.Channel;
 import com.server.domain.member.entity.Member;
+import com.server.domain.member.repository.dto.OrderHistoryData;
+import com.server.domain.member.repository.dto.OrderVideoHistoryData;
 import com.server.domain.member.service.dto.response.CartsResponse;
 import com.server.domain.member.service.dto.response.OrdersResponse;
 import com.server.domain.member.service.dto.response.PlaylistChannelDetailsResponse;
@@ -19,7 +22,6 @@ import com.server.domain.member.service.dto.response.PlaylistChannelResponse;
 import com.server.domain.member.service.dto.response.PlaylistsResponse;
 import com.server.domain.member.service.dto.response.SubscribesResponse;
 import com.server.domain.member.service.dto.response.WatchsResponse;
-import com.server.domain.order.entity.Order;
 import com.server.domain.video.entity.Video;
 import com.server.domain.watch.entity.Watch;
 import com.server.module.s3.service.AwsService;
@@ -51,37 +53,55 @@ public class MemberResponseConverter {
 			);
 	}
 
-	public Page<OrdersResponse> convertOrdersToOrdersResponses(Page<Order> orders) {
-		return orders.map(order -> OrdersResponse.builder()
+	public Page<OrdersResponse> convertOrderHistoryToOrdersResponses(Page<OrderHistoryData> orders,
+																	 List<OrderVideoHistoryData> orderVideos) {
+
+		Map<String, List<OrdersResponse.OrderVideo>> orderVideosByOrderId = groupByOrderId(orderVideos);
+
+		return orders.map(order -> toOrdersResponse(order, orderVideosByOrderId));
+	}
+
+	public List<OrdersResponse> convertOrderHistoryToOrdersResponses(List<OrderHistoryData> orders,
+																	 List<OrderVideoHistoryData> orderVideos) {
+
+		Map<String, List<OrdersResponse.OrderVideo>> orderVideosByOrderId = groupByOrderId(orderVideos);
+
+		return orders.stream()
+			.map(order -> toOrdersResponse(order, orderVideosByOrderId))
+			.collect(Collectors.toList());
+	}
+
+	private OrdersResponse toOrdersResponse(OrderHistoryData order,
+											Map<String, List<OrdersResponse.OrderVideo>> orderVideosByOrderId) {
+
+		List<OrdersResponse.OrderVideo> orderVideos =
+			orderVideosByOrderId.getOrDefault(order.getOrderId(), List.of());
+
+		return OrdersResponse.builder()
 			.orderId(order.getOrderId())
-			.amount(order.getTotalPayAmount())
-			.orderCount(order.getOrderVideos().size())
+			.amount(order.getAmount())
+			.orderCount(orderVideos.size())
 			.orderStatus(order.getOrderStatus())
 			.createdDate(order.getCreatedDate())
 			.completedDate(order.getCompletedDate())
-			.orderVideos(order.getOrderVideos().stream()
-				.map(orderVideo -> {
-					String channelName;
-					Channel channel = orderVideo.getVideo().getChannel();
-
-					if (channel == null) {
-						channelName = "삭제된 채널";
-					}
-					else {
-						channelName = channel.getChannelName();
-					}
+			.orderVideos(orderVideos)
+			.build();
+	}
 
-					return OrdersResponse.OrderVideo.builder()
-						.videoId(orderVideo.getVideo().getVideoId())
-						.videoName(orderVideo.getVideo().getVideoName())
-						.thumbnailFile(getThumbnailUrl(orderVideo.getVideo().getThumbnailFile()))
-						.channelName(channelName)
-						.price(orderVideo.getVideo().getPrice())
+	private Map<String, List<OrdersResponse.OrderVideo>> groupByOrderId(List<OrderVideoHistoryData> orderVideos) {
+
+		return orderVideos.stream()
+			.collect(Collectors.groupingBy(
+				OrderVideoHistoryData::getOrderId,
+				Collectors.mapping(orderVideo -> OrdersResponse.OrderVideo.builder()
+						.videoId(orderVideo.getVideoId())
+						.videoName(orderVideo.getVideoName())
+						.thumbnailFile(getThumbnailUrl(orderVideo.getThumbnailFile()))
+						.channelName(orderVideo.getChannelName() == null ? "삭제된 채널" : orderVideo.getChannelName())
+						.price(orderVideo.getPrice())
 						.orderStatus(orderVideo.getOrderStatus())
-						.build();
-				})
-				.collect(Collectors.toList()))
-			.build());
+						.build(),
+					Collectors.toList())));
 	}
 
 	public Page<PlaylistsResponse> convertVideosToPlaylistsResponses(Page<Video> videos) {
@@ -9,6 +9,7 @@ import com.server.domain.adjustment.service.dto.response.AdjustmentResponse;
 import com.server.domain.order.service.dto.response.OrderResponse;
 import com.server.domain.order.service.dto.response.PaymentServiceResponse;
 import com.server.domain.order.service.dto.response.CancelServiceResponse;
+import com.server.domain.payment.service.PaymentService;
 import com.server.global.annotation.LoginId;
 import com.server.global.exception.businessexception.orderexception.AdjustmentDateException;
 import com.server.global.reponse.ApiPageResponse;
@@ -28,9 +29,11 @@ import java.time.LocalDateTime;
 public class OrderController {
 
     private final OrderService orderService;
+    private final PaymentService paymentService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, PaymentService paymentService) {
         this.orderService = orderService;
+        this.paymentService = paymentService;
     }
 
     @PostMapping
@@ -54,7 +57,7 @@ public class OrderController {
 
         LocalDateTime orderCompletedDate = LocalDateTime.now();
 
-        PaymentServiceResponse serviceResponse = orderService.requestFinalPayment(
+        PaymentServiceResponse serviceResponse = paymentService.requestFinalPayment(
                 loginMemberId,
                 paymentKey,
                 orderId,
@@ -10,13 +10,13 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Getter
 @Entity(name = "orders")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
+@Table(indexes = @Index(name = "idx_orders_completed_date", columnList = "completed_date"))
 public class Order extends BaseEntity {
 
     @Id
@@ -25,7 +25,7 @@ public class Order extends BaseEntity {
     @PrePersist
     public void generateUuid() {
         if (orderId == null) {
-            orderId = UUID.randomUUID().toString();
+            orderId = OrderIdGenerator.generate();
         }
     }
 
@@ -118,6 +118,25 @@ public class Order extends BaseEntity {
         this.member.minusReward(this.reward);
     }
 
+    /**
+     * 결제 승인에 실패한 주문을 결제 전 상태로 되돌려 같은 주문으로 다시 결제할 수 있게 한다.
+     */
+    public Refund revertPayment() {
+
+        this.orderVideos.forEach(OrderVideo::revertPayment);
+        this.member.addReward(this.remainRefundReward);
+
+        Refund refund = new Refund(remainRefundAmount, remainRefundReward);
+
+        this.paymentKey = null;
+        this.completedDate = null;
+        this.remainRefundAmount = 0;
+        this.remainRefundReward = 0;
+        this.orderStatus = OrderStatus.ORDERED;
+
+        return refund;
+    }
+
     public Refund cancelAllOrder() {
 
         this.orderVideos.forEach(OrderVideo::cancel);
@@ -0,0 +1,42 @@
+package com.server.domain.order.entity;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순으로 증가하는 주문 id (UUID version 7) 를 만든다.
+ * 상위 48bit 는 밀리초 timestamp, 다음 12bit 는 같은 밀리초 안의 순번이라 새 주문이 항상 인덱스의 끝에 추가되고,
+ * 클라이언트와 PG 사에는 기존과 같은 36자리 UUID 문자열로 노출된다.
+ */
+public final class OrderIdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7L << 12;
+    private static final long VARIANT = 0x2L << 62;
+    private static final long RANDOM_MASK = (1L << 62) - 1;
+
+    // (timestamp << 12 | counter). 같은 밀리초 안에서 순번이 넘치면 다음 밀리초를 미리 사용한다.
+    private static final AtomicLong lastState = new AtomicLong();
+
+    private OrderIdGenerator() {
+    }
+
+    public static String generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static String generate(long currentTimeMillis) {
+
+        long state = lastState.updateAndGet(last -> Math.max(currentTimeMillis << COUNTER_BITS, last + 1));
+
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & ((1L << COUNTER_BITS) - 1);
+
+        long mostSigBits = (timestamp << 16) | VERSION_7 | counter;
+        // 주문 조회는 항상 회원 검증을 거치므로 나머지 bit 는 충돌 방지용 난수로 충분하다.
+        long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
@@ -55,6 +55,10 @@ public class OrderVideo extends BaseEntity {
         this.orderStatus = OrderStatus.COMPLETED;
     }
 
+    public void revertPayment() {
+        this.orderStatus = OrderStatus.ORDERED;
+    }
+
     public void checkAlreadyCanceled() {
         if(this.getOrderStatus().equals(OrderStatus.CANCELED))
             throw new OrderAlreadyCanceledException();
@@ -0,0 +1,22 @@
+package com.server.domain.order.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주문 결제가 PG 사 승인까지 완료되었을 때 발행된다. 커밋 이후 처리해도 되는 후속 작업(장바구니 정리 등)이 구독한다.
+ */
+@Getter
+public class OrderCompletedEvent {
+
+    private final Long memberId;
+    private final String orderId;
+    private final List<Long> videoIds;
+
+    public OrderCompletedEvent(Long memberId, String orderId, List<Long> videoIds) {
+        this.memberId = memberId;
+        this.orderId = orderId;
+        this.videoIds = List.copyOf(videoIds);
+    }
+}
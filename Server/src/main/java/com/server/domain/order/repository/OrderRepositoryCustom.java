@@ -2,29 +2,25 @@ package com.server.domain.order.repository;
 
 import com.server.domain.order.entity.Order;
 import com.server.domain.order.entity.OrderVideo;
-import com.server.domain.adjustment.repository.dto.AdjustmentData;
-import com.server.domain.video.entity.Video;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.server.domain.order.repository.dto.VideoOrderData;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepositoryCustom {
 
-    Long deleteCartByMemberAndOrderId(Long memberId, String orderId);
 
-    List<OrderVideo> findOrderedVideosByMemberId(Long memberId, List<Long> videoIds);
+    List<VideoOrderData> findVideoOrderData(Long memberId, List<Long> videoIds);
 
-    Optional<Order> findByIdWithVideos(Long memberId, String orderId);
+    List<String> findOrderedOrderIds(Long memberId, List<Long> videoIds);
 
-    List<Video> findWatchVideosAfterPurchaseById(Order order);
+    long cancelOrderedOrders(List<String> orderIds);
 
-    Boolean checkIfWatchAfterPurchase(Order order, Long videoId);
+    Optional<Order> findByIdWithVideos(Long memberId, String orderId);
 
-    Optional<OrderVideo> findOrderVideoByVideoId(String orderId, Long videoId);
+    boolean existsWatchAfterPurchase(Order order);
 
-    Page<AdjustmentData> findByPeriod(Long memberId, Pageable pageable, Integer month, Integer year, String sort);
+    boolean checkIfWatchAfterPurchase(Order order, Long videoId);
 
-    Integer calculateAmount(Long memberId, Integer month, Integer year);
+    Optional<OrderVideo> findOrderVideoByVideoId(String orderId, Long videoId);
 }
@@ -1,24 +1,20 @@
 package com.server.domain.order.repository;
 
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.server.domain.order.entity.Order;
 import com.server.domain.order.entity.OrderStatus;
 import com.server.domain.order.entity.OrderVideo;
-import com.server.domain.adjustment.repository.dto.AdjustmentData;
-import com.server.domain.video.entity.Video;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import com.server.domain.order.entity.QOrderVideo;
+import com.server.domain.order.repository.dto.QVideoOrderData;
+import com.server.domain.order.repository.dto.VideoOrderData;
 
 import javax.persistence.EntityManager;
-import javax.persistence.TypedQuery;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-import static com.server.domain.cart.entity.QCart.cart;
 import static com.server.domain.member.entity.QMember.*;
 import static com.server.domain.order.entity.QOrder.*;
 import static com.server.domain.order.entity.QOrderVideo.orderVideo;
@@ -35,23 +31,69 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom{
         this.em = em;
     }
 
+    /**
+     * 요청한 video 와 회원의 구매 완료 여부를 한 번에 조회한다.
+     */
     @Override
-    public Long deleteCartByMemberAndOrderId(Long memberId, String orderId) {
+    public List<VideoOrderData> findVideoOrderData(Long memberId, List<Long> videoIds) {
 
-        return queryFactory.delete(cart)
-                .where(cart.video.orderVideos.any().order.orderId.eq(orderId)
-                        .and(cart.member.memberId.eq(memberId))
-                ).execute();
+        QOrderVideo completed = new QOrderVideo("completed");
+
+        return queryFactory.select(new QVideoOrderData(
+                        video,
+                        JPAExpressions.select(completed.count())
+                                .from(completed)
+                                .where(completed.video.eq(video),
+                                        completed.orderStatus.eq(OrderStatus.COMPLETED),
+                                        completed.order.member.memberId.eq(memberId))
+                ))
+                .from(video)
+                .where(video.videoId.in(videoIds))
+                .fetch();
+    }
+
+    /**
+     * 요청한 video 를 포함하는 회원의 결제 대기 중인 주문을 모두 조회한다.
+     */
+    @Override
+    public List<String> findOrderedOrderIds(Long memberId, List<Long> videoIds) {
+
+        return queryFactory.select(orderVideo.order.orderId)
+                .distinct()
+                .from(orderVideo)
+                .where(orderVideo.video.videoId.in(videoIds),
+                        orderVideo.orderStatus.eq(OrderStatus.ORDERED),
+                        orderVideo.order.member.memberId.eq(memberId))
+                .fetch();
     }
 
+    /**
+     * 결제 대기 중인 주문과 주문 video 를 벌크 update 로 취소한다.
+     * 영속성 컨텍스트는 갱신되지 않으므로 이후 같은 트랜잭션에서 해당 주문을 다시 읽지 않아야 한다.
+     */
     @Override
-    public List<OrderVideo> findOrderedVideosByMemberId(Long memberId, List<Long> videoIds) {
-        return queryFactory.selectFrom(orderVideo)
-                .join(orderVideo.order, order).fetchJoin()
-                .where(order.member.memberId.eq(memberId),
-                        orderVideo.orderStatus.in(OrderStatus.COMPLETED, OrderStatus.ORDERED),
-                        orderVideo.video.videoId.in(videoIds)
-                ).fetch();
+    public long cancelOrderedOrders(List<String> orderIds) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        long canceled = queryFactory.update(order)
+                .set(order.orderStatus, OrderStatus.CANCELED)
+                .set(order.modifiedDate, now)
+                .where(order.orderId.in(orderIds),
+                        order.orderStatus.eq(OrderStatus.ORDERED))
+                .execute();
+
+        queryFactory.update(orderVideo)
+                .set(orderVideo.orderStatus, OrderStatus.CANCELED)
+                .set(orderVideo.modifiedDate, now)
+                .where(orderVideo.order.orderId.in(
+                        JPAExpressions.select(order.orderId)
+                                .from(order)
+                                .where(order.orderId.in(orderIds),
+                                        order.orderStatus.eq(OrderStatus.CANCELED))))
+                .execute();
+
+        return canceled;
     }
 
     @Override
@@ -66,37 +108,37 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom{
         );
     }
 
-    public List<Video> findWatchVideosAfterPurchaseById(Order checkOrder) {
-
-        List<Long> orderVideoIds = queryFactory.select(video.videoId)
-                .from(order)
-                .join(order.orderVideos, orderVideo)
-                .join(orderVideo.video, video)
-                .where(order.orderId.eq(checkOrder.getOrderId())
-                ).fetch();
-
-        return queryFactory
-                .selectFrom(video)
-                .join(video.watches, watch)
-                .join(watch.member, member)
-                .where(video.videoId.in(orderVideoIds),
-                        watch.member.memberId.eq(checkOrder.getMember().getMemberId()),
+    /**
+     * 주문한 비디오 중 구매 이후 시청한 비디오가 있는지 확인한다.
+     * watch (member_id, video_id, modified_date) 인덱스만으로 첫 행을 찾으면 멈춘다.
+     */
+    @Override
+    public boolean existsWatchAfterPurchase(Order checkOrder) {
+
+        Integer exists = queryFactory.selectOne()
+                .from(watch)
+                .where(watch.member.memberId.eq(checkOrder.getMember().getMemberId()),
+                        watch.video.videoId.in(
+                                JPAExpressions.select(orderVideo.video.videoId)
+                                        .from(orderVideo)
+                                        .where(orderVideo.order.orderId.eq(checkOrder.getOrderId()))),
                         watch.modifiedDate.after(checkOrder.getCompletedDate())
-                ).fetch();
+                ).fetchFirst();
+
+        return exists != null;
     }
 
-    public Boolean checkIfWatchAfterPurchase(Order checkOrder, Long videoId) {
+    @Override
+    public boolean checkIfWatchAfterPurchase(Order checkOrder, Long videoId) {
 
-        Video watchVideo = queryFactory
-                .selectFrom(video)
-                .join(video.watches, watch)
-                .join(watch.member, member)
-                .where(video.videoId.eq(videoId),
-                        watch.member.memberId.eq(checkOrder.getMember().getMemberId()),
+        Integer exists = queryFactory.selectOne()
+                .from(watch)
+                .where(watch.member.memberId.eq(checkOrder.getMember().getMemberId()),
+                        watch.video.videoId.eq(videoId),
                         watch.modifiedDate.after(checkOrder.getCompletedDate())
-                ).fetchOne();
+                ).fetchFirst();
 
-        return watchVideo != null;
+        return exists != null;
     }
 
     public Optional<OrderVideo> findOrderVideoByVideoId(String orderId, Long videoId) {
@@ -110,106 +152,4 @@ public class OrderRepositoryImpl implements OrderRepositoryCustom{
                         ).fetchOne()
         );
     }
-
-    @Override
-    public Page<AdjustmentData> findByPeriod(Long memberId, Pageable pageable, Integer month, Integer year, String sort) {
-
-        TypedQuery<Object[]> jpqlQuery = em.createQuery(
-                        "SELECT v.videoId, " +
-                                "v.videoName, " +
-                                "SUM(ov.price) AS totalSaleAmount, " +
-                                "SUM(CASE WHEN ov.orderStatus = 'CANCELED' THEN ov.price ELSE 0 END) AS refundAmount " +
-                                "FROM Video v " +
-                                "LEFT JOIN v.orderVideos ov " +
-                                "LEFT JOIN ov.order o " +
-                                "WHERE o.paymentKey != null " +
-                                "AND v.channel.id = :memberId " +
-                                 getDateCondition(month, year) +
-                                "GROUP BY v.videoId " +
-                                getAdjustmentSort(sort), Object[].class)
-                .setParameter("memberId", memberId)
-                .setFirstResult((int) pageable.getOffset())
-                .setMaxResults(pageable.getPageSize());
-
-        setDateCondition(month, year, jpqlQuery);
-
-        List<Object[]> resultList = jpqlQuery.getResultList();
-
-        List<AdjustmentData> videoReportDatas = resultList.stream()
-                .map(arr -> new AdjustmentData(
-                        (Long) arr[0],
-                        (String) arr[1],
-                        ((Number) arr[2]).intValue(),
-                        ((Number) arr[3]).intValue()
-                ))
-                .collect(Collectors.toList());
-
-        JPAQuery<Long> countQuery = queryFactory.select(video.count())
-                .from(video)
-                .join(video.orderVideos, orderVideo)
-                .where(video.channel.channelId.eq(memberId));
-
-        return new PageImpl<>(videoReportDatas, pageable, countQuery.fetchOne());
-    }
-
-    @Override
-    public Integer calculateAmount(Long memberId, Integer month, Integer year) {
-
-        TypedQuery<Long> jpqlCountQuery = em.createQuery(
-                                "SELECT SUM(ov.price) - SUM(CASE WHEN ov.orderStatus = 'CANCELED' THEN ov.price ELSE 0 END) AS total " +
-                                "FROM Video v " +
-                                "JOIN v.orderVideos ov " +
-                                "JOIN ov.order o " +
-                                "WHERE o.paymentKey != null " +
-                                "AND v.channel.id = :memberId " +
-                                getDateCondition(month, year), Long.class)
-                .setParameter("memberId", memberId);
-
-        setDateCondition(month, year, jpqlCountQuery);
-
-        Long singleResult = jpqlCountQuery.getSingleResult();
-
-        return singleResult == null ? 0 : singleResult.intValue();
-    }
-
-    private void setDateCondition(Integer month, Integer year, TypedQuery jpqlQuery) {
-
-            if (year != null) {
-                jpqlQuery.setParameter("year", year);
-            }
-
-            if (month != null) {
-                jpqlQuery.setParameter("month", month);
-            }
-    }
-
-    private String getDateCondition(Integer month, Integer year) {
-
-        String dateCondition = "";
-
-        if (year != null) {
-            dateCondition += "AND FUNCTION('YEAR', o.completedDate) = :year ";
-        }
-
-        if (month != null) {
-            dateCondition += "AND FUNCTION('MONTH', o.completedDate) = :month ";
-        }
-
-        return dateCondition;
-    }
-
-
-
-    private String getAdjustmentSort(String sort) {
-
-        String order = "ORDER BY ";
-
-        if (sort.equals("totalSaleAmount")) {
-            order += "totalSaleAmount DESC, ";
-        } else if (sort.equals("refundAmount")) {
-            order += "refundAmount DESC, ";
-        }
-
-        return order + "v.createdDate DESC";
-    }
 }
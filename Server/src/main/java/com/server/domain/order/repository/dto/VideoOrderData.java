@@ -0,0 +1,32 @@
+package com.server.domain.order.repository.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.server.domain.video.entity.Video;
+import com.server.domain.video.entity.VideoStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문하려는 video 와 해당 video 에 대한 회원의 구매 완료 여부
+ */
+@Getter
+@NoArgsConstructor
+public class VideoOrderData {
+
+    private Video video;
+    private Long completedCount;
+
+    @QueryProjection
+    public VideoOrderData(Video video, Long completedCount) {
+        this.video = video;
+        this.completedCount = completedCount;
+    }
+
+    public boolean isPurchased() {
+        return completedCount != null && completedCount > 0;
+    }
+
+    public boolean isClosed() {
+        return video.getVideoStatus().equals(VideoStatus.CLOSED);
+    }
+}
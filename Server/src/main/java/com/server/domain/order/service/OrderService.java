@@ -1,81 +1,88 @@
 package com.server.domain.order.service;
 
+import com.server.domain.adjustment.repository.AdjustmentRepository;
+import com.server.domain.adjustment.service.RevenueRollupService;
 import com.server.domain.member.entity.Member;
 import com.server.domain.member.repository.MemberRepository;
 import com.server.domain.order.entity.Order;
 import com.server.domain.order.entity.OrderStatus;
 import com.server.domain.order.entity.OrderVideo;
+import com.server.domain.order.event.OrderCompletedEvent;
 import com.server.domain.order.repository.OrderRepository;
+import com.server.domain.order.repository.dto.VideoOrderData;
 import com.server.domain.adjustment.repository.dto.AdjustmentData;
 import com.server.domain.order.service.dto.request.OrderCreateServiceRequest;
 import com.server.domain.adjustment.service.dto.response.AdjustmentResponse;
 import com.server.domain.order.service.dto.response.OrderResponse;
-import com.server.domain.order.service.dto.response.PaymentServiceResponse;
 import com.server.domain.order.service.dto.response.CancelServiceResponse;
+import com.server.domain.payment.entity.PaymentOutbox;
+import com.server.domain.payment.service.PaymentOutboxService;
+import com.server.domain.reward.entity.RewardLedgerType;
+import com.server.domain.reward.service.RewardLedgerService;
 import com.server.domain.reward.service.RewardService;
 import com.server.domain.video.entity.Video;
-import com.server.domain.video.entity.VideoStatus;
-import com.server.domain.video.repository.VideoRepository;
 import com.server.global.exception.businessexception.memberexception.MemberAccessDeniedException;
 import com.server.global.exception.businessexception.memberexception.MemberNotFoundException;
 import com.server.global.exception.businessexception.orderexception.*;
 import com.server.global.exception.businessexception.videoexception.VideoClosedException;
 import com.server.global.exception.businessexception.videoexception.VideoNotFoundException;
-import net.minidev.json.JSONObject;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URI;
 import java.time.LocalDateTime;
-import java.util.Base64;
-import java.util.Collections;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
 @Service
 @Transactional
 public class OrderService {
 
-    public static final String TOSS_ORIGIN_URL = "https://api.tosspayments.com/v1/payments/";
+    private static final String USER_CANCEL_REASON = "사용자 취소";
+    private static final String PAYMENT_FAILED_CANCEL_REASON = "결제 승인 실패";
+
     private final MemberRepository memberRepository;
-    private final VideoRepository videoRepository;
     private final OrderRepository orderRepository;
     private final RewardService rewardService;
-    private final RestTemplate restTemplate;
-
-    @Value("${order.payment-secret-key}")
-    private String paymentSecretKey;
-
-    public OrderService(MemberRepository memberRepository, VideoRepository videoRepository,
-                        OrderRepository orderRepository, RewardService rewardService,
-                        RestTemplate restTemplate) {
+    private final RewardLedgerService rewardLedgerService;
+    private final PaymentOutboxService paymentOutboxService;
+    private final RevenueRollupService revenueRollupService;
+    private final AdjustmentRepository adjustmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OrderService(MemberRepository memberRepository, OrderRepository orderRepository,
+                        RewardService rewardService, RewardLedgerService rewardLedgerService,
+                        PaymentOutboxService paymentOutboxService, RevenueRollupService revenueRollupService,
+                        AdjustmentRepository adjustmentRepository, ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberRepository;
-        this.videoRepository = videoRepository;
         this.orderRepository = orderRepository;
         this.rewardService = rewardService;
-        this.restTemplate = restTemplate;
+        this.rewardLedgerService = rewardLedgerService;
+        this.paymentOutboxService = paymentOutboxService;
+        this.revenueRollupService = revenueRollupService;
+        this.adjustmentRepository = adjustmentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public OrderResponse createOrder(Long memberId, OrderCreateServiceRequest request) {
 
         Member member = verifiedMember(memberId);
 
-        List<Video> videos = checkValidVideos(request);
+        List<VideoOrderData> videoOrderDatas = checkValidVideos(memberId, request);
+
+        checkAlreadyPurchased(videoOrderDatas);
 
-        checkDuplicateOrder(member, videos);
+        checkIfVideoClosed(videoOrderDatas);
 
-        checkIfVideoClosed(videos);
+        cancelOrderedOrders(memberId, request.getVideoIds());
+
+        List<Video> videos = videoOrderDatas.stream()
+                .map(VideoOrderData::getVideo)
+                .collect(Collectors.toList());
 
         Order order = Order.createOrder(member, videos, request.getReward());
 
@@ -83,29 +90,89 @@ public class OrderService {
             order.completeOrder(LocalDateTime.now(), "freeOrder");
         }
 
-        return OrderResponse.of(orderRepository.save(order));
+        Order savedOrder = orderRepository.save(order);
+
+        if(savedOrder.isComplete()) {
+            revenueRollupService.recordSale(savedOrder);
+            rewardLedgerService.debit(memberId, savedOrder.getReward(),
+                    RewardLedgerType.ORDER_PAYMENT, savedOrder.getOrderId());
+        }
+
+        return OrderResponse.of(savedOrder);
     }
 
-    public PaymentServiceResponse requestFinalPayment(Long memberId,
-                                                      String paymentKey,
-                                                      String orderId,
-                                                      int amount,
-                                                      LocalDateTime orderDate) {
+    /**
+     * 주문을 완료 처리하고 결제 승인 outbox 를 같은 트랜잭션에 저장한다.
+     * PG 사 승인 요청은 커밋 이후 PaymentService 에서 수행한다.
+     */
+    public PaymentOutbox completeOrderForPayment(Long memberId,
+                                                 String paymentKey,
+                                                 String orderId,
+                                                 int amount,
+                                                 LocalDateTime orderDate) {
 
         orderCompleteProcess(memberId, paymentKey, orderId, amount, orderDate);
 
-        ResponseEntity<PaymentServiceResponse> response = restTemplate.postForEntity(
-                TOSS_ORIGIN_URL + paymentKey,
-                new HttpEntity<>(
-                        paymentParams(orderId, amount),
-                        paymentRequestHeader()),
-                PaymentServiceResponse.class
-        );
+        return paymentOutboxService.createConfirm(orderId, paymentKey, amount);
+    }
+
+    /**
+     * 결제 승인에 실패한 주문을 결제 전 상태로 되돌린다. (적립 리워드 회수, 사용 리워드 반환)
+     * 사용자는 같은 주문으로 다시 결제할 수 있다. 이미 일부 비디오를 취소한 주문은 되돌릴 수 없어 취소한다.
+     */
+    public void compensatePayment(String orderId, boolean cancelAtPg) {
+
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(OrderNotFoundException::new);
+
+        if(!order.isComplete()) return;
+
+        rewardService.cancelOrderReward(order);
+
+        List<OrderVideo> completedVideos = completedOrderVideos(order);
+
+        // 되돌리면 결제 정보가 지워지므로 매출 집계와 PG 취소 요청에 필요한 값을 먼저 읽는다.
+        String paymentKey = order.getPaymentKey();
+        YearMonth soldMonth = YearMonth.from(order.getCompletedDate());
 
-        if(response.getStatusCode().value() != 200)
-            throw new OrderNotValidException();
+        Order.Refund refund;
+
+        if(completedVideos.size() == order.getOrderVideos().size()) {
+            // 결제되지 않은 주문이 되므로 환불이 아니라 매출을 뺀다. (재집계는 결제되지 않은 주문을 세지 않는다)
+            refund = order.revertPayment();
+            revenueRollupService.revertSale(soldMonth, completedVideos);
+        } else {
+            revenueRollupService.recordRefund(order, completedVideos);
+            refund = order.cancelAllOrder();
+        }
 
-        return response.getBody();
+        rewardLedgerService.credit(order.getMember().getMemberId(), refund.getRefundReward(),
+                RewardLedgerType.ORDER_REFUND, orderId);
+
+        if(cancelAtPg && refund.getRefundAmount() > 0) {
+            paymentOutboxService.createCancel(
+                    order.getOrderId(), paymentKey, refund.getRefundAmount(), PAYMENT_FAILED_CANCEL_REASON);
+        }
+    }
+
+    /**
+     * PG 사 승인까지 끝난 주문의 후속 작업(장바구니 정리)을 요청한다.
+     * 승인이 거절되면 주문은 결제 전 상태로 돌아가 다시 결제할 수 있어야 하므로, 결제 승인 outbox 가 완료된 뒤에만 호출한다.
+     * 장바구니 정리는 이 트랜잭션이 커밋된 이후 비동기로 처리된다.
+     */
+    @Transactional(readOnly = true)
+    public void publishOrderCompleted(String orderId) {
+
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(OrderNotFoundException::new);
+
+        if(!order.isComplete()) return;
+
+        List<Long> videoIds = order.getVideos().stream()
+                .map(Video::getVideoId)
+                .collect(Collectors.toList());
+
+        eventPublisher.publishEvent(new OrderCompletedEvent(order.getMember().getMemberId(), orderId, videoIds));
     }
 
     public CancelServiceResponse cancelOrder(Long memberId, String orderId) {
@@ -147,7 +214,7 @@ public class OrderService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<AdjustmentData> datas = orderRepository.findByPeriod(loginMemberId, pageable, month, year, sort);
+        Page<AdjustmentData> datas = adjustmentRepository.findByPeriod(loginMemberId, pageable, month, year, sort);
 
         return datas.map(AdjustmentResponse::of);
     }
@@ -155,14 +222,14 @@ public class OrderService {
     @Transactional(readOnly = true)
     public Integer calculateAmount(Long loginMemberId, Integer month, Integer year) {
 
-        return orderRepository.calculateAmount(loginMemberId, month, year);
+        return adjustmentRepository.calculateAmount(loginMemberId, month, year);
     }
 
-    private void checkIfVideoClosed(List<Video> videos) {
+    private void checkIfVideoClosed(List<VideoOrderData> videoOrderDatas) {
 
-        List<String> closedVideoNames = videos.stream()
-                .filter(video -> video.getVideoStatus().equals(VideoStatus.CLOSED))
-                .map(Video::getVideoName)
+        List<String> closedVideoNames = videoOrderDatas.stream()
+                .filter(VideoOrderData::isClosed)
+                .map(data -> data.getVideo().getVideoName())
                 .collect(Collectors.toList());
 
         if(!closedVideoNames.isEmpty()) {
@@ -176,36 +243,24 @@ public class OrderService {
 
         order.checkValidOrder(amount);
 
-        deleteCartFrom(memberId, orderId);
-
         order.completeOrder(orderDate, paymentKey);
 
-        addReward(order);
-    }
+        revenueRollupService.recordSale(order);
 
-    private void addReward(Order order) {
+        rewardLedgerService.debit(memberId, order.getReward(), RewardLedgerType.ORDER_PAYMENT, orderId);
 
-        for (Video video : order.getVideos()) {
-            rewardService.createRewardIfNotPresent(video, order.getMember());
-        }
+        addReward(order);
     }
 
-    private HttpHeaders paymentRequestHeader() {
-        String encodedAuth = new String(Base64.getEncoder().encode((paymentSecretKey + ":").getBytes(UTF_8)));
-
-        HttpHeaders headers = new HttpHeaders();
+    private void addReward(Order order) {
 
-        headers.setBasicAuth(encodedAuth);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-        return headers;
+        rewardService.createVideoRewardsIfNotPresent(order.getVideos(), order.getMember());
     }
 
-    private JSONObject paymentParams(String orderId, int amount) {
-        JSONObject param = new JSONObject();
-        param.put("orderId", orderId);
-        param.put("amount", amount);
-        return param;
+    private List<OrderVideo> completedOrderVideos(Order order) {
+        return order.getOrderVideos().stream()
+                .filter(orderVideo -> orderVideo.getOrderStatus() == OrderStatus.COMPLETED)
+                .collect(Collectors.toList());
     }
 
     private OrderVideo getOrderVideo(Order order, Long videoId) {
@@ -216,7 +271,7 @@ public class OrderService {
     }
 
     private void checkIfWatchAny(Order order) {
-        if(!orderRepository.findWatchVideosAfterPurchaseById(order).isEmpty())
+        if(orderRepository.existsWatchAfterPurchase(order))
             throw new VideoAlreadyWatchedException();
     }
 
@@ -235,8 +290,15 @@ public class OrderService {
 
         rewardService.cancelOrderReward(order);
 
+        List<OrderVideo> canceledVideos = completedOrderVideos(order);
+
         Order.Refund refund = order.cancelAllOrder();
 
+        revenueRollupService.recordRefund(order, canceledVideos);
+
+        rewardLedgerService.credit(order.getMember().getMemberId(), refund.getRefundReward(),
+                RewardLedgerType.ORDER_REFUND, order.getOrderId());
+
         orderCancelRequest(order, refund.getRefundAmount());
 
         return refund;
@@ -250,76 +312,52 @@ public class OrderService {
 
         Order.Refund totalRefund = order.cancelVideoOrder(orderVideo);
 
+        revenueRollupService.recordRefund(order, List.of(orderVideo));
+
+        rewardLedgerService.credit(order.getMember().getMemberId(), totalRefund.getRefundReward(),
+                RewardLedgerType.ORDER_REFUND, order.getOrderId());
+
         orderCancelRequest(order, totalRefund.getRefundAmount());
 
         return totalRefund;
     }
 
+    /**
+     * PG 사 취소 요청은 outbox 에 저장하고 커밋 이후 워커가 멱등키와 함께 전달한다.
+     */
     private void orderCancelRequest(Order order, Integer cancelPrice) {
 
         if(cancelPrice == 0) return;
 
-        URI uri = URI.create(TOSS_ORIGIN_URL + order.getPaymentKey() + "/cancel");
-
-        HttpHeaders headers = paymentRequestHeader();
-
-        JSONObject param = new JSONObject();
-        param.put("cancelReason", "사용자 취소");
-        param.put("cancelAmount", cancelPrice);
-
-        ResponseEntity<String> responseEntity
-                = restTemplate.postForEntity(
-                uri,
-                new HttpEntity<>(param, headers),
-                String.class);
-
-        if(responseEntity.getStatusCode().value() != 200)
-            throw new CancelFailException();
-
-    }
-
-    private void checkDuplicateOrder(Member member, List<Video> toBuyVideos) {
-
-        List<Long> toBuyVideoIds = toBuyVideos.stream()
-                .map(Video::getVideoId)
-                .collect(Collectors.toList());
-
-        List<OrderVideo> orderVideos = orderRepository.findOrderedVideosByMemberId(member.getMemberId(), toBuyVideoIds);
-
-        checkAlreadyPurchased(orderVideos);
-
-        checkAlreadyOrderedAndSwitchCancel(orderVideos);
+        paymentOutboxService.createCancel(order.getOrderId(), order.getPaymentKey(), cancelPrice, USER_CANCEL_REASON);
     }
 
-    private void checkAlreadyPurchased(List<OrderVideo> orderVideos) {
-        List<String> alreadyPurchasedVideoNames = orderVideos.stream()
-                .filter(orderVideo -> orderVideo.getOrderStatus().equals(OrderStatus.COMPLETED))
-                .map(orderVideo -> orderVideo.getVideo().getVideoName())
+    private void checkAlreadyPurchased(List<VideoOrderData> videoOrderDatas) {
+        List<String> alreadyPurchasedVideoNames = videoOrderDatas.stream()
+                .filter(VideoOrderData::isPurchased)
+                .map(data -> data.getVideo().getVideoName())
                 .collect(Collectors.toList());
 
         if(!alreadyPurchasedVideoNames.isEmpty())
             throw new OrderExistException(String.join(", ", alreadyPurchasedVideoNames));
     }
 
-    private void checkAlreadyOrderedAndSwitchCancel(List<OrderVideo> orderVideos) {
-        orderVideos.forEach(orderVideo -> {
-            if(orderVideo.getOrderStatus().equals(OrderStatus.ORDERED))
-                orderVideo.getOrder().cancelAllOrder();
-        });
+    private void cancelOrderedOrders(Long memberId, List<Long> videoIds) {
+
+        List<String> orderedOrderIds = orderRepository.findOrderedOrderIds(memberId, videoIds);
+
+        if(!orderedOrderIds.isEmpty())
+            orderRepository.cancelOrderedOrders(orderedOrderIds);
     }
 
-    private List<Video> checkValidVideos(OrderCreateServiceRequest request) {
+    private List<VideoOrderData> checkValidVideos(Long memberId, OrderCreateServiceRequest request) {
 
-        List<Video> videos = videoRepository.findAllById(request.getVideoIds());
+        List<VideoOrderData> videoOrderDatas = orderRepository.findVideoOrderData(memberId, request.getVideoIds());
 
-        if(videos.size() != request.getVideoIds().size())
+        if(videoOrderDatas.size() != request.getVideoIds().size())
             throw new VideoNotFoundException();
 
-        return videos;
-    }
-
-    private void deleteCartFrom(Long memberId, String orderId) {
-        orderRepository.deleteCartByMemberAndOrderId(memberId, orderId);
+        return videoOrderDatas;
     }
 
     private Member verifiedMember(Long memberId) {
@@ -0,0 +1,45 @@
+package com.server.domain.payment.client;
+
+import com.server.domain.order.service.dto.response.PaymentServiceResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaymentResult {
+
+    private final Result result;
+    private final PaymentServiceResponse response;
+    private final String error;
+
+    public static PaymentResult approved(PaymentServiceResponse response) {
+        return new PaymentResult(Result.APPROVED, response, null);
+    }
+
+    /**
+     * PG 사가 요청을 거절한 경우 (재시도해도 결과가 바뀌지 않는다.)
+     */
+    public static PaymentResult rejected(String error) {
+        return new PaymentResult(Result.REJECTED, null, error);
+    }
+
+    /**
+     * 타임아웃, 5xx 등 처리 여부를 알 수 없는 경우 (같은 멱등키로 재시도한다.)
+     */
+    public static PaymentResult unknown(String error) {
+        return new PaymentResult(Result.UNKNOWN, null, error);
+    }
+
+    public boolean isApproved() {
+        return result == Result.APPROVED;
+    }
+
+    public boolean isRejected() {
+        return result == Result.REJECTED;
+    }
+
+    public enum Result {
+        APPROVED, REJECTED, UNKNOWN
+    }
+}
@@ -0,0 +1,120 @@
+package com.server.domain.payment.client;
+
+import com.server.domain.order.service.dto.response.PaymentServiceResponse;
+import com.server.domain.payment.entity.PaymentOutbox;
+import lombok.extern.slf4j.Slf4j;
+import net.minidev.json.JSONObject;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Base64;
+import java.util.Collections;
+
+import static com.server.global.config.GlobalConfig.TOSS_REST_TEMPLATE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+@Component
+public class TossPaymentClient {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final RestTemplate restTemplate;
+    private final String tossUrl;
+    private final String paymentSecretKey;
+
+    public TossPaymentClient(@Qualifier(TOSS_REST_TEMPLATE) RestTemplate restTemplate,
+                             @Value("${payment.toss.url}") String tossUrl,
+                             @Value("${order.payment-secret-key}") String paymentSecretKey) {
+        this.restTemplate = restTemplate;
+        this.tossUrl = tossUrl.endsWith("/") ? tossUrl : tossUrl + "/";
+        this.paymentSecretKey = paymentSecretKey;
+    }
+
+    public PaymentResult send(PaymentOutbox outbox) {
+        return outbox.isConfirm() ? confirm(outbox) : cancel(outbox);
+    }
+
+    private PaymentResult confirm(PaymentOutbox outbox) {
+
+        JSONObject param = new JSONObject();
+        param.put("orderId", outbox.getOrderId());
+        param.put("amount", outbox.getAmount());
+
+        try {
+            ResponseEntity<PaymentServiceResponse> response = restTemplate.postForEntity(
+                    tossUrl + "{paymentKey}",
+                    new HttpEntity<>(param, paymentRequestHeader(outbox.getIdempotencyKey())),
+                    PaymentServiceResponse.class,
+                    outbox.getPaymentKey());
+
+            if(response.getStatusCode().is2xxSuccessful()) {
+                return PaymentResult.approved(response.getBody());
+            }
+
+            return classify(response.getStatusCode(), String.valueOf(response.getBody()));
+
+        } catch (HttpStatusCodeException e) {
+            return classify(e.getStatusCode(), e.getResponseBodyAsString());
+        } catch (RestClientException e) {
+            return PaymentResult.unknown(e.getMessage());
+        }
+    }
+
+    private PaymentResult cancel(PaymentOutbox outbox) {
+
+        JSONObject param = new JSONObject();
+        param.put("cancelReason", outbox.getCancelReason());
+        param.put("cancelAmount", outbox.getAmount());
+
+        try {
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    tossUrl + "{paymentKey}/cancel",
+                    new HttpEntity<>(param, paymentRequestHeader(outbox.getIdempotencyKey())),
+                    String.class,
+                    outbox.getPaymentKey());
+
+            if(response.getStatusCode().is2xxSuccessful()) {
+                return PaymentResult.approved(null);
+            }
+
+            return classify(response.getStatusCode(), response.getBody());
+
+        } catch (HttpStatusCodeException e) {
+            return classify(e.getStatusCode(), e.getResponseBodyAsString());
+        } catch (RestClientException e) {
+            return PaymentResult.unknown(e.getMessage());
+        }
+    }
+
+    private PaymentResult classify(HttpStatus status, String body) {
+
+        String error = status.value() + " " + body;
+
+        if(status.is5xxServerError()
+                || status == HttpStatus.REQUEST_TIMEOUT
+                || status == HttpStatus.TOO_MANY_REQUESTS
+                || status == HttpStatus.CONFLICT) { // 같은 멱등키의 요청이 처리 중
+            return PaymentResult.unknown(error);
+        }
+
+        return PaymentResult.rejected(error);
+    }
+
+    private HttpHeaders paymentRequestHeader(String idempotencyKey) {
+        String encodedAuth = new String(Base64.getEncoder().encode((paymentSecretKey + ":").getBytes(UTF_8)));
+
+        HttpHeaders headers = new HttpHeaders();
+
+        headers.setBasicAuth(encodedAuth);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+        headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        return headers;
+    }
+}
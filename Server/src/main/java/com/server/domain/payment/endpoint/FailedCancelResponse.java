@@ -0,0 +1,34 @@
+package com.server.domain.payment.endpoint;
+
+import com.server.domain.payment.entity.PaymentOutbox;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FailedCancelResponse {
+
+    private Long paymentOutboxId;
+    private String orderId;
+    private Integer amount;
+    private String cancelReason;
+    private Integer attempts;
+    private String lastError;
+    private LocalDateTime failedDate;
+
+    public static FailedCancelResponse of(PaymentOutbox outbox) {
+        return FailedCancelResponse.builder()
+                .paymentOutboxId(outbox.getPaymentOutboxId())
+                .orderId(outbox.getOrderId())
+                .amount(outbox.getAmount())
+                .cancelReason(outbox.getCancelReason())
+                .attempts(outbox.getAttempts())
+                .lastError(outbox.getLastError())
+                .failedDate(outbox.getModifiedDate())
+                .build();
+    }
+}
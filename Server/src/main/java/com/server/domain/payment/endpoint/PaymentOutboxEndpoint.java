@@ -0,0 +1,38 @@
+package com.server.domain.payment.endpoint;
+
+import com.server.domain.payment.service.PaymentOutboxService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * PG 사가 거절해 환불되지 않은 취소 요청을 조회하고 다시 요청한다.
+ * (GET /actuator/paymentoutbox, POST /actuator/paymentoutbox/{paymentOutboxId})
+ */
+@Component
+@Endpoint(id = "paymentoutbox")
+public class PaymentOutboxEndpoint {
+
+    private final PaymentOutboxService paymentOutboxService;
+
+    public PaymentOutboxEndpoint(PaymentOutboxService paymentOutboxService) {
+        this.paymentOutboxService = paymentOutboxService;
+    }
+
+    @ReadOperation
+    public List<FailedCancelResponse> failedCancels() {
+        return paymentOutboxService.findFailedCancels().stream()
+                .map(FailedCancelResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    @WriteOperation
+    public boolean requeue(@Selector Long paymentOutboxId) {
+        return paymentOutboxService.requeueCancel(paymentOutboxId);
+    }
+}
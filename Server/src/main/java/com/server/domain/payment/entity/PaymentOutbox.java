@@ -0,0 +1,105 @@
+package com.server.domain.payment.entity;
+
+import com.server.global.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * PG 사 요청을 주문 트랜잭션과 분리하기 위한 outbox.
+ * 주문 변경과 같은 트랜잭션에서 저장되고, 커밋 이후 PaymentService 가 PG 사에 전달한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long paymentOutboxId;
+
+    @Column(nullable = false)
+    private String orderId;
+
+    @Column(nullable = false)
+    private String paymentKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentOutboxType paymentType;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    private String cancelReason;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentOutboxStatus outboxStatus;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Version
+    private Long version;
+
+    private PaymentOutbox(String orderId, String paymentKey, PaymentOutboxType paymentType,
+                          Integer amount, String cancelReason, LocalDateTime nextAttemptAt) {
+        this.orderId = orderId;
+        this.paymentKey = paymentKey;
+        this.paymentType = paymentType;
+        this.amount = amount;
+        this.cancelReason = cancelReason;
+        this.idempotencyKey = UUID.randomUUID().toString();
+        this.outboxStatus = PaymentOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 결제 승인 요청은 요청 스레드가 직접 처리하므로 lease 시간 이후부터 워커가 가져갈 수 있다.
+     */
+    public static PaymentOutbox confirm(String orderId, String paymentKey, Integer amount, LocalDateTime leaseUntil) {
+        return new PaymentOutbox(orderId, paymentKey, PaymentOutboxType.CONFIRM, amount, null, leaseUntil);
+    }
+
+    public static PaymentOutbox cancel(String orderId, String paymentKey, Integer amount, String cancelReason) {
+        return new PaymentOutbox(orderId, paymentKey, PaymentOutboxType.CANCEL, amount, cancelReason, LocalDateTime.now());
+    }
+
+    public boolean isConfirm() {
+        return this.paymentType == PaymentOutboxType.CONFIRM;
+    }
+
+    public boolean isPending() {
+        return this.outboxStatus == PaymentOutboxStatus.PENDING;
+    }
+
+    public boolean isDue(LocalDateTime now) {
+        return isPending() && !this.nextAttemptAt.isAfter(now);
+    }
+
+    public void lease(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public static String truncateError(String error) {
+        if(error == null || error.length() <= MAX_ERROR_LENGTH) return error;
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
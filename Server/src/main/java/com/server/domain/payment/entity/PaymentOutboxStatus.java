@@ -0,0 +1,23 @@
+package com.server.domain.payment.entity;
+
+import com.server.global.entity.BaseEnum;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public enum PaymentOutboxStatus implements BaseEnum {
+    PENDING("처리 대기"),
+    COMPLETED("처리 완료"),
+    FAILED("처리 실패")
+    ;
+
+    private final String description;
+    @Override
+    public String getName() {
+        return name();
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+}
@@ -0,0 +1,22 @@
+package com.server.domain.payment.entity;
+
+import com.server.global.entity.BaseEnum;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public enum PaymentOutboxType implements BaseEnum {
+    CONFIRM("결제 승인"),
+    CANCEL("결제 취소")
+    ;
+
+    private final String description;
+    @Override
+    public String getName() {
+        return name();
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+}
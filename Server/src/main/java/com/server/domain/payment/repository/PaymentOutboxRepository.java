@@ -0,0 +1,65 @@
+package com.server.domain.payment.repository;
+
+import com.server.domain.payment.entity.PaymentOutbox;
+import com.server.domain.payment.entity.PaymentOutboxStatus;
+import com.server.domain.payment.entity.PaymentOutboxType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    @Query("select p.paymentOutboxId from PaymentOutbox p " +
+            "where p.outboxStatus = :status and p.nextAttemptAt <= :now " +
+            "order by p.nextAttemptAt")
+    List<Long> findDueIds(@Param("status") PaymentOutboxStatus status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    List<PaymentOutbox> findByOrderId(String orderId);
+
+    List<PaymentOutbox> findByPaymentTypeAndOutboxStatusOrderByModifiedDate(PaymentOutboxType paymentType,
+                                                                           PaymentOutboxStatus outboxStatus);
+
+    /**
+     * from 상태인 outbox 만 처리 결과를 반영한다.
+     * lease 가 만료되어 다른 인스턴스가 다시 선점(version 증가)했더라도 먼저 끝난 쪽의 결과만 반영되고 예외는 발생하지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update PaymentOutbox p " +
+            "set p.outboxStatus = :to, p.attempts = p.attempts + 1, p.lastError = :error, " +
+            "p.version = p.version + 1, p.modifiedDate = :now " +
+            "where p.paymentOutboxId = :id and p.outboxStatus = :from")
+    int finish(@Param("id") Long paymentOutboxId,
+               @Param("from") PaymentOutboxStatus from,
+               @Param("to") PaymentOutboxStatus to,
+               @Param("error") String error,
+               @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update PaymentOutbox p " +
+            "set p.attempts = p.attempts + 1, p.nextAttemptAt = :nextAttemptAt, p.lastError = :error, " +
+            "p.version = p.version + 1, p.modifiedDate = :now " +
+            "where p.paymentOutboxId = :id and p.outboxStatus = :status")
+    int retryAt(@Param("id") Long paymentOutboxId,
+                @Param("status") PaymentOutboxStatus status,
+                @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                @Param("error") String error,
+                @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update PaymentOutbox p " +
+            "set p.outboxStatus = :to, p.attempts = 0, p.nextAttemptAt = :now, " +
+            "p.version = p.version + 1, p.modifiedDate = :now " +
+            "where p.paymentOutboxId = :id and p.paymentType = :type and p.outboxStatus = :from")
+    int requeue(@Param("id") Long paymentOutboxId,
+                @Param("type") PaymentOutboxType paymentType,
+                @Param("from") PaymentOutboxStatus from,
+                @Param("to") PaymentOutboxStatus to,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,27 @@
+package com.server.domain.payment.scheduler;
+
+import com.server.domain.payment.service.PaymentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class PaymentOutboxScheduler {
+
+    private final PaymentService paymentService;
+
+    public PaymentOutboxScheduler(PaymentService paymentService) {
+        this.paymentService = paymentService;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.outbox.poll-interval-ms}")
+    public void processDueOutboxes() {
+        try {
+            int processed = paymentService.processDueOutboxes();
+            if(processed > 0) log.info("결제 outbox {} 건 처리 완료", processed);
+        } catch (Exception e) {
+            log.error(e.getMessage() + " 으로 인한 결제 outbox 처리 실패");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.server.domain.payment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.domain.order.service.dto.response.PaymentServiceResponse;
+import com.server.module.redis.service.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.server.domain.payment.service.PaymentService.PAYMENT_IN_PROGRESS;
+
+/**
+ * 결제 승인 요청의 멱등성을 redis 에 기록한다.
+ * 같은 (회원, 주문, paymentKey) 로 들어온 재시도는 DB 와 PG 사를 거치지 않고 기록된 응답을 돌려받는다.
+ * redis 에 접근할 수 없으면 기록 없이 요청을 그대로 처리한다. (중복 승인은 주문 상태 검증에서 막힌다)
+ * <p>
+ * 처리 중 표시에는 요청마다 만든 owner 를 담는다. 처리 중 표시가 만료되어 다른 요청이 처리 권한을 가져갔다면
+ * 늦게 끝난 요청은 기록을 덮어쓰거나 지우지 않는다.
+ */
+@Slf4j
+@Service
+public class PaymentIdempotencyService {
+
+    private static final String KEY_PREFIX = "payment:confirm:";
+    private static final String IN_FLIGHT_PREFIX = "IN_FLIGHT:";
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final long inFlightTtlSeconds;
+    private final long completedTtlSeconds;
+
+    public PaymentIdempotencyService(RedisService redisService,
+                                     ObjectMapper objectMapper,
+                                     @Value("${payment.idempotency.in-flight-ttl-seconds}") long inFlightTtlSeconds,
+                                     @Value("${payment.idempotency.completed-ttl-seconds}") long completedTtlSeconds) {
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.inFlightTtlSeconds = inFlightTtlSeconds;
+        this.completedTtlSeconds = completedTtlSeconds;
+    }
+
+    public static String newOwner() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 처리 권한을 얻으면 빈 값을, 이미 처리 중이거나 처리된 요청이면 돌려줄 응답을 반환한다.
+     */
+    public Optional<PaymentServiceResponse> begin(Long memberId, String orderId, String paymentKey, int amount, String owner) {
+
+        String key = key(memberId, orderId, paymentKey);
+
+        try {
+            if(redisService.setIfAbsent(key, inFlight(owner), inFlightTtlSeconds)) {
+                return Optional.empty();
+            }
+
+            String value = redisService.getData(key);
+
+            if(value == null) { // 조회 사이에 만료된 경우
+                return Optional.empty();
+            }
+
+            if(value.startsWith(IN_FLIGHT_PREFIX)) {
+                return Optional.of(inProgressResponse(orderId, paymentKey, amount));
+            }
+
+            return Optional.of(objectMapper.readValue(value, PaymentServiceResponse.class));
+
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("결제 멱등성 기록을 확인하지 못했습니다. orderId={}, error={}", orderId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void complete(Long memberId, String orderId, String paymentKey, String owner, PaymentServiceResponse response) {
+
+        // 승인 결과를 아직 모르는 응답은 워커가 처리를 끝낼 때까지만 짧게 보관한다.
+        long ttl = PAYMENT_IN_PROGRESS.equals(response.getStatus()) ? inFlightTtlSeconds : completedTtlSeconds;
+
+        try {
+            if(!redisService.setIfAbsentOrEquals(key(memberId, orderId, paymentKey), inFlight(owner),
+                    objectMapper.writeValueAsString(response), ttl)) {
+                log.info("다른 요청이 처리 권한을 가져가 결제 멱등성 기록을 남기지 않습니다. orderId={}", orderId);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("결제 멱등성 기록에 실패했습니다. orderId={}, error={}", orderId, e.getMessage());
+        }
+    }
+
+    public void release(Long memberId, String orderId, String paymentKey, String owner) {
+
+        try {
+            redisService.deleteIfEquals(key(memberId, orderId, paymentKey), inFlight(owner));
+        } catch (DataAccessException e) {
+            log.warn("결제 멱등성 기록을 삭제하지 못했습니다. orderId={}, error={}", orderId, e.getMessage());
+        }
+    }
+
+    static PaymentServiceResponse inProgressResponse(String orderId, String paymentKey, int amount) {
+        return PaymentServiceResponse.builder()
+                .paymentKey(paymentKey)
+                .orderId(orderId)
+                .status(PAYMENT_IN_PROGRESS)
+                .totalAmount(amount)
+                .build();
+    }
+
+    private String inFlight(String owner) {
+        return IN_FLIGHT_PREFIX + owner;
+    }
+
+    private String key(Long memberId, String orderId, String paymentKey) {
+        return KEY_PREFIX + memberId + ":" + orderId + ":" + paymentKey;
+    }
+}
@@ -0,0 +1,127 @@
+package com.server.domain.payment.service;
+
+import com.server.domain.payment.entity.PaymentOutbox;
+import com.server.domain.payment.entity.PaymentOutboxStatus;
+import com.server.domain.payment.entity.PaymentOutboxType;
+import com.server.domain.payment.repository.PaymentOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * outbox 의 상태 변경만 짧은 트랜잭션으로 처리한다. (PG 사 통신은 트랜잭션 밖에서 수행)
+ */
+@Service
+@Transactional
+public class PaymentOutboxService {
+
+    private static final long MAX_BACKOFF_MS = 10 * 60 * 1000L;
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+
+    @Value("${payment.outbox.lease-ms}")
+    private long leaseMs;
+
+    @Value("${payment.outbox.retry-backoff-ms}")
+    private long retryBackoffMs;
+
+    public PaymentOutboxService(PaymentOutboxRepository paymentOutboxRepository) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+    }
+
+    public PaymentOutbox createConfirm(String orderId, String paymentKey, Integer amount) {
+
+        PaymentOutbox outbox = PaymentOutbox.confirm(orderId, paymentKey, amount, leaseUntil());
+
+        return paymentOutboxRepository.save(outbox);
+    }
+
+    public PaymentOutbox createCancel(String orderId, String paymentKey, Integer amount, String cancelReason) {
+
+        PaymentOutbox outbox = PaymentOutbox.cancel(orderId, paymentKey, amount, cancelReason);
+
+        return paymentOutboxRepository.save(outbox);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findDueIds(int size) {
+        return paymentOutboxRepository.findDueIds(
+                PaymentOutboxStatus.PENDING,
+                LocalDateTime.now(),
+                PageRequest.of(0, size));
+    }
+
+    /**
+     * 처리할 outbox 를 lease 시간 동안 선점한다.
+     * 다른 인스턴스가 먼저 선점하면 커밋 시 ObjectOptimisticLockingFailureException 이 발생한다.
+     */
+    public Optional<PaymentOutbox> claim(Long paymentOutboxId) {
+
+        return paymentOutboxRepository.findById(paymentOutboxId)
+                .filter(outbox -> outbox.isDue(LocalDateTime.now()))
+                .map(outbox -> {
+                    outbox.lease(leaseUntil());
+                    return outbox;
+                });
+    }
+
+    /**
+     * @return 이 호출로 완료되었으면 true, 다른 인스턴스가 먼저 결과를 반영했으면 false
+     */
+    public boolean complete(Long paymentOutboxId) {
+        return paymentOutboxRepository.finish(paymentOutboxId,
+                PaymentOutboxStatus.PENDING, PaymentOutboxStatus.COMPLETED, null, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * @return 이 호출로 실패 처리되었으면 true, 다른 인스턴스가 먼저 결과를 반영했으면 false
+     */
+    public boolean fail(Long paymentOutboxId, String error) {
+        return paymentOutboxRepository.finish(paymentOutboxId,
+                PaymentOutboxStatus.PENDING, PaymentOutboxStatus.FAILED,
+                PaymentOutbox.truncateError(error), LocalDateTime.now()) == 1;
+    }
+
+    public boolean retry(Long paymentOutboxId, String error) {
+
+        PaymentOutbox outbox = verifiedOutbox(paymentOutboxId);
+
+        long backoff = Math.min(retryBackoffMs << Math.min(outbox.getAttempts(), 20), MAX_BACKOFF_MS);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        return paymentOutboxRepository.retryAt(paymentOutboxId, PaymentOutboxStatus.PENDING,
+                now.plusNanos(backoff * 1_000_000), PaymentOutbox.truncateError(error), now) == 1;
+    }
+
+    /**
+     * PG 사가 거절해 환불되지 않은 취소 요청. 주문은 이미 취소되어 있으므로 수동으로 확인해야 한다.
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentOutbox> findFailedCancels() {
+        return paymentOutboxRepository.findByPaymentTypeAndOutboxStatusOrderByModifiedDate(
+                PaymentOutboxType.CANCEL, PaymentOutboxStatus.FAILED);
+    }
+
+    /**
+     * 거절 원인을 해결한 취소 요청을 같은 멱등키로 다시 처리하도록 되돌린다.
+     */
+    public boolean requeueCancel(Long paymentOutboxId) {
+        return paymentOutboxRepository.requeue(paymentOutboxId, PaymentOutboxType.CANCEL,
+                PaymentOutboxStatus.FAILED, PaymentOutboxStatus.PENDING, LocalDateTime.now()) == 1;
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusNanos(leaseMs * 1_000_000);
+    }
+
+    private PaymentOutbox verifiedOutbox(Long paymentOutboxId) {
+        return paymentOutboxRepository.findById(paymentOutboxId)
+                .orElseThrow(() -> new IllegalStateException("존재하지 않는 outbox 입니다. id=" + paymentOutboxId));
+    }
+}
@@ -0,0 +1,190 @@
+package com.server.domain.payment.service;
+
+import com.server.domain.order.service.OrderService;
+import com.server.domain.order.service.dto.response.PaymentServiceResponse;
+import com.server.domain.payment.client.PaymentResult;
+import com.server.domain.payment.client.TossPaymentClient;
+import com.server.domain.payment.entity.PaymentOutbox;
+import com.server.global.exception.businessexception.orderexception.OrderNotValidException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 결제 saga 를 조율한다.
+ * 이 클래스는 트랜잭션을 열지 않는다. 주문 변경과 outbox 상태 변경은 각각 짧은 트랜잭션으로 커밋되고,
+ * PG 사 통신은 DB 커넥션을 잡지 않은 상태에서 수행된다.
+ */
+@Slf4j
+@Service
+public class PaymentService {
+
+    public static final String PAYMENT_IN_PROGRESS = "IN_PROGRESS";
+
+    private final OrderService orderService;
+    private final PaymentOutboxService paymentOutboxService;
+    private final TossPaymentClient tossPaymentClient;
+    private final PaymentIdempotencyService paymentIdempotencyService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${payment.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${payment.outbox.max-attempts}")
+    private int maxAttempts;
+
+    public PaymentService(OrderService orderService,
+                          PaymentOutboxService paymentOutboxService,
+                          TossPaymentClient tossPaymentClient,
+                          PaymentIdempotencyService paymentIdempotencyService,
+                          MeterRegistry meterRegistry) {
+        this.orderService = orderService;
+        this.paymentOutboxService = paymentOutboxService;
+        this.tossPaymentClient = tossPaymentClient;
+        this.paymentIdempotencyService = paymentIdempotencyService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public PaymentServiceResponse requestFinalPayment(Long memberId,
+                                                      String paymentKey,
+                                                      String orderId,
+                                                      int amount,
+                                                      LocalDateTime orderDate) {
+
+        String owner = PaymentIdempotencyService.newOwner();
+
+        Optional<PaymentServiceResponse> recorded =
+                paymentIdempotencyService.begin(memberId, orderId, paymentKey, amount, owner);
+
+        if(recorded.isPresent()) {
+            return recorded.get();
+        }
+
+        try {
+            PaymentServiceResponse response = confirm(memberId, paymentKey, orderId, amount, orderDate);
+            paymentIdempotencyService.complete(memberId, orderId, paymentKey, owner, response);
+            return response;
+        } catch (RuntimeException e) {
+            paymentIdempotencyService.release(memberId, orderId, paymentKey, owner);
+            throw e;
+        }
+    }
+
+    private PaymentServiceResponse confirm(Long memberId,
+                                           String paymentKey,
+                                           String orderId,
+                                           int amount,
+                                           LocalDateTime orderDate) {
+
+        PaymentOutbox outbox = orderService.completeOrderForPayment(memberId, paymentKey, orderId, amount, orderDate);
+
+        PaymentResult result = tossPaymentClient.send(outbox);
+
+        if(result.isApproved()) {
+            // 워커가 먼저 결과를 반영했다면 장바구니 정리도 워커가 요청했다.
+            if(paymentOutboxService.complete(outbox.getPaymentOutboxId())) {
+                requestCartCleanup(orderId);
+            }
+            return result.getResponse();
+        }
+
+        if(result.isRejected()) {
+            // 워커가 먼저 결과를 반영했다면 주문도 워커가 처리했다.
+            if(paymentOutboxService.fail(outbox.getPaymentOutboxId(), result.getError())) {
+                orderService.compensatePayment(orderId, false);
+                countFailure(outbox);
+            }
+            throw new OrderNotValidException();
+        }
+
+        // 승인 여부를 알 수 없으면 같은 멱등키로 워커가 재시도한다.
+        paymentOutboxService.retry(outbox.getPaymentOutboxId(), result.getError());
+
+        return PaymentIdempotencyService.inProgressResponse(orderId, paymentKey, amount);
+    }
+
+    public int processDueOutboxes() {
+
+        List<Long> dueIds = paymentOutboxService.findDueIds(batchSize);
+
+        int processed = 0;
+
+        for (Long dueId : dueIds) {
+            try {
+                Optional<PaymentOutbox> outbox = paymentOutboxService.claim(dueId);
+
+                if(outbox.isPresent()) {
+                    process(outbox.get());
+                    processed++;
+                }
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.debug("다른 인스턴스가 처리 중인 outbox 입니다. id={}", dueId);
+            }
+        }
+
+        return processed;
+    }
+
+    private void process(PaymentOutbox outbox) {
+
+        PaymentResult result = tossPaymentClient.send(outbox);
+
+        Long outboxId = outbox.getPaymentOutboxId();
+
+        if(result.isApproved()) {
+            if(paymentOutboxService.complete(outboxId) && outbox.isConfirm()) {
+                requestCartCleanup(outbox.getOrderId());
+            }
+            return;
+        }
+
+        boolean exhausted = outbox.getAttempts() + 1 >= maxAttempts;
+
+        if(!result.isRejected() && !exhausted) {
+            paymentOutboxService.retry(outboxId, result.getError());
+            return;
+        }
+
+        // lease 가 만료되어 다른 인스턴스가 먼저 결과를 반영했다면 보상하지 않는다.
+        if(!paymentOutboxService.fail(outboxId, result.getError())) {
+            return;
+        }
+
+        countFailure(outbox);
+
+        if(outbox.isConfirm()) {
+            // 승인 여부를 끝내 확인하지 못했다면 PG 사에 취소도 요청한다.
+            orderService.compensatePayment(outbox.getOrderId(), !result.isRejected());
+            return;
+        }
+
+        // 주문은 이미 취소되었으므로 /actuator/paymentoutbox 에서 확인한 뒤 다시 요청한다.
+        log.error("결제 취소 요청 실패로 수동 확인이 필요합니다. outboxId={}, orderId={}, amount={}, error={}",
+                outboxId, outbox.getOrderId(), outbox.getAmount(), result.getError());
+    }
+
+    /**
+     * 결제는 이미 승인되었으므로 장바구니 정리를 요청하지 못해도 결제 결과에 영향을 주지 않는다.
+     */
+    private void requestCartCleanup(String orderId) {
+        try {
+            orderService.publishOrderCompleted(orderId);
+        } catch (RuntimeException e) {
+            log.warn("장바구니 정리 요청 실패 orderId={}", orderId, e);
+        }
+    }
+
+    private void countFailure(PaymentOutbox outbox) {
+        Counter.builder("payment.outbox.failed")
+                .tag("type", outbox.getPaymentType().name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -20,8 +20,16 @@ import javax.persistence.*;
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "rewardType")
 public abstract class Reward extends BaseEntity {
+	// IDENTITY 전략은 insert 마다 즉시 flush 되어 JDBC batch insert 가 비활성화되므로 테이블 전략으로 id 를 미리 할당한다.
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "reward_id_generator")
+	@TableGenerator(
+			name = "reward_id_generator",
+			table = "id_generator",
+			pkColumnName = "sequence_name",
+			valueColumnName = "next_val",
+			pkColumnValue = "reward",
+			allocationSize = 50)
 	protected Long rewardId;
 
 	@Column(nullable = false)
@@ -0,0 +1,47 @@
+package com.server.domain.reward.entity;
+
+import com.server.global.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 회원 리워드 잔액 변경 이력. 추가만 하고 수정하지 않는다.
+ * member 연관관계 대신 id 만 저장해 회원 엔티티를 조회하지 않고도 기록할 수 있다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_reward_ledger_member_id", columnList = "member_id"))
+public class RewardLedger extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rewardLedgerId;
+
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private Long memberId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private RewardLedgerType ledgerType;
+
+    @Column(updatable = false)
+    private String referenceId;
+
+    private RewardLedger(Long memberId, Integer amount, RewardLedgerType ledgerType, String referenceId) {
+        this.memberId = memberId;
+        this.amount = amount;
+        this.ledgerType = ledgerType;
+        this.referenceId = referenceId;
+    }
+
+    public static RewardLedger createLedger(Long memberId, int amount, RewardLedgerType ledgerType, String referenceId) {
+        return new RewardLedger(memberId, amount, ledgerType, referenceId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.server.domain.reward.entity;
+
+import com.server.global.entity.BaseEnum;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public enum RewardLedgerType implements BaseEnum {
+    ORDER_PAYMENT("주문 결제 시 사용"),
+    ORDER_REFUND("주문 취소 시 환불"),
+    REWARD_GRANT("리워드 적립"),
+    REWARD_CANCEL("리워드 적립 취소"),
+    VIDEO_UPLOAD("무료 강의 업로드 적립")
+    ;
+
+    private final String description;
+    @Override
+    public String getName() {
+        return name();
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+}
@@ -0,0 +1,11 @@
+package com.server.domain.reward.repository;
+
+import com.server.domain.reward.entity.RewardLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RewardLedgerRepository extends JpaRepository<RewardLedger, Long> {
+
+    List<RewardLedger> findByMemberIdOrderByRewardLedgerIdAsc(Long memberId);
+}
@@ -8,6 +8,7 @@ import com.server.domain.reward.entity.ReplyReward;
 import com.server.domain.video.entity.Video;
 
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 
 public interface RewardRepositoryCustom {
@@ -20,5 +21,7 @@ public interface RewardRepositoryCustom {
 
     List<QuestionReward> findByQuestionsAndMember(List<Question> questions, Member member);
 
+    Set<Long> findRewardedVideoIds(List<Video> videos, Member member);
+
     Optional<ReplyReward> findReplyRewardByVideoAndMember(Video video, Member member);
 }
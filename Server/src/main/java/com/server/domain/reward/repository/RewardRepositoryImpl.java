@@ -13,8 +13,10 @@ import com.server.domain.video.entity.Video;
 
 import javax.persistence.EntityManager;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.server.domain.member.entity.QMember.member;
@@ -113,6 +115,17 @@ public class RewardRepositoryImpl implements RewardRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public Set<Long> findRewardedVideoIds(List<Video> videos, Member member) {
+
+        return new HashSet<>(queryFactory.select(videoReward.video.videoId)
+                .from(videoReward)
+                .where(videoReward.video.in(videos)
+                        .and(videoReward.member.eq(member))
+                        .and(videoReward.isCanceled.eq(false)))
+                .fetch());
+    }
+
     @Override
     public Optional<ReplyReward> findReplyRewardByVideoAndMember(Video video, Member member) {
 
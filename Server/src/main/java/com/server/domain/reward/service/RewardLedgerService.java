@@ -0,0 +1,47 @@
+package com.server.domain.reward.service;
+
+import com.server.domain.member.repository.MemberRepository;
+import com.server.domain.reward.entity.RewardLedger;
+import com.server.domain.reward.entity.RewardLedgerType;
+import com.server.domain.reward.repository.RewardLedgerRepository;
+import com.server.global.exception.businessexception.orderexception.RewardNotEnoughException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원 리워드 잔액을 DB 에 반영하는 유일한 경로.
+ * 잔액은 "reward = reward + delta" 형태의 원자적 update 로 반영되므로 동시에 들어온 적립/사용이 서로를 덮어쓰지 않고,
+ * 변경마다 어떤 주문, 리워드, 비디오로 인한 변경인지 ledger 를 남긴다.
+ * 도메인 로직이 바꾼 회원 엔티티의 잔액은 DB 에 쓰이지 않으므로 서비스는 같은 변경량으로 이 클래스를 호출해야 한다.
+ */
+@Service
+@Transactional
+public class RewardLedgerService {
+
+    private final MemberRepository memberRepository;
+    private final RewardLedgerRepository rewardLedgerRepository;
+
+    public RewardLedgerService(MemberRepository memberRepository, RewardLedgerRepository rewardLedgerRepository) {
+        this.memberRepository = memberRepository;
+        this.rewardLedgerRepository = rewardLedgerRepository;
+    }
+
+    public void credit(Long memberId, int amount, RewardLedgerType ledgerType, String referenceId) {
+        apply(memberId, amount, ledgerType, referenceId);
+    }
+
+    public void debit(Long memberId, int amount, RewardLedgerType ledgerType, String referenceId) {
+        apply(memberId, -amount, ledgerType, referenceId);
+    }
+
+    private void apply(Long memberId, int delta, RewardLedgerType ledgerType, String referenceId) {
+
+        if(delta == 0) return;
+
+        if(memberRepository.applyRewardDelta(memberId, delta) == 0) {
+            throw new RewardNotEnoughException();
+        }
+
+        rewardLedgerRepository.save(RewardLedger.createLedger(memberId, delta, ledgerType, referenceId));
+    }
+}
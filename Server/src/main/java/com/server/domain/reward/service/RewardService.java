@@ -4,6 +4,7 @@ import com.server.domain.order.entity.Order;
 import com.server.domain.order.entity.OrderVideo;
 import com.server.domain.question.entity.Question;
 import com.server.domain.reward.entity.Rewardable;
+import com.server.domain.video.entity.Video;
 
 import com.server.domain.member.entity.Member;
 
@@ -17,6 +18,8 @@ public interface RewardService {
 
 	void createQuestionRewardsIfNotPresent(List<Question> questions, Member member);
 
+	void createVideoRewardsIfNotPresent(List<Video> videos, Member member);
+
 	void cancelOrderReward(Order order);
 
 	void cancelVideoReward(OrderVideo orderVideo);
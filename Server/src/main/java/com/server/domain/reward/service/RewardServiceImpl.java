@@ -12,36 +12,65 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Transactional
 @Service
 public class RewardServiceImpl implements RewardService {
 
 	private final RewardRepository newRewardRepository;
+	private final RewardLedgerService rewardLedgerService;
 
-	public RewardServiceImpl(RewardRepository rewardRepository) {
+	public RewardServiceImpl(RewardRepository rewardRepository, RewardLedgerService rewardLedgerService) {
 		this.newRewardRepository = rewardRepository;
+		this.rewardLedgerService = rewardLedgerService;
 	}
 
 	@Override
 	public void createRewardIfNotPresent(Rewardable rewardable, Member member) {
+
+		Optional<Reward> created = Optional.empty();
+
 		if (rewardable instanceof Video) {
-			createVideoReward((Video) rewardable, member);
+			created = Optional.of(createVideoReward((Video) rewardable, member));
 		} else if (rewardable instanceof Question) {
-			createQuestionRewardIfNotPresent((Question) rewardable, member);
+			created = createQuestionRewardIfNotPresent((Question) rewardable, member);
 		} else if (rewardable instanceof Reply) {
-			createReplyRewardIfNotPresent((Reply) rewardable, member);
+			created = createReplyRewardIfNotPresent((Reply) rewardable, member);
 		}
+
+		created.ifPresent(this::grant);
 	}
 
 	public void createQuestionRewardsIfNotPresent(List<Question> questions, Member member) {
 
-		List<QuestionReward> rewards = newRewardRepository.findByQuestionsAndMember(questions, member);
+		Set<Long> rewardedQuestionIds = newRewardRepository.findByQuestionsAndMember(questions, member).stream()
+				.map(reward -> reward.getQuestion().getQuestionId())
+				.collect(Collectors.toSet());
+
+		List<Reward> rewards = questions.stream()
+				.filter(question -> rewardedQuestionIds.add(question.getQuestionId()))
+				.map(question -> Reward.createReward(question.getRewardPoint(), member, question))
+				.collect(Collectors.toList());
 
-		questions.stream()
-				.filter(question -> rewards.stream()
-						.noneMatch(reward -> reward.getQuestion().equals(question)))
-				.forEach(question -> createQuestionReward(question, member));
+		newRewardRepository.saveAll(rewards).forEach(this::grant);
+	}
+
+	@Override
+	public void createVideoRewardsIfNotPresent(List<Video> videos, Member member) {
+
+		if(videos.isEmpty()) return;
+
+		Set<Long> rewardedVideoIds = newRewardRepository.findRewardedVideoIds(videos, member);
+
+		List<Reward> rewards = videos.stream()
+				.filter(video -> rewardedVideoIds.add(video.getVideoId()))
+				.map(video -> Reward.createReward(video.getRewardPoint(), member, video))
+				.collect(Collectors.toList());
+
+		newRewardRepository.saveAll(rewards).forEach(this::grant);
 	}
 
 	public void cancelOrderReward(Order order) {
@@ -50,13 +79,7 @@ public class RewardServiceImpl implements RewardService {
 
 		List<Reward> rewards = newRewardRepository.findByOrderIdOnce(member.getMemberId(), order.getOrderId());
 
-		int refundRewardPoint = calculateRefundRewardFrom(rewards);
-
-		if(!member.hasEnoughReward(refundRewardPoint)) {
-			order.convertAmountToReward(refundRewardPoint - member.getReward());
-		}
-
-		rewards.forEach(Reward::cancelReward);
+		cancelRewards(order, rewards);
 	}
 
 	@Override
@@ -70,13 +93,32 @@ public class RewardServiceImpl implements RewardService {
 				member.getMemberId(),
 				video.getVideoId());
 
+		cancelRewards(order, rewards);
+	}
+
+	/**
+	 * 적립된 리워드를 이미 사용했다면 환불할 금액을 리워드로 바꿔 차감한다.
+	 */
+	private void cancelRewards(Order order, List<Reward> rewards) {
+
+		Member member = order.getMember();
+
 		int refundRewardPoint = calculateRefundRewardFrom(rewards);
 
 		if(!member.hasEnoughReward(refundRewardPoint)) {
-			order.convertAmountToReward(refundRewardPoint - member.getReward());
+			int convertAmount = refundRewardPoint - member.getReward();
+			order.convertAmountToReward(convertAmount);
+			rewardLedgerService.credit(member.getMemberId(), convertAmount, RewardLedgerType.ORDER_REFUND, order.getOrderId());
 		}
 
 		rewards.forEach(Reward::cancelReward);
+
+		rewardLedgerService.debit(member.getMemberId(), refundRewardPoint, RewardLedgerType.REWARD_CANCEL, order.getOrderId());
+	}
+
+	private void grant(Reward reward) {
+		rewardLedgerService.credit(reward.getMember().getMemberId(), reward.getRewardPoint(),
+				RewardLedgerType.REWARD_GRANT, String.valueOf(reward.getRewardId()));
 	}
 
 	private int calculateRefundRewardFrom(List<Reward> rewards) {
@@ -85,19 +127,25 @@ public class RewardServiceImpl implements RewardService {
 				.sum();
 	}
 
-	private void createReplyRewardIfNotPresent(Reply reply, Member member) {
+	private Optional<Reward> createReplyRewardIfNotPresent(Reply reply, Member member) {
+
+		if(newRewardRepository.findReplyRewardByVideoAndMember(reply.getVideo(), member).isPresent()) {
+			return Optional.empty();
+		}
 
-		newRewardRepository.findReplyRewardByVideoAndMember(reply.getVideo(), member)
-				.orElseGet(() -> createReplyReward(reply, member));
+		return Optional.of(createReplyReward(reply, member));
 	}
 
-	private void createQuestionRewardIfNotPresent(Question question, Member member) {
+	private Optional<Reward> createQuestionRewardIfNotPresent(Question question, Member member) {
 
-		newRewardRepository.findByQuestionAndMember(question, member)
-				.orElseGet(() -> createQuestionReward(question, member));
+		if(newRewardRepository.findByQuestionAndMember(question, member).isPresent()) {
+			return Optional.empty();
+		}
+
+		return Optional.of(createQuestionReward(question, member));
 	}
 
-	private void createVideoReward(Video video, Member member) {
+	private Reward createVideoReward(Video video, Member member) {
 
 		Reward reward = Reward.createReward(
 				video.getRewardPoint(),
@@ -105,7 +153,7 @@ public class RewardServiceImpl implements RewardService {
 				video
 		);
 
-		newRewardRepository.save(reward);
+		return newRewardRepository.save(reward);
 	}
 
 	private QuestionReward createQuestionReward(Question question, Member member) {
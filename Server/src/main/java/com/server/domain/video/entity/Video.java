@@ -26,6 +26,9 @@ import static javax.persistence.FetchType.LAZY;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 public class Video extends BaseEntity implements Rewardable {
+
+    public static final int FREE_VIDEO_UPLOAD_REWARD = 100;
+
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Id
     private Long videoId;
@@ -146,9 +149,9 @@ public class Video extends BaseEntity implements Rewardable {
             this.addVideoCategory(videoCategory);
         }
 
-        if(price == 0) {
-            this.getChannel().getMember().addReward(100);
-            this.getChannel().getMember().addGradePoint(100);
+        if(isFree()) {
+            this.getChannel().getMember().addReward(FREE_VIDEO_UPLOAD_REWARD);
+            this.getChannel().getMember().addGradePoint(FREE_VIDEO_UPLOAD_REWARD);
         }
 
         if(hasPreview) {
@@ -156,6 +159,10 @@ public class Video extends BaseEntity implements Rewardable {
         }
     }
 
+    public boolean isFree() {
+        return this.price == 0;
+    }
+
     public int getRewardPoint(){
         return (int) (price * 0.01);
     }
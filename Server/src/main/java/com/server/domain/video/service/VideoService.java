@@ -10,6 +10,8 @@ import com.server.domain.report.entity.VideoReport;
 import com.server.domain.report.service.ReportService;
 import com.server.domain.report.service.dto.response.ReportDetailResponse;
 import com.server.domain.report.service.dto.response.VideoReportResponse;
+import com.server.domain.reward.entity.RewardLedgerType;
+import com.server.domain.reward.service.RewardLedgerService;
 import com.server.domain.video.entity.Video;
 import com.server.domain.video.entity.VideoStatus;
 import com.server.domain.video.repository.VideoRepository;
@@ -52,10 +54,12 @@ public class VideoService {
     private final CartRepository cartRepository;
     private final AwsService awsService;
     private final ReportService reportService;
+    private final RewardLedgerService rewardLedgerService;
 
     public VideoService(VideoRepository videoRepository, MemberRepository memberRepository,
                         WatchRepository watchRepository, CategoryRepository categoryRepository,
-                        CartRepository cartRepository, AwsService awsService, ReportService reportService) {
+                        CartRepository cartRepository, AwsService awsService, ReportService reportService,
+                        RewardLedgerService rewardLedgerService) {
         this.videoRepository = videoRepository;
         this.memberRepository = memberRepository;
         this.watchRepository = watchRepository;
@@ -63,6 +67,7 @@ public class VideoService {
         this.cartRepository = cartRepository;
         this.awsService = awsService;
         this.reportService = reportService;
+        this.rewardLedgerService = rewardLedgerService;
     }
 
     public Page<VideoPageResponse> getVideos(VideoGetServiceRequest request) {
@@ -193,6 +198,11 @@ public class VideoService {
                 request.isHasPreview()
         );
 
+        if(video.isFree()) {
+            rewardLedgerService.credit(video.getMemberId(), Video.FREE_VIDEO_UPLOAD_REWARD,
+                    RewardLedgerType.VIDEO_UPLOAD, String.valueOf(video.getVideoId()));
+        }
+
         checkIfVideoUploaded(video);
 
         return video.getVideoId();
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
+@Table(indexes = @Index(name = "idx_watch_member_video_modified", columnList = "member_id, video_id, modified_date"))
 public class Watch extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Id
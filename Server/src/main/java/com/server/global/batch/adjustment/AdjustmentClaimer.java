@@ -0,0 +1,67 @@
+package com.server.global.batch.adjustment;
+
+import com.server.domain.adjustment.domain.Adjustment;
+import com.server.domain.adjustment.domain.AdjustmentStatus;
+import com.server.domain.adjustment.repository.AdjustmentRepository;
+import com.server.domain.adjustment.repository.dto.AdjustmentFirmBank;
+import com.server.domain.member.repository.MemberRepository;
+import com.server.global.batch.lock.BatchJobFencer;
+import com.server.module.firmbank.response.AdjustmentResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+
+/**
+ * 이체 전에 정산 내역을 ADJUSTING 상태로 먼저 커밋해 (member, year, month) unique 키로 이체 권한을 선점한다.
+ * chunk 트랜잭션이 롤백되어도 선점한 행은 남으므로, 재시작한 job 은 같은 달을 다시 이체하지 않는다.
+ * 이체 중 예외가 발생하면 행은 ADJUSTING 으로 남고, 실제 이체 여부를 확인한 뒤 직접 정리해야 한다.
+ * 선점하는 트랜잭션에서 fencing token 을 확인하므로, 실행 권한을 잃은 노드는 새로 선점(이체)하지 못한다.
+ * <p>
+ * 이체 스레드에는 트랜잭션이 없으므로 호출마다 새 트랜잭션으로 바로 커밋한다.
+ */
+@Component
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class AdjustmentClaimer {
+
+    private final AdjustmentRepository adjustmentRepository;
+    private final MemberRepository memberRepository;
+    private final BatchJobFencer batchJobFencer;
+
+    public AdjustmentClaimer(AdjustmentRepository adjustmentRepository,
+                             MemberRepository memberRepository,
+                             BatchJobFencer batchJobFencer) {
+        this.adjustmentRepository = adjustmentRepository;
+        this.memberRepository = memberRepository;
+        this.batchJobFencer = batchJobFencer;
+    }
+
+    /**
+     * 같은 달 정산 내역이 이미 있으면 unique 키 위반(DataIntegrityViolationException)이,
+     * 다른 노드가 실행 권한을 가져갔으면 LeaseLostException 이 발생한다.
+     */
+    public Long claim(YearMonth adjustmentMonth, AdjustmentFirmBank target, Long fencingToken) {
+
+        batchJobFencer.check("adjustmentJob", fencingToken);
+
+        Adjustment adjustment = Adjustment.createAdjustment(adjustmentMonth.getYear(), adjustmentMonth.getMonthValue(),
+                memberRepository.getReferenceById(target.getMemberId()),
+                target.getName(),
+                target.getAccount(),
+                target.getBank(),
+                target.getAmount(),
+                AdjustmentStatus.ADJUSTING,
+                AdjustmentStatus.ADJUSTING.getDescription());
+
+        return adjustmentRepository.saveAndFlush(adjustment).getAdjustmentId();
+    }
+
+    public void complete(Long adjustmentId, AdjustmentResult result) {
+
+        Adjustment adjustment = adjustmentRepository.findById(adjustmentId)
+                .orElseThrow(() -> new IllegalStateException("선점한 정산 내역이 없습니다. adjustmentId: " + adjustmentId));
+
+        adjustment.complete(result.getStatus(), result.getReason());
+    }
+}
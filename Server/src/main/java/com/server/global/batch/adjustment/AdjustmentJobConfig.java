@@ -1,105 +1,273 @@
 package com.server.global.batch.adjustment;
 
-import com.server.domain.adjustment.domain.Adjustment;
-import com.server.domain.adjustment.repository.AdjustmentRepository;
-import com.server.domain.member.entity.Member;
-import com.server.domain.video.entity.Video;
+import com.server.domain.adjustment.repository.AdjustmentCacheRepository;
+import com.server.domain.adjustment.repository.dto.AdjustmentFirmBank;
+import com.server.domain.member.repository.MemberRepository;
+import com.server.global.batch.lock.BatchJobLock;
+import com.server.global.batch.lock.ClusteredJobLauncher;
+import com.server.global.batch.metrics.BatchMetrics;
+import com.server.global.batch.metrics.ChunkMetricsListener;
+import com.server.global.batch.metrics.JobMetricsListener;
+import com.server.global.batch.metrics.StepMetricsListener;
+import com.server.global.batch.reader.JpaKeysetItemReader;
+import com.server.global.query.DatePeriod;
 import com.server.module.firmbank.FirmBankService;
 import com.server.module.firmbank.response.AdjustmentResult;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.*;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import javax.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
+import java.time.YearMonth;
 import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Configuration
 @EnableBatchProcessing
 public class AdjustmentJobConfig {
 
+    /**
+     * 지난달 결제 완료된 주문을 크리에이터별로 한 번에 집계한다.
+     * completedDate 범위 조건이라 인덱스를 사용할 수 있고, 정산할 금액이 있는 크리에이터만 읽는다.
+     * 이미 정산 내역이 있는(이체를 선점한) 크리에이터는 제외해 재시작 시 같은 달을 다시 이체하지 않는다.
+     */
+    static final String MONTHLY_AMOUNT_QUERY =
+            "SELECT new com.server.domain.adjustment.repository.dto.AdjustmentFirmBank(" +
+                    "m.memberId, a.name, a.account, a.bank, " +
+                    "SUM(ov.price) - SUM(CASE WHEN ov.orderStatus = 'CANCELED' THEN ov.price ELSE 0 END)) " +
+            "FROM OrderVideo ov " +
+            "JOIN ov.order o " +
+            "JOIN ov.video v " +
+            "JOIN v.channel c " +
+            "JOIN c.member m " +
+            "JOIN m.account a " +
+            "WHERE o.paymentKey IS NOT NULL " +
+            "AND o.completedDate >= :start " +
+            "AND o.completedDate < :end " +
+            "AND m.memberId BETWEEN :minId AND :maxId " +
+            "AND m.memberId > :" + JpaKeysetItemReader.LAST_ID + " " +
+            "AND NOT EXISTS (SELECT ad.adjustmentId FROM Adjustment ad " +
+                    "WHERE ad.member = m AND ad.adjustmentYear = :year AND ad.adjustmentMonth = :month) " +
+            "GROUP BY m.memberId, a.name, a.account, a.bank " +
+            "HAVING SUM(ov.price) - SUM(CASE WHEN ov.orderStatus = 'CANCELED' THEN ov.price ELSE 0 END) > 0 " +
+            "ORDER BY m.memberId";
+
     private final JobBuilderFactory jobBuilderFactory;
     private final StepBuilderFactory stepBuilderFactory;
     private final EntityManagerFactory entityManagerFactory;
-    private final AdjustmentRepository adjustmentRepository;
+    private final AdjustmentClaimer adjustmentClaimer;
+    private final AdjustmentCacheRepository adjustmentCacheRepository;
+    private final MemberRepository memberRepository;
     private final FirmBankService firmBankService;
+    private final BatchJobLock batchJobLock;
+    private final BatchMetrics batchMetrics;
+    private final JobMetricsListener jobMetricsListener;
+    private final StepMetricsListener stepMetricsListener;
+    private final ChunkMetricsListener chunkMetricsListener;
+
+    @Value("${batch.adjustment.grid-size}")
+    private int gridSize;
+
+    @Value("${batch.adjustment.chunk-size}")
+    private int chunkSize;
+
+    @Value("${batch.adjustment.transfer-concurrency}")
+    private int transferConcurrency;
 
     public AdjustmentJobConfig(JobBuilderFactory jobBuilderFactory,
                                StepBuilderFactory stepBuilderFactory,
-                               EntityManagerFactory entityManagerFactory, AdjustmentRepository adjustmentRepository, FirmBankService firmBankService) {
+                               EntityManagerFactory entityManagerFactory, AdjustmentClaimer adjustmentClaimer,
+                               AdjustmentCacheRepository adjustmentCacheRepository,
+                               MemberRepository memberRepository, FirmBankService firmBankService,
+                               BatchJobLock batchJobLock,
+                               BatchMetrics batchMetrics,
+                               JobMetricsListener jobMetricsListener,
+                               StepMetricsListener stepMetricsListener,
+                               ChunkMetricsListener chunkMetricsListener) {
         this.jobBuilderFactory = jobBuilderFactory;
         this.stepBuilderFactory = stepBuilderFactory;
         this.entityManagerFactory = entityManagerFactory;
-        this.adjustmentRepository = adjustmentRepository;
+        this.adjustmentClaimer = adjustmentClaimer;
+        this.adjustmentCacheRepository = adjustmentCacheRepository;
+        this.memberRepository = memberRepository;
         this.firmBankService = firmBankService;
+        this.batchJobLock = batchJobLock;
+        this.batchMetrics = batchMetrics;
+        this.jobMetricsListener = jobMetricsListener;
+        this.stepMetricsListener = stepMetricsListener;
+        this.chunkMetricsListener = chunkMetricsListener;
     }
 
     @Bean(name = "adjustmentJob")
     public Job adjustmentJob() throws Exception {
         return jobBuilderFactory.get("adjustmentJob")
+                .listener(jobMetricsListener)
                 .start(adjustmentStep())
                 .build();
     }
 
+    // member id 구간별로 파티션을 나눠 병렬로 정산한다.
     @Bean
     @JobScope
     public Step adjustmentStep() {
         return stepBuilderFactory.get("adjustmentStep")
-                .<Member, Adjustment>chunk(1000)
-                .reader(memberReader())
-                .processor(adjustmentProcessor())
-                .writer(adjustmentWriter())
+                .partitioner("adjustmentWorkerStep", new MemberIdRangePartitioner(memberRepository))
+                .step(adjustmentWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(adjustmentPartitionExecutor())
                 .build();
     }
 
     @Bean
-    @StepScope
-    public JpaPagingItemReader<Member> memberReader()  {
-
-        return new JpaPagingItemReaderBuilder<Member>()
-                .name("JpaPagingItemReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT m FROM Member m " +
-                        "JOIN FETCH m.account a")
-                .pageSize(1000) // 페이징 사이즈를 1000 으로 설정 -> 누락되는거 없이 한번에 들고오자는 생각
+    public Step adjustmentWorkerStep() {
+        return stepBuilderFactory.get("adjustmentWorkerStep")
+                .<AdjustmentFirmBank, Future<AdjustmentTransfer>>chunk(chunkSize)
+                .reader(monthlyAmountReader(null, null, null))
+                .processor(asyncTransferProcessor())
+                .writer(asyncAdjustmentWriter())
+                .listener(chunkMetricsListener)
+                .listener(stepMetricsListener)
                 .build();
     }
 
     @Bean
     @StepScope
-    public ItemProcessor<Member, Adjustment> adjustmentProcessor() {
+    public JpaKeysetItemReader<AdjustmentFirmBank> monthlyAmountReader(
+            @Value("#{jobParameters['time']}") String time,
+            @Value("#{stepExecutionContext['" + MemberIdRangePartitioner.MIN_ID + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + MemberIdRangePartitioner.MAX_ID + "']}") Long maxId) {
 
-        LocalDateTime monthAgo = LocalDateTime.now().minusMonths(1);
-        int year = monthAgo.getYear();
-        int month = monthAgo.getMonthValue();
+        return createMonthlyAmountReader(entityManagerFactory, adjustmentMonth(time), minId, maxId, chunkSize);
+    }
 
-        return member -> {
+    // 재시작하면 커밋된 chunk 의 마지막 크리에이터 다음부터 읽는다.
+    static JpaKeysetItemReader<AdjustmentFirmBank> createMonthlyAmountReader(EntityManagerFactory entityManagerFactory,
+                                                                            YearMonth adjustmentMonth,
+                                                                            Long minId,
+                                                                            Long maxId,
+                                                                            int pageSize) {
 
-            Integer amount = adjustmentRepository.calculateAmount(member.getMemberId(), month, year);
-            if(amount == null || amount == 0) return null;
+        DatePeriod period = DatePeriod.of(adjustmentMonth);
 
-            AdjustmentResult result = firmBankService.adjustment(member.getAccount().getName(),
-                    member.getAccount().getAccount(),
-                    member.getAccount().getBank(),
-                    amount);
+        return new JpaKeysetItemReader<>(
+                "monthlyAmountReader",
+                entityManagerFactory,
+                MONTHLY_AMOUNT_QUERY,
+                Map.of(
+                        "start", period.getStart(),
+                        "end", period.getEnd(),
+                        "minId", minId,
+                        "maxId", maxId,
+                        "year", adjustmentMonth.getYear(),
+                        "month", adjustmentMonth.getMonthValue()),
+                AdjustmentFirmBank::getMemberId,
+                pageSize,
+                0L);
+    }
 
-            return Adjustment.createAdjustment(year, month, member, amount, result.getStatus(), result.getReason());
-        };
+    // 이체 요청은 transferExecutor 에서 동시에 최대 transfer-concurrency 건까지 수행된다.
+    @Bean
+    public AsyncItemProcessor<AdjustmentFirmBank, AdjustmentTransfer> asyncTransferProcessor() {
+
+        AsyncItemProcessor<AdjustmentFirmBank, AdjustmentTransfer> processor = new AsyncItemProcessor<>();
+        processor.setDelegate(transferProcessor(null, null));
+        processor.setTaskExecutor(adjustmentTransferExecutor());
+        return processor;
     }
 
-    // Writer 설정 - 처리된 결과 데이터를 데이터베이스에 저장하는 역할
+    // 이체 직전마다 fencing token 을 확인해, 실행 권한이 다른 노드로 넘어간 뒤에는 이체하지 않는다.
+    // 이체 전에 정산 내역을 먼저 커밋해 선점하고, 이체 결과는 chunk 커밋을 기다리지 않고 바로 반영한다.
     @Bean
     @StepScope
-    public ItemWriter<Adjustment> adjustmentWriter() {
+    public ItemProcessor<AdjustmentFirmBank, AdjustmentTransfer> transferProcessor(
+            @Value("#{jobParameters['time']}") String time,
+            @Value("#{jobParameters['" + ClusteredJobLauncher.FENCING_TOKEN + "']}") Long fencingToken) {
+
+        YearMonth adjustmentMonth = adjustmentMonth(time);
+
+        return target -> {
+
+            batchJobLock.checkFencingToken("adjustmentJob", fencingToken);
+
+            Long adjustmentId;
+            try {
+                adjustmentId = adjustmentClaimer.claim(adjustmentMonth, target, fencingToken);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("ADJUSTMENT : 이미 정산 내역이 있어 이체하지 않습니다. memberId: {}, month: {}",
+                        target.getMemberId(), adjustmentMonth);
+                return null;
+            }
+
+            AdjustmentResult result = batchMetrics.recordExternalCall("firmbank.transfer",
+                    () -> firmBankService.adjustment(target.getName(),
+                            target.getAccount(),
+                            target.getBank(),
+                            target.getAmount()));
+
+            adjustmentClaimer.complete(adjustmentId, result);
+
+            return new AdjustmentTransfer(target, result);
+        };
+    }
+
+    @Bean
+    public AsyncItemWriter<AdjustmentTransfer> asyncAdjustmentWriter() {
+
+        AsyncItemWriter<AdjustmentTransfer> writer = new AsyncItemWriter<>();
+        writer.setDelegate(adjustmentWriter());
+        return writer;
+    }
+
+    // 정산 내역은 processor 에서 이미 저장했으므로, chunk 커밋 이후 정산 완료 월 캐시만 지운다.
+    @Bean
+    public ItemWriter<AdjustmentTransfer> adjustmentWriter() {
+
+        return transfers -> adjustmentCacheRepository.deleteSettledMonths(transfers.stream()
+                .map(transfer -> transfer.getTarget().getMemberId())
+                .collect(Collectors.toList()));
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor adjustmentPartitionExecutor() {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize);
+        executor.setMaxPoolSize(gridSize);
+        executor.setThreadNamePrefix("adjustment-partition-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor adjustmentTransferExecutor() {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(transferConcurrency);
+        executor.setMaxPoolSize(transferConcurrency);
+        executor.setThreadNamePrefix("adjustment-transfer-");
+        return executor;
+    }
+
+    /**
+     * 정산 대상 월 (job 실행 시각의 지난달).
+     * job 파라미터 기준이라 재시작한 job 도 처음과 같은 달을 정산한다.
+     */
+    static YearMonth adjustmentMonth(String time) {
+
+        LocalDateTime jobTime = time == null ? LocalDateTime.now() : LocalDateTime.parse(time);
 
-        return adjustments -> adjustmentRepository.saveAll((List<Adjustment>) adjustments);
+        return YearMonth.from(jobTime).minusMonths(1);
     }
 }
@@ -0,0 +1,20 @@
+package com.server.global.batch.adjustment;
+
+import com.server.domain.adjustment.repository.dto.AdjustmentFirmBank;
+import com.server.module.firmbank.response.AdjustmentResult;
+import lombok.Getter;
+
+/**
+ * 이체 요청 결과. 정산 내역(Adjustment)은 이체 전에 선점되고 결과도 이체 직후 반영된다. ({@link AdjustmentClaimer})
+ */
+@Getter
+public class AdjustmentTransfer {
+
+    private final AdjustmentFirmBank target;
+    private final AdjustmentResult result;
+
+    public AdjustmentTransfer(AdjustmentFirmBank target, AdjustmentResult result) {
+        this.target = target;
+        this.result = result;
+    }
+}
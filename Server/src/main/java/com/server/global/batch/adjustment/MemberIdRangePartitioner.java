@@ -0,0 +1,51 @@
+package com.server.global.batch.adjustment;
+
+import com.server.domain.member.repository.MemberRepository;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * member id 를 gridSize 개의 연속 구간으로 나눈다. 각 파티션은 [minId, maxId] 구간의 크리에이터만 정산한다.
+ */
+public class MemberIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final MemberRepository memberRepository;
+
+    public MemberIdRangePartitioner(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        Long min = memberRepository.findMinMemberId();
+        Long max = memberRepository.findMaxMemberId();
+
+        if(min == null || max == null) return partitions;
+
+        long rangeSize = (max - min) / gridSize + 1;
+
+        long start = min;
+        for (int i = 0; start <= max; i++) {
+
+            long end = Math.min(start + rangeSize - 1, max);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, start);
+            context.putLong(MAX_ID, end);
+            partitions.put("partition" + i, context);
+
+            start = end + 1;
+        }
+
+        return partitions;
+    }
+}
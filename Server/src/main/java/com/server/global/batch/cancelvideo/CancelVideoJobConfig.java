@@ -2,23 +2,26 @@ package com.server.global.batch.cancelvideo;
 
 import com.server.domain.video.entity.Video;
 import com.server.domain.video.repository.VideoRepository;
+import com.server.global.batch.lock.BatchJobLock;
+import com.server.global.batch.lock.ClusteredJobLauncher;
+import com.server.global.batch.metrics.BatchMetrics;
+import com.server.global.batch.metrics.ChunkMetricsListener;
+import com.server.global.batch.metrics.JobMetricsListener;
+import com.server.global.batch.metrics.StepMetricsListener;
+import com.server.global.batch.reader.JpaKeysetItemReader;
 import com.server.module.s3.service.AwsService;
 import com.server.module.s3.service.dto.FileType;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.*;
-import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import javax.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -26,27 +29,45 @@ import java.util.Map;
 @EnableBatchProcessing
 public class CancelVideoJobConfig {
 
+    private static final int CHUNK_SIZE = 1000;
+
     private final JobBuilderFactory jobBuilderFactory;
     private final StepBuilderFactory stepBuilderFactory;
     private final EntityManagerFactory entityManagerFactory;
     private final AwsService awsService;
     private final VideoRepository videoRepository;
+    private final BatchJobLock batchJobLock;
+    private final BatchMetrics batchMetrics;
+    private final JobMetricsListener jobMetricsListener;
+    private final StepMetricsListener stepMetricsListener;
+    private final ChunkMetricsListener chunkMetricsListener;
 
     public CancelVideoJobConfig(JobBuilderFactory jobBuilderFactory,
                                 StepBuilderFactory stepBuilderFactory,
                                 EntityManagerFactory entityManagerFactory,
                                 AwsService awsService,
-                                VideoRepository videoRepository) {
+                                VideoRepository videoRepository,
+                                BatchJobLock batchJobLock,
+                                BatchMetrics batchMetrics,
+                                JobMetricsListener jobMetricsListener,
+                                StepMetricsListener stepMetricsListener,
+                                ChunkMetricsListener chunkMetricsListener) {
         this.jobBuilderFactory = jobBuilderFactory;
         this.stepBuilderFactory = stepBuilderFactory;
         this.entityManagerFactory = entityManagerFactory;
         this.awsService = awsService;
         this.videoRepository = videoRepository;
+        this.batchJobLock = batchJobLock;
+        this.batchMetrics = batchMetrics;
+        this.jobMetricsListener = jobMetricsListener;
+        this.stepMetricsListener = stepMetricsListener;
+        this.chunkMetricsListener = chunkMetricsListener;
     }
 
     @Bean(name = "cancelVideoJob")
     public Job cancelVideoJob() throws Exception {
         return jobBuilderFactory.get("cancelVideoJob")
+                .listener(jobMetricsListener)
                 .start(cancelVideoStep())
                 .build();
     }
@@ -55,55 +76,66 @@ public class CancelVideoJobConfig {
     @JobScope
     public Step cancelVideoStep() throws Exception {
         return stepBuilderFactory.get("cancelVideoStep")
-                .<Video, Video>chunk(1000)
+                .<Video, Video>chunk(CHUNK_SIZE)
                 .reader(videoReader())
-                .processor(videoProcessor())
-                .writer(videoDeletionWriter())
+                .writer(videoDeletionWriter(null))
+                .listener(chunkMetricsListener)
+                .listener(stepMetricsListener)
                 .build();
     }
 
     // Reader 설정 - 데이터베이스로부터 특정 조건에 맞는 데이터를 읽어오는 역할
     @Bean
     @StepScope
-    public JpaPagingItemReader<Video> videoReader() throws Exception {
-        Map<String, Object> parameterValues = new HashMap<>();
-        parameterValues.put("thirtyMinutesAgo", LocalDateTime.now().minusMinutes(30));
-
-        return new JpaPagingItemReaderBuilder<Video>()
-                .name("JpaPagingItemReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT v FROM Video v " +
+    public JpaKeysetItemReader<Video> videoReader() {
+        return createVideoReader(entityManagerFactory, LocalDateTime.now().minusMinutes(30), CHUNK_SIZE);
+    }
+
+    // writer 가 읽은 video 를 삭제하므로 OFFSET 대신 마지막 videoId 다음부터 읽어야 건너뛰는 video 가 없다.
+    static JpaKeysetItemReader<Video> createVideoReader(EntityManagerFactory entityManagerFactory,
+                                                        LocalDateTime createdBefore,
+                                                        int pageSize) {
+
+        return new JpaKeysetItemReader<>(
+                "videoReader",
+                entityManagerFactory,
+                "SELECT v FROM Video v " +
                         "WHERE v.videoStatus = 'UPLOADING' " +
-                        "AND v.createdDate <= :thirtyMinutesAgo " +
-                        "ORDER BY v.videoId ASC")
-                .parameterValues(parameterValues)
-                .pageSize(1000) // 페이징 사이즈를 1000 으로 설정 -> 누락되는거 없이 한번에 들고오자는 생각
-                .build();
+                        "AND v.createdDate <= :createdBefore " +
+                        "AND v.videoId > :" + JpaKeysetItemReader.LAST_ID + " " +
+                        "ORDER BY v.videoId ASC",
+                Map.of("createdBefore", createdBefore),
+                Video::getVideoId,
+                pageSize,
+                0L);
     }
 
-    // Processor 설정 - 읽어온 데이터를 기반으로 비즈니스 로직을 수행하는 역할
+    // Writer 설정 - chunk 단위로 S3 파일을 한꺼번에 지우고 video 를 삭제하는 역할
+    // S3 삭제는 없는 key 에도 성공하므로 존재 여부 확인(HEAD) 없이 바로 삭제 요청을 보낸다.
     @Bean
     @StepScope
-    public ItemProcessor<Video, Video> videoProcessor() {
-        return video -> {
-            if(awsService.isExistFile(video.getVideoFile(), FileType.VIDEO)) {
-                awsService.deleteFile(video.getVideoFile(), FileType.VIDEO);
-            }
-            if(awsService.isExistFile(video.getThumbnailFile(), FileType.THUMBNAIL)) {
-                awsService.deleteFile(video.getThumbnailFile(), FileType.THUMBNAIL);
-            }
-            if(awsService.isExistFile(video.getPreviewFile(), FileType.PREVIEW)) {
-                awsService.deleteFile(video.getPreviewFile(), FileType.PREVIEW);
+    public ItemWriter<Video> videoDeletionWriter(
+            @Value("#{jobParameters['" + ClusteredJobLauncher.FENCING_TOKEN + "']}") Long fencingToken) {
+
+        return items -> {
+            batchJobLock.checkFencingToken("cancelVideoJob", fencingToken);
+
+            List<String> videoFiles = new ArrayList<>();
+            List<String> thumbnailFiles = new ArrayList<>();
+            List<String> previewFiles = new ArrayList<>();
+
+            for (Video video : items) {
+                videoFiles.add(video.getVideoFile());
+                thumbnailFiles.add(video.getThumbnailFile());
+                previewFiles.add(video.getPreviewFile());
             }
-            return video;
-        };
-    }
 
-    // Writer 설정 - 처리된 결과 데이터를 데이터베이스에 저장하는 역할
-    @Bean
-    @StepScope
-    public ItemWriter<Video> videoDeletionWriter() {
+            batchMetrics.recordExternalCall("s3.delete", () -> awsService.deleteFiles(Map.of(
+                    FileType.VIDEO, videoFiles,
+                    FileType.THUMBNAIL, thumbnailFiles,
+                    FileType.PREVIEW, previewFiles)));
 
-        return items -> videoRepository.deleteAllInBatch((List<Video>) items);
+            videoRepository.deleteAllInBatch((List<Video>) items);
+        };
     }
 }
@@ -0,0 +1,29 @@
+package com.server.global.batch.lock;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * job 별로 DB 에 기록한 최신 fencing token.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchJobFence {
+
+    @Id
+    private String jobName;
+
+    @Column(nullable = false)
+    private Long fencingToken;
+
+    public BatchJobFence(String jobName, Long fencingToken) {
+        this.jobName = jobName;
+        this.fencingToken = fencingToken;
+    }
+}
@@ -0,0 +1,20 @@
+package com.server.global.batch.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BatchJobFenceRepository extends JpaRepository<BatchJobFence, String> {
+
+    @Modifying
+    @Query("update BatchJobFence f set f.fencingToken = :token where f.jobName = :jobName and f.fencingToken < :token")
+    int advance(@Param("jobName") String jobName, @Param("token") Long token);
+
+    /**
+     * token 이 최신이면 행을 갱신해 트랜잭션이 끝날 때까지 행 잠금을 잡는다.
+     */
+    @Modifying
+    @Query("update BatchJobFence f set f.fencingToken = :token where f.jobName = :jobName and f.fencingToken = :token")
+    int lockIfLatest(@Param("jobName") String jobName, @Param("token") Long token);
+}
@@ -0,0 +1,49 @@
+package com.server.global.batch.lock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * fencing token 을 외부 작업의 결과를 커밋하는 DB 트랜잭션 안에서 확인한다.
+ * <p>
+ * 잠금을 얻은 노드는 job 을 실행하기 전에 {@link #advance} 로 DB 의 token 을 올린다.
+ * 작업 결과를 커밋하는 트랜잭션은 {@link #check} 로 token 이 아직 최신인지 확인하면서 fence 행을 잠그므로,
+ * 새 노드의 advance 는 이미 시작된 커밋이 끝난 뒤에 반영되고 그 이후 이전 노드의 커밋은 모두 거절된다.
+ * redis 의 token 확인({@link BatchJobLock#checkFencingToken})과 달리 확인과 커밋 사이에 실행 권한이 넘어가는 틈이 없다.
+ */
+@Component
+public class BatchJobFencer {
+
+    private final BatchJobFenceRepository batchJobFenceRepository;
+
+    public BatchJobFencer(BatchJobFenceRepository batchJobFenceRepository) {
+        this.batchJobFenceRepository = batchJobFenceRepository;
+    }
+
+    /**
+     * 잠금을 가진 노드만 호출하므로 행을 처음 만들 때 다른 노드와 경쟁하지 않는다.
+     */
+    @Transactional
+    public void advance(String jobName, long token) {
+
+        if (batchJobFenceRepository.advance(jobName, token) == 0
+                && !batchJobFenceRepository.existsById(jobName)) {
+            batchJobFenceRepository.save(new BatchJobFence(jobName, token));
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션이 커밋될 때까지 fence 행을 잠근다.
+     * token 이 없으면(잠금 없이 직접 실행한 job) 확인하지 않는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void check(String jobName, Long token) {
+
+        if (token == null) return;
+
+        if (batchJobFenceRepository.lockIfLatest(jobName, token) == 0) {
+            throw new LeaseLostException(jobName + " 실행 권한이 다른 노드로 넘어갔습니다. token: " + token);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.server.global.batch.lock;
+
+import lombok.Getter;
+
+/**
+ * job 실행 권한. token 은 job 마다 발급할 때마다 증가하는 fencing token 이다.
+ */
+@Getter
+public class BatchJobLease {
+
+    private final String jobName;
+    private final String owner;
+    private final long token;
+
+    public BatchJobLease(String jobName, String owner, long token) {
+        this.jobName = jobName;
+        this.owner = owner;
+        this.token = token;
+    }
+
+    String value() {
+        return owner + ":" + token;
+    }
+}
@@ -0,0 +1,96 @@
+package com.server.global.batch.lock;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * redis 임대(lease) 기반의 job 실행 잠금.
+ * 잠금을 얻을 때마다 job 별 fencing token 을 1씩 증가시켜 발급한다.
+ * 임대가 만료되어 다른 노드가 잠금을 가져가면 이전 노드의 token 은 더 이상 유효하지 않으므로,
+ * 외부에 영향을 주는 작업(이체, 파일 삭제) 전에 {@link #checkFencingToken} 으로 확인한다.
+ * 확인과 작업 사이에 권한이 넘어갈 수 있으므로, 결과를 커밋할 때는 {@link BatchJobFencer} 로 다시 확인한다.
+ */
+@Component
+public class BatchJobLock {
+
+    private static final String KEY_PREFIX = "batch:lock:";
+    private static final String FENCE_SUFFIX = ":fence";
+
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return false end " +
+            "local token = redis.call('incr', KEYS[2]) " +
+            "redis.call('set', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+            "return token",
+            Long.class);
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end " +
+            "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public BatchJobLock(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    public Optional<BatchJobLease> tryAcquire(String jobName, String owner, Duration leaseTime) {
+
+        Long token = stringRedisTemplate.execute(ACQUIRE,
+                List.of(lockKey(jobName), fenceKey(jobName)),
+                owner, String.valueOf(leaseTime.toMillis()));
+
+        return Optional.ofNullable(token).map(t -> new BatchJobLease(jobName, owner, t));
+    }
+
+    /**
+     * 아직 잠금을 가지고 있으면 임대 시간을 연장한다. 이미 만료되었거나 다른 노드가 가져갔으면 false 를 반환한다.
+     */
+    public boolean renew(BatchJobLease lease, Duration leaseTime) {
+
+        Long renewed = stringRedisTemplate.execute(RENEW,
+                List.of(lockKey(lease.getJobName())),
+                lease.value(), String.valueOf(leaseTime.toMillis()));
+
+        return renewed != null && renewed == 1;
+    }
+
+    public void release(BatchJobLease lease) {
+        stringRedisTemplate.execute(RELEASE, List.of(lockKey(lease.getJobName())), lease.value());
+    }
+
+    /**
+     * 이후 다른 노드에 더 큰 token 이 발급되었으면 예외를 던진다.
+     * 임대가 만료되었더라도 아무도 잠금을 가져가지 않았다면 계속 실행할 수 있다.
+     * token 이 없으면(잠금 없이 직접 실행한 job) 확인하지 않는다.
+     */
+    public void checkFencingToken(String jobName, Long token) {
+
+        if (token == null) return;
+
+        String latest = stringRedisTemplate.opsForValue().get(fenceKey(jobName));
+
+        if (latest != null && Long.parseLong(latest) > token) {
+            throw new LeaseLostException(jobName + " 실행 권한이 다른 노드로 넘어갔습니다. token: " + token + ", latest: " + latest);
+        }
+    }
+
+    private String lockKey(String jobName) {
+        return KEY_PREFIX + jobName;
+    }
+
+    private String fenceKey(String jobName) {
+        return KEY_PREFIX + jobName + FENCE_SUFFIX;
+    }
+}
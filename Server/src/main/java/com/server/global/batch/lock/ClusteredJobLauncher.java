@@ -0,0 +1,230 @@
+package com.server.global.batch.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 노드에서 같은 시각에 실행되는 job 을 한 노드에서만 실행한다.
+ * <p>
+ * 모든 노드가 같은 job 파라미터(실행 예정 시각)로 잠금을 시도하고, 잠금을 얻은 노드만 job 을 실행한다.
+ * 실행하는 동안 임대를 주기적으로 연장하고, 잠금을 얻지 못한 노드는 failover-window 동안 잠금을 다시 시도한다.
+ * 실행하던 노드가 죽어 임대가 만료되면 다른 노드가 잠금을 얻고, 실행 중으로 남은 이전 실행을 실패로 정리한 뒤
+ * 같은 job 인스턴스를 재시작한다. (커밋된 chunk 다음부터 이어서 실행된다)
+ * 이미 끝난 job 인스턴스(완료 또는 실패)는 다시 실행하지 않는다.
+ * <p>
+ * 임대를 연장하지 못하면 이 노드의 실행을 STOPPING 으로 바꿔 현재 chunk 이후에 멈추게 한다.
+ * 멈추기 전까지 진행 중인 작업은 {@link BatchJobFencer} 가 커밋 시점에 token 으로 거절한다.
+ */
+@Slf4j
+@Component
+public class ClusteredJobLauncher {
+
+    public static final String FENCING_TOKEN = "fencingToken";
+
+    private final BatchJobLock batchJobLock;
+    private final BatchJobFencer batchJobFencer;
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final long leaseMs;
+    private final long renewIntervalMs;
+    private final long retryIntervalMs;
+    private final long failoverWindowMs;
+    private final String nodeId;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    public ClusteredJobLauncher(BatchJobLock batchJobLock,
+                                BatchJobFencer batchJobFencer,
+                                JobLauncher jobLauncher,
+                                JobExplorer jobExplorer,
+                                JobRepository jobRepository,
+                                @Value("${batch.lock.lease-ms}") long leaseMs,
+                                @Value("${batch.lock.renew-interval-ms}") long renewIntervalMs,
+                                @Value("${batch.lock.retry-interval-ms}") long retryIntervalMs,
+                                @Value("${batch.lock.failover-window-ms}") long failoverWindowMs) {
+        this.batchJobLock = batchJobLock;
+        this.batchJobFencer = batchJobFencer;
+        this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.leaseMs = leaseMs;
+        this.renewIntervalMs = renewIntervalMs;
+        this.retryIntervalMs = retryIntervalMs;
+        this.failoverWindowMs = failoverWindowMs;
+        this.nodeId = hostName() + "-" + UUID.randomUUID();
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "batch-lock-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 이 노드에서 job 을 실행했으면 실행 결과를, 다른 노드가 실행했거나 이미 끝난 인스턴스면 빈 값을 반환한다.
+     */
+    public Optional<JobExecution> run(Job job, JobParameters jobParameters) throws JobExecutionException {
+
+        long deadline = System.currentTimeMillis() + failoverWindowMs;
+
+        while (true) {
+            Optional<BatchJobLease> lease = batchJobLock.tryAcquire(job.getName(), nodeId, Duration.ofMillis(leaseMs));
+
+            if (lease.isPresent()) {
+                return runWithLease(job, jobParameters, lease.get());
+            }
+
+            if (System.currentTimeMillis() + retryIntervalMs > deadline || !sleep(retryIntervalMs)) {
+                log.info("BATCH LOCK : {} 다른 노드에서 실행 중이어서 건너뜁니다. node: {}", job.getName(), nodeId);
+                return Optional.empty();
+            }
+        }
+    }
+
+    private Optional<JobExecution> runWithLease(Job job, JobParameters jobParameters, BatchJobLease lease)
+            throws JobExecutionException {
+
+        AtomicBoolean leaseLost = new AtomicBoolean();
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleWithFixedDelay(
+                () -> renew(lease, leaseLost), renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+
+        try {
+            // 앞서 잠금을 가졌던 노드가 이미 끝낸 인스턴스
+            if (isFinished(job, jobParameters)) {
+                return Optional.empty();
+            }
+
+            abandonStaleExecution(job, jobParameters);
+
+            // 이후 이전 노드가 커밋하려는 작업 결과는 DB 에서 거절된다.
+            batchJobFencer.advance(job.getName(), lease.getToken());
+
+            log.info("BATCH LOCK : {} 실행 권한 획득 node: {} token: {}", job.getName(), nodeId, lease.getToken());
+
+            return Optional.of(jobLauncher.run(job, new JobParametersBuilder(jobParameters)
+                    .addLong(FENCING_TOKEN, lease.getToken(), false)
+                    .toJobParameters()));
+
+        } finally {
+            heartbeat.cancel(false);
+            batchJobLock.release(lease);
+        }
+    }
+
+    /**
+     * 임대를 잃은 뒤에는 실행이 멈출 때까지 주기마다 멈춤 요청을 다시 시도한다.
+     */
+    private void renew(BatchJobLease lease, AtomicBoolean leaseLost) {
+        try {
+            if (batchJobLock.renew(lease, Duration.ofMillis(leaseMs))) return;
+
+            if (leaseLost.compareAndSet(false, true)) {
+                log.warn("BATCH LOCK : {} 임대를 연장하지 못해 실행을 멈춥니다. node: {} token: {}",
+                        lease.getJobName(), nodeId, lease.getToken());
+            }
+
+            stopLocalExecution(lease);
+
+        } catch (RuntimeException e) {
+            log.warn("BATCH LOCK : {} 임대 연장 중 오류 node: {} error: {}", lease.getJobName(), nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * job 저장소는 모든 노드가 공유하므로 이 임대의 token 으로 시작한 실행만 멈춘다.
+     * (SimpleJobOperator#stop 과 같이 상태만 바꾸면 실행 중인 step 이 chunk 커밋 때 확인하고 멈춘다)
+     */
+    private void stopLocalExecution(BatchJobLease lease) {
+
+        for (JobExecution execution : jobExplorer.findRunningJobExecutions(lease.getJobName())) {
+
+            Long token = execution.getJobParameters().getLong(FENCING_TOKEN);
+            if (token == null || token != lease.getToken() || execution.getStatus() == BatchStatus.STOPPING) continue;
+
+            execution.setStatus(BatchStatus.STOPPING);
+            execution.setEndTime(new Date());
+            jobRepository.update(execution);
+        }
+    }
+
+    private boolean isFinished(Job job, JobParameters jobParameters) {
+
+        JobInstance jobInstance = jobExplorer.getJobInstance(job.getName(), jobParameters);
+        if (jobInstance == null) return false;
+
+        JobExecution last = jobExplorer.getLastJobExecution(jobInstance);
+        return last != null && !last.getStatus().isRunning();
+    }
+
+    /**
+     * 잠금을 가진 노드만 이 메서드에 들어오므로, 실행 중으로 남아 있는 실행은 임대가 만료된(죽은) 노드의 것이다.
+     */
+    private void abandonStaleExecution(Job job, JobParameters jobParameters) {
+
+        JobInstance jobInstance = jobExplorer.getJobInstance(job.getName(), jobParameters);
+        if (jobInstance == null) return;
+
+        JobExecution stale = jobExplorer.getLastJobExecution(jobInstance);
+        if (stale == null || !stale.getStatus().isRunning()) return;
+
+        Date now = new Date();
+        ExitStatus exitStatus = ExitStatus.FAILED.addExitDescription("batch lock lease expired");
+
+        for (StepExecution stepExecution : stale.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(exitStatus);
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+
+        stale.setStatus(BatchStatus.FAILED);
+        stale.setExitStatus(exitStatus);
+        stale.setEndTime(now);
+        jobRepository.update(stale);
+
+        log.warn("BATCH LOCK : {} 이전 노드의 실행(executionId: {})을 실패로 정리하고 재시작합니다.",
+                job.getName(), stale.getId());
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+}
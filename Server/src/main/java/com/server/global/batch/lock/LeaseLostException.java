@@ -0,0 +1,11 @@
+package com.server.global.batch.lock;
+
+/**
+ * 다른 노드가 더 큰 fencing token 으로 job 실행 권한을 가져간 경우
+ */
+public class LeaseLostException extends IllegalStateException {
+
+    public LeaseLostException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,41 @@
+package com.server.global.batch.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class BatchJobSummary {
+
+    private String jobName;
+    private Long executionId;
+    private String status;
+    private String exitCode;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private long durationMs;
+    private List<StepSummary> steps;
+    private List<String> failures;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class StepSummary {
+
+        private String stepName;
+        private String status;
+        private int readCount;
+        private int writeCount;
+        private int filterCount;
+        private int skipCount;
+        private int commitCount;
+        private int rollbackCount;
+        private long durationMs;
+        private double itemsPerSecond;
+    }
+}
@@ -0,0 +1,32 @@
+package com.server.global.batch.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * job 별 마지막 실행 요약을 조회한다. (/actuator/batchjobs, /actuator/batchjobs/{jobName})
+ */
+@Component
+@Endpoint(id = "batchjobs")
+public class BatchJobsEndpoint {
+
+    private final BatchMetrics batchMetrics;
+
+    public BatchJobsEndpoint(BatchMetrics batchMetrics) {
+        this.batchMetrics = batchMetrics;
+    }
+
+    @ReadOperation
+    public Map<String, BatchJobSummary> lastExecutions() {
+        return batchMetrics.getLastExecutions();
+    }
+
+    @ReadOperation
+    public BatchJobSummary lastExecution(@Selector String jobName) {
+        return batchMetrics.getLastExecutions().get(jobName);
+    }
+}
@@ -0,0 +1,70 @@
+package com.server.global.batch.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 배치 job 의 메트릭을 기록하고 job 별 마지막 실행 요약을 보관한다.
+ * 메트릭은 /actuator/metrics/batch.* 로, 마지막 실행 요약은 /actuator/batchjobs 로 조회한다.
+ */
+@Component
+public class BatchMetrics {
+
+    static final String EXTERNAL_CALL = "batch.external.call";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, BatchJobSummary> lastExecutions = new ConcurrentHashMap<>();
+
+    public BatchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 배치에서 호출하는 외부 연동(S3, 펌뱅킹)의 응답 시간을 target, outcome 별 히스토그램으로 기록한다.
+     */
+    public <T> T recordExternalCall(String target, Supplier<T> call) {
+
+        long start = System.nanoTime();
+        String outcome = "failure";
+
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            Timer.builder(EXTERNAL_CALL)
+                    .description("배치 외부 연동 호출 시간")
+                    .tag("target", target)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordExternalCall(String target, Runnable call) {
+        recordExternalCall(target, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    void saveLastExecution(BatchJobSummary summary) {
+        lastExecutions.put(summary.getJobName(), summary);
+    }
+
+    public Map<String, BatchJobSummary> getLastExecutions() {
+        return new TreeMap<>(lastExecutions);
+    }
+}
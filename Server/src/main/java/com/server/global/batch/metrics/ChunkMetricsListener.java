@@ -0,0 +1,56 @@
+package com.server.global.batch.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * chunk 하나(읽기 ~ 쓰기 ~ 커밋)에 걸린 시간을 커밋/롤백 결과별로 기록한다.
+ */
+@Component
+public class ChunkMetricsListener implements ChunkListener {
+
+    private static final String START_TIME = "batch.metrics.chunk.start";
+
+    private final BatchMetrics batchMetrics;
+
+    public ChunkMetricsListener(BatchMetrics batchMetrics) {
+        this.batchMetrics = batchMetrics;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        context.setAttribute(START_TIME, System.nanoTime());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        record(context, "committed");
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        record(context, "failed");
+    }
+
+    private void record(ChunkContext context, String outcome) {
+
+        Object startTime = context.removeAttribute(START_TIME);
+        if (startTime == null) return;
+
+        String jobName = context.getStepContext().getJobName();
+        String stepName = StepMetricsListener.stepTag(context.getStepContext().getStepName());
+
+        Timer.builder("batch.chunk.duration")
+                .description("chunk 처리 및 커밋 시간")
+                .tag("job", jobName)
+                .tag("step", stepName)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(batchMetrics.getMeterRegistry())
+                .record(System.nanoTime() - (long) startTime, TimeUnit.NANOSECONDS);
+    }
+}
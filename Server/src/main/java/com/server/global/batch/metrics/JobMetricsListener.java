@@ -0,0 +1,93 @@
+package com.server.global.batch.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * job 이 끝나면 실행 시간을 기록하고, step 별 요약을 마지막 실행 결과로 남긴다.
+ * 실패한 job 은 예외 메시지와 스택 트레이스를 error 로그로 남긴다.
+ */
+@Slf4j
+@Component
+public class JobMetricsListener implements JobExecutionListener {
+
+    private final BatchMetrics batchMetrics;
+
+    public JobMetricsListener(BatchMetrics batchMetrics) {
+        this.batchMetrics = batchMetrics;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        log.info("BATCH JOB : {} started executionId: {} parameters: {}",
+                jobExecution.getJobInstance().getJobName(),
+                jobExecution.getId(),
+                jobExecution.getJobParameters());
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+
+        BatchJobSummary summary = summarize(jobExecution);
+
+        Timer.builder("batch.job.duration")
+                .description("job 실행 시간")
+                .tag("job", summary.getJobName())
+                .tag("status", summary.getStatus())
+                .register(batchMetrics.getMeterRegistry())
+                .record(summary.getDurationMs(), TimeUnit.MILLISECONDS);
+
+        batchMetrics.saveLastExecution(summary);
+
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            log.info("BATCH JOB : {} finished executionId: {} status: {} duration: {} ms",
+                    summary.getJobName(), summary.getExecutionId(), summary.getStatus(), summary.getDurationMs());
+            return;
+        }
+
+        log.error("BATCH JOB : {} finished executionId: {} status: {} duration: {} ms exitCode: {}",
+                summary.getJobName(), summary.getExecutionId(), summary.getStatus(), summary.getDurationMs(),
+                summary.getExitCode());
+
+        jobExecution.getAllFailureExceptions()
+                .forEach(e -> log.error("BATCH JOB : {} failure", summary.getJobName(), e));
+    }
+
+    static BatchJobSummary summarize(JobExecution jobExecution) {
+
+        List<BatchJobSummary.StepSummary> steps = jobExecution.getStepExecutions().stream()
+                .map(StepMetricsListener::summarize)
+                .collect(Collectors.toList());
+
+        List<String> failures = jobExecution.getAllFailureExceptions().stream()
+                .map(e -> e.getClass().getSimpleName() + ": " + e.getMessage())
+                .collect(Collectors.toList());
+
+        return BatchJobSummary.builder()
+                .jobName(jobExecution.getJobInstance().getJobName())
+                .executionId(jobExecution.getId())
+                .status(jobExecution.getStatus().name())
+                .exitCode(jobExecution.getExitStatus().getExitCode())
+                .startTime(toLocalDateTime(jobExecution.getStartTime()))
+                .endTime(toLocalDateTime(jobExecution.getEndTime()))
+                .durationMs(StepMetricsListener.durationMs(jobExecution.getStartTime(), jobExecution.getEndTime()))
+                .steps(steps)
+                .failures(failures)
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date == null ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,108 @@
+package com.server.global.batch.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * step 이 끝나면 읽기/처리/쓰기 건수와 처리량(items/sec)을 기록한다.
+ */
+@Slf4j
+@Component
+public class StepMetricsListener implements StepExecutionListener {
+
+    private final BatchMetrics batchMetrics;
+
+    public StepMetricsListener(BatchMetrics batchMetrics) {
+        this.batchMetrics = batchMetrics;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+
+        BatchJobSummary.StepSummary summary = summarize(stepExecution);
+
+        String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        String stepName = stepTag(summary.getStepName());
+        MeterRegistry meterRegistry = batchMetrics.getMeterRegistry();
+
+        itemCounter(meterRegistry, jobName, stepName, "read").increment(summary.getReadCount());
+        itemCounter(meterRegistry, jobName, stepName, "process")
+                .increment(summary.getReadCount() - summary.getFilterCount() - stepExecution.getProcessSkipCount());
+        itemCounter(meterRegistry, jobName, stepName, "write").increment(summary.getWriteCount());
+        itemCounter(meterRegistry, jobName, stepName, "filter").increment(summary.getFilterCount());
+        itemCounter(meterRegistry, jobName, stepName, "skip").increment(summary.getSkipCount());
+
+        DistributionSummary.builder("batch.step.throughput")
+                .description("step 처리량")
+                .baseUnit("items/sec")
+                .tag("job", jobName)
+                .tag("step", stepName)
+                .register(meterRegistry)
+                .record(summary.getItemsPerSecond());
+
+        log.info("BATCH STEP : {} {} status: {} read: {} write: {} filter: {} skip: {} commit: {} rollback: {} duration: {} ms throughput: {} items/sec",
+                jobName, summary.getStepName(), summary.getStatus(),
+                summary.getReadCount(), summary.getWriteCount(), summary.getFilterCount(), summary.getSkipCount(),
+                summary.getCommitCount(), summary.getRollbackCount(), summary.getDurationMs(),
+                String.format("%.1f", summary.getItemsPerSecond()));
+
+        return stepExecution.getExitStatus();
+    }
+
+    static BatchJobSummary.StepSummary summarize(StepExecution stepExecution) {
+
+        long durationMs = durationMs(stepExecution.getStartTime(), stepExecution.getEndTime());
+        int processed = Math.max(stepExecution.getWriteCount(), stepExecution.getReadCount());
+
+        return BatchJobSummary.StepSummary.builder()
+                .stepName(stepExecution.getStepName())
+                .status(stepExecution.getStatus().name())
+                .readCount(stepExecution.getReadCount())
+                .writeCount(stepExecution.getWriteCount())
+                .filterCount(stepExecution.getFilterCount())
+                .skipCount(stepExecution.getSkipCount())
+                .commitCount(stepExecution.getCommitCount())
+                .rollbackCount(stepExecution.getRollbackCount())
+                .durationMs(durationMs)
+                .itemsPerSecond(durationMs == 0 ? processed : processed * 1000.0 / durationMs)
+                .build();
+    }
+
+    /**
+     * afterStep 시점에는 endTime 이 아직 없으므로 현재 시각까지를 실행 시간으로 본다.
+     */
+    static long durationMs(Date startTime, Date endTime) {
+
+        if (startTime == null) return 0;
+
+        Date end = endTime == null ? new Date() : endTime;
+        return Math.max(0, end.getTime() - startTime.getTime());
+    }
+
+    // 파티션 step 이름(adjustmentWorkerStep:partition0)은 step 단위로 묶어 태그 수를 제한한다.
+    static String stepTag(String stepName) {
+        int partition = stepName.indexOf(':');
+        return partition < 0 ? stepName : stepName.substring(0, partition);
+    }
+
+    private Counter itemCounter(MeterRegistry meterRegistry, String jobName, String stepName, String type) {
+        return Counter.builder("batch.step.items")
+                .description("step 에서 처리한 item 수")
+                .tag("job", jobName)
+                .tag("step", stepName)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,55 @@
+package com.server.global.batch.reader;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Query;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JPQL 로 페이지를 읽는 keyset reader.
+ * 쿼리에는 key 조건({@code > :lastId})과 key 오름차순 ORDER BY 가 있어야 한다.
+ * 페이지마다 새 EntityManager 로 읽고 닫으므로 반환된 엔티티는 준영속 상태다.
+ */
+public class JpaKeysetItemReader<T> extends KeysetItemReader<T> {
+
+    public static final String LAST_ID = "lastId";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String queryString;
+    private final Map<String, Object> parameterValues;
+
+    public JpaKeysetItemReader(String name,
+                               EntityManagerFactory entityManagerFactory,
+                               String queryString,
+                               Map<String, Object> parameterValues,
+                               Function<T, Long> keyExtractor,
+                               int pageSize,
+                               long startKey) {
+        super(keyExtractor, pageSize, startKey);
+        this.entityManagerFactory = entityManagerFactory;
+        this.queryString = queryString;
+        this.parameterValues = parameterValues;
+        setName(name);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<T> fetchPage(long lastKey, int pageSize) {
+
+        EntityManager em = entityManagerFactory.createEntityManager();
+
+        try {
+            Query query = em.createQuery(queryString)
+                    .setParameter(LAST_ID, lastKey)
+                    .setMaxResults(pageSize);
+
+            parameterValues.forEach(query::setParameter);
+
+            return query.getResultList();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.server.global.batch.reader;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemStreamItemReader;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 마지막으로 읽은 key 다음부터 pageSize 건씩 읽는 keyset 페이징 reader.
+ * OFFSET 을 쓰지 않아 테이블이 커져도 페이지마다 인덱스로 바로 찾아가고,
+ * writer 가 앞서 읽은 행을 지우거나 바꿔도 다음 페이지에서 행을 건너뛰지 않는다.
+ * 마지막 key 를 ExecutionContext 에 저장하므로 재시작하면 커밋된 chunk 다음부터 읽는다.
+ * 페이지 조회는 key 오름차순으로 정렬되어 있어야 한다.
+ */
+public abstract class KeysetItemReader<T> extends AbstractItemStreamItemReader<T> {
+
+    private static final String LAST_KEY = "lastKey";
+
+    private final Function<T, Long> keyExtractor;
+    private final int pageSize;
+    private final long startKey;
+
+    private boolean saveState = true;
+
+    private List<T> page = Collections.emptyList();
+    private int index;
+    private long lastKey;
+    private boolean lastPage;
+
+    protected KeysetItemReader(Function<T, Long> keyExtractor, int pageSize, long startKey) {
+        this.keyExtractor = keyExtractor;
+        this.pageSize = pageSize;
+        this.startKey = startKey;
+        this.lastKey = startKey;
+    }
+
+    /**
+     * key 가 lastKey 보다 큰 항목을 key 오름차순으로 최대 pageSize 건 조회한다.
+     */
+    protected abstract List<T> fetchPage(long lastKey, int pageSize);
+
+    @Override
+    public synchronized T read() {
+
+        if (index >= page.size()) {
+            if (lastPage) return null;
+
+            page = fetchPage(lastKey, pageSize);
+            index = 0;
+            lastPage = page.size() < pageSize;
+
+            if (page.isEmpty()) return null;
+        }
+
+        T item = page.get(index++);
+        lastKey = keyExtractor.apply(item);
+        return item;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+
+        page = Collections.emptyList();
+        index = 0;
+        lastPage = false;
+        lastKey = startKey;
+
+        String key = getExecutionContextKey(LAST_KEY);
+        if (saveState && executionContext.containsKey(key)) {
+            lastKey = executionContext.getLong(key);
+        }
+    }
+
+    /**
+     * chunk 가 커밋될 때 호출되므로 저장되는 key 는 커밋된 chunk 의 마지막 항목이다.
+     */
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+
+        if (saveState) {
+            executionContext.putLong(getExecutionContextKey(LAST_KEY), lastKey);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        page = Collections.emptyList();
+    }
+
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+}
@@ -0,0 +1,62 @@
+package com.server.global.batch.revenue;
+
+import com.server.global.batch.lock.ClusteredJobLauncher;
+import com.server.global.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 매출 재집계(revenueRollupJob)를 실행한다. (POST /actuator/revenuerollup)
+ * job 은 batchJobExecutor 에서 실행되고 요청은 바로 반환하므로, 결과는 /actuator/batchjobs/revenueRollupJob 에서 확인한다.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "revenuerollup")
+public class RevenueRollupEndpoint {
+
+    private final Job revenueRollupJob;
+    private final ClusteredJobLauncher clusteredJobLauncher;
+    private final TaskExecutor batchJobExecutor;
+
+    public RevenueRollupEndpoint(@Qualifier("revenueRollupJob") Job revenueRollupJob,
+                                 ClusteredJobLauncher clusteredJobLauncher,
+                                 @Qualifier(AsyncConfig.BATCH_JOB_EXECUTOR) TaskExecutor batchJobExecutor) {
+        this.revenueRollupJob = revenueRollupJob;
+        this.clusteredJobLauncher = clusteredJobLauncher;
+        this.batchJobExecutor = batchJobExecutor;
+    }
+
+    /**
+     * 요청마다 새 job 인스턴스로 실행한다. 다른 노드에서 이미 실행 중이면 ClusteredJobLauncher 가 실행하지 않는다.
+     *
+     * @return 실행을 요청한 시각 (job 파라미터)
+     */
+    @WriteOperation
+    public String rebuild() {
+
+        String requestedAt = LocalDateTime.now().toString();
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("requestedAt", requestedAt)
+                .toJobParameters();
+
+        batchJobExecutor.execute(() -> {
+            try {
+                clusteredJobLauncher.run(revenueRollupJob, jobParameters);
+            } catch (JobExecutionException e) {
+                log.error("월별 매출 재집계 실행 실패", e);
+            }
+        });
+
+        return requestedAt;
+    }
+}
@@ -0,0 +1,84 @@
+package com.server.global.batch.revenue;
+
+import com.server.domain.adjustment.service.RevenueRollupService;
+import com.server.global.batch.metrics.ChunkMetricsListener;
+import com.server.global.batch.metrics.JobMetricsListener;
+import com.server.global.batch.metrics.StepMetricsListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.YearMonth;
+
+/**
+ * 월별 매출 집계(video_monthly_revenue, creator_monthly_revenue)를 원본 주문에서 다시 만든다.
+ * 집계 테이블을 처음 만들었을 때와 집계가 어긋났을 때 실행하며, 이후에는 주문 완료/취소 시 증가 update 로 유지된다.
+ * 실행은 RevenueRollupEndpoint (POST /actuator/revenuerollup) 로 요청한다.
+ */
+@Slf4j
+@Configuration
+@EnableBatchProcessing
+public class RevenueRollupJobConfig {
+
+    private final JobBuilderFactory jobBuilderFactory;
+    private final StepBuilderFactory stepBuilderFactory;
+    private final RevenueRollupService revenueRollupService;
+    private final JobMetricsListener jobMetricsListener;
+    private final StepMetricsListener stepMetricsListener;
+    private final ChunkMetricsListener chunkMetricsListener;
+
+    public RevenueRollupJobConfig(JobBuilderFactory jobBuilderFactory,
+                                  StepBuilderFactory stepBuilderFactory,
+                                  RevenueRollupService revenueRollupService,
+                                  JobMetricsListener jobMetricsListener,
+                                  StepMetricsListener stepMetricsListener,
+                                  ChunkMetricsListener chunkMetricsListener) {
+        this.jobBuilderFactory = jobBuilderFactory;
+        this.stepBuilderFactory = stepBuilderFactory;
+        this.revenueRollupService = revenueRollupService;
+        this.jobMetricsListener = jobMetricsListener;
+        this.stepMetricsListener = stepMetricsListener;
+        this.chunkMetricsListener = chunkMetricsListener;
+    }
+
+    @Bean(name = "revenueRollupJob")
+    public Job revenueRollupJob() {
+        return jobBuilderFactory.get("revenueRollupJob")
+                .listener(jobMetricsListener)
+                .start(revenueRollupStep())
+                .build();
+    }
+
+    // 한 달씩 별도 트랜잭션에서 다시 만들어 집계 잠금을 잡는 시간(주문이 기다리는 시간)을 한 달 재집계로 제한한다.
+    // 실패하면 그 달의 기존 집계는 그대로 남고, 다시 실행하면 처음부터 다시 만든다.
+    @Bean
+    public Step revenueRollupStep() {
+        return stepBuilderFactory.get("revenueRollupStep")
+                .<YearMonth, YearMonth>chunk(1)
+                .reader(revenueMonthReader())
+                .writer(revenueMonthWriter())
+                .listener(chunkMetricsListener)
+                .listener(stepMetricsListener)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ListItemReader<YearMonth> revenueMonthReader() {
+        return new ListItemReader<>(revenueRollupService.findRevenueMonths());
+    }
+
+    @Bean
+    public ItemWriter<YearMonth> revenueMonthWriter() {
+        return months -> months.forEach(month ->
+                log.info("{} 월별 매출 집계 {} 건 재적재", month, revenueRollupService.rebuild(month)));
+    }
+}
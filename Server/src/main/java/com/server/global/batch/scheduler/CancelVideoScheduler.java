@@ -1,59 +1,68 @@
 package com.server.global.batch.scheduler;
 
+import com.server.global.batch.lock.ClusteredJobLauncher;
+import com.server.global.config.AsyncConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
+/**
+ * job 은 잠금을 기다리거나 실행하는 동안 스레드를 오래 잡으므로,
+ * 다른 스케줄 작업(결제 outbox 등)과 공유하는 스케줄러 스레드 대신 batchJobExecutor 에서 실행한다.
+ */
 @Component
 @Slf4j
 public class CancelVideoScheduler {
 
     private final Job cancelVideoJob;
     private final Job adjustmentJob;
-    private final JobLauncher jobLauncher;
+    private final ClusteredJobLauncher clusteredJobLauncher;
 
     public CancelVideoScheduler(@Qualifier("cancelVideoJob") Job cancelVideoJob,
                                 @Qualifier("adjustmentJob") Job adjustmentJob,
-                                JobLauncher jobLauncher) {
+                                ClusteredJobLauncher clusteredJobLauncher) {
         this.cancelVideoJob = cancelVideoJob;
         this.adjustmentJob = adjustmentJob;
-        this.jobLauncher = jobLauncher;
+        this.clusteredJobLauncher = clusteredJobLauncher;
     }
 
     //매일 새벽 1시에 실행
+    @Async(AsyncConfig.BATCH_JOB_EXECUTOR)
     @Scheduled(cron = "0 0 1 * * *")
     public void executeVideoJob() {
         try {
-            jobLauncher.run(cancelVideoJob,
-                    new JobParametersBuilder()
-                            .addString("time", LocalDateTime.now().toString())
-                            .toJobParameters() //Job 실행 시 필요한 파라미터 설정
-            );
+            clusteredJobLauncher.run(cancelVideoJob, scheduledJobParameters());
         } catch (JobExecutionException e) {
-            log.error(e.getMessage() + " 으로 인한 비디오 배치작업 실패");
-            e.printStackTrace();
+            log.error("비디오 배치작업 실행 실패", e);
         }
     }
 
     //매달 15일 새벽 2시에 실행 (14일 후 취소하지 못하므로)
+    @Async(AsyncConfig.BATCH_JOB_EXECUTOR)
     @Scheduled(cron = "0 0 2 15 * *")
     public void executeAdjustmentJob() {
         try {
-            jobLauncher.run(cancelVideoJob,
-                    new JobParametersBuilder()
-                            .addString("time", LocalDateTime.now().toString())
-                            .toJobParameters() //Job 실행 시 필요한 파라미터 설정
-            );
+            clusteredJobLauncher.run(adjustmentJob, scheduledJobParameters());
         } catch (JobExecutionException e) {
-            log.error(e.getMessage() + " 으로 인한 정산 배치작업 실패");
-            e.printStackTrace();
+            log.error("정산 배치작업 실행 실패", e);
         }
     }
+
+    /**
+     * 모든 노드가 같은 job 인스턴스를 가리키도록 실행 예정 시각(정시)을 파라미터로 사용한다.
+     */
+    static JobParameters scheduledJobParameters() {
+        return new JobParametersBuilder()
+                .addString("time", LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).toString())
+                .toJobParameters(); //Job 실행 시 필요한 파라미터 설정
+    }
 }
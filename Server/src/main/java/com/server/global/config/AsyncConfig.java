@@ -0,0 +1,65 @@
+package com.server.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    public static final String CART_CLEANUP_EXECUTOR = "cartCleanupExecutor";
+    public static final String S3_DELETE_EXECUTOR = "s3DeleteExecutor";
+    public static final String BATCH_JOB_EXECUTOR = "batchJobExecutor";
+
+    @Bean(CART_CLEANUP_EXECUTOR)
+    public ThreadPoolTaskExecutor cartCleanupExecutor(@Value("${cart.cleanup.core-pool-size}") int corePoolSize,
+                                                      @Value("${cart.cleanup.max-pool-size}") int maxPoolSize,
+                                                      @Value("${cart.cleanup.queue-capacity}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cart-cleanup-");
+        // 정리 작업은 재시도하며 backoff 동안 잠들기 때문에 결제 요청 스레드에서 실행하면 응답이 늦어진다.
+        // 큐가 가득 차면 버리고 로그만 남긴다. (남은 장바구니 항목은 구매 완료 영상이라 결제 결과에 영향이 없다)
+        executor.setRejectedExecutionHandler(new DiscardAndLogPolicy(CART_CLEANUP_EXECUTOR));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean(S3_DELETE_EXECUTOR)
+    public ThreadPoolTaskExecutor s3DeleteExecutor(@Value("${s3.delete.core-pool-size}") int corePoolSize,
+                                                   @Value("${s3.delete.max-pool-size}") int maxPoolSize,
+                                                   @Value("${s3.delete.queue-capacity}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-delete-");
+        // S3 로 나가는 동시 요청 수를 풀 크기로 제한하고, 넘치면 호출한 배치 스레드가 직접 보낸다.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean(BATCH_JOB_EXECUTOR)
+    public ThreadPoolTaskExecutor batchJobExecutor(@Value("${batch.launcher.pool-size}") int poolSize,
+                                                   @Value("${batch.launcher.queue-capacity}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-job-");
+        return executor;
+    }
+}
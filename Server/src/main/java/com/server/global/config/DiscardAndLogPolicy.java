@@ -0,0 +1,26 @@
+package com.server.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 큐가 가득 찬 executor 에 들어온 작업을 버리고 로그를 남긴다.
+ * 실패해도 결과에 영향이 없는 후속 작업용이며, 호출한 스레드(요청 스레드)를 막지 않는 것이 목적이다.
+ */
+@Slf4j
+public class DiscardAndLogPolicy implements RejectedExecutionHandler {
+
+    private final String executorName;
+
+    public DiscardAndLogPolicy(String executorName) {
+        this.executorName = executorName;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        log.warn("{} 큐가 가득 차 작업을 버립니다. active={}, queued={}",
+                executorName, executor.getActiveCount(), executor.getQueue().size());
+    }
+}
@@ -1,5 +1,6 @@
 package com.server.global.config;
 
+import com.server.global.http.ExternalHttpClientFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -7,8 +8,22 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class GlobalConfig {
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public static final String TOSS_REST_TEMPLATE = "tossRestTemplate";
+    public static final String OAUTH_REST_TEMPLATE = "oauthRestTemplate";
+    public static final String WARMUP_REST_TEMPLATE = "warmupRestTemplate";
+
+    @Bean(TOSS_REST_TEMPLATE)
+    public RestTemplate tossRestTemplate(ExternalHttpClientFactory externalHttpClientFactory) {
+        return externalHttpClientFactory.create("toss");
+    }
+
+    @Bean(OAUTH_REST_TEMPLATE)
+    public RestTemplate oauthRestTemplate(ExternalHttpClientFactory externalHttpClientFactory) {
+        return externalHttpClientFactory.create("oauth");
+    }
+
+    @Bean(WARMUP_REST_TEMPLATE)
+    public RestTemplate warmupRestTemplate(ExternalHttpClientFactory externalHttpClientFactory) {
+        return externalHttpClientFactory.create("warmup");
     }
 }
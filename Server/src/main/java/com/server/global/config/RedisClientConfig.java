@@ -0,0 +1,54 @@
+package com.server.global.config;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.TimeoutOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * 애플리케이션의 모든 redis 사용처(채팅, 결제 멱등성 key, 배치 잠금, 세션, 메일 인증)가 공유하는 Lettuce 클라이언트 설정.
+ */
+@Configuration
+public class RedisClientConfig {
+
+    // 연결이 끊긴 동안 명령을 무한정 쌓아두지 않고 바로 실패시킨다.
+    // Spring Boot 가 만든 옵션(명령 timeout 적용 등)은 그대로 두고 필요한 값만 바꾼다.
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer lettuceClientCustomizer(
+            @Value("${redis.client.request-queue-size}") int requestQueueSize) {
+
+        return builder -> {
+            ClientOptions.Builder options = builder.build().getClientOptions()
+                    .map(ClientOptions::mutate)
+                    .orElseGet(() -> ClientOptions.builder().timeoutOptions(TimeoutOptions.enabled()));
+
+            builder.clientOptions(options
+                    .autoReconnect(true)
+                    .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                    .requestQueueSize(requestQueueSize)
+                    .build());
+        };
+    }
+
+    // 파이프라인 명령을 한 번에 모아서 flush 하도록 설정한다. (기본값은 명령마다 flush)
+    @Bean
+    public static BeanPostProcessor lettucePipeliningPostProcessor(
+            @Value("${redis.client.pipelining-flush-size}") int pipeliningFlushSize) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if(bean instanceof LettuceConnectionFactory) {
+                    ((LettuceConnectionFactory) bean).setPipeliningFlushPolicy(
+                            LettuceConnection.PipeliningFlushPolicy.buffered(pipeliningFlushSize));
+                }
+                return bean;
+            }
+        };
+    }
+}
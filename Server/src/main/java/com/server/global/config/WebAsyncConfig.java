@@ -0,0 +1,44 @@
+package com.server.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * StreamingResponseBody 응답(CSV 내보내기)을 쓰는 스레드 풀.
+ * 지정하지 않으면 요청마다 스레드를 만드는 SimpleAsyncTaskExecutor 가 사용되므로 크기를 제한한다.
+ * 긴 timeout 은 내보내기 요청에만 필요하므로 여기서 기본값을 바꾸지 않고 AdjustmentController 에서 요청마다 지정한다.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    public static final String STREAMING_EXECUTOR = "streamingExecutor";
+
+    @Value("${adjustment.export.core-pool-size}")
+    private int corePoolSize;
+
+    @Value("${adjustment.export.max-pool-size}")
+    private int maxPoolSize;
+
+    @Value("${adjustment.export.queue-capacity}")
+    private int queueCapacity;
+
+    @Bean(STREAMING_EXECUTOR)
+    public ThreadPoolTaskExecutor streamingExecutor() {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("streaming-");
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor());
+    }
+}
@@ -0,0 +1,12 @@
+package com.server.global.exception.businessexception.chatexception;
+
+import org.springframework.http.HttpStatus;
+
+public class ChatCursorNotValidException extends ChatException {
+    private static final String CODE = "CHAT-400";
+    private static final String MESSAGE = "유효하지 않은 cursor 입니다.";
+
+    public ChatCursorNotValidException() {
+        super(CODE, HttpStatus.BAD_REQUEST, MESSAGE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.server.global.exception.businessexception.orderexception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class AdjustmentExportBusyException extends OrderException {
+
+    public static final String MESSAGE = "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.";
+    public static final String CODE = "ORDER-503";
+
+    public AdjustmentExportBusyException() {
+        super(CODE, HttpStatus.SERVICE_UNAVAILABLE, MESSAGE);
+    }
+}
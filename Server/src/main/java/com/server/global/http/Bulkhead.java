@@ -0,0 +1,40 @@
+package com.server.global.http;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 연동별 동시 호출 수 제한
+ * 느린 연동이 요청 스레드를 모두 점유하지 못하도록 허용 수를 넘는 호출은 바로 거절한다.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+    private final Semaphore semaphore;
+
+    public Bulkhead(int maxConcurrentCalls, long maxWaitMillis) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWaitMillis;
+        this.semaphore = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    public boolean tryAcquire() {
+        try {
+            return maxWaitMillis <= 0
+                    ? semaphore.tryAcquire()
+                    : semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public int getActiveCalls() {
+        return maxConcurrentCalls - semaphore.availablePermits();
+    }
+}
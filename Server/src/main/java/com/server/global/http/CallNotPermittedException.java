@@ -0,0 +1,13 @@
+package com.server.global.http;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 서킷 브레이커가 열려 있거나 bulkhead 가 가득 차서 외부 호출을 보내지 않은 경우
+ */
+public class CallNotPermittedException extends RestClientException {
+
+    public CallNotPermittedException(String message) {
+        super(message);
+    }
+}
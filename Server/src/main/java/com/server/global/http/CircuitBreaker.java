@@ -0,0 +1,135 @@
+package com.server.global.http;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 N 번의 호출 결과로 실패율을 계산하는 count 기반 서킷 브레이커
+ *
+ * CLOSED : 실패율이 임계치를 넘으면 OPEN
+ * OPEN : openDuration 동안 호출 거절, 이후 HALF_OPEN
+ * HALF_OPEN : halfOpenCalls 만큼 시험 호출, 모두 성공하면 CLOSED / 하나라도 실패하면 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                          long openDurationMillis, int halfOpenCalls) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDurationMillis, halfOpenCalls, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                   long openDurationMillis, int halfOpenCalls, LongSupplier clock) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+        this.window = new boolean[windowSize];
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+
+        if(state == State.OPEN) {
+            if(clock.getAsLong() - openedAt < openDurationMillis) return false;
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if(state == State.HALF_OPEN) {
+            if(halfOpenPermits >= halfOpenCalls) return false;
+            halfOpenPermits++;
+        }
+
+        return true;
+    }
+
+    /**
+     * 권한을 얻었지만 호출하지 않은 경우 (bulkhead 거절 등)
+     */
+    public synchronized void releasePermission() {
+        if(state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized void onSuccess() {
+
+        if(state == State.HALF_OPEN) {
+            if(++halfOpenSucceeded >= halfOpenCalls) transitionTo(State.CLOSED);
+            return;
+        }
+
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+
+        if(state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+
+        record(true);
+
+        if(recordedCalls >= minimumCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+
+        if(state != State.CLOSED) return;
+
+        if(recordedCalls == windowSize) {
+            if(window[windowIndex]) failedCalls--;
+        } else {
+            recordedCalls++;
+        }
+
+        window[windowIndex] = failed;
+        if(failed) failedCalls++;
+
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void transitionTo(State newState) {
+
+        this.state = newState;
+        this.halfOpenPermits = 0;
+        this.halfOpenSucceeded = 0;
+
+        if(newState == State.OPEN) {
+            this.openedAt = clock.getAsLong();
+        }
+
+        if(newState == State.CLOSED) {
+            this.windowIndex = 0;
+            this.recordedCalls = 0;
+            this.failedCalls = 0;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.server.global.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 연동별로 커넥션 풀, 타임아웃, bulkhead, 서킷 브레이커가 분리된 RestTemplate 을 만든다.
+ *
+ * 설정은 http.client.{연동 이름}.* 를 먼저 찾고 없으면 http.client.default.* 를 사용한다.
+ * 호스트별 지연 시간과 에러율은 RestTemplateBuilder 가 등록하는 http.client.requests 메트릭(clientName = host)으로 노출된다.
+ */
+@Slf4j
+@Component
+public class ExternalHttpClientFactory implements DisposableBean {
+
+    private static final String PREFIX = "http.client.";
+    private static final String DEFAULT = "default";
+
+    private final Environment environment;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final MeterRegistry meterRegistry;
+    private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
+    public ExternalHttpClientFactory(Environment environment,
+                                     RestTemplateBuilder restTemplateBuilder,
+                                     MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public RestTemplate create(String clientName) {
+
+        long keepAliveMs = getLong(clientName, "keep-alive-ms");
+
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(keepAliveMs, TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(getInt(clientName, "max-connections"));
+        connectionManager.setDefaultMaxPerRoute(getInt(clientName, "max-connections-per-route"));
+        connectionManager.setValidateAfterInactivity(2000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(getInt(clientName, "connect-timeout-ms"))
+                .setConnectionRequestTimeout(getInt(clientName, "connection-request-timeout-ms"))
+                .setSocketTimeout(getInt(clientName, "read-timeout-ms"))
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return duration > 0 ? Math.min(duration, keepAliveMs) : keepAliveMs;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveMs, TimeUnit.MILLISECONDS)
+                .disableAutomaticRetries()
+                .build();
+
+        httpClients.add(httpClient);
+
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                getInt(clientName, "circuit-breaker.window-size"),
+                getInt(clientName, "circuit-breaker.minimum-calls"),
+                getInt(clientName, "circuit-breaker.failure-rate-threshold"),
+                getLong(clientName, "circuit-breaker.open-duration-ms"),
+                getInt(clientName, "circuit-breaker.half-open-calls"));
+
+        Bulkhead bulkhead = new Bulkhead(
+                getInt(clientName, "max-concurrent-calls"),
+                getLong(clientName, "bulkhead-wait-ms"));
+
+        registerMetrics(clientName, connectionManager, circuitBreaker, bulkhead);
+
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(new ResilienceInterceptor(clientName, circuitBreaker, bulkhead, meterRegistry))
+                .build();
+    }
+
+    private void registerMetrics(String clientName, PoolingHttpClientConnectionManager connectionManager,
+                                 CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+
+        Gauge.builder("http.client.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+                .tag("client", clientName).register(meterRegistry);
+        Gauge.builder("http.client.pool.available", connectionManager, cm -> cm.getTotalStats().getAvailable())
+                .tag("client", clientName).register(meterRegistry);
+        Gauge.builder("http.client.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+                .tag("client", clientName).register(meterRegistry);
+        Gauge.builder("http.client.bulkhead.active", bulkhead, Bulkhead::getActiveCalls)
+                .tag("client", clientName).register(meterRegistry);
+        Gauge.builder("http.client.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .tag("client", clientName).register(meterRegistry);
+    }
+
+    private int getInt(String clientName, String key) {
+        return Integer.parseInt(getProperty(clientName, key));
+    }
+
+    private long getLong(String clientName, String key) {
+        return Long.parseLong(getProperty(clientName, key));
+    }
+
+    private String getProperty(String clientName, String key) {
+
+        String value = environment.getProperty(PREFIX + clientName + "." + key);
+
+        if(value == null) {
+            value = environment.getRequiredProperty(PREFIX + DEFAULT + "." + key);
+        }
+
+        return value;
+    }
+
+    @Override
+    public void destroy() {
+        for (CloseableHttpClient httpClient : httpClients) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("http client 종료 실패 : {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.server.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * 외부 연동 호출에 서킷 브레이커와 bulkhead 를 적용한다.
+ * IOException(타임아웃 포함) 과 5xx 응답을 실패로 기록한다.
+ */
+public class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String clientName;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public ResilienceInterceptor(String clientName, CircuitBreaker circuitBreaker,
+                                 Bulkhead bulkhead, MeterRegistry meterRegistry) {
+        this.clientName = clientName;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+
+        if(!circuitBreaker.tryAcquirePermission()) {
+            reject(request, "circuit_open");
+            throw new CallNotPermittedException(clientName + " 연동의 서킷 브레이커가 열려 있습니다.");
+        }
+
+        if(!bulkhead.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            reject(request, "bulkhead_full");
+            throw new CallNotPermittedException(clientName + " 연동의 동시 호출 수가 초과되었습니다.");
+        }
+
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+
+            if(response.getRawStatusCode() >= 500) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+
+            return response;
+
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void reject(HttpRequest request, String reason) {
+        meterRegistry.counter("http.client.rejected",
+                "client", clientName,
+                "host", String.valueOf(request.getURI().getHost()),
+                "reason", reason).increment();
+    }
+}
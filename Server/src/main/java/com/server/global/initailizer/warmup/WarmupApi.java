@@ -9,6 +9,7 @@ import com.server.domain.reply.controller.convert.ReplySort;
 import com.server.domain.video.controller.VideoController;
 import com.server.domain.video.controller.dto.request.VideoSort;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Profile;
 import org.springframework.context.event.ContextRefreshedEvent;
@@ -25,6 +26,8 @@ import org.springframework.web.context.WebApplicationContext;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static com.server.global.config.GlobalConfig.WARMUP_REST_TEMPLATE;
+
 @Component
 @Slf4j
 public class WarmupApi implements ApplicationListener<ContextRefreshedEvent> {
@@ -41,7 +44,7 @@ public class WarmupApi implements ApplicationListener<ContextRefreshedEvent> {
 
     public WarmupApi(MemberController memberController, VideoController videoController,
                      ChannelController channelController,
-                     RestTemplate restTemplate, WarmupState warmupState,
+                     @Qualifier(WARMUP_REST_TEMPLATE) RestTemplate restTemplate, WarmupState warmupState,
                      JpaUserDetailsService jpaUserDetailsService, JwtProvider jwtProvider) {
         this.memberController = memberController;
         this.videoController = videoController;
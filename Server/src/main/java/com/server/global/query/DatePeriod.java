@@ -0,0 +1,40 @@
+package com.server.global.query;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 연/월 조회 조건을 [start, end) 시각 범위로 바꾼다.
+ * 컬럼에 YEAR(), MONTH() 를 씌우면 인덱스를 쓰지 못하므로 날짜 컬럼은 항상 이 범위로 비교한다.
+ */
+@Getter
+public final class DatePeriod {
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    private DatePeriod(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public static DatePeriod of(YearMonth yearMonth) {
+        return new DatePeriod(yearMonth.atDay(1).atStartOfDay(), yearMonth.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    /**
+     * months 개월 전 1일부터 today 가 끝날 때까지.
+     */
+    public static DatePeriod recentMonths(int months, LocalDate today) {
+        return new DatePeriod(today.minusMonths(months).withDayOfMonth(1).atStartOfDay(), today.plusDays(1).atStartOfDay());
+    }
+
+    public BooleanExpression contains(DateTimePath<LocalDateTime> path) {
+        return path.goe(start).and(path.lt(end));
+    }
+}
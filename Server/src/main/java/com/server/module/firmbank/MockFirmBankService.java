@@ -3,16 +3,32 @@ package com.server.module.firmbank;
 import com.server.domain.account.domain.Bank;
 import com.server.domain.adjustment.domain.AdjustmentStatus;
 import com.server.module.firmbank.response.AdjustmentResult;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class MockFirmBankService implements FirmBankService {
 
+    // 실제 펌뱅킹 응답 시간을 흉내낼 때 사용한다. (벤치마크)
+    @Value("${firmbank.mock.latency-ms}")
+    private long latencyMs;
+
     @Override
     public AdjustmentResult adjustment(String name, String account, Bank bank, int amount) {
+
+        if(latencyMs > 0) sleep();
+
         return AdjustmentResult.builder()
                 .status(AdjustmentStatus.ADJUSTED)
                 .reason(AdjustmentStatus.ADJUSTED.getDescription())
                 .build();
     }
+
+    private void sleep() {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
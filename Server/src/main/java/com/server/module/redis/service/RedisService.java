@@ -1,13 +1,28 @@
 package com.server.module.redis.service;
 
 import java.time.Duration;
+import java.util.List;
 
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
 public class RedisService {
+
+	private static final RedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end " +
+		"return 0",
+		Long.class);
+
+	private static final RedisScript<Long> SET_IF_ABSENT_OR_EQUALS = new DefaultRedisScript<>(
+		"local current = redis.call('get', KEYS[1]) " +
+		"if current == false or current == ARGV[1] then redis.call('set', KEYS[1], ARGV[2], 'EX', ARGV[3]) return 1 end " +
+		"return 0",
+		Long.class);
+
 	private final StringRedisTemplate stringRedisTemplate;
 
 	public RedisService(StringRedisTemplate stringRedisTemplate) {
@@ -29,6 +44,12 @@ public class RedisService {
 		valueOperations.set(key, value, expireDuration);
 	}
 
+	public boolean setIfAbsent(String key, String value, long duration) {
+		ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
+		Duration expireDuration = Duration.ofSeconds(duration);
+		return Boolean.TRUE.equals(valueOperations.setIfAbsent(key, value, expireDuration));
+	}
+
 	public long getExpire(String key) {
 		return stringRedisTemplate.getExpire(key);
 	}
@@ -36,4 +57,21 @@ public class RedisService {
 	public void deleteData(String key) {
 		stringRedisTemplate.delete(key);
 	}
+
+	/**
+	 * 값이 expected 일 때만 삭제한다. (조회와 삭제 사이에 다른 요청이 쓴 값을 지우지 않는다)
+	 */
+	public boolean deleteIfEquals(String key, String expected) {
+		Long deleted = stringRedisTemplate.execute(DELETE_IF_EQUALS, List.of(key), expected);
+		return deleted != null && deleted == 1;
+	}
+
+	/**
+	 * 값이 없거나 expected 일 때만 value 로 바꾼다.
+	 */
+	public boolean setIfAbsentOrEquals(String key, String expected, String value, long duration) {
+		Long updated = stringRedisTemplate.execute(SET_IF_ABSENT_OR_EQUALS, List.of(key),
+			expected, value, String.valueOf(duration));
+		return updated != null && updated == 1;
+	}
 }
@@ -8,8 +8,11 @@ import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+
 @Configuration
 public class S3Config {
 
@@ -19,6 +22,10 @@ public class S3Config {
     @Value("${aws.secret-key}")
     private String secretKey;
 
+    // 로컬 S3 호환 서버를 사용할 때만 지정한다.
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AwsCredentialsProvider awsCredentialsProvider(){
 
@@ -29,10 +36,17 @@ public class S3Config {
 
     @Bean
     public S3Client s3Client(AwsCredentialsProvider awsCredentialsProvider) {
-        return S3Client.builder()
+
+        S3ClientBuilder builder = S3Client.builder()
                 .region(Region.AP_NORTHEAST_2)
-                .credentialsProvider(awsCredentialsProvider)
-                .build();
+                .credentialsProvider(awsCredentialsProvider);
+
+        if(!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .forcePathStyle(true);
+        }
+
+        return builder.build();
     }
 
     @Bean
@@ -3,6 +3,9 @@ package com.server.module.s3.service;
 import com.server.module.s3.service.dto.FileType;
 import com.server.module.s3.service.dto.ImageType;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface AwsService {
 
     String getFileUrl(String fileName, FileType fileType);
@@ -11,7 +14,17 @@ public interface AwsService {
 
     String getPublicUploadUrl(Long memberId, String fileName, FileType fileType, ImageType imageType);
 
+    /**
+     * 회원 파일이 아닌 서버가 만든 파일을 지정한 버킷의 key 로 올린다.
+     */
+    void uploadFile(String bucketName, String key, byte[] content, String contentType);
+
     void deleteFile(String fileName, FileType fileType);
 
+    /**
+     * 파일들을 버킷별 DeleteObjects 요청(요청당 최대 1000개)으로 삭제한다. 없는 파일은 무시한다.
+     */
+    void deleteFiles(Map<FileType, ? extends Collection<String>> fileNames);
+
     boolean isExistFile(String fileName, FileType fileType);
 }
@@ -1,12 +1,15 @@
 package com.server.module.s3.service;
 
+import com.server.global.config.AsyncConfig;
 import com.server.global.exception.businessexception.s3exception.S3DeleteException;
 import com.server.global.exception.businessexception.s3exception.S3FileNotVaildException;
 import com.server.global.exception.businessexception.s3exception.S3KeyException;
 import com.server.module.s3.service.dto.FileType;
 import com.server.module.s3.service.dto.ImageType;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.cloudfront.CloudFrontUtilities;
 import software.amazon.awssdk.services.cloudfront.model.CustomSignerRequest;
 import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
@@ -22,6 +25,15 @@ import java.net.URLEncoder;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -38,12 +50,19 @@ public class AwsServiceImpl implements AwsService {
     @Value("${pem.location}")
     private  String PRIVATE_KEY_PATH;
 
+    // DeleteObjects 요청 한 번에 담을 수 있는 최대 key 수
+    static final int DELETE_BATCH_SIZE = 1000;
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final Executor s3DeleteExecutor;
 
-    public AwsServiceImpl(S3Client s3Client, S3Presigner s3Presigner) {
+    public AwsServiceImpl(S3Client s3Client,
+                          S3Presigner s3Presigner,
+                          @Qualifier(AsyncConfig.S3_DELETE_EXECUTOR) Executor s3DeleteExecutor) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
+        this.s3DeleteExecutor = s3DeleteExecutor;
     }
 
     @Override
@@ -95,6 +114,20 @@ public class AwsServiceImpl implements AwsService {
         return URLDecoder.decode(presignedPutObjectUrl.toString(), UTF_8);
     }
 
+    @Override
+    public void uploadFile(String bucketName, String key, byte[] content, String contentType) {
+
+        checkValidFile(key);
+
+        PutObjectRequest objectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        s3Client.putObject(objectRequest, RequestBody.fromBytes(content));
+    }
+
     @Override
     public void deleteFile(String fileName, FileType fileType) {
 
@@ -103,6 +136,40 @@ public class AwsServiceImpl implements AwsService {
         deleteFile(fileType.s3FullLocation(fileName));
     }
 
+    /**
+     * S3 삭제는 없는 key 에 대해서도 성공하므로 존재 여부를 확인하지 않고 바로 삭제한다.
+     * 버킷별로 key 를 모아 1000개씩 나눈 DeleteObjects 요청을 s3DeleteExecutor 에서 동시에 보낸다.
+     */
+    @Override
+    public void deleteFiles(Map<FileType, ? extends Collection<String>> fileNames) {
+
+        Map<String, List<ObjectIdentifier>> keysByBucket = new HashMap<>();
+
+        fileNames.forEach((fileType, names) -> names.stream()
+                .filter(Objects::nonNull)
+                .map(fileType::s3FullLocation)
+                .forEach(location -> keysByBucket
+                        .computeIfAbsent(location.split("/")[0], bucket -> new ArrayList<>())
+                        .add(ObjectIdentifier.builder()
+                                .key(location.substring(location.indexOf("/") + 1))
+                                .build())));
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        keysByBucket.forEach((bucketName, keys) -> {
+            for (int from = 0; from < keys.size(); from += DELETE_BATCH_SIZE) {
+                List<ObjectIdentifier> batch = keys.subList(from, Math.min(from + DELETE_BATCH_SIZE, keys.size()));
+                futures.add(CompletableFuture.runAsync(() -> deleteObjects(bucketName, batch), s3DeleteExecutor));
+            }
+        });
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw new S3DeleteException();
+        }
+    }
+
     @Override
     public boolean isExistFile(String fileName, FileType fileType) {
 
@@ -200,6 +267,24 @@ public class AwsServiceImpl implements AwsService {
         check204Response(deleteObjectResponse);
     }
 
+    private void deleteObjects(String bucketName, List<ObjectIdentifier> keys) {
+
+        DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder()
+                        .objects(keys)
+                        .quiet(true)
+                        .build())
+                .build();
+
+        DeleteObjectsResponse deleteObjectsResponse = s3Client.deleteObjects(deleteObjectsRequest);
+
+        // quiet 모드에서는 실패한 key 만 errors 로 돌아온다.
+        if (deleteObjectsResponse.hasErrors() && !deleteObjectsResponse.errors().isEmpty()) {
+            throw new S3DeleteException();
+        }
+    }
+
     private boolean isExistFile(String location) {
 
         String bucketName = location.split("/")[0];
@@ -0,0 +1,22 @@
+CREATE TABLE payment_outbox
+(
+    payment_outbox_id BIGINT       NOT NULL AUTO_INCREMENT,
+    order_id          VARCHAR(255) NOT NULL,
+    payment_key       VARCHAR(255) NOT NULL,
+    payment_type      VARCHAR(255) NOT NULL,
+    amount            INT          NOT NULL,
+    cancel_reason     VARCHAR(255),
+    idempotency_key   VARCHAR(64)  NOT NULL,
+    outbox_status     VARCHAR(255) NOT NULL,
+    attempts          INT          NOT NULL,
+    next_attempt_at   DATETIME(6)  NOT NULL,
+    last_error        VARCHAR(500),
+    version           BIGINT,
+    created_date      DATETIME(6),
+    modified_date     DATETIME(6),
+    PRIMARY KEY (payment_outbox_id),
+    CONSTRAINT uk_payment_outbox_idempotency_key UNIQUE (idempotency_key)
+);
+
+CREATE INDEX idx_payment_outbox_status_next_attempt_at ON payment_outbox (outbox_status, next_attempt_at);
+CREATE INDEX idx_payment_outbox_order_id ON payment_outbox (order_id);
@@ -0,0 +1,11 @@
+-- pooled optimizer 는 저장된 값을 할당 구간의 상한으로 사용하므로 기존 reward_id 다음 값부터 발급되도록 allocationSize 만큼 더해 둔다.
+CREATE TABLE id_generator
+(
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'reward', COALESCE(MAX(reward_id), 0) + 50
+FROM reward;
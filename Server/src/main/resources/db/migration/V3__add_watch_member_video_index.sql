@@ -0,0 +1 @@
+CREATE INDEX idx_watch_member_video_modified ON watch (member_id, video_id, modified_date);
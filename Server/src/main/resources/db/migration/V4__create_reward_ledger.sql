@@ -0,0 +1,13 @@
+CREATE TABLE reward_ledger
+(
+    reward_ledger_id BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id        BIGINT       NOT NULL,
+    amount           INT          NOT NULL,
+    ledger_type      VARCHAR(255) NOT NULL,
+    reference_id     VARCHAR(255),
+    created_date     DATETIME(6),
+    modified_date    DATETIME(6),
+    PRIMARY KEY (reward_ledger_id)
+);
+
+CREATE INDEX idx_reward_ledger_member_id ON reward_ledger (member_id);
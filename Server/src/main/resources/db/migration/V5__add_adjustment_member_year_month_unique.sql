@@ -0,0 +1,3 @@
+-- 같은 달 정산 내역이 중복으로 저장되지 않도록 한다. (정산 배치 재시작 시 이중 지급 방지)
+ALTER TABLE adjustment
+    ADD CONSTRAINT uk_adjustment_member_year_month UNIQUE (member_id, adjustment_year, adjustment_month);
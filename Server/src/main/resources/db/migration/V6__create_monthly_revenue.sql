@@ -0,0 +1,31 @@
+-- 대시보드용 월별 매출 집계. 주문 완료/취소 시 증가 update 로 갱신되고 revenueRollupJob 으로 다시 채울 수 있다.
+CREATE TABLE creator_monthly_revenue
+(
+    creator_monthly_revenue_id BIGINT NOT NULL AUTO_INCREMENT,
+    member_id                  BIGINT NOT NULL,
+    revenue_year               INT    NOT NULL,
+    revenue_month              INT    NOT NULL,
+    sale_amount                INT    NOT NULL,
+    refund_amount              INT    NOT NULL,
+    created_date               DATETIME(6),
+    modified_date              DATETIME(6),
+    PRIMARY KEY (creator_monthly_revenue_id),
+    CONSTRAINT uk_creator_monthly_revenue UNIQUE (member_id, revenue_year, revenue_month)
+);
+
+CREATE TABLE video_monthly_revenue
+(
+    video_monthly_revenue_id BIGINT NOT NULL AUTO_INCREMENT,
+    video_id                 BIGINT NOT NULL,
+    member_id                BIGINT NOT NULL,
+    revenue_year             INT    NOT NULL,
+    revenue_month            INT    NOT NULL,
+    sale_amount              INT    NOT NULL,
+    refund_amount            INT    NOT NULL,
+    created_date             DATETIME(6),
+    modified_date            DATETIME(6),
+    PRIMARY KEY (video_monthly_revenue_id),
+    CONSTRAINT uk_video_monthly_revenue UNIQUE (video_id, revenue_year, revenue_month)
+);
+
+CREATE INDEX idx_video_monthly_revenue_member ON video_monthly_revenue (member_id, revenue_year, revenue_month);
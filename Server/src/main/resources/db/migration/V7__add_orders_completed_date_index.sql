@@ -0,0 +1,2 @@
+-- 정산 배치의 완료일 범위 조회 (completed_date >= ? AND completed_date < ?) 가 인덱스를 타도록 한다.
+CREATE INDEX idx_orders_completed_date ON orders (completed_date);
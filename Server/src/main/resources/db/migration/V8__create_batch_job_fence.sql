@@ -0,0 +1,7 @@
+-- 정산처럼 외부에 영향을 주는 배치 작업이 결과를 커밋할 때 확인하는 job 별 최신 fencing token
+CREATE TABLE batch_job_fence
+(
+    job_name      VARCHAR(255) NOT NULL,
+    fencing_token BIGINT       NOT NULL,
+    PRIMARY KEY (job_name)
+);
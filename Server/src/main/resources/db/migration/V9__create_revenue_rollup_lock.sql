@@ -0,0 +1,8 @@
+-- 월별 매출 집계의 증가 update(공유 잠금)와 revenueRollupJob 의 월별 재집계(배타 잠금)가 함께 잡는 잠금 행
+CREATE TABLE revenue_rollup_lock
+(
+    revenue_rollup_lock_id BIGINT NOT NULL,
+    PRIMARY KEY (revenue_rollup_lock_id)
+);
+
+INSERT INTO revenue_rollup_lock (revenue_rollup_lock_id) VALUES (1);
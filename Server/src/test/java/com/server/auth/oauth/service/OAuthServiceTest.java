@@ -50,7 +50,7 @@ public class OAuthServiceTest extends ServiceTest {
 		ResponseEntity<Map<String, String>> responseEntity =
 			new ResponseEntity<>(response, HttpStatus.OK);
 
-		when(restTemplate.exchange(
+		when(oauthRestTemplate.exchange(
 			anyString(),
 			any(HttpMethod.class),
 			any(HttpEntity.class),
@@ -92,7 +92,7 @@ public class OAuthServiceTest extends ServiceTest {
 		ResponseEntity<Map<String, String>> responseEntity =
 			new ResponseEntity<>(response, HttpStatus.OK);
 
-		when(restTemplate.exchange(
+		when(oauthRestTemplate.exchange(
 			anyString(),
 			any(HttpMethod.class),
 			any(HttpEntity.class),
@@ -129,7 +129,7 @@ public class OAuthServiceTest extends ServiceTest {
 		OAuthProvider provider = OAuthProvider.GOOGLE;
 		String code = "abcde12345";
 
-		when(restTemplate.exchange(
+		when(oauthRestTemplate.exchange(
 			anyString(),
 			any(HttpMethod.class),
 			any(HttpEntity.class),
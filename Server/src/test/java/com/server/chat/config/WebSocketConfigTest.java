@@ -0,0 +1,85 @@
+package com.server.chat.config;
+
+import com.server.chat.interceptor.StompHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class WebSocketConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketConfig webSocketConfig;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        webSocketConfig = new WebSocketConfig(mock(StompHandler.class), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(executor != null) executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("채널 큐가 가득 차면 프레임을 거절하고 거절 수를 기록한다.")
+    void rejectWhenChannelQueueFull() {
+        //given
+        executor = webSocketConfig.createChannelExecutor("inbound", 1, 1, 1);
+        executor.initialize();
+
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release)); // 실행 중
+        executor.execute(() -> await(release)); // 큐 대기
+
+        //when & then
+        assertThatThrownBy(() -> executor.execute(() -> {}))
+                .isInstanceOf(TaskRejectedException.class);
+
+        release.countDown();
+
+        assertThat(meterRegistry.counter("chat.websocket.channel.rejected", "channel", "inbound").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 제한을 넘어 끊긴(SESSION_NOT_RELIABLE) 세션만 느린 구독자로 기록한다.")
+    void countSlowConsumerDisconnect() throws Exception {
+        //given
+        WebSocketHandler delegate = mock(WebSocketHandler.class);
+        WebSocketHandler handler = webSocketConfig.slowConsumerMonitor(delegate);
+        WebSocketSession session = mock(WebSocketSession.class);
+
+        //when
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        //then
+        assertThat(meterRegistry.counter("chat.websocket.slow-consumer.disconnected").count()).isEqualTo(1);
+        verify(delegate).afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+        verify(delegate).afterConnectionClosed(session, CloseStatus.NORMAL);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.server.chat.controller;
 
 import com.server.chat.entity.ChatMessage;
 import com.server.chat.entity.ChatRoom;
+import com.server.chat.service.dto.response.ChatRecordResponse;
 import com.server.chat.service.dto.response.ChatRoomResponse;
 import com.server.global.reponse.ApiPageResponse;
 import com.server.global.reponse.ApiSingleResponse;
@@ -161,18 +162,23 @@ class AdminChatControllerTest extends ControllerTest {
         //given
         String roomId = "test@gmail.com";
         int size = 3;
-        int page = 1;
+        String cursor = "1697000000000:0";
         List<ChatMessage> chatMessages = createChatMessages(size);
-        Page<ChatMessage> chatMessagePage = createPage(chatMessages, page, size, 3);
+        ChatRecordResponse chatRecordResponse = ChatRecordResponse.builder()
+                .messages(chatMessages)
+                .nextCursor("1696999990000:1")
+                .hasNext(true)
+                .build();
 
-        given(chatService.getChatRecord(anyString(), anyString(), anyInt())).willReturn(chatMessagePage);
+        given(chatService.getChatRecord(anyString(), anyString(), anyString(), anyInt())).willReturn(chatRecordResponse);
 
-        String apiResponse = objectMapper.writeValueAsString(ApiPageResponse.ok(chatMessagePage, "채팅 메시지 조회 성공"));
+        String apiResponse = objectMapper.writeValueAsString(ApiSingleResponse.ok(chatRecordResponse, "채팅 메시지 조회 성공"));
 
         //when
         ResultActions actions = mockMvc.perform(get(BASE_URL + "/{room-id}", roomId)
                 .header(AUTHORIZATION, TOKEN)
-                .param("page", String.valueOf(page))
+                .param("cursor", cursor)
+                .param("size", String.valueOf(size))
                 .accept(MediaType.APPLICATION_JSON));
 
         //then
@@ -191,14 +197,18 @@ class AdminChatControllerTest extends ControllerTest {
                                 parameterWithName("room-id").description("채팅방 아이디")
                         ),
                         requestParameters(
-                                parameterWithName("page").description("페이지 번호 (사이즈는 20 고정)")
+                                parameterWithName("cursor").description("이전 조회의 nextCursor (score:offset, 생략 시 최신 메시지부터 조회)").optional(),
+                                parameterWithName("size").description("조회할 메시지 수 (기본 20, 최대 100)").optional()
                         ),
-                        pageResponseFields(
-                                fieldWithPath("data").description("채팅 메시지"),
-                                fieldWithPath("data[].roomId").description("채팅방 ID"),
-                                fieldWithPath("data[].sender").description("메시지 보낸 사람"),
-                                fieldWithPath("data[].message").description("메시지"),
-                                fieldWithPath("data[].sendDate").description("보낸 시간")
+                        singleResponseFields(
+                                fieldWithPath("data").description("채팅 메시지 조회 결과"),
+                                fieldWithPath("data.messages").description("채팅 메시지 (오래된 순)"),
+                                fieldWithPath("data.messages[].roomId").description("채팅방 ID"),
+                                fieldWithPath("data.messages[].sender").description("메시지 보낸 사람"),
+                                fieldWithPath("data.messages[].message").description("메시지"),
+                                fieldWithPath("data.messages[].sendDate").description("보낸 시간"),
+                                fieldWithPath("data.nextCursor").description("다음(이전 메시지) 조회 시 사용할 cursor"),
+                                fieldWithPath("data.hasNext").description("이전 메시지 존재 여부")
                         )
                 )
         );
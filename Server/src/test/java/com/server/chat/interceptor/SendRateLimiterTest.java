@@ -0,0 +1,69 @@
+package com.server.chat.interceptor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SendRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("시간이 흐르지 않으면 burst 만큼만 허용한다.")
+    void burst() {
+        //given
+        SendRateLimiter limiter = new SendRateLimiter(10, 3, now::get);
+
+        //when & then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰이 떨어지면 초당 허용량에 맞춰 다시 채워진다.")
+    void refill() {
+        //given
+        SendRateLimiter limiter = new SendRateLimiter(10, 3, now::get);
+        drain(limiter);
+
+        //when
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        boolean beforeRefill = limiter.tryAcquire();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        boolean afterRefill = limiter.tryAcquire();
+
+        //then
+        assertThat(beforeRefill).isFalse();
+        assertThat(afterRefill).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 burst 이상으로 쌓이지 않는다.")
+    void refillUpToBurst() {
+        //given
+        SendRateLimiter limiter = new SendRateLimiter(10, 3, now::get);
+        drain(limiter);
+
+        //when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        //then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    private void drain(SendRateLimiter limiter) {
+        while (limiter.tryAcquire()) {
+        }
+    }
+}
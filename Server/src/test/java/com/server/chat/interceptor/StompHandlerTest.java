@@ -0,0 +1,116 @@
+package com.server.chat.interceptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.auth.jwt.service.JpaUserDetailsService;
+import com.server.auth.jwt.service.JwtProvider;
+import com.server.chat.repository.ChatRoomRepository;
+import com.server.chat.service.ChatService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.server.auth.util.AuthConstant.CLAIM_AUTHORITY;
+import static com.server.auth.util.AuthConstant.CLAIM_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class StompHandlerTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    private JwtProvider jwtProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private StompHandler stompHandler;
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final Map<String, Object> sessionAttributes = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = mock(JwtProvider.class);
+        meterRegistry = new SimpleMeterRegistry();
+        stompHandler = new StompHandler(mock(ChatRoomRepository.class), mock(JpaUserDetailsService.class),
+                mock(ChatService.class), jwtProvider, new ObjectMapper(), meterRegistry, 1, 2);
+
+        Claims claims = Jwts.claims().setSubject(EMAIL);
+        claims.put(CLAIM_ID, 1L);
+        claims.put(CLAIM_AUTHORITY, "ROLE_USER");
+        given(jwtProvider.getClaims("token")).willReturn(claims);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("세션의 전송 토큰을 모두 쓰면 SEND 프레임을 버리고 제한 횟수를 기록한다.")
+    void dropSendWhenRateLimited() {
+        //given
+        stompHandler.preSend(connect(), channel);
+
+        //when
+        Message<?> first = stompHandler.preSend(send(), channel);
+        Message<?> second = stompHandler.preSend(send(), channel);
+        Message<?> third = stompHandler.preSend(send(), channel);
+
+        //then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(third).isNull();
+        assertThat(meterRegistry.counter("chat.websocket.send.rate-limited").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 속도 제한은 세션마다 따로 적용된다.")
+    void rateLimitPerSession() {
+        //given
+        stompHandler.preSend(connect(), channel);
+        stompHandler.preSend(send(), channel);
+        stompHandler.preSend(send(), channel);
+
+        //when
+        sessionAttributes.clear();
+        stompHandler.preSend(connect(), channel);
+        Message<?> result = stompHandler.preSend(send(), channel);
+
+        //then
+        assertThat(result).isNotNull();
+        assertThat(meterRegistry.counter("chat.websocket.send.rate-limited").count()).isZero();
+    }
+
+    private Message<byte[]> connect() {
+        StompHeaderAccessor accessor = accessor(StompCommand.CONNECT);
+        accessor.setNativeHeader("Authorization", "Bearer token");
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> send() {
+        StompHeaderAccessor accessor = accessor(StompCommand.SEND);
+        accessor.setDestination("/pub/chat");
+        byte[] payload = ("{\"roomId\":\"" + EMAIL + "\"}").getBytes(StandardCharsets.UTF_8);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private StompHeaderAccessor accessor(StompCommand command) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+}
@@ -0,0 +1,261 @@
+package com.server.chat.load;
+
+import com.server.auth.jwt.service.CustomUserDetails;
+import com.server.auth.jwt.service.JwtProvider;
+import com.server.chat.entity.ChatMessage;
+import com.server.module.email.service.MailService;
+import com.server.module.s3.service.AwsService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 부하 테스트 (StompHandler -> ChatService -> Redis pub/sub -> RedisSubscriber -> 구독자)
+ *
+ * ./gradlew chatLoadTest -Pclients=2000 -PratePerSecond=1 -PdurationSeconds=60
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "chat.load-test", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "chat.websocket.send-rate.permits-per-second=1000",
+                "chat.websocket.send-rate.burst=1000"
+        })
+class ChatLoadTest {
+
+    private static final String LATENCY_PREFIX = "sentAt:";
+
+    private final int clients = Integer.getInteger("chat.load.clients", 1000);
+    private final int ratePerSecond = Integer.getInteger("chat.load.rate-per-second", 1);
+    private final int durationSeconds = Integer.getInteger("chat.load.duration-seconds", 30);
+    private final int connectConcurrency = Integer.getInteger("chat.load.connect-concurrency", 50);
+
+    @LocalServerPort private int port;
+    @Autowired private JwtProvider jwtProvider;
+
+    @MockBean private MailService mailService;
+    @MockBean private AwsService awsService;
+
+    @Test
+    @DisplayName("다수의 STOMP 클라이언트가 각자의 채팅방을 구독하고 메시지를 보낼 때 지연 시간과 처리량을 측정한다.")
+    void chatLoad() throws Exception {
+        //given
+        WebSocketStompClient stompClient = createStompClient();
+        LatencyRecorder recorder = new LatencyRecorder(clients * ratePerSecond * durationSeconds * 2);
+        AtomicInteger sent = new AtomicInteger();
+
+        List<LoadClient> loadClients = connectAll(stompClient, recorder);
+
+        GcSnapshot before = GcSnapshot.now();
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+
+        //when
+        long startNanos = System.nanoTime();
+        long periodMicros = 1_000_000L / ratePerSecond;
+
+        for (LoadClient client : loadClients) {
+            long initialDelay = ThreadLocalRandom.current().nextLong(periodMicros);
+            senders.scheduleAtFixedRate(() -> {
+                client.send();
+                sent.incrementAndGet();
+            }, initialDelay, periodMicros, TimeUnit.MICROSECONDS);
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+        senders.shutdownNow();
+        Thread.sleep(2000); // 전송 중인 메시지 수신 대기
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        GcSnapshot after = GcSnapshot.now();
+
+        loadClients.forEach(LoadClient::disconnect);
+        stompClient.stop();
+
+        //then
+        report(recorder, sent.get(), elapsedNanos, before, after);
+
+        assertThat(recorder.getCount()).isGreaterThan(0);
+    }
+
+    private WebSocketStompClient createStompClient() {
+
+        StandardWebSocketClient webSocketClient = new StandardWebSocketClient();
+        SockJsClient sockJsClient = new SockJsClient(List.of(new WebSocketTransport(webSocketClient)));
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.initialize();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setTaskScheduler(scheduler);
+        stompClient.setInboundMessageSizeLimit(64 * 1024);
+
+        return stompClient;
+    }
+
+    private List<LoadClient> connectAll(WebSocketStompClient stompClient, LatencyRecorder recorder) throws Exception {
+
+        ExecutorService connector = Executors.newFixedThreadPool(connectConcurrency);
+        List<Future<LoadClient>> futures = new ArrayList<>();
+
+        for (int i = 0; i < clients; i++) {
+            String email = "load-user-" + i + "@test.com";
+            futures.add(connector.submit(() -> LoadClient.connect(stompClient, url(), email, createToken(email), recorder)));
+        }
+
+        List<LoadClient> loadClients = new ArrayList<>();
+        for (Future<LoadClient> future : futures) {
+            loadClients.add(future.get(30, TimeUnit.SECONDS));
+        }
+
+        connector.shutdown();
+
+        log.info("[chat load] {} 개의 클라이언트 연결 완료", loadClients.size());
+
+        return loadClients;
+    }
+
+    private String url() {
+        return "http://localhost:" + port + "/ws";
+    }
+
+    private String createToken(String email) {
+
+        SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_USER");
+        CustomUserDetails principal = new CustomUserDetails(null, email, "", List.of(authority));
+
+        return "Bearer " + jwtProvider.createAccessToken(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of(authority)),
+                TimeUnit.HOURS.toMillis(1));
+    }
+
+    private void report(LatencyRecorder recorder, int sent, long elapsedNanos, GcSnapshot before, GcSnapshot after) {
+
+        long[] latencies = recorder.snapshot();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+        log.info("[chat load] clients={}, rate={}/s, duration={}s", clients, ratePerSecond, durationSeconds);
+        log.info("[chat load] sent={}, received={}, throughput={} msg/s",
+                sent, recorder.getCount(), String.format("%.1f", recorder.getCount() / seconds));
+        log.info("[chat load] latency ms p50={} p90={} p99={} p99.9={} max={}",
+                LatencyRecorder.percentileMillis(latencies, 50),
+                LatencyRecorder.percentileMillis(latencies, 90),
+                LatencyRecorder.percentileMillis(latencies, 99),
+                LatencyRecorder.percentileMillis(latencies, 99.9),
+                LatencyRecorder.percentileMillis(latencies, 100));
+        log.info("[chat load] heap used={}MB committed={}MB max={}MB",
+                heap.getUsed() >> 20, heap.getCommitted() >> 20, heap.getMax() >> 20);
+        log.info("[chat load] gc count={}, gc time={}ms",
+                after.count - before.count, after.timeMillis - before.timeMillis);
+    }
+
+    private static class LoadClient {
+
+        private final StompSession session;
+        private final String email;
+        private final String token;
+
+        private LoadClient(StompSession session, String email, String token) {
+            this.session = session;
+            this.email = email;
+            this.token = token;
+        }
+
+        static LoadClient connect(WebSocketStompClient stompClient, String url, String email, String token,
+                                  LatencyRecorder recorder) throws Exception {
+
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", token);
+
+            StompSession session = stompClient
+                    .connect(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {})
+                    .get(30, TimeUnit.SECONDS);
+
+            session.subscribe("/sub/chat/room/" + email, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return ChatMessage.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    String message = ((ChatMessage) payload).getMessage();
+                    if(message != null && message.startsWith(LATENCY_PREFIX)) {
+                        recorder.record(System.nanoTime() - Long.parseLong(message.substring(LATENCY_PREFIX.length())));
+                    }
+                }
+            });
+
+            return new LoadClient(session, email, token);
+        }
+
+        void send() {
+            StompHeaders headers = new StompHeaders();
+            headers.setDestination("/pub/message");
+            headers.add("Authorization", token);
+
+            session.send(headers, Map.of(
+                    "roomId", email,
+                    "message", LATENCY_PREFIX + System.nanoTime()));
+        }
+
+        void disconnect() {
+            if(session.isConnected()) {
+                session.disconnect();
+            }
+        }
+    }
+
+    private static class GcSnapshot {
+
+        private final long count;
+        private final long timeMillis;
+
+        private GcSnapshot(long count, long timeMillis) {
+            this.count = count;
+            this.timeMillis = timeMillis;
+        }
+
+        static GcSnapshot now() {
+            long count = 0;
+            long time = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+                time += Math.max(0, gc.getCollectionTime());
+            }
+            return new GcSnapshot(count, time);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.server.chat.load;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 수신 지연 시간(나노초)을 고정 크기 배열에 기록하고 백분위를 계산한다.
+ */
+public class LatencyRecorder {
+
+    private final AtomicLongArray latencies;
+    private final AtomicInteger count = new AtomicInteger();
+
+    public LatencyRecorder(int capacity) {
+        this.latencies = new AtomicLongArray(capacity);
+    }
+
+    public void record(long latencyNanos) {
+        int index = count.getAndIncrement();
+        if(index < latencies.length()) {
+            latencies.set(index, latencyNanos);
+        }
+    }
+
+    public int getCount() {
+        return count.get();
+    }
+
+    public long[] snapshot() {
+        int size = Math.min(count.get(), latencies.length());
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = latencies.get(i);
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    public static double percentileMillis(long[] sorted, double percentile) {
+        if(sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,31 @@
+package com.server.chat.repository;
+
+import com.server.global.exception.businessexception.chatexception.ChatCursorNotValidException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatRecordCursorTest {
+
+    @Test
+    @DisplayName("cursor 는 score:offset 형식이고, offset 이 없으면 0 으로 본다.")
+    void from() {
+        assertThat(ChatRecordCursor.from(null)).isNull();
+
+        ChatRecordCursor cursor = ChatRecordCursor.from("1697000000000:2");
+        assertThat(cursor.getScore()).isEqualTo(1697000000000L);
+        assertThat(cursor.getOffset()).isEqualTo(2);
+        assertThat(cursor.value()).isEqualTo("1697000000000:2");
+
+        assertThat(ChatRecordCursor.from("1697000000000").getOffset()).isZero();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 cursor 는 예외를 던진다.")
+    void fromInvalid() {
+        assertThatThrownBy(() -> ChatRecordCursor.from("abc")).isInstanceOf(ChatCursorNotValidException.class);
+        assertThatThrownBy(() -> ChatRecordCursor.from("1697000000000:-1")).isInstanceOf(ChatCursorNotValidException.class);
+    }
+}
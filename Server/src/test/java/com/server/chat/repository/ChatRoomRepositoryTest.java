@@ -0,0 +1,208 @@
+package com.server.chat.repository;
+
+import com.server.chat.config.RedisConfig;
+import com.server.chat.entity.ChatMessage;
+import com.server.chat.service.dto.response.ChatRecordResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 채팅 기록의 cursor 페이징과 보관 정책(개수, 기간)을 실제 redis 로 확인한다.
+ * docker 가 없으면 건너뛴다.
+ */
+@SpringJUnitConfig(ChatRoomRepositoryTest.Config.class)
+@TestPropertySource(properties = {
+        "jwt.access.expiration=60000",
+        "chat.record.max-length=10",
+        "chat.record.max-age-days=90"
+})
+class ChatRoomRepositoryTest {
+
+    private static final String REDIS_DOCKER_IMAGE = "redis:5.0.3-alpine";
+    private static final String ROOM_ID = "test@test.com";
+
+    private static GenericContainer<?> redis;
+
+    @Autowired ChatRoomRepository chatRoomRepository;
+    @Autowired StringRedisTemplate stringRedisTemplate;
+
+    @BeforeAll
+    static void startRedis() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "docker 가 없어 채팅 기록 테스트를 건너뜁니다.");
+
+        redis = new GenericContainer<>(DockerImageName.parse(REDIS_DOCKER_IMAGE))
+                .withExposedPorts(6379);
+        redis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (redis != null) redis.stop();
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("test.redis.host", () -> redis.getHost());
+        registry.add("test.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @BeforeEach
+    void flush() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 보낸 메시지가 page 경계에 걸려도 빠지거나 중복되지 않고 최신순으로 조회된다.")
+    void pageSameMillisecond() {
+        //given
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        List<ChatMessage> saved = new ArrayList<>();
+        saved.add(message("older-2", now.minusNanos(2_000_000)));
+        saved.add(message("older-1", now.minusNanos(1_000_000)));
+        IntStream.range(0, 5).forEach(i -> saved.add(message("same-" + i, now)));
+        saved.forEach(chatMessage -> chatRoomRepository.addChatRecord(ROOM_ID, chatMessage));
+
+        //when
+        List<String> read = new ArrayList<>();
+        String cursor = null;
+        ChatRecordResponse response;
+
+        do {
+            ChatRecordCursor recordCursor = ChatRecordCursor.from(cursor);
+            response = ChatRecordResponse.of(chatRoomRepository.getChatRecord(ROOM_ID, recordCursor, 2), recordCursor, 2);
+
+            // page 안에서는 오래된 순이므로 뒤집어 최신순으로 쌓는다.
+            List<String> page = response.getMessages().stream().map(ChatMessage::getMessage).collect(Collectors.toList());
+            for (int i = page.size() - 1; i >= 0; i--) read.add(page.get(i));
+
+            cursor = response.getNextCursor();
+        } while (response.isHasNext());
+
+        //then
+        assertThat(read).hasSize(7).doesNotHaveDuplicates();
+        assertThat(read.subList(0, 5)).allMatch(text -> text.startsWith("same-"));
+        assertThat(read.subList(5, 7)).containsExactly("older-1", "older-2");
+    }
+
+    @Test
+    @DisplayName("이전 형식(score 만 있는) cursor 는 해당 score 의 메시지부터 조회한다.")
+    void legacyCursor() {
+        //given
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        ChatMessage older = message("older", now.minusSeconds(1));
+        chatRoomRepository.addChatRecord(ROOM_ID, older);
+        chatRoomRepository.addChatRecord(ROOM_ID, message("newer", now));
+
+        ChatRecordCursor cursor = ChatRecordCursor.from(String.valueOf(score(older)));
+
+        //when
+        ChatRecordResponse response = ChatRecordResponse.of(chatRoomRepository.getChatRecord(ROOM_ID, cursor, 10), cursor, 10);
+
+        //then
+        assertThat(response.getMessages()).extracting(ChatMessage::getMessage).containsExactly("older");
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("파이프라인으로 저장하면 채팅방마다 최신 max-length 개만 남긴다.")
+    void trimByLength() {
+        //given
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        List<ChatMessage> messages = IntStream.range(0, 12)
+                .mapToObj(i -> message("message-" + i, now.plusSeconds(i)))
+                .collect(Collectors.toList());
+
+        //when
+        chatRoomRepository.addChatRecords(messages);
+
+        //then
+        assertThat(chatRoomRepository.getAllChatRecord(ROOM_ID))
+                .extracting(ChatMessage::getMessage)
+                .containsExactlyElementsOf(IntStream.range(2, 12).mapToObj(i -> "message-" + i).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("새 메시지를 저장하면 max-age-days 보다 오래된 메시지를 지운다.")
+    void trimByAge() {
+        //given
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        chatRoomRepository.addChatRecord(ROOM_ID, message("expired", now.minusDays(91)));
+        chatRoomRepository.addChatRecord(ROOM_ID, message("kept", now.minusDays(89)));
+
+        //when
+        chatRoomRepository.addChatRecord(ROOM_ID, message("new", now));
+
+        //then
+        assertThat(chatRoomRepository.getAllChatRecord(ROOM_ID))
+                .extracting(ChatMessage::getMessage)
+                .containsExactly("kept", "new");
+    }
+
+    private ChatMessage message(String text, LocalDateTime sendDate) {
+        return new ChatMessage(ROOM_ID, ROOM_ID, text, sendDate);
+    }
+
+    private long score(ChatMessage chatMessage) {
+        return chatMessage.getSendDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Configuration
+    @Import(ChatRoomRepository.class)
+    static class Config {
+
+        private final RedisConfig redisConfig = new RedisConfig();
+
+        @Bean
+        LettuceConnectionFactory redisConnectionFactory(@Value("${test.redis.host}") String host,
+                                                        @Value("${test.redis.port}") int port) {
+            return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        }
+
+        @Bean
+        StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+            return new StringRedisTemplate(connectionFactory);
+        }
+
+        @Bean
+        RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+            return redisConfig.redisTemplate(connectionFactory);
+        }
+
+        @Bean
+        RedisTemplate<String, ChatMessage> redisTemplateChatMessage(RedisConnectionFactory connectionFactory) {
+            return redisConfig.redisTemplateChatMessage(connectionFactory);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.server.chat.scheduler;
+
+import com.server.chat.service.ChatArchiveService;
+import com.server.global.batch.lock.BatchJobLease;
+import com.server.global.batch.lock.BatchJobLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class ChatArchiveSchedulerTest {
+
+    private final ChatArchiveService chatArchiveService = mock(ChatArchiveService.class);
+    private final BatchJobLock batchJobLock = mock(BatchJobLock.class);
+
+    @Test
+    @DisplayName("여러 노드에서 동시에 실행되어도 잠금을 얻은 노드만 보관 작업을 실행한다.")
+    void archiveOnlyOnLockedNode() {
+        //given
+        ChatArchiveScheduler node1 = new ChatArchiveScheduler(chatArchiveService, batchJobLock, 60_000);
+        ChatArchiveScheduler node2 = new ChatArchiveScheduler(chatArchiveService, batchJobLock, 60_000);
+
+        given(batchJobLock.tryAcquire(eq(ChatArchiveScheduler.JOB_NAME), anyString(), eq(Duration.ofMillis(60_000))))
+                .willReturn(Optional.of(new BatchJobLease(ChatArchiveScheduler.JOB_NAME, "node1", 1)))
+                .willReturn(Optional.empty());
+
+        //when
+        node1.archiveCompletedRooms();
+        node2.archiveCompletedRooms();
+
+        //then
+        verify(chatArchiveService, times(1)).archiveCompletedRooms();
+    }
+}
@@ -0,0 +1,120 @@
+package com.server.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.chat.entity.ChatMessage;
+import com.server.chat.entity.ChatRoom;
+import com.server.chat.repository.ChatRoomRepository;
+import com.server.module.s3.service.AwsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+class ChatArchiveServiceTest {
+
+    private ChatRoomRepository chatRoomRepository;
+    private AwsService awsService;
+    private ObjectMapper objectMapper;
+    private ChatArchiveService chatArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        awsService = mock(AwsService.class);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        chatArchiveService = new ChatArchiveService(chatRoomRepository, awsService, objectMapper, 24);
+    }
+
+    @Test
+    @DisplayName("완료된 지 completed-after-hours 가 지난 채팅방만 대화 내용을 gzip JSON Lines 로 올리고 redis 에서 지운다.")
+    void archiveCompletedRooms() throws IOException {
+        //given
+        ChatRoom archivable = completedRoom("old@test.com", LocalDateTime.now().minusHours(25));
+        ChatRoom recent = completedRoom("recent@test.com", LocalDateTime.now().minusHours(1));
+
+        Set<ChatMessage> records = new LinkedHashSet<>(List.of(
+                new ChatMessage(archivable.getRoomId(), "user", "hello", LocalDateTime.now().minusDays(2)),
+                new ChatMessage(archivable.getRoomId(), "admin", "hi", LocalDateTime.now().minusDays(2))));
+
+        given(chatRoomRepository.findCompletedRooms()).willReturn(List.of(archivable, recent));
+        given(chatRoomRepository.getAllChatRecord(archivable.getRoomId())).willReturn(records);
+
+        //when
+        int archived = chatArchiveService.archiveCompletedRooms();
+
+        //then
+        assertThat(archived).isEqualTo(1);
+
+        ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+        verify(awsService).uploadFile(eq("itprometheus-videos"), startsWith(pathOf(archivable)),
+                content.capture(), eq("application/gzip"));
+
+        assertThat(decompress(content.getValue()).split("\n"))
+                .hasSize(2)
+                .allMatch(line -> line.contains("\"roomId\":\"old@test.com\""))
+                .anyMatch(line -> line.contains("\"message\":\"hello\""))
+                .anyMatch(line -> line.contains("\"message\":\"hi\""));
+
+        verify(chatRoomRepository).removeChatRoom(archivable.getRoomId());
+        verify(chatRoomRepository, never()).removeChatRoom(recent.getRoomId());
+    }
+
+    @Test
+    @DisplayName("업로드에 실패한 채팅방은 지우지 않고 다음 채팅방을 계속 보관한다.")
+    void archiveFailure() {
+        //given
+        ChatRoom failed = completedRoom("failed@test.com", LocalDateTime.now().minusHours(30));
+        ChatRoom next = completedRoom("next@test.com", LocalDateTime.now().minusHours(30));
+
+        given(chatRoomRepository.findCompletedRooms()).willReturn(List.of(failed, next));
+        given(chatRoomRepository.getAllChatRecord(anyString())).willAnswer(invocation -> Set.of(
+                new ChatMessage(invocation.getArgument(0), "user", "hello", LocalDateTime.now())));
+
+        willThrow(new IllegalStateException("s3 down"))
+                .given(awsService).uploadFile(anyString(), startsWith(pathOf(failed)), any(), anyString());
+
+        //when
+        int archived = chatArchiveService.archiveCompletedRooms();
+
+        //then
+        assertThat(archived).isEqualTo(1);
+        verify(chatRoomRepository, never()).removeChatRoom(failed.getRoomId());
+        verify(chatRoomRepository).removeChatRoom(next.getRoomId());
+    }
+
+    private ChatRoom completedRoom(String roomId, LocalDateTime completedDate) {
+        ChatRoom chatRoom = ChatRoom.create(roomId);
+        chatRoom.complete();
+        chatRoom.setCompletedDate(completedDate);
+        return chatRoom;
+    }
+
+    private String pathOf(ChatRoom chatRoom) {
+        return "chat-archives/" + chatRoom.getCompletedDate().toLocalDate().toString().replace('-', '/') + "/" + chatRoom.getRoomId() + "-";
+    }
+
+    private String decompress(byte[] content) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
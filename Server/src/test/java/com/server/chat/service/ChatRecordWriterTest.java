@@ -0,0 +1,136 @@
+package com.server.chat.service;
+
+import com.server.chat.entity.ChatMessage;
+import com.server.chat.repository.ChatRoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+class ChatRecordWriterTest {
+
+    private ChatRoomRepository chatRoomRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ChatRecordWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(writer != null) writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 메시지가 쌓이면 주기를 기다리지 않고 바로 저장한다.")
+    void flushBySize() {
+        //given
+        writer = startWriter(3, 60_000, 3);
+
+        List<ChatMessage> messages = List.of(message("1"), message("2"), message("3"));
+
+        //when
+        messages.forEach(writer::write);
+
+        //then
+        verify(chatRoomRepository, timeout(1000)).addChatRecords(messages);
+    }
+
+    @Test
+    @DisplayName("배치 크기가 차지 않아도 주기마다 쌓인 메시지를 저장한다.")
+    void flushByInterval() {
+        //given
+        writer = startWriter(100, 20, 3);
+
+        ChatMessage chatMessage = message("1");
+
+        //when
+        writer.write(chatMessage);
+
+        //then
+        verify(chatRoomRepository, timeout(1000)).addChatRecords(List.of(chatMessage));
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 배치는 버리지 않고 다음 주기에 다시 저장한다.")
+    void retryFailedBatch() {
+        //given
+        writer = startWriter(100, 20, 3);
+
+        ChatMessage first = message("1");
+        ChatMessage second = message("2");
+
+        willThrow(new IllegalStateException("redis down"))
+                .willDoNothing()
+                .given(chatRoomRepository).addChatRecords(anyList());
+
+        //when
+        writer.write(first);
+        verify(chatRoomRepository, timeout(1000)).addChatRecords(List.of(first));
+        writer.write(second);
+
+        //then
+        verify(chatRoomRepository, timeout(1000).times(2)).addChatRecords(List.of(first));
+        verify(chatRoomRepository, timeout(1000)).addChatRecords(List.of(second));
+        assertThat(meterRegistry.counter("chat.record.dropped").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("max-attempts 번 실패한 배치는 포기하고 버린 개수를 기록한 뒤 다음 메시지를 저장한다.")
+    void giveUpAfterMaxAttempts() throws InterruptedException {
+        //given
+        writer = startWriter(100, 20, 2);
+
+        ChatMessage failed = message("1");
+        ChatMessage next = message("2");
+
+        willThrow(new IllegalStateException("redis down"))
+                .given(chatRoomRepository).addChatRecords(List.of(failed));
+        willDoNothing()
+                .given(chatRoomRepository).addChatRecords(List.of(next));
+
+        //when
+        writer.write(failed);
+        waitUntil(() -> meterRegistry.counter("chat.record.dropped").count() == 1);
+        writer.write(next);
+
+        //then
+        verify(chatRoomRepository, timeout(1000)).addChatRecords(List.of(next));
+        verify(chatRoomRepository, times(2)).addChatRecords(eq(List.of(failed)));
+    }
+
+    private ChatRecordWriter startWriter(int batchSize, long flushIntervalMs, int maxAttempts) {
+        ChatRecordWriter chatRecordWriter =
+                new ChatRecordWriter(chatRoomRepository, meterRegistry, 1000, batchSize, flushIntervalMs, maxAttempts);
+        chatRecordWriter.start();
+        return chatRecordWriter;
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private ChatMessage message(String text) {
+        return new ChatMessage("room", "sender", text, LocalDateTime.now());
+    }
+}
@@ -5,15 +5,20 @@ import com.server.domain.adjustment.controller.dto.request.AccountUpdateApiReque
 import com.server.domain.adjustment.domain.AdjustmentStatus;
 import com.server.domain.adjustment.service.dto.response.*;
 import com.server.domain.order.controller.dto.request.AdjustmentSort;
+import com.server.global.exception.businessexception.orderexception.AdjustmentExportBusyException;
 import com.server.global.reponse.ApiPageResponse;
 import com.server.global.reponse.ApiSingleResponse;
 import com.server.global.testhelper.ControllerTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -23,7 +28,12 @@ import static com.server.global.testhelper.RestDocsUtil.pageResponseFields;
 import static com.server.global.testhelper.RestDocsUtil.singleResponseFields;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.http.MediaType.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
@@ -34,7 +44,10 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class AdjustmentControllerTest extends ControllerTest {
@@ -316,6 +329,69 @@ class AdjustmentControllerTest extends ControllerTest {
         );
     }
 
+    @Test
+    @DisplayName("판매/환불 내역 CSV 내보내기 API")
+    void exportSales() throws Exception {
+        //given
+        String csv = "완료일,주문 번호,비디오 ID,비디오 이름,금액,구분\r\n" +
+                "2023-09-01 10:00:00,order-1,1,video,1000,판매\r\n";
+
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(csv.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(adjustmentExportService).writeSales(anyLong(), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(
+                get(BASE_URL + "/export/sales")
+                        .header(AUTHORIZATION, TOKEN)
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        // 내보내기 요청에만 긴 timeout 이 적용된다.
+        assertEquals(600000L, result.getRequest().getAsyncContext().getTimeout());
+
+        //when
+        ResultActions actions = mockMvc.perform(asyncDispatch(result));
+
+        //then
+        actions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("sales-")))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().bytes(csv.getBytes(StandardCharsets.UTF_8)));
+
+        //restdocs
+        actions.andDo(
+                documentHandler.document(
+                        requestHeaders(
+                                headerWithName(AUTHORIZATION).description("액세스 토큰")
+                        )
+                )
+        );
+    }
+
+    @Test
+    @DisplayName("판매/환불 내역 CSV 내보내기 API - 진행 중인 내보내기가 많으면 503 을 반환하고 스트리밍하지 않는다.")
+    void exportSalesBusyValidation() throws Exception {
+        //given
+        willThrow(new AdjustmentExportBusyException()).given(adjustmentExportService).acquirePermit();
+
+        //when
+        ResultActions actions = mockMvc.perform(
+                get(BASE_URL + "/export/sales")
+                        .header(AUTHORIZATION, TOKEN)
+        );
+
+        //then
+        actions
+                .andDo(print())
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isServiceUnavailable());
+
+        verify(adjustmentExportService, never()).writeSales(anyLong(), any(OutputStream.class));
+    }
+
     @Test
     @DisplayName("은행 조회 API")
     void getBanks() throws Exception {
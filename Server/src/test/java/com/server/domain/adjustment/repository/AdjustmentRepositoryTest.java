@@ -32,6 +32,7 @@ import static org.junit.jupiter.api.DynamicTest.*;
 class AdjustmentRepositoryTest extends RepositoryTest {
 
     @Autowired private AdjustmentRepository adjustmentRepository;
+    @Autowired private VideoMonthlyRevenueRepository videoMonthlyRevenueRepository;
 
     @Test
     @DisplayName("기간 내 정산 결과를 얻는다.")
@@ -49,6 +50,8 @@ class AdjustmentRepositoryTest extends RepositoryTest {
 
         order1.cancelVideoOrder(order1.getOrderVideos().get(0));
 
+        rebuildRevenues();
+
         LocalDateTime now = LocalDateTime.now();
         int month = now.getMonthValue();
         int year = now.getYear();
@@ -88,6 +91,8 @@ class AdjustmentRepositoryTest extends RepositoryTest {
 
         order1.cancelVideoOrder(order1.getOrderVideos().get(0));
 
+        rebuildRevenues();
+
         LocalDateTime now = LocalDateTime.now();
         int month = now.getMonthValue();
         int year = now.getYear();
@@ -178,8 +183,7 @@ class AdjustmentRepositoryTest extends RepositoryTest {
         Order order5 = createAndSaveOrder(buyer2, List.of(video3)); // 2022 9월에 3 주문
         order5.completeOrder(LocalDateTime.of(2022, 9, 1, 0, 0), "paymentKey");
 
-        em.flush();
-        em.clear();
+        rebuildRevenues();
 
         return List.of(
                 dynamicTest("2023년 9월 조회 시 2, 3 정산 내역이 나온다.", ()-> {
@@ -320,4 +324,8 @@ class AdjustmentRepositoryTest extends RepositoryTest {
         );
 
     }
+
+    private void rebuildRevenues() {
+        videoMonthlyRevenueRepository.findRevenueMonths().forEach(videoMonthlyRevenueRepository::rebuildMonth);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.server.domain.adjustment.service;
+
+import com.server.domain.adjustment.domain.Adjustment;
+import com.server.domain.adjustment.domain.AdjustmentStatus;
+import com.server.domain.adjustment.repository.AdjustmentRepository;
+import com.server.domain.member.entity.Member;
+import com.server.domain.order.entity.Order;
+import com.server.domain.video.entity.Video;
+import com.server.global.exception.businessexception.orderexception.AdjustmentExportBusyException;
+import com.server.global.testhelper.ServiceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdjustmentExportServiceTest extends ServiceTest {
+
+    @Autowired AdjustmentExportService adjustmentExportService;
+    @Autowired AdjustmentRepository adjustmentRepository;
+
+    @Value("${adjustment.export.max-concurrent}")
+    int maxConcurrent;
+
+    @Test
+    @DisplayName("크리에이터 비디오의 결제된 주문 내역을 판매, 환불로 구분해 CSV 로 쓴다.")
+    void writeSales() throws Exception {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+
+        Member buyer = createAndSaveMember();
+        Order order = createAndSaveOrderWithPurchaseComplete(buyer, List.of(video1, video2), 0);
+        order.cancelVideoOrder(order.getOrderVideos().get(0));
+
+        Member otherOwner = createMemberWithChannel();
+        Video otherVideo = createAndSaveVideo(otherOwner.getChannel());
+        createAndSaveOrderWithPurchaseComplete(buyer, List.of(otherVideo), 0);
+
+        em.flush();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        adjustmentExportService.writeSales(owner.getMemberId(), outputStream);
+
+        //then
+        List<String> lines = csvLines(outputStream);
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("완료일,주문 번호,비디오 ID,비디오 이름,금액,구분");
+        assertThat(lines.subList(1, 3))
+                .allMatch(line -> line.contains(order.getOrderId()))
+                .anyMatch(line -> line.contains(video1.getVideoId() + ",") && line.endsWith(",환불"))
+                .anyMatch(line -> line.contains(video2.getVideoId() + ",") && line.endsWith(",판매"));
+    }
+
+    @Test
+    @DisplayName("정산 내역을 연, 월 순서로 CSV 로 쓴다.")
+    void writeSettlements() throws Exception {
+        //given
+        Member member = createMemberWithChannel();
+
+        adjustmentRepository.save(Adjustment.createAdjustment(2023, 9, member, 2000, AdjustmentStatus.FAILED, "계좌 오류, 재시도 필요"));
+        adjustmentRepository.save(Adjustment.createAdjustment(2023, 8, member, 1000, AdjustmentStatus.ADJUSTED, "정산 완료"));
+
+        em.flush();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        adjustmentExportService.writeSettlements(member.getMemberId(), outputStream);
+
+        //then
+        assertThat(csvLines(outputStream)).containsExactly(
+                "연도,월,금액,상태,사유",
+                "2023,8,1000,정산완료,정산 완료",
+                "2023,9,2000,정산실패,\"계좌 오류, 재시도 필요\"");
+    }
+
+    @Test
+    @DisplayName("CSV 값은 구분자와 따옴표를 이스케이프하고, 수식으로 시작하는 값에는 ' 를 붙인다.")
+    void escape() {
+        assertThat(AdjustmentExportService.escape("plain")).isEqualTo("plain");
+        assertThat(AdjustmentExportService.escape("a,\"b\"")).isEqualTo("\"a,\"\"b\"\"\"");
+        assertThat(AdjustmentExportService.escape("=SUM(A1)")).isEqualTo("'=SUM(A1)");
+        assertThat(AdjustmentExportService.escape(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동시에 진행하는 내보내기는 max-concurrent 개까지만 허용하고, 권한을 반납하면 다시 내보낼 수 있다.")
+    void acquirePermit() {
+        int acquired = 0;
+
+        try {
+            for (; acquired < maxConcurrent; acquired++) {
+                adjustmentExportService.acquirePermit();
+            }
+
+            assertThatThrownBy(() -> adjustmentExportService.acquirePermit())
+                    .isInstanceOf(AdjustmentExportBusyException.class);
+
+            adjustmentExportService.releasePermit();
+            acquired--;
+
+            adjustmentExportService.acquirePermit();
+            acquired++;
+
+        } finally {
+            for (int i = 0; i < acquired; i++) {
+                adjustmentExportService.releasePermit();
+            }
+        }
+    }
+
+    private List<String> csvLines(ByteArrayOutputStream outputStream) {
+
+        String csv = outputStream.toString(StandardCharsets.UTF_8);
+
+        assertThat(csv).startsWith("\uFEFF");
+
+        return List.of(csv.substring(1).split("\r\n"));
+    }
+}
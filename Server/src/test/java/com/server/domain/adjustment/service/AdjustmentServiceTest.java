@@ -2,7 +2,13 @@ package com.server.domain.adjustment.service;
 
 import com.server.domain.account.domain.Account;
 import com.server.domain.account.domain.Bank;
+import com.server.domain.adjustment.domain.Adjustment;
+import com.server.domain.adjustment.domain.AdjustmentStatus;
+import com.server.domain.adjustment.domain.CreatorMonthlyRevenue;
+import com.server.domain.adjustment.repository.AdjustmentRepository;
+import com.server.domain.adjustment.repository.CreatorMonthlyRevenueRepository;
 import com.server.domain.adjustment.service.dto.request.AccountUpdateServiceRequest;
+import com.server.domain.adjustment.service.dto.response.MonthAdjustmentResponse;
 import com.server.domain.member.entity.Member;
 import com.server.global.testhelper.ServiceTest;
 import org.assertj.core.api.Assertions;
@@ -12,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.YearMonth;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +30,53 @@ import static org.junit.jupiter.api.DynamicTest.*;
 class AdjustmentServiceTest extends ServiceTest {
 
     @Autowired AdjustmentService adjustmentService;
+    @Autowired AdjustmentRepository adjustmentRepository;
+    @Autowired CreatorMonthlyRevenueRepository creatorMonthlyRevenueRepository;
+
+    @Test
+    @DisplayName("월별 정산 내역 조회 시 정산된 월은 정산 내역, 이번 달과 지난달은 매출 집계, 나머지 월은 0 원으로 월 순서대로 채운다.")
+    void totalAdjustment() {
+        //given
+        Member member = createMemberWithChannel();
+
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth lastMonth = currentMonth.minusMonths(1);
+        YearMonth settledMonth = currentMonth.minusMonths(2);
+        YearMonth emptyMonth = currentMonth.minusMonths(3);
+
+        adjustmentRepository.save(Adjustment.createAdjustment(settledMonth.getYear(), settledMonth.getMonthValue(),
+                member, 3000, AdjustmentStatus.ADJUSTED, "정산 완료"));
+
+        creatorMonthlyRevenueRepository.save(CreatorMonthlyRevenue.createEmpty(member.getMemberId(), lastMonth.getYear(), lastMonth.getMonthValue()));
+        creatorMonthlyRevenueRepository.addAmount(member.getMemberId(), lastMonth.getYear(), lastMonth.getMonthValue(), 2000, 500);
+
+        em.flush();
+        em.clear();
+
+        //when
+        List<MonthAdjustmentResponse> responses = adjustmentService.totalAdjustment(member.getMemberId(), null);
+
+        //then
+        assertThat(responses).hasSize((currentMonth.getYear() - 2023 + 1) * 12);
+        assertThat(responses.get(0)).extracting("year", "month").containsExactly(2023, 1);
+        assertThat(responses.get(responses.size() - 1)).extracting("year", "month").containsExactly(currentMonth.getYear(), 12);
+
+        assertThat(find(responses, settledMonth)).extracting("amount", "adjustmentStatus")
+                .containsExactly(3000, AdjustmentStatus.ADJUSTED);
+        assertThat(find(responses, lastMonth)).extracting("amount", "adjustmentStatus")
+                .containsExactly(1500, AdjustmentStatus.NOT_ADJUSTED);
+        assertThat(find(responses, currentMonth)).extracting("amount", "adjustmentStatus")
+                .containsExactly(0, AdjustmentStatus.NOT_ADJUSTED);
+        assertThat(find(responses, emptyMonth)).extracting("amount", "adjustmentStatus")
+                .containsExactly(0, AdjustmentStatus.NO_ADJUSTMENT);
+    }
+
+    private MonthAdjustmentResponse find(List<MonthAdjustmentResponse> responses, YearMonth month) {
+        return responses.stream()
+                .filter(response -> response.getYear() == month.getYear() && response.getMonth() == month.getMonthValue())
+                .findFirst()
+                .orElseThrow();
+    }
 
     @TestFactory
     @DisplayName("계좌 정보를 수정한다.")
@@ -0,0 +1,42 @@
+package com.server.domain.adjustment.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarSeriesTest {
+
+    @Test
+    @DisplayName("데이터가 없는 월은 채우고, 범위 밖의 데이터는 순서대로 앞뒤에 둔다.")
+    void merge() {
+        //given
+        YearMonth from = YearMonth.of(2023, 11);
+        YearMonth to = YearMonth.of(2024, 2);
+
+        List<YearMonth> sorted = List.of(
+                YearMonth.of(2022, 5),
+                YearMonth.of(2023, 12),
+                YearMonth.of(2024, 2),
+                YearMonth.of(2024, 6));
+
+        //when
+        List<String> series = CalendarSeries.merge(from, to,
+                sorted.stream().map(month -> "data-" + month).collect(Collectors.toList()),
+                data -> YearMonth.parse(data.substring("data-".length())),
+                month -> "empty-" + month);
+
+        //then
+        assertThat(series).containsExactly(
+                "data-2022-05",
+                "empty-2023-11",
+                "data-2023-12",
+                "empty-2024-01",
+                "data-2024-02",
+                "data-2024-06");
+    }
+}
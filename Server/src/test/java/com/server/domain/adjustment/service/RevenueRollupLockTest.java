@@ -0,0 +1,147 @@
+package com.server.domain.adjustment.service;
+
+import com.server.domain.adjustment.domain.CreatorMonthlyRevenue;
+import com.server.domain.adjustment.domain.VideoMonthlyRevenue;
+import com.server.domain.adjustment.repository.CreatorMonthlyRevenueRepository;
+import com.server.domain.adjustment.repository.RevenueRollupLockRepository;
+import com.server.domain.adjustment.repository.VideoMonthlyRevenueRepository;
+import com.server.domain.member.entity.Member;
+import com.server.domain.order.entity.Order;
+import com.server.domain.video.entity.Video;
+import com.server.global.testhelper.ServiceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 월별 재집계와 주문의 증가 update 가 집계 잠금으로 겹치지 않는지 확인한다.
+ * 두 트랜잭션을 동시에 열어야 하므로 테스트 트랜잭션 없이 저장하고, 저장한 데이터는 직접 지운다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RevenueRollupLockTest extends ServiceTest {
+
+    @Autowired RevenueRollupService revenueRollupService;
+    @Autowired CreatorMonthlyRevenueRepository creatorMonthlyRevenueRepository;
+    @Autowired VideoMonthlyRevenueRepository videoMonthlyRevenueRepository;
+    @Autowired RevenueRollupLockRepository revenueRollupLockRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private Long ownerId;
+    private Long videoId;
+    private int price;
+    private String orderId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            em.createNativeQuery("INSERT INTO revenue_rollup_lock (revenue_rollup_lock_id) VALUES (1)").executeUpdate();
+
+            Member owner = createMemberWithChannel();
+            Video video = createAndSaveVideo(owner.getChannel());
+            Member buyer = createAndSaveMember();
+
+            // 재집계 전에 결제된 주문
+            Order paid = Order.createOrder(buyer, List.of(video), 0);
+            paid.completeOrder(LocalDateTime.now(), "paymentKey1");
+            orderRepository.save(paid);
+            revenueRollupService.recordSale(paid);
+
+            // 재집계 중에 결제할 주문
+            Order ordered = orderRepository.save(Order.createOrder(buyer, List.of(video), 0));
+
+            ownerId = owner.getMemberId();
+            videoId = video.getVideoId();
+            price = video.getPrice();
+            orderId = ordered.getOrderId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            videoMonthlyRevenueRepository.deleteAllInBatch();
+            creatorMonthlyRevenueRepository.deleteAllInBatch();
+            revenueRollupLockRepository.deleteAllInBatch();
+            orderRepository.deleteAll();
+            videoRepository.deleteAll();
+            channelRepository.deleteAll();
+            memberRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("재집계 중에 결제된 주문은 재집계가 커밋될 때까지 기다린 뒤 집계에 더해져, 빠지거나 두 번 세지 않는다.")
+    void recordSaleWaitsForRebuild() throws Exception {
+        //given
+        YearMonth month = YearMonth.now();
+        CountDownLatch rebuilt = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> rebuild = executorService.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        revenueRollupService.rebuild(month);
+                        rebuilt.countDown();
+                        awaitQuietly(commit);
+                    }));
+
+            assertThat(rebuilt.await(5, TimeUnit.SECONDS)).isTrue();
+
+            //when
+            Future<?> sale = executorService.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        Order order = orderRepository.findById(orderId).orElseThrow();
+                        order.completeOrder(LocalDateTime.now(), "paymentKey2");
+                        revenueRollupService.recordSale(order);
+                    }));
+
+            //then
+            assertThatThrownBy(() -> sale.get(300, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            commit.countDown();
+            rebuild.get(5, TimeUnit.SECONDS);
+            sale.get(5, TimeUnit.SECONDS);
+
+        } finally {
+            commit.countDown();
+            executorService.shutdownNow();
+        }
+
+        VideoMonthlyRevenue videoRevenue = videoMonthlyRevenueRepository
+                .findByVideoIdAndRevenueYearAndRevenueMonth(videoId, month.getYear(), month.getMonthValue()).orElseThrow();
+        CreatorMonthlyRevenue creatorRevenue = creatorMonthlyRevenueRepository
+                .findByMemberIdAndRevenueYearAndRevenueMonth(ownerId, month.getYear(), month.getMonthValue()).orElseThrow();
+
+        assertThat(videoRevenue.getSaleAmount()).isEqualTo(price * 2);
+        assertThat(creatorRevenue.getSaleAmount()).isEqualTo(price * 2);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.server.domain.adjustment.service;
+
+import com.server.domain.adjustment.domain.CreatorMonthlyRevenue;
+import com.server.domain.adjustment.domain.VideoMonthlyRevenue;
+import com.server.domain.adjustment.repository.CreatorMonthlyRevenueRepository;
+import com.server.domain.adjustment.repository.VideoMonthlyRevenueRepository;
+import com.server.domain.member.entity.Member;
+import com.server.domain.order.entity.Order;
+import com.server.domain.order.entity.OrderVideo;
+import com.server.domain.order.service.OrderService;
+import com.server.domain.video.entity.Video;
+import com.server.global.testhelper.ServiceTest;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RevenueRollupServiceTest extends ServiceTest {
+
+    @Autowired RevenueRollupService revenueRollupService;
+    @Autowired OrderService orderService;
+    @Autowired CreatorMonthlyRevenueRepository creatorMonthlyRevenueRepository;
+    @Autowired VideoMonthlyRevenueRepository videoMonthlyRevenueRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 운영 DB 는 V9 migration 이 잠금 행을 만든다.
+        em.createNativeQuery("INSERT INTO revenue_rollup_lock (revenue_rollup_lock_id) VALUES (1)").executeUpdate();
+    }
+
+    @Test
+    @DisplayName("주문 완료와 비디오 취소 시 크리에이터, 비디오 월별 집계가 갱신된다.")
+    void recordSaleAndRefund() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+
+        Member buyer1 = createAndSaveMember();
+        Member buyer2 = createAndSaveMember();
+
+        Order order1 = createAndSaveOrderWithPurchaseComplete(buyer1, List.of(video1, video2), 0);
+        Order order2 = createAndSaveOrderWithPurchaseComplete(buyer2, List.of(video1), 0);
+
+        OrderVideo canceled = order1.getOrderVideos().get(0);
+
+        //when
+        revenueRollupService.recordSale(order1);
+        revenueRollupService.recordSale(order2);
+
+        order1.cancelVideoOrder(canceled);
+        revenueRollupService.recordRefund(order1, List.of(canceled));
+
+        //then
+        LocalDateTime now = LocalDateTime.now();
+        int year = now.getYear();
+        int month = now.getMonthValue();
+
+        em.clear();
+
+        CreatorMonthlyRevenue creatorRevenue = creatorMonthlyRevenueRepository
+                .findByMemberIdAndRevenueYearAndRevenueMonth(owner.getMemberId(), year, month).orElseThrow();
+        assertThat(creatorRevenue.getSaleAmount()).isEqualTo(video1.getPrice() * 2 + video2.getPrice());
+        assertThat(creatorRevenue.getRefundAmount()).isEqualTo(video1.getPrice());
+
+        VideoMonthlyRevenue video1Revenue = videoMonthlyRevenueRepository
+                .findByVideoIdAndRevenueYearAndRevenueMonth(video1.getVideoId(), year, month).orElseThrow();
+        assertThat(video1Revenue.getAmount()).isEqualTo(video1.getPrice());
+
+        VideoMonthlyRevenue video2Revenue = videoMonthlyRevenueRepository
+                .findByVideoIdAndRevenueYearAndRevenueMonth(video2.getVideoId(), year, month).orElseThrow();
+        assertThat(video2Revenue.getAmount()).isEqualTo(video2.getPrice());
+    }
+
+    @Test
+    @DisplayName("원본 주문으로 다시 만든 집계는 증가 update 로 쌓은 집계와 같다.")
+    void rebuild() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+
+        Member buyer = createAndSaveMember();
+
+        Order order = createAndSaveOrderWithPurchaseComplete(buyer, List.of(video1, video2), 0);
+        revenueRollupService.recordSale(order);
+
+        OrderVideo canceled = order.getOrderVideos().get(1);
+        order.cancelVideoOrder(canceled);
+        revenueRollupService.recordRefund(order, List.of(canceled));
+
+        LocalDateTime now = LocalDateTime.now();
+        int year = now.getYear();
+        int month = now.getMonthValue();
+
+        em.clear();
+        CreatorMonthlyRevenue incremental = creatorMonthlyRevenueRepository
+                .findByMemberIdAndRevenueYearAndRevenueMonth(owner.getMemberId(), year, month).orElseThrow();
+
+        //when
+        rebuildAll();
+
+        //then
+        CreatorMonthlyRevenue rebuilt = creatorMonthlyRevenueRepository
+                .findByMemberIdAndRevenueYearAndRevenueMonth(owner.getMemberId(), year, month).orElseThrow();
+
+        assertThat(rebuilt.getSaleAmount()).isEqualTo(incremental.getSaleAmount());
+        assertThat(rebuilt.getRefundAmount()).isEqualTo(incremental.getRefundAmount());
+    }
+
+    @Test
+    @DisplayName("결제 승인에 실패해 되돌린 주문은 매출에서 빠지고, 증가 update 로 쌓은 집계와 다시 만든 집계가 같다.")
+    void rebuildAfterCompensatedPayment() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+
+        Member buyer1 = createAndSaveMember();
+        Member buyer2 = createAndSaveMember();
+        Member buyer3 = createAndSaveMember();
+
+        Order abandoned = createAndSaveOrder(buyer1, List.of(video1, video2), 0); // 되돌린 뒤 다시 결제하지 않는다.
+        Order retried = createAndSaveOrder(buyer2, List.of(video1), 0); // 되돌린 뒤 다시 결제한다.
+        Order paid = createAndSaveOrder(buyer3, List.of(video1), 0);
+
+        pay(buyer1, abandoned, "paymentKey1");
+        pay(buyer2, retried, "paymentKey2");
+        pay(buyer3, paid, "paymentKey3");
+
+        //when
+        orderService.compensatePayment(abandoned.getOrderId(), false);
+        orderService.compensatePayment(retried.getOrderId(), false);
+        pay(buyer2, retried, "paymentKey4");
+
+        em.flush();
+        em.clear();
+
+        List<Tuple> incrementalVideos = videoRevenues();
+        List<Tuple> incrementalCreators = creatorRevenues();
+
+        rebuildAll();
+
+        //then
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(incrementalVideos).containsExactlyInAnyOrder(
+                tuple(video1.getVideoId(), owner.getMemberId(), now.getYear(), now.getMonthValue(), video1.getPrice() * 2, 0));
+        assertThat(incrementalCreators).containsExactlyInAnyOrder(
+                tuple(owner.getMemberId(), now.getYear(), now.getMonthValue(), video1.getPrice() * 2, 0));
+
+        assertThat(videoRevenues()).containsExactlyInAnyOrderElementsOf(incrementalVideos);
+        assertThat(creatorRevenues()).containsExactlyInAnyOrderElementsOf(incrementalCreators);
+    }
+
+    @Test
+    @DisplayName("결제된 주문이 없는 달에 남은 집계도 재집계 대상 월에 포함해 지운다.")
+    void rebuildStaleMonth() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video = createAndSaveVideo(owner.getChannel());
+
+        YearMonth staleMonth = YearMonth.of(2022, 1);
+        videoMonthlyRevenueRepository.addAmount(video.getVideoId(), owner.getMemberId(),
+                staleMonth.getYear(), staleMonth.getMonthValue(), video.getPrice(), 0);
+        creatorMonthlyRevenueRepository.addAmount(owner.getMemberId(),
+                staleMonth.getYear(), staleMonth.getMonthValue(), video.getPrice(), 0);
+
+        //when
+        List<YearMonth> months = revenueRollupService.findRevenueMonths();
+        rebuildAll();
+
+        //then
+        assertThat(months).containsExactly(staleMonth);
+        assertThat(videoMonthlyRevenueRepository.count()).isZero();
+        assertThat(creatorMonthlyRevenueRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("잠금 행이 없으면 재집계하지 않는다.")
+    void rebuildWithoutLock() {
+        //given
+        em.createNativeQuery("DELETE FROM revenue_rollup_lock").executeUpdate();
+
+        //when & then
+        assertThatThrownBy(() -> revenueRollupService.rebuild(YearMonth.now()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("채널이 삭제된 비디오는 증가 update 와 재집계 모두에서 제외한다.")
+    void skipVideoWithoutChannel() {
+        //given
+        Member owner = createMemberWithChannel();
+        Member closedOwner = createMemberWithChannel();
+        Video video = createAndSaveVideo(owner.getChannel());
+        Video closedVideo = createAndSaveVideo(closedOwner.getChannel());
+
+        Member buyer = createAndSaveMember();
+
+        Order order = createAndSaveOrderWithPurchaseComplete(buyer, List.of(video, closedVideo), 0);
+        revenueRollupService.recordSale(order);
+
+        videoRepository.disconnectVideosFromChannel(closedOwner.getChannel());
+        em.flush();
+        em.clear();
+
+        Order findOrder = orderRepository.findById(order.getOrderId()).orElseThrow();
+
+        LocalDateTime now = LocalDateTime.now();
+        int year = now.getYear();
+        int month = now.getMonthValue();
+
+        //when
+        revenueRollupService.recordRefund(findOrder, findOrder.getOrderVideos());
+        rebuildAll();
+
+        //then
+        CreatorMonthlyRevenue creatorRevenue = creatorMonthlyRevenueRepository
+                .findByMemberIdAndRevenueYearAndRevenueMonth(owner.getMemberId(), year, month).orElseThrow();
+
+        assertThat(creatorRevenue.getSaleAmount()).isEqualTo(video.getPrice());
+        assertThat(creatorMonthlyRevenueRepository
+                .findByMemberIdAndRevenueYearAndRevenueMonth(closedOwner.getMemberId(), year, month)).isEmpty();
+        assertThat(videoMonthlyRevenueRepository
+                .findByVideoIdAndRevenueYearAndRevenueMonth(closedVideo.getVideoId(), year, month)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("집계 행이 없으면 만들고, 있으면 같은 행에 금액을 더한다.")
+    void addAmountUpsert() {
+        //given
+        Member owner = createMemberWithChannel();
+        LocalDateTime now = LocalDateTime.now();
+        int year = now.getYear();
+        int month = now.getMonthValue();
+
+        //when
+        creatorMonthlyRevenueRepository.addAmount(owner.getMemberId(), year, month, 1000, 0);
+        creatorMonthlyRevenueRepository.addAmount(owner.getMemberId(), year, month, 500, 300);
+
+        //then
+        em.clear();
+        CreatorMonthlyRevenue revenue = creatorMonthlyRevenueRepository
+                .findByMemberIdAndRevenueYearAndRevenueMonth(owner.getMemberId(), year, month).orElseThrow();
+
+        assertThat(creatorMonthlyRevenueRepository.count()).isEqualTo(1);
+        assertThat(revenue.getSaleAmount()).isEqualTo(1500);
+        assertThat(revenue.getRefundAmount()).isEqualTo(300);
+    }
+
+    private void rebuildAll() {
+        revenueRollupService.findRevenueMonths().forEach(revenueRollupService::rebuild);
+    }
+
+    private void pay(Member buyer, Order order, String paymentKey) {
+        orderService.completeOrderForPayment(buyer.getMemberId(), paymentKey, order.getOrderId(),
+                order.getTotalPayAmount(), LocalDateTime.now());
+    }
+
+    private List<Tuple> videoRevenues() {
+        return videoMonthlyRevenueRepository.findAll().stream()
+                .map(r -> tuple(r.getVideoId(), r.getMemberId(), r.getRevenueYear(), r.getRevenueMonth(),
+                        r.getSaleAmount(), r.getRefundAmount()))
+                .collect(Collectors.toList());
+    }
+
+    private List<Tuple> creatorRevenues() {
+        return creatorMonthlyRevenueRepository.findAll().stream()
+                .map(r -> tuple(r.getMemberId(), r.getRevenueYear(), r.getRevenueMonth(),
+                        r.getSaleAmount(), r.getRefundAmount()))
+                .collect(Collectors.toList());
+    }
+}
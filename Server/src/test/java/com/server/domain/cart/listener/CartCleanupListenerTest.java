@@ -0,0 +1,84 @@
+package com.server.domain.cart.listener;
+
+import com.server.domain.cart.service.CartCleanupService;
+import com.server.domain.order.event.OrderCompletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+class CartCleanupListenerTest {
+
+    private CartCleanupService cartCleanupService;
+    private CartCleanupListener listener;
+
+    private final OrderCompletedEvent event = new OrderCompletedEvent(1L, "order-1", List.of(10L, 20L));
+
+    @BeforeEach
+    void setUp() {
+        cartCleanupService = mock(CartCleanupService.class);
+        listener = new CartCleanupListener(cartCleanupService, 3, 1);
+    }
+
+    @Test
+    @DisplayName("장바구니 정리에 성공하면 한 번만 호출한다.")
+    void cleanupOnce() {
+        //when
+        listener.onOrderCompleted(event);
+
+        //then
+        verify(cartCleanupService, times(1)).deletePurchasedVideos(1L, List.of(10L, 20L));
+    }
+
+    @Test
+    @DisplayName("장바구니 정리에 실패하면 재시도하고, 성공하면 더 이상 시도하지 않는다.")
+    void retryUntilSuccess() {
+        //given
+        willThrow(new RuntimeException("db error"))
+                .willDoNothing()
+                .given(cartCleanupService).deletePurchasedVideos(1L, List.of(10L, 20L));
+
+        //when
+        listener.onOrderCompleted(event);
+
+        //then
+        verify(cartCleanupService, times(2)).deletePurchasedVideos(1L, List.of(10L, 20L));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패하면 예외를 던지지 않고 포기한다.")
+    void giveUpAfterMaxAttempts() {
+        //given
+        willThrow(new RuntimeException("db error"))
+                .given(cartCleanupService).deletePurchasedVideos(1L, List.of(10L, 20L));
+
+        //when
+        listener.onOrderCompleted(event);
+
+        //then
+        verify(cartCleanupService, times(3)).deletePurchasedVideos(1L, List.of(10L, 20L));
+    }
+
+    @Test
+    @DisplayName("재시도 대기 중 인터럽트되면 더 이상 시도하지 않는다.")
+    void stopRetryWhenInterrupted() {
+        //given
+        willThrow(new RuntimeException("db error"))
+                .given(cartCleanupService).deletePurchasedVideos(1L, List.of(10L, 20L));
+        Thread.currentThread().interrupt();
+
+        try {
+            //when
+            listener.onOrderCompleted(event);
+
+            //then
+            verify(cartCleanupService, times(1)).deletePurchasedVideos(1L, List.of(10L, 20L));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
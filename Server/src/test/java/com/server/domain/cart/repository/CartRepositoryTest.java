@@ -78,4 +78,36 @@ class CartRepositoryTest extends RepositoryTest {
                 .extracting("cartId")
                 .containsExactlyInAnyOrder(cart3.getCartId());
     }
+
+    @Test
+    @DisplayName("memberId 와 videoId 리스트로 해당 회원의 cart 만 삭제한다.")
+    void deleteByMemberIdAndVideoIds() {
+        //given
+        Member owner = createAndSaveMember();
+        Channel channel = createAndSaveChannel(owner);
+        Video video1 = createAndSaveVideo(channel);
+        Video video2 = createAndSaveVideo(channel);
+
+        Member loginMember = createAndSaveMember();
+        Member otherMember = createAndSaveMember();
+
+        Cart cart1 = createAndSaveCartWithVideo(loginMember, video1);
+        Cart cart2 = createAndSaveCartWithVideo(loginMember, video2);
+        Cart otherCart = createAndSaveCartWithVideo(otherMember, video1);
+
+        em.flush();
+        em.clear();
+
+        //when
+        int deleteCount = cartRepository.deleteByMemberIdAndVideoIds(
+                loginMember.getMemberId(),
+                List.of(video1.getVideoId())
+        );
+
+        //then
+        assertThat(deleteCount).isEqualTo(1);
+        assertThat(cartRepository.findAll()).hasSize(2)
+                .extracting("cartId")
+                .containsExactlyInAnyOrder(cart2.getCartId(), otherCart.getCartId());
+    }
 }
\ No newline at end of file
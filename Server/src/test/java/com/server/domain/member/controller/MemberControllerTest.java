@@ -2,6 +2,7 @@ package com.server.domain.member.controller;
 
 import static com.server.auth.util.AuthConstant.*;
 import static com.server.global.testhelper.RestDocsUtil.pageResponseFields;
+import static com.server.global.testhelper.RestDocsUtil.singleResponseFields;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.http.MediaType.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
@@ -35,6 +36,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import com.server.domain.member.controller.dto.MemberApiRequest;
 import com.server.domain.member.entity.Grade;
 import com.server.domain.member.service.dto.response.CartsResponse;
+import com.server.domain.member.service.dto.response.OrderHistoryResponse;
 import com.server.domain.member.service.dto.response.OrdersResponse;
 import com.server.domain.member.service.dto.response.PlaylistsResponse;
 import com.server.domain.member.service.dto.response.ProfileResponse;
@@ -573,6 +575,95 @@ public class MemberControllerTest extends ControllerTest {
 			);
 	}
 
+	@Test
+	@DisplayName("결제 목록 cursor 조회 성공 테스트")
+	void getOrderHistory() throws Exception {
+		//given
+		LocalDateTime createdDate = LocalDateTime.of(2023, 10, 1, 12, 0, 0);
+
+		List<OrdersResponse> orders = List.of(
+			OrdersResponse.builder()
+				.orderId("aBzd031dpf414")
+				.amount(30000)
+				.orderCount(1)
+				.orderStatus(OrderStatus.COMPLETED)
+				.createdDate(createdDate)
+				.completedDate(createdDate)
+				.orderVideos(
+					List.of(
+						OrdersResponse.OrderVideo.builder()
+							.videoId(1L)
+							.videoName("구매한 영상명1")
+							.thumbnailFile("https://d2ouhv9pc4idoe.cloudfront.net/9999/test")
+							.channelName("영상 업로드 채널")
+							.price(30000)
+							.orderStatus(OrderStatus.COMPLETED)
+							.build()
+					)
+				)
+				.build()
+		);
+
+		OrderHistoryResponse response = OrderHistoryResponse.of(orders, true);
+
+		given(memberService.getOrderHistory(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any(), Mockito.any()))
+			.willReturn(response);
+
+		String apiResponse = objectMapper.writeValueAsString(ApiSingleResponse.ok(response, "결제 목록 조회 성공"));
+
+		//when
+		ResultActions actions = mockMvc.perform(
+			get("/members/orders/history")
+				.header(AUTHORIZATION, TOKEN)
+				.param("cursorDate", "2023-10-02T09:30:00")
+				.param("cursorOrderId", "dfghkdf908sd023")
+				.param("size", "1")
+				.param("month", "1")
+				.accept(APPLICATION_JSON)
+		);
+
+		//then
+		actions
+			.andExpect(status().isOk())
+			.andExpect(content().string(apiResponse));
+
+		actions
+			.andDo(
+				documentHandler
+					.document(
+						requestHeaders(
+							headerWithName(AUTHORIZATION).description("액세스 토큰")
+						),
+						requestParameters(
+							parameterWithName("cursorDate").description("이전 조회의 nextCursorDate (생략 시 최신 결제부터 조회)").optional(),
+							parameterWithName("cursorOrderId").description("이전 조회의 nextCursorOrderId").optional(),
+							parameterWithName("size").description("조회할 결제 수 (기본 4, 최대 100)").optional(),
+							parameterWithName("month").description("조회할 범위 지정(월 단위)").optional()
+						),
+						singleResponseFields(
+							fieldWithPath("data").description("결제 목록 조회 결과"),
+							fieldWithPath("data.orders[]").description("결제 목록"),
+							fieldWithPath("data.orders[].orderId").description("결제 번호"),
+							fieldWithPath("data.orders[].amount").description("총 결제 금액(실제 가격 - 리워드 사용량)"),
+							fieldWithPath("data.orders[].orderCount").description("결제한 강의 수"),
+							fieldWithPath("data.orders[].orderStatus").description(generateLinkCode(OrderStatus.class)),
+							fieldWithPath("data.orders[].createdDate").description("결제일"),
+							fieldWithPath("data.orders[].completedDate").description("결제완료일"),
+							fieldWithPath("data.orders[].orderVideos[]").description("결제한 강의 목록"),
+							fieldWithPath("data.orders[].orderVideos[].videoId").description("강의 ID"),
+							fieldWithPath("data.orders[].orderVideos[].videoName").description("강의명"),
+							fieldWithPath("data.orders[].orderVideos[].thumbnailFile").description("강의 썸네일 이미지 주소"),
+							fieldWithPath("data.orders[].orderVideos[].channelName").description("강의 업로더 채널명"),
+							fieldWithPath("data.orders[].orderVideos[].price").description("강의 가격"),
+							fieldWithPath("data.orders[].orderVideos[].orderStatus").description(generateLinkCode(OrderStatus.class)),
+							fieldWithPath("data.nextCursorDate").description("다음 조회에 사용할 cursorDate (마지막 페이지면 null)").optional(),
+							fieldWithPath("data.nextCursorOrderId").description("다음 조회에 사용할 cursorOrderId (마지막 페이지면 null)").optional(),
+							fieldWithPath("data.hasNext").description("다음 결제 목록 존재 여부")
+						)
+					)
+			);
+	}
+
 	@Test
 	@DisplayName("구매한 강의 보관함 조회 성공 테스트")
 	void getPlaylists() throws Exception {
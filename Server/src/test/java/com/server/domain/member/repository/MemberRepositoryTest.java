@@ -9,6 +9,8 @@ import com.server.domain.channel.respository.ChannelRepository;
 import com.server.domain.member.entity.Authority;
 import com.server.domain.member.entity.Member;
 import com.server.domain.member.repository.dto.MemberVideoData;
+import com.server.domain.member.repository.dto.OrderHistoryData;
+import com.server.domain.member.repository.dto.OrderVideoHistoryData;
 import com.server.domain.order.entity.Order;
 import com.server.domain.reward.entity.Reward;
 import com.server.domain.reward.repository.RewardRepository;
@@ -35,6 +37,7 @@ import static com.server.domain.channel.entity.QChannel.channel;
 import static com.server.domain.video.entity.QVideo.video;
 import static com.server.domain.watch.entity.QWatch.watch;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 
@@ -246,7 +249,7 @@ class MemberRepositoryTest extends RepositoryTest {
 
     @Test
     @DisplayName("회원의 결제 목록을 날짜순으로 조회한다.")
-    void findOrdersOrderByCreatedDateForMember() {
+    void findOrderHistoryForMember() {
         int page = 1, size = 10;
         Pageable pageable = PageRequest.of(page - 1, size);
 
@@ -269,14 +272,74 @@ class MemberRepositoryTest extends RepositoryTest {
         em.flush();
         em.clear();
 
-        Page<Order> result =
-            memberRepository.findOrdersOrderByCreatedDateForMember(user.getMemberId(), pageable, 1);
+        Page<OrderHistoryData> result =
+            memberRepository.findOrderHistoryForMember(user.getMemberId(), pageable, 1);
 
+        assertThat(result.getTotalElements()).isEqualTo(4);
         assertThat(result.getContent()).isSortedAccordingTo(
-            Comparator.comparing(Order::getCreatedDate).reversed()
+            Comparator.comparing(OrderHistoryData::getCreatedDate).reversed()
         );
     }
 
+    @Test
+    @DisplayName("회원의 결제 목록을 (결제일, 주문 번호) cursor 이후부터 조회한다.")
+    void findOrderHistoryForMemberAfterCursor() {
+        Member user = createAndSaveMember();
+        Member owner = createAndSaveMember();
+        Channel channel = createAndSaveChannel(owner);
+
+        for (int x = 0; x < 5; x++) {
+            createAndSaveOrderComplete(user, List.of(createAndSaveVideo(channel)));
+        }
+
+        em.flush();
+        em.clear();
+
+        List<OrderHistoryData> firstPage =
+            memberRepository.findOrderHistoryForMember(user.getMemberId(), 1, null, null, 3);
+
+        OrderHistoryData last = firstPage.get(firstPage.size() - 1);
+
+        List<OrderHistoryData> secondPage =
+            memberRepository.findOrderHistoryForMember(user.getMemberId(), 1, last.getCreatedDate(), last.getOrderId(), 3);
+
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(2);
+        assertThat(secondPage).extracting("orderId")
+            .doesNotContainAnyElementsOf(firstPage.stream().map(OrderHistoryData::getOrderId).collect(Collectors.toList()));
+        assertThat(secondPage).allSatisfy(order ->
+            assertThat(order.getCreatedDate()).isBeforeOrEqualTo(last.getCreatedDate()));
+    }
+
+    @Test
+    @DisplayName("주문 번호 목록으로 주문한 강의 정보를 한 번에 조회한다.")
+    void findOrderVideoHistory() {
+        Member user = createAndSaveMember();
+        Member owner = createAndSaveMember();
+        Channel channel = createAndSaveChannel(owner);
+
+        Video video1 = createAndSaveVideo(channel);
+        Video video2 = createAndSaveVideo(channel);
+        Video video3 = createAndSaveVideo(channel);
+
+        Order order1 = createAndSaveOrderComplete(user, List.of(video1, video2));
+        Order order2 = createAndSaveOrderComplete(user, List.of(video3));
+        Order otherOrder = createAndSaveOrderComplete(user, List.of(video1));
+
+        em.flush();
+        em.clear();
+
+        List<OrderVideoHistoryData> result =
+            memberRepository.findOrderVideoHistory(List.of(order1.getOrderId(), order2.getOrderId()));
+
+        assertThat(result).extracting("orderId", "videoId", "channelName")
+            .containsExactlyInAnyOrder(
+                tuple(order1.getOrderId(), video1.getVideoId(), channel.getChannelName()),
+                tuple(order1.getOrderId(), video2.getVideoId(), channel.getChannelName()),
+                tuple(order2.getOrderId(), video3.getVideoId(), channel.getChannelName())
+            );
+    }
+
     @Test
     @DisplayName("회원의 장바구니 목록을 최신순으로 20개 조회한다.")
     void findCartsOrderByCreatedDateForMember() {
@@ -29,6 +29,7 @@ import com.server.domain.member.service.dto.request.MemberServiceRequest;
 import com.server.domain.member.service.dto.response.CartsResponse;
 import com.server.domain.member.service.dto.response.PlaylistChannelDetailsResponse;
 import com.server.domain.member.service.dto.response.RewardsResponse;
+import com.server.domain.member.service.dto.response.OrderHistoryResponse;
 import com.server.domain.member.service.dto.response.OrdersResponse;
 import com.server.domain.member.service.dto.response.PlaylistChannelResponse;
 import com.server.domain.member.service.dto.response.PlaylistsResponse;
@@ -192,6 +193,34 @@ public class MemberServiceTest extends ServiceTest {
 		assertThat(page.getContent().get(9).getOrderId()).isEqualTo(firstlast.get(0).getOrderId());
 	}
 
+	@Test
+	@DisplayName("로그인한 회원의 결제 목록을 cursor 로 이어서 조회한다.")
+	void getOrderHistory() {
+		Member user = createAndSaveMember();
+		List<Order> firstlast = new ArrayList<>();
+
+		int size = 10;
+
+		createOrders(user, firstlast);
+
+		em.flush();
+		em.clear();
+
+		OrderHistoryResponse first = memberService.getOrderHistory(user.getMemberId(), size, 6, null, null);
+		OrderHistoryResponse second = memberService.getOrderHistory(
+			user.getMemberId(), size, 6, first.getNextCursorDate(), first.getNextCursorOrderId());
+
+		assertThat(first.getOrders()).hasSize(size);
+		assertThat(first.isHasNext()).isTrue();
+		assertThat(first.getOrders().get(0).getOrderId()).isEqualTo(firstlast.get(1).getOrderId());
+		assertThat(first.getOrders().get(9).getOrderId()).isEqualTo(firstlast.get(0).getOrderId());
+		assertThat(first.getOrders()).allSatisfy(order -> assertThat(order.getOrderVideos()).hasSize(3));
+
+		assertThat(second.getOrders()).hasSize(size);
+		assertThat(second.isHasNext()).isFalse();
+		assertThat(second.getNextCursorOrderId()).isNull();
+	}
+
 	@Test
 	@DisplayName("보관함 목록을 채널별로 그룹화해서 조회한다")
 	void getGroupPlaylists() {
@@ -110,7 +110,7 @@ class OrderControllerTest extends ControllerTest {
                 "결제 결과")
         );
 
-        given(orderService.requestFinalPayment(anyLong(), anyString(), anyString(), anyInt(), any(LocalDateTime.class))).willReturn(serviceResponse);
+        given(paymentService.requestFinalPayment(anyLong(), anyString(), anyString(), anyInt(), any(LocalDateTime.class))).willReturn(serviceResponse);
 
         //when
         ResultActions actions = mockMvc.perform(
@@ -473,7 +473,7 @@ class OrderControllerTest extends ControllerTest {
         Integer amount = 45000;
         PaymentServiceResponse serviceResponse = createPaymentServiceResponse();
 
-        given(orderService.requestFinalPayment(anyLong(), anyString(), anyString(), anyInt(), any(LocalDateTime.class)))
+        given(paymentService.requestFinalPayment(anyLong(), anyString(), anyString(), anyInt(), any(LocalDateTime.class)))
                 .willReturn(serviceResponse);
 
         return List.of(
@@ -0,0 +1,56 @@
+package com.server.domain.order.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderIdGeneratorTest {
+
+    @Test
+    @DisplayName("주문 id 는 기존과 같은 36자리 UUID 문자열이고 version 7 이다.")
+    void generateFormat() {
+        //when
+        String orderId = OrderIdGenerator.generate();
+
+        //then
+        UUID uuid = UUID.fromString(orderId);
+
+        assertThat(orderId).hasSize(36);
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 생성한 주문 id 도 생성 순서대로 정렬된다.")
+    void generateOrdered() {
+        //given
+        long now = System.currentTimeMillis() + 60_000;
+
+        //when
+        List<String> orderIds = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            orderIds.add(OrderIdGenerator.generate(now));
+        }
+
+        //then
+        assertThat(orderIds).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("주문 id 의 앞 48bit 는 생성 시각의 밀리초 timestamp 이다.")
+    void generateTimestamp() {
+        //given
+        long now = System.currentTimeMillis() + 120_000;
+
+        //when
+        UUID uuid = UUID.fromString(OrderIdGenerator.generate(now));
+
+        //then
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(now);
+    }
+}
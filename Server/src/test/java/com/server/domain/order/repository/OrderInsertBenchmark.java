@@ -0,0 +1,60 @@
+package com.server.domain.order.repository;
+
+import com.server.domain.member.entity.Member;
+import com.server.domain.order.entity.Order;
+import com.server.domain.order.entity.OrderIdGenerator;
+import com.server.domain.order.entity.OrderStatus;
+import com.server.global.testhelper.BenchmarkRunner;
+import com.server.global.testhelper.RepositoryTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 주문 id 생성 방식에 따른 주문 insert 처리량을 비교한다.
+ * 인덱스 단편화 효과는 InnoDB 에서 크게 나타나므로 운영과 같은 MySQL 을 대상으로 실행하는 것을 권장한다.
+ *
+ * ./gradlew benchmark --tests '*OrderInsertBenchmark' -Pbenchmark.orders-per-iteration=1000
+ */
+@EnabledIfSystemProperty(named = BenchmarkRunner.ENABLED_PROPERTY, matches = "true")
+class OrderInsertBenchmark extends RepositoryTest {
+
+    private final int ordersPerIteration = Integer.getInteger("benchmark.orders-per-iteration", 500);
+
+    @Test
+    @DisplayName("랜덤 UUID 와 시간 순 UUID 로 각각 주문을 insert 한다.")
+    void insertOrders() {
+        //given
+        Member member = createAndSaveMember();
+        em.flush();
+
+        //when & then
+        BenchmarkRunner.measure("order insert random uuid x" + ordersPerIteration,
+                () -> insertOrders(member, () -> UUID.randomUUID().toString()));
+        BenchmarkRunner.measure("order insert time-ordered uuid x" + ordersPerIteration,
+                () -> insertOrders(member, OrderIdGenerator::generate));
+    }
+
+    private void insertOrders(Member member, Supplier<String> orderIdGenerator) {
+
+        Member reference = em.getReference(Member.class, member.getMemberId());
+
+        for (int i = 0; i < ordersPerIteration; i++) {
+            em.persist(Order.builder()
+                    .orderId(orderIdGenerator.get())
+                    .member(reference)
+                    .totalPayAmount(0)
+                    .reward(0)
+                    .remainRefundAmount(0)
+                    .remainRefundReward(0)
+                    .orderStatus(OrderStatus.ORDERED)
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+    }
+}
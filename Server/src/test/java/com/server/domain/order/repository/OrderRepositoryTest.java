@@ -1,12 +1,11 @@
 package com.server.domain.order.repository;
 
-import com.server.domain.cart.entity.Cart;
-import com.server.domain.cart.repository.CartRepository;
 import com.server.domain.channel.entity.Channel;
 import com.server.domain.member.entity.Member;
 import com.server.domain.order.entity.Order;
+import com.server.domain.order.entity.OrderStatus;
 import com.server.domain.order.entity.OrderVideo;
-import com.server.domain.adjustment.repository.dto.AdjustmentData;
+import com.server.domain.order.repository.dto.VideoOrderData;
 import com.server.domain.video.entity.Video;
 import com.server.domain.watch.entity.Watch;
 import com.server.global.testhelper.RepositoryTest;
@@ -14,11 +13,7 @@ import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 import static java.lang.Thread.sleep;
@@ -27,69 +22,95 @@ import static org.assertj.core.api.Assertions.*;
 class OrderRepositoryTest extends RepositoryTest {
 
     @Autowired OrderRepository orderRepository;
-    @Autowired CartRepository cartRepository;
 
     @Test
-    @DisplayName("video 1, 2 를 장바구니에 담은 후 video 1, 3 을 주문하면 장바구니에 video 1 이 삭제되고, video 2 는 남아있다. (쿼리 1번)")
-    void deleteCartByMemberAndOrderId() {
+    @DisplayName("memberId 와 videoId 로 video 와 회원의 구매 완료 여부를 한 번에 조회한다.")
+    void findVideoOrderData() {
         //given
-        Member owner = createAndSaveMember();
-        Channel channel = createAndSaveChannel(owner);
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+        Video video3 = createAndSaveVideo(owner.getChannel());
 
-        Member member = createAndSaveMember();
+        Member loginMember = createAndSaveMember();
         Member otherMember = createAndSaveMember();
+        createAndSaveOrderComplete(loginMember, List.of(video1)); // 주문에 1 추가 (결제 완료)
+        createAndSaveOrder(loginMember, List.of(video2)); // 주문에 2 추가 (결제 x)
+        createAndSaveOrderComplete(otherMember, List.of(video3)); // 다른 회원의 주문
 
-        Video video1 = createAndSaveVideo(channel);
-        Video video2 = createAndSaveVideo(channel);
-        Video video3 = createAndSaveVideo(channel);
+        List<Long> videoIds = List.of(video1.getVideoId(), video2.getVideoId(), video3.getVideoId());
 
-        Cart cart1 = createAndSaveCart(member, video1);
-        Cart cart2 = createAndSaveCart(member, video2); // 장바구니에 1, 2 추가
-        Cart otherCart1 = createAndSaveCart(otherMember, video1);
-        Cart otherCart2 = createAndSaveCart(otherMember, video3);
+        em.flush();
+        em.clear();
 
+        //when
+        List<VideoOrderData> datas = orderRepository.findVideoOrderData(loginMember.getMemberId(), videoIds);
 
-        Order order = createAndSaveOrder(member, List.of(video1, video3));// 주문에 1, 3 추가 (결제 x)
+        //then
+        assertThat(datas).hasSize(3)
+                .extracting(data -> data.getVideo().getVideoId(), VideoOrderData::isPurchased)
+                .containsExactlyInAnyOrder(
+                        tuple(video1.getVideoId(), true),
+                        tuple(video2.getVideoId(), false),
+                        tuple(video3.getVideoId(), false)
+                );
+    }
+
+    @Test
+    @DisplayName("같은 video 에 결제 대기 중인 주문이 여러 개면 모두 조회한다.")
+    void findOrderedOrderIds() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+
+        Member loginMember = createAndSaveMember();
+        Member otherMember = createAndSaveMember();
+        Order ordered1 = createAndSaveOrder(loginMember, List.of(video1)); // 1 구매 대기
+        Order ordered2 = createAndSaveOrder(loginMember, List.of(video1, video2)); // 1, 2 구매 대기
+        createAndSaveOrderComplete(loginMember, List.of(video2)); // 결제 완료된 주문
+        createAndSaveOrder(otherMember, List.of(video1)); // 다른 회원의 주문
 
         em.flush();
         em.clear();
 
         //when
-        Long deleteCount = orderRepository.deleteCartByMemberAndOrderId(member.getMemberId(), order.getOrderId());
+        List<String> orderIds = orderRepository.findOrderedOrderIds(
+                loginMember.getMemberId(), List.of(video1.getVideoId(), video2.getVideoId()));
 
         //then
-        assertThat(deleteCount).isEqualTo(1L);
-
-        assertThat(cartRepository.findById(cart1.getCartId()).isPresent()).isFalse();
-        assertThat(cartRepository.findById(cart2.getCartId()).isPresent()).isTrue();
-
-        assertThat(cartRepository.findAll().size()).isEqualTo(3);
+        assertThat(orderIds).containsExactlyInAnyOrder(ordered1.getOrderId(), ordered2.getOrderId());
     }
 
     @Test
-    @DisplayName("memberId 와 videoId 로 해당 video 중 구매하거나 구매대기중인 OrderVideo 를 조회한다.")
-    void findOrderedVideosByMemberId() {
+    @DisplayName("구매 대기 중인 주문을 벌크 update 로 취소한다.")
+    void cancelOrderedOrders() {
         //given
         Member owner = createMemberWithChannel();
         Video video1 = createAndSaveVideo(owner.getChannel());
         Video video2 = createAndSaveVideo(owner.getChannel());
-        Video video3 = createAndSaveVideo(owner.getChannel());
 
         Member loginMember = createAndSaveMember();
-        createAndSaveOrderComplete(loginMember, List.of(video1)); // 주문에 1 추가 (결제 완료)
-        createAndSaveOrder(loginMember, List.of(video2)); // 주문에 2 추가 (결제 x)
+        Order ordered = createAndSaveOrder(loginMember, List.of(video1, video2));
+        Order completed = createAndSaveOrderComplete(loginMember, List.of(video2));
 
-        List<Long> videoIds = List.of(video1.getVideoId(), video2.getVideoId(), video3.getVideoId());
+        em.flush();
+        em.clear();
 
         //when
-        List<OrderVideo> orderVideos = orderRepository.findOrderedVideosByMemberId(loginMember.getMemberId(), videoIds);
+        long canceled = orderRepository.cancelOrderedOrders(List.of(ordered.getOrderId(), completed.getOrderId()));
 
         //then
-        assertThat(orderVideos.size()).isEqualTo(2);
-        assertThat(orderVideos).hasSize(2)
-                .extracting("video")
-                .extracting("videoId")
-                .containsExactly(video1.getVideoId(), video2.getVideoId());
+        em.clear();
+
+        Order findOrdered = orderRepository.findById(ordered.getOrderId()).orElseThrow();
+        Order findCompleted = orderRepository.findById(completed.getOrderId()).orElseThrow();
+
+        assertThat(canceled).isEqualTo(1L);
+        assertThat(findOrdered.getOrderStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(findOrdered.getOrderVideos()).extracting("orderStatus").containsOnly(OrderStatus.CANCELED);
+        assertThat(findCompleted.getOrderStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(findCompleted.getOrderVideos()).extracting("orderStatus").containsOnly(OrderStatus.COMPLETED);
     }
 
     @Test
@@ -122,8 +143,8 @@ class OrderRepositoryTest extends RepositoryTest {
     }
 
     @Test
-    @DisplayName("orderId 로 주문한 비디오 중 시청한 비디오를 찾는다.")
-    void findWatchVideosById() throws InterruptedException {
+    @DisplayName("주문한 비디오 중 구매 이후 시청한 비디오가 있는지 확인한다.")
+    void existsWatchAfterPurchase() throws InterruptedException {
         //given
         Member owner = createAndSaveMember();
         Channel channel = createAndSaveChannel(owner);
@@ -151,12 +172,43 @@ class OrderRepositoryTest extends RepositoryTest {
         em.clear();
 
         //when
-        List<Video> watchVideos = orderRepository.findWatchVideosAfterPurchaseById(order);
+        boolean isWatch = orderRepository.existsWatchAfterPurchase(order);
 
         //then
-        assertThat(watchVideos).hasSize(2)
-                        .extracting("videoId")
-                        .containsExactly(video1.getVideoId(), video2.getVideoId());
+        assertThat(isWatch).isTrue();
+    }
+
+    @Test
+    @DisplayName("주문하지 않은 비디오만 시청했다면 구매 이후 시청 기록이 없다.")
+    void existsWatchAfterPurchaseNotOrderedVideo() throws InterruptedException {
+        //given
+        Member owner = createAndSaveMember();
+        Channel channel = createAndSaveChannel(owner);
+
+        Member member = createAndSaveMember();
+        Member otherMember = createAndSaveMember();
+
+        Video video1 = createAndSaveVideo(channel);
+        Video video2 = createAndSaveVideo(channel);
+
+        Order order = createAndSaveOrderComplete(member, List.of(video1));// 결제한 주문
+
+        em.flush();
+        em.clear();
+
+        sleep(100);
+
+        em.persist(Watch.createWatch(member, video2)); // 주문하지 않은 비디오 시청
+        em.persist(Watch.createWatch(otherMember, video1)); // 다른 회원의 시청
+
+        em.flush();
+        em.clear();
+
+        //when
+        boolean isWatch = orderRepository.existsWatchAfterPurchase(order);
+
+        //then
+        assertThat(isWatch).isFalse();
     }
 
     @Test
@@ -184,7 +236,7 @@ class OrderRepositoryTest extends RepositoryTest {
         em.clear();
 
         //when
-        Boolean isWatch = orderRepository.checkIfWatchAfterPurchase(order, video2.getVideoId());
+        boolean isWatch = orderRepository.checkIfWatchAfterPurchase(order, video2.getVideoId());
 
         //then
         assertThat(isWatch).isTrue();
@@ -215,7 +267,7 @@ class OrderRepositoryTest extends RepositoryTest {
         em.clear();
 
         //when (3번은 시청하지 않음)
-        Boolean isWatch = orderRepository.checkIfWatchAfterPurchase(order, video3.getVideoId());
+        boolean isWatch = orderRepository.checkIfWatchAfterPurchase(order, video3.getVideoId());
 
         //then
         assertThat(isWatch).isFalse();
@@ -250,81 +302,4 @@ class OrderRepositoryTest extends RepositoryTest {
         assertThat(orderVideo.getOrder().getOrderId()).isEqualTo(order.getOrderId());
         assertThat(orderVideo.getVideo().getVideoId()).isEqualTo(video1.getVideoId());
     }
-
-    @Test
-    @DisplayName("기간 내 정산 결과를 얻는다.")
-    void findByPeriod() {
-        //given
-        Member owner = createMemberWithChannel();
-        Video video1 = createAndSaveVideo(owner.getChannel());
-        Video video2 = createAndSaveVideo(owner.getChannel());
-
-        Member member1 = createMemberWithChannel();
-        Member member2 = createMemberWithChannel();
-
-        Order order1 = createAndSaveOrderComplete(member1, List.of(video1, video2));
-        Order order2 = createAndSaveOrderComplete(member2, List.of(video1, video2));
-
-        order1.cancelVideoOrder(order1.getOrderVideos().get(0));
-
-        LocalDateTime now = LocalDateTime.now();
-        int month = now.getMonthValue();
-        int year = now.getYear();
-        Pageable pageable = PageRequest.of(0, 10);
-
-        int totalSaleAmount = video1.getPrice() + video2.getPrice();
-        String sort = "sellingPrice";
-
-        //when
-        Page<AdjustmentData> adjustment = orderRepository.findByPeriod(owner.getMemberId(), pageable, month, year, sort);
-
-        //then
-        assertThat(adjustment.getContent()).hasSize(2)
-                .extracting("videoName")
-                .containsExactly(video1.getVideoName(), video2.getVideoName());
-
-        assertThat(adjustment.getContent()).extracting("totalSaleAmount")
-                .containsExactly(totalSaleAmount, totalSaleAmount);
-
-        assertThat(adjustment.getContent()).extracting("refundAmount")
-                .containsExactlyInAnyOrder(0, video1.getPrice());
-    }
-
-    @Test
-    @DisplayName("해당 월의 총 판매금액을 얻는다.")
-    void calculateAmount() {
-        //given
-        Member owner = createMemberWithChannel();
-        Video video1 = createAndSaveVideo(owner.getChannel());
-        Video video2 = createAndSaveVideo(owner.getChannel());
-
-        Member member1 = createMemberWithChannel();
-        Member member2 = createMemberWithChannel();
-
-        Order order1 = createAndSaveOrderComplete(member1, List.of(video1, video2));
-        Order order2 = createAndSaveOrderComplete(member2, List.of(video1, video2));
-
-        order1.cancelVideoOrder(order1.getOrderVideos().get(0));
-
-        LocalDateTime now = LocalDateTime.now();
-        int month = now.getMonthValue();
-        int year = now.getYear();
-
-        int totalSaleAmount = video1.getPrice() * 2 + video2.getPrice();
-
-        //when
-        Integer total = orderRepository.calculateAmount(owner.getMemberId(), month, year);
-
-        //then
-        assertThat(total).isEqualTo(totalSaleAmount);
-    }
-
-    private Cart createAndSaveCart(Member member, Video video) {
-
-        Cart cart = Cart.createCart(member, video, video.getPrice());
-
-        em.persist(cart);
-
-        return cart;
-    }
-}
\ No newline at end of file
+}
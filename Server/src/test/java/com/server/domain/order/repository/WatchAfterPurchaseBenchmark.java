@@ -0,0 +1,122 @@
+package com.server.domain.order.repository;
+
+import com.server.domain.channel.entity.Channel;
+import com.server.domain.member.entity.Member;
+import com.server.domain.order.entity.Order;
+import com.server.domain.video.entity.Video;
+import com.server.domain.watch.entity.Watch;
+import com.server.global.testhelper.BenchmarkRunner;
+import com.server.global.testhelper.RepositoryTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시청 기록이 많은 회원의 구매 후 시청 여부 확인 비용을 비교한다.
+ *
+ * ./gradlew benchmark --tests '*WatchAfterPurchaseBenchmark' -Pbenchmark.watches=20000
+ */
+@EnabledIfSystemProperty(named = BenchmarkRunner.ENABLED_PROPERTY, matches = "true")
+class WatchAfterPurchaseBenchmark extends RepositoryTest {
+
+    private final int watches = Integer.getInteger("benchmark.watches", 5000);
+    private final int orderedVideos = Integer.getInteger("benchmark.ordered-videos", 50);
+
+    @Autowired OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("시청 기록이 많은 회원의 구매 후 시청 여부를 엔티티 조회와 EXISTS 조회로 각각 확인한다.")
+    void watchAfterPurchase() {
+        //given
+        Member owner = createAndSaveMember();
+        Channel channel = createAndSaveChannel(owner);
+        Member member = createAndSaveMember();
+
+        List<Video> videos = new ArrayList<>();
+        for (int i = 0; i < watches; i++) {
+            Video video = createAndSaveVideo(channel);
+            videos.add(video);
+            em.persist(Watch.createWatch(member, video));
+
+            if(i % 500 == 0) em.flush();
+        }
+
+        LocalDateTime purchasedAt = LocalDateTime.now().minusDays(1);
+
+        // 구매 이전의 시청 기록으로 되돌린 뒤 주문한 비디오만 구매 이후 다시 시청한다.
+        em.flush();
+        em.createQuery("update Watch w set w.modifiedDate = :date")
+                .setParameter("date", purchasedAt.minusDays(1))
+                .executeUpdate();
+
+        List<Video> ordered = videos.subList(watches - orderedVideos, watches);
+        Order order = Order.createOrder(member, ordered, 0);
+        order.completeOrder(purchasedAt, "paymentKey");
+        em.persist(order);
+
+        em.flush();
+        em.createQuery("update Watch w set w.modifiedDate = :date where w.video in :videos")
+                .setParameter("date", LocalDateTime.now())
+                .setParameter("videos", ordered)
+                .executeUpdate();
+        em.clear();
+
+        Long lastVideoId = ordered.get(orderedVideos - 1).getVideoId();
+
+        //when & then (각 측정 구간에서 결과도 함께 확인한다)
+        BenchmarkRunner.measure("watch-after-purchase entity load (order)", () -> {
+            assertThat(findWatchVideosAfterPurchase(order)).isNotEmpty();
+            em.clear();
+        });
+        BenchmarkRunner.measure("watch-after-purchase exists (order)", () -> {
+            assertThat(orderRepository.existsWatchAfterPurchase(order)).isTrue();
+            em.clear();
+        });
+        BenchmarkRunner.measure("watch-after-purchase entity load (video)", () -> {
+            assertThat(findWatchVideoAfterPurchase(order, lastVideoId)).isNotEmpty();
+            em.clear();
+        });
+        BenchmarkRunner.measure("watch-after-purchase exists (video)", () -> {
+            assertThat(orderRepository.checkIfWatchAfterPurchase(order, lastVideoId)).isTrue();
+            em.clear();
+        });
+    }
+
+    // 변경 전 구현 (주문 비디오 id 조회 후 Video 엔티티를 watch, member 와 조인해 로딩)
+    private List<Video> findWatchVideosAfterPurchase(Order order) {
+
+        List<Long> videoIds = em.createQuery(
+                        "select v.videoId from Order o join o.orderVideos ov join ov.video v where o.orderId = :orderId",
+                        Long.class)
+                .setParameter("orderId", order.getOrderId())
+                .getResultList();
+
+        return em.createQuery(
+                        "select v from Video v join v.watches w join w.member m " +
+                                "where v.videoId in :videoIds and m.memberId = :memberId and w.modifiedDate > :date",
+                        Video.class)
+                .setParameter("videoIds", videoIds)
+                .setParameter("memberId", order.getMember().getMemberId())
+                .setParameter("date", order.getCompletedDate())
+                .getResultList();
+    }
+
+    private List<Video> findWatchVideoAfterPurchase(Order order, Long videoId) {
+
+        return em.createQuery(
+                        "select v from Video v join v.watches w join w.member m " +
+                                "where v.videoId = :videoId and m.memberId = :memberId and w.modifiedDate > :date",
+                        Video.class)
+                .setParameter("videoId", videoId)
+                .setParameter("memberId", order.getMember().getMemberId())
+                .setParameter("date", order.getCompletedDate())
+                .getResultList();
+    }
+}
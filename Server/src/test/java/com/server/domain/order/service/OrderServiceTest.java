@@ -1,17 +1,24 @@
 package com.server.domain.order.service;
 
-import com.server.domain.cart.entity.Cart;
 import com.server.domain.channel.entity.Channel;
 import com.server.domain.member.entity.Member;
 import com.server.domain.order.entity.Order;
 import com.server.domain.order.entity.OrderStatus;
 import com.server.domain.order.entity.OrderVideo;
+import com.server.domain.order.event.OrderCompletedEvent;
 import com.server.domain.order.repository.OrderRepository;
 import com.server.domain.order.service.dto.request.OrderCreateServiceRequest;
 import com.server.domain.order.service.dto.response.CancelServiceResponse;
 import com.server.domain.order.service.dto.response.OrderResponse;
 import com.server.domain.order.service.dto.response.PaymentServiceResponse;
+import com.server.domain.payment.entity.PaymentOutbox;
+import com.server.domain.payment.entity.PaymentOutboxStatus;
+import com.server.domain.payment.entity.PaymentOutboxType;
+import com.server.domain.payment.repository.PaymentOutboxRepository;
+import com.server.domain.payment.service.PaymentService;
 import com.server.domain.reward.entity.Reward;
+import com.server.domain.reward.entity.RewardLedgerType;
+import com.server.domain.reward.repository.RewardLedgerRepository;
 import com.server.domain.video.entity.Video;
 import com.server.domain.watch.entity.Watch;
 import com.server.global.exception.businessexception.memberexception.MemberAccessDeniedException;
@@ -28,8 +35,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.web.client.ResourceAccessException;
 
-import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
@@ -39,12 +48,18 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.DynamicTest.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
+@RecordApplicationEvents
 class OrderServiceTest extends ServiceTest {
 
     @Autowired OrderRepository orderRepository;
     @Autowired OrderService orderService;
+    @Autowired PaymentService paymentService;
+    @Autowired PaymentOutboxRepository paymentOutboxRepository;
+    @Autowired ApplicationEvents events;
+    @Autowired RewardLedgerRepository rewardLedgerRepository;
 
     @Test
     @DisplayName("videoId 리스트와 사용하는 reward 를 통해 주문을 생성한다.")
@@ -95,7 +110,7 @@ class OrderServiceTest extends ServiceTest {
         int totalAmount = video1.getPrice() + video2.getPrice();
 
         Member loginMember = createAndSaveMember();
-        loginMember.addReward(totalAmount); // 모든 값을 리워드로 사용하도록 충전
+        addReward(loginMember, totalAmount); // 모든 값을 리워드로 사용하도록 충전
 
         OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
                 .videoIds(List.of(video1.getVideoId(), video2.getVideoId()))
@@ -125,6 +140,38 @@ class OrderServiceTest extends ServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("무료 주문이 완료되면 사용한 리워드를 DB 에서 차감하고 주문 id 로 ledger 를 남긴다.")
+    void createOrderFreeVideoRewardLedger() {
+        //given
+        Member owner = createMemberWithChannel();
+
+        Video video = createAndSaveVideo(owner.getChannel());
+
+        Member loginMember = createAndSaveMember();
+        addReward(loginMember, video.getPrice());
+        int beforeReward = loginMember.getReward();
+
+        OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+                .videoIds(List.of(video.getVideoId()))
+                .reward(video.getPrice())
+                .build();
+
+        //when
+        OrderResponse response = orderService.createOrder(loginMember.getMemberId(), request);
+
+        //then
+        em.flush();
+        em.clear();
+
+        assertThat(memberRepository.findById(loginMember.getMemberId()).orElseThrow().getReward())
+                .isEqualTo(beforeReward - video.getPrice());
+
+        assertThat(rewardLedgerRepository.findByMemberIdOrderByRewardLedgerIdAsc(loginMember.getMemberId()))
+                .extracting("amount", "ledgerType", "referenceId")
+                .contains(tuple(-video.getPrice(), RewardLedgerType.ORDER_PAYMENT, response.getOrderId()));
+    }
+
     @Test
     @DisplayName("주문 시 closed 된 video 가 있으면 VideoClosedException 이 발생한다.")
     void createOrderVideoClosedException() {
@@ -210,21 +257,55 @@ class OrderServiceTest extends ServiceTest {
         OrderResponse response = orderService.createOrder(member.getMemberId(), request);
 
         //then
+        em.flush();
+        em.clear(); // 기존 주문은 벌크 update 로 취소된다.
+
         Order newOrder = orderRepository.findById(response.getOrderId()).orElseThrow();
+        Order canceledOrder = orderRepository.findById(order.getOrderId()).orElseThrow();
         assertAll("새로운 주문 정보가 맞는지 확인",
-                () -> assertThat(newOrder.getVideos()).contains(video1, video2),
+                () -> assertThat(newOrder.getVideos()).extracting("videoId")
+                        .contains(video1.getVideoId(), video2.getVideoId()),
                 () -> assertThat(newOrder.getTotalPayAmount()).isEqualTo(video1.getPrice() + video2.getPrice() - request.getReward()),
                 () -> assertThat(newOrder.getReward()).isEqualTo(request.getReward()),
                 () -> assertThat(newOrder.getOrderStatus()).isEqualTo(OrderStatus.ORDERED)
         );
         assertAll("기존 주문 정보가 취소되었는지 확인",
-                () -> assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELED),
-                () -> assertThat(order.getOrderVideos()).
+                () -> assertThat(canceledOrder.getOrderStatus()).isEqualTo(OrderStatus.CANCELED),
+                () -> assertThat(canceledOrder.getOrderVideos()).
                         extracting("orderStatus")
-                        .contains(OrderStatus.CANCELED)
+                        .containsOnly(OrderStatus.CANCELED)
         );
     }
 
+    @Test
+    @DisplayName("같은 video 에 구매 대기 중인 주문이 여러 개면 모두 cancel 된다.")
+    void createOrderCancelAllOrderedOrders() {
+        //given
+        Member member = createAndSaveMember();
+        Channel channel = createAndSaveChannel(member);
+
+        Video video = createAndSaveVideo(channel);
+
+        Order order1 = createAndSaveOrder(member, List.of(video), 0);
+        Order order2 = createAndSaveOrder(member, List.of(video), 0);
+
+        OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+                .videoIds(List.of(video.getVideoId()))
+                .reward(0)
+                .build();
+
+        //when
+        orderService.createOrder(member.getMemberId(), request);
+
+        //then
+        em.flush();
+        em.clear();
+
+        assertThat(orderRepository.findAllById(List.of(order1.getOrderId(), order2.getOrderId())))
+                .extracting("orderStatus")
+                .containsOnly(OrderStatus.CANCELED);
+    }
+
     @Test
     @DisplayName("이미 주문하고 구매완료한 video Id 로 요청하면 OrderExistException 이 발생한다.")
     void createOrderOrderExistExceptionCOMPLTED() {
@@ -373,7 +454,7 @@ class OrderServiceTest extends ServiceTest {
 
         order.completeOrder(LocalDateTime.now(), "paymentKey"); // 주문 완료
 
-        loginMember.minusReward(loginMember.getReward()); // 다른 곳에 리워드를 모두 사용
+        minusReward(loginMember, loginMember.getReward()); // 다른 곳에 리워드를 모두 사용
 
         setCancelResponseEntitySuccess();
 
@@ -406,7 +487,7 @@ class OrderServiceTest extends ServiceTest {
 
         order.completeOrder(LocalDateTime.now(), "paymentKey"); // 주문 완료
 
-        loginMember.minusReward(loginMember.getReward()); // 다른 곳에 리워드를 모두 사용
+        minusReward(loginMember, loginMember.getReward()); // 다른 곳에 리워드를 모두 사용
 
         setCancelResponseEntitySuccess();
 
@@ -532,8 +613,8 @@ class OrderServiceTest extends ServiceTest {
     }
 
     @Test
-    @DisplayName("완료된 주문을 취소할 때 pg 사와 통신에 실패하면 CancelFailException 이 발생한다.")
-    void deleteOrderOrderCancelFailException() {
+    @DisplayName("완료된 주문을 취소하면 pg 사 취소 요청은 outbox 에 저장되고 주문은 바로 취소된다.")
+    void deleteOrderSavesCancelOutbox() {
         //given
         Member member = createAndSaveMember();
         Channel channel = createAndSaveChannel(member);
@@ -546,9 +627,21 @@ class OrderServiceTest extends ServiceTest {
 
         setCancelResponseEntityFail();
 
-        //when & then
-        assertThatThrownBy(() -> orderService.cancelOrder(member.getMemberId(), order.getOrderId()))
-                .isInstanceOf(CancelFailException.class);
+        //when
+        CancelServiceResponse response = orderService.cancelOrder(member.getMemberId(), order.getOrderId());
+
+        //then
+        List<PaymentOutbox> outboxes = paymentOutboxRepository.findByOrderId(order.getOrderId());
+
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(outboxes).hasSize(1)
+                .first()
+                .satisfies(outbox -> assertAll("취소 outbox 확인",
+                        () -> assertThat(outbox.getPaymentType()).isEqualTo(PaymentOutboxType.CANCEL),
+                        () -> assertThat(outbox.getOutboxStatus()).isEqualTo(PaymentOutboxStatus.PENDING),
+                        () -> assertThat(outbox.getAmount()).isEqualTo(response.getTotalCancelAmount()),
+                        () -> assertThat(outbox.getIdempotencyKey()).isNotBlank()
+                ));
     }
 
     @Test
@@ -566,7 +659,7 @@ class OrderServiceTest extends ServiceTest {
         Reward reward1 = createAndSaveReward(member, video1);
         Reward reward2 = createAndSaveReward(member, video2);
 
-        member.minusReward(member.getReward()); // 리워드 소멸
+        minusReward(member, member.getReward()); // 리워드 소멸
 
         setCancelResponseEntitySuccess();
 
@@ -589,7 +682,7 @@ class OrderServiceTest extends ServiceTest {
         Reward reward1 = createAndSaveReward(member, video1);
         Reward reward2 = createAndSaveReward(member, video2);
 
-        member.minusReward(member.getReward()); // 리워드 소멸
+        minusReward(member, member.getReward()); // 리워드 소멸
 
         setCancelResponseEntitySuccess();
 
@@ -611,7 +704,7 @@ class OrderServiceTest extends ServiceTest {
 
         Member loginMember = createAndSaveMember();
 
-        Cart cart = createAndSaveCart(loginMember, video1);
+        createAndSaveCart(loginMember, video1);
         Order order = createAndSaveOrder(loginMember, List.of(video1, video2), 100);
 
         setPayResponseEntitySuccess(order.getTotalPayAmount());
@@ -622,7 +715,7 @@ class OrderServiceTest extends ServiceTest {
         LocalDateTime orderDate = LocalDateTime.now();
 
         //when
-        PaymentServiceResponse response = orderService.requestFinalPayment(
+        PaymentServiceResponse response = paymentService.requestFinalPayment(
                 loginMember.getMemberId(),
                 "paymentKey",
                 order.getOrderId(),
@@ -644,9 +737,14 @@ class OrderServiceTest extends ServiceTest {
                 () -> assertThat(findOrder.getCompletedDate()).isEqualTo(orderDate)
         );
 
-        assertAll("카트 삭제",
-                () -> assertThat(cartRepository.findById(cart.getCartId()).isPresent()).isFalse()
-        );
+        // 장바구니는 커밋 이후 비동기로 정리된다.
+        assertThat(events.stream(OrderCompletedEvent.class)).hasSize(1)
+                .first()
+                .satisfies(event -> {
+                    assertThat(event.getMemberId()).isEqualTo(loginMember.getMemberId());
+                    assertThat(event.getOrderId()).isEqualTo(order.getOrderId());
+                    assertThat(event.getVideoIds()).containsExactlyInAnyOrder(video1.getVideoId(), video2.getVideoId());
+                });
 
     }
 
@@ -668,7 +766,7 @@ class OrderServiceTest extends ServiceTest {
         em.clear();
 
         //when
-        orderService.requestFinalPayment(loginMember.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now());
+        paymentService.requestFinalPayment(loginMember.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now());
 
         //then
         //멤버 리워드 생성
@@ -705,7 +803,7 @@ class OrderServiceTest extends ServiceTest {
         String wrongOrderId = order.getOrderId() + "11";
 
         //when & then
-        assertThatThrownBy(() -> orderService.requestFinalPayment(member.getMemberId(), "paymentKey", wrongOrderId, order.getTotalPayAmount(), LocalDateTime.now()))
+        assertThatThrownBy(() -> paymentService.requestFinalPayment(member.getMemberId(), "paymentKey", wrongOrderId, order.getTotalPayAmount(), LocalDateTime.now()))
                 .isInstanceOf(OrderNotFoundException.class);
     }
 
@@ -725,12 +823,12 @@ class OrderServiceTest extends ServiceTest {
 
         Order order = createAndSaveOrder(member, List.of(video1, video2), 100);
 
-        member.minusReward(member.getReward()); //리워드 소멸;
+        minusReward(member, member.getReward()); //리워드 소멸;
 
         setPayResponseEntitySuccess(order.getTotalPayAmount());
 
         //when & then
-        assertThatThrownBy(() -> orderService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now()))
+        assertThatThrownBy(() -> paymentService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now()))
                 .isInstanceOf(RewardNotEnoughException.class);
     }
 
@@ -754,7 +852,7 @@ class OrderServiceTest extends ServiceTest {
         setPayResponseEntitySuccess(order.getTotalPayAmount());
 
         //when & then
-        assertThatThrownBy(() -> orderService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now()))
+        assertThatThrownBy(() -> paymentService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now()))
                 .isInstanceOf(OrderNotValidException.class);
     }
 
@@ -778,7 +876,7 @@ class OrderServiceTest extends ServiceTest {
         setPayResponseEntitySuccess(order.getTotalPayAmount());
 
         //when & then
-        assertThatThrownBy(() -> orderService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now()))
+        assertThatThrownBy(() -> paymentService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now()))
                 .isInstanceOf(OrderNotValidException.class);
     }
 
@@ -803,7 +901,7 @@ class OrderServiceTest extends ServiceTest {
         setPayResponseEntitySuccess(order.getTotalPayAmount());
 
         //when & then
-        assertThatThrownBy(() -> orderService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), wrongPrice, LocalDateTime.now()))
+        assertThatThrownBy(() -> paymentService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), wrongPrice, LocalDateTime.now()))
                 .isInstanceOf(PriceNotMatchException.class);
     }
 
@@ -826,8 +924,75 @@ class OrderServiceTest extends ServiceTest {
         setPayResponseEntityFail(order.getTotalPayAmount()); // pg 통신 실패
 
         //when & then
-        assertThatThrownBy(() -> orderService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now()))
+        assertThatThrownBy(() -> paymentService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now()))
+                .isInstanceOf(OrderNotValidException.class);
+    }
+
+    @Test
+    @DisplayName("주문 결제 시 pg 사가 승인을 거절하면 주문과 리워드가 원래대로 돌아간다.")
+    void requestFinalPaymentCompensation() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+
+        Member member = createAndSaveMember();
+        int beforeReward = member.getReward();
+
+        Order order = createAndSaveOrder(member, List.of(video1, video2), 100);
+
+        setPayResponseEntityFail(order.getTotalPayAmount()); // pg 승인 거절
+
+        //when
+        assertThatThrownBy(() -> paymentService.requestFinalPayment(member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now()))
                 .isInstanceOf(OrderNotValidException.class);
+
+        //then
+        Order findOrder = orderRepository.findById(order.getOrderId()).orElseThrow();
+        Member findMember = memberRepository.findById(member.getMemberId()).orElseThrow();
+        List<PaymentOutbox> outboxes = paymentOutboxRepository.findByOrderId(order.getOrderId());
+
+        assertAll("보상 트랜잭션 확인",
+                () -> assertThat(findOrder.getOrderStatus()).isEqualTo(OrderStatus.CANCELED),
+                () -> assertThat(findMember.getReward()).isEqualTo(beforeReward),
+                () -> assertThat(outboxes).extracting("outboxStatus").containsExactly(PaymentOutboxStatus.FAILED)
+        );
+    }
+
+    @Test
+    @DisplayName("주문 결제 시 pg 사 응답을 받지 못하면 결제 진행 중으로 응답하고 outbox 에서 재시도한다.")
+    void requestFinalPaymentInProgress() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+
+        Member member = createAndSaveMember();
+
+        Order order = createAndSaveOrder(member, List.of(video1), 0);
+
+        given(restTemplate.postForEntity(
+                anyString(),
+                any(HttpEntity.class),
+                eq(PaymentServiceResponse.class),
+                anyString()
+        )).willThrow(new ResourceAccessException("Read timed out"));
+
+        //when
+        PaymentServiceResponse response = paymentService.requestFinalPayment(
+                member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now());
+
+        //then
+        List<PaymentOutbox> outboxes = paymentOutboxRepository.findByOrderId(order.getOrderId());
+
+        assertThat(response.getStatus()).isEqualTo(PaymentService.PAYMENT_IN_PROGRESS);
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(outboxes).hasSize(1)
+                .first()
+                .satisfies(outbox -> assertAll("재시도 예약 확인",
+                        () -> assertThat(outbox.getOutboxStatus()).isEqualTo(PaymentOutboxStatus.PENDING),
+                        () -> assertThat(outbox.getAttempts()).isEqualTo(1),
+                        () -> assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now())
+                ));
     }
 
     @Test
@@ -937,7 +1102,7 @@ class OrderServiceTest extends ServiceTest {
 
         Reward reward = createAndSaveReward(loginMember, video1);
 
-        loginMember.minusReward(loginMember.getReward()); // 리워드 부족
+        minusReward(loginMember, loginMember.getReward()); // 리워드 부족
 
         setCancelResponseEntitySuccess();
 
@@ -1077,7 +1242,8 @@ class OrderServiceTest extends ServiceTest {
         given(restTemplate.postForEntity(
                 anyString(),
                 any(HttpEntity.class),
-                any(Class.class)
+                eq(PaymentServiceResponse.class),
+                anyString()
         )).willReturn(new ResponseEntity<>(paymentServiceResponse, HttpStatus.OK));
     }
 
@@ -1092,25 +1258,28 @@ class OrderServiceTest extends ServiceTest {
         given(restTemplate.postForEntity(
                 anyString(),
                 any(HttpEntity.class),
-                any(Class.class)
+                eq(PaymentServiceResponse.class),
+                anyString()
         )).willReturn(new ResponseEntity<>(paymentServiceResponse, HttpStatus.BAD_REQUEST));
     }
 
     private void setCancelResponseEntitySuccess() {
 
         given(restTemplate.postForEntity(
-                any(URI.class),
+                anyString(),
                 any(HttpEntity.class),
-                any(Class.class)
+                eq(String.class),
+                anyString()
         )).willReturn(new ResponseEntity<>("", HttpStatus.OK));
     }
 
     private void setCancelResponseEntityFail() {
 
         given(restTemplate.postForEntity(
-                any(URI.class),
+                anyString(),
                 any(HttpEntity.class),
-                any(Class.class)
+                eq(String.class),
+                anyString()
         )).willReturn(new ResponseEntity<>("", HttpStatus.BAD_REQUEST));
     }
 }
\ No newline at end of file
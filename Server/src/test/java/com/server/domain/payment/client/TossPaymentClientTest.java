@@ -0,0 +1,127 @@
+package com.server.domain.payment.client;
+
+import com.server.domain.payment.entity.PaymentOutbox;
+import com.server.global.testhelper.StubPaymentServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TossPaymentClientTest {
+
+    private StubPaymentServer stubPaymentServer;
+    private TossPaymentClient tossPaymentClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubPaymentServer = new StubPaymentServer();
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(1000);
+        requestFactory.setReadTimeout(500);
+
+        tossPaymentClient = new TossPaymentClient(
+                new RestTemplate(requestFactory),
+                stubPaymentServer.getUrl(),
+                "secretKey");
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubPaymentServer.close();
+    }
+
+    @Test
+    @DisplayName("결제 승인 요청 시 outbox 의 멱등키를 Idempotency-Key 헤더로 전달한다.")
+    void confirmWithIdempotencyKey() {
+        //given
+        stubPaymentServer.respond(200, "{\"paymentKey\":\"paymentKey\",\"orderId\":\"orderId\",\"status\":\"DONE\",\"totalAmount\":1000}");
+
+        PaymentOutbox outbox = PaymentOutbox.confirm("orderId", "paymentKey", 1000, LocalDateTime.now());
+
+        //when
+        PaymentResult result = tossPaymentClient.send(outbox);
+
+        //then
+        StubPaymentServer.RecordedRequest request = stubPaymentServer.getRequests().get(0);
+
+        assertAll("승인 요청 확인",
+                () -> assertThat(result.isApproved()).isTrue(),
+                () -> assertThat(result.getResponse().getStatus()).isEqualTo("DONE"),
+                () -> assertThat(request.getPath()).isEqualTo("/v1/payments/paymentKey"),
+                () -> assertThat(request.getIdempotencyKey()).isEqualTo(outbox.getIdempotencyKey()),
+                () -> assertThat(request.getAuthorization()).startsWith("Basic "),
+                () -> assertThat(request.getBody()).contains("\"amount\":1000")
+        );
+    }
+
+    @Test
+    @DisplayName("결제 취소 요청은 cancel 경로로 취소 금액과 함께 전달한다.")
+    void cancel() {
+        //given
+        stubPaymentServer.respond(200, "{}");
+
+        PaymentOutbox outbox = PaymentOutbox.cancel("orderId", "paymentKey", 500, "사용자 취소");
+
+        //when
+        PaymentResult result = tossPaymentClient.send(outbox);
+
+        //then
+        StubPaymentServer.RecordedRequest request = stubPaymentServer.getRequests().get(0);
+
+        assertAll("취소 요청 확인",
+                () -> assertThat(result.isApproved()).isTrue(),
+                () -> assertThat(request.getPath()).isEqualTo("/v1/payments/paymentKey/cancel"),
+                () -> assertThat(request.getIdempotencyKey()).isEqualTo(outbox.getIdempotencyKey()),
+                () -> assertThat(request.getBody()).contains("\"cancelAmount\":500")
+        );
+    }
+
+    @Test
+    @DisplayName("PG 사가 4xx 로 응답하면 재시도하지 않는 거절 결과를 반환한다.")
+    void rejected() {
+        //given
+        stubPaymentServer.respond(400, "{\"code\":\"REJECT_CARD_PAYMENT\"}");
+
+        //when
+        PaymentResult result = tossPaymentClient.send(PaymentOutbox.confirm("orderId", "paymentKey", 1000, LocalDateTime.now()));
+
+        //then
+        assertThat(result.getResult()).isEqualTo(PaymentResult.Result.REJECTED);
+        assertThat(result.getError()).contains("REJECT_CARD_PAYMENT");
+    }
+
+    @Test
+    @DisplayName("PG 사가 5xx 로 응답하면 재시도가 필요한 결과를 반환한다.")
+    void serverError() {
+        //given
+        stubPaymentServer.respond(500, "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\"}");
+
+        //when
+        PaymentResult result = tossPaymentClient.send(PaymentOutbox.confirm("orderId", "paymentKey", 1000, LocalDateTime.now()));
+
+        //then
+        assertThat(result.getResult()).isEqualTo(PaymentResult.Result.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("PG 사 응답이 타임아웃되면 재시도가 필요한 결과를 반환한다.")
+    void timeout() {
+        //given
+        stubPaymentServer.delay(1000);
+
+        //when
+        PaymentResult result = tossPaymentClient.send(PaymentOutbox.confirm("orderId", "paymentKey", 1000, LocalDateTime.now()));
+
+        //then
+        assertThat(result.getResult()).isEqualTo(PaymentResult.Result.UNKNOWN);
+    }
+}
@@ -0,0 +1,135 @@
+package com.server.domain.payment.service;
+
+import com.server.domain.order.service.dto.response.PaymentServiceResponse;
+import com.server.module.redis.service.RedisService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 처리 중 표시가 만료된 뒤 늦게 끝난 요청이 다른 요청의 기록을 지우거나 덮어쓰지 않는지 확인한다.
+ * docker 가 없으면 건너뛴다.
+ */
+class PaymentIdempotencyServiceTest {
+
+    private static final String REDIS_DOCKER_IMAGE = "redis:5.0.3-alpine";
+    private static final long IN_FLIGHT_TTL_SECONDS = 1;
+
+    private static GenericContainer<?> redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private PaymentIdempotencyService paymentIdempotencyService;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "docker 가 없어 결제 멱등성 테스트를 건너뜁니다.");
+
+        redis = new GenericContainer<>(DockerImageName.parse(REDIS_DOCKER_IMAGE))
+                .withExposedPorts(6379);
+        redis.start();
+
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (connectionFactory != null) connectionFactory.destroy();
+        if (redis != null) redis.stop();
+    }
+
+    @BeforeEach
+    void init() {
+        stringRedisTemplate.getConnectionFactory().getConnection().flushAll();
+        paymentIdempotencyService = new PaymentIdempotencyService(
+                new RedisService(stringRedisTemplate), Jackson2ObjectMapperBuilder.json().build(), IN_FLIGHT_TTL_SECONDS, 60);
+    }
+
+    @Test
+    @DisplayName("처리 중 표시가 만료된 요청은 다른 요청이 가져간 처리 권한을 지우지 않는다.")
+    void releaseAfterExpired() throws Exception {
+        //given
+        String slow = PaymentIdempotencyService.newOwner();
+        String retry = PaymentIdempotencyService.newOwner();
+
+        paymentIdempotencyService.begin(1L, "orderId", "paymentKey", 1000, slow);
+        Thread.sleep(IN_FLIGHT_TTL_SECONDS * 1000 + 200);
+        paymentIdempotencyService.begin(1L, "orderId", "paymentKey", 1000, retry);
+
+        //when
+        paymentIdempotencyService.release(1L, "orderId", "paymentKey", slow);
+
+        //then
+        Optional<PaymentServiceResponse> duplicate = paymentIdempotencyService.begin(
+                1L, "orderId", "paymentKey", 1000, PaymentIdempotencyService.newOwner());
+
+        assertThat(duplicate).isPresent();
+        assertThat(duplicate.get().getStatus()).isEqualTo(PaymentService.PAYMENT_IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("처리 중 표시가 만료된 요청은 다른 요청의 결과를 덮어쓰지 않는다.")
+    void completeAfterExpired() throws Exception {
+        //given
+        String slow = PaymentIdempotencyService.newOwner();
+        String retry = PaymentIdempotencyService.newOwner();
+
+        paymentIdempotencyService.begin(1L, "orderId", "paymentKey", 1000, slow);
+        Thread.sleep(IN_FLIGHT_TTL_SECONDS * 1000 + 200);
+        paymentIdempotencyService.begin(1L, "orderId", "paymentKey", 1000, retry);
+        paymentIdempotencyService.complete(1L, "orderId", "paymentKey", retry, response("DONE"));
+
+        //when
+        paymentIdempotencyService.complete(1L, "orderId", "paymentKey", slow,
+                PaymentIdempotencyService.inProgressResponse("orderId", "paymentKey", 1000));
+
+        //then
+        Optional<PaymentServiceResponse> recorded = paymentIdempotencyService.begin(
+                1L, "orderId", "paymentKey", 1000, PaymentIdempotencyService.newOwner());
+
+        assertThat(recorded).isPresent();
+        assertThat(recorded.get().getStatus()).isEqualTo("DONE");
+    }
+
+    @Test
+    @DisplayName("처리 권한을 가진 요청이 실패하면 기록을 지워 재시도할 수 있게 한다.")
+    void releaseOwned() {
+        //given
+        String owner = PaymentIdempotencyService.newOwner();
+        paymentIdempotencyService.begin(1L, "orderId", "paymentKey", 1000, owner);
+
+        //when
+        paymentIdempotencyService.release(1L, "orderId", "paymentKey", owner);
+
+        //then
+        assertThat(paymentIdempotencyService.begin(
+                1L, "orderId", "paymentKey", 1000, PaymentIdempotencyService.newOwner())).isEmpty();
+    }
+
+    private PaymentServiceResponse response(String status) {
+        return PaymentServiceResponse.builder()
+                .paymentKey("paymentKey")
+                .orderId("orderId")
+                .status(status)
+                .totalAmount(1000)
+                .build();
+    }
+}
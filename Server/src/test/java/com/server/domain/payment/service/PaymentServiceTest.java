@@ -0,0 +1,416 @@
+package com.server.domain.payment.service;
+
+import com.server.domain.member.entity.Member;
+import com.server.domain.order.entity.Order;
+import com.server.domain.order.entity.OrderStatus;
+import com.server.domain.order.event.OrderCompletedEvent;
+import com.server.domain.order.service.dto.response.PaymentServiceResponse;
+import com.server.domain.payment.endpoint.FailedCancelResponse;
+import com.server.domain.payment.endpoint.PaymentOutboxEndpoint;
+import com.server.domain.payment.entity.PaymentOutbox;
+import com.server.domain.payment.entity.PaymentOutboxStatus;
+import com.server.domain.payment.entity.PaymentOutboxType;
+import com.server.domain.payment.repository.PaymentOutboxRepository;
+import com.server.domain.video.entity.Video;
+import com.server.global.exception.businessexception.orderexception.OrderNotValidException;
+import com.server.global.testhelper.ServiceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RecordApplicationEvents
+class PaymentServiceTest extends ServiceTest {
+
+    @Autowired ApplicationEvents events;
+    @Autowired PaymentService paymentService;
+    @Autowired PaymentOutboxRepository paymentOutboxRepository;
+    @Autowired PaymentOutboxService paymentOutboxService;
+    @Autowired PaymentOutboxEndpoint paymentOutboxEndpoint;
+
+    @Test
+    @DisplayName("처리 대기 중인 취소 outbox 를 PG 사에 전달하고 완료 처리한다.")
+    void processCancelOutbox() {
+        //given
+        PaymentOutbox outbox = paymentOutboxRepository.save(
+                PaymentOutbox.cancel("orderId", "paymentKey", 1000, "사용자 취소"));
+
+        given(restTemplate.postForEntity(
+                anyString(),
+                any(HttpEntity.class),
+                eq(String.class),
+                anyString()
+        )).willReturn(new ResponseEntity<>("", HttpStatus.OK));
+
+        //when
+        int processed = paymentService.processDueOutboxes();
+
+        //then
+        PaymentOutbox findOutbox = paymentOutboxRepository.findById(outbox.getPaymentOutboxId()).orElseThrow();
+
+        assertThat(processed).isEqualTo(1);
+        assertThat(findOutbox.getOutboxStatus()).isEqualTo(PaymentOutboxStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("PG 사 응답을 받지 못한 outbox 는 backoff 후 재시도하도록 예약한다.")
+    void processOutboxRetry() {
+        //given
+        PaymentOutbox outbox = paymentOutboxRepository.save(
+                PaymentOutbox.cancel("orderId", "paymentKey", 1000, "사용자 취소"));
+
+        given(restTemplate.postForEntity(
+                anyString(),
+                any(HttpEntity.class),
+                eq(String.class),
+                anyString()
+        )).willThrow(new ResourceAccessException("Read timed out"));
+
+        //when
+        paymentService.processDueOutboxes();
+
+        //then
+        PaymentOutbox findOutbox = paymentOutboxRepository.findById(outbox.getPaymentOutboxId()).orElseThrow();
+
+        assertAll("재시도 예약 확인",
+                () -> assertThat(findOutbox.getOutboxStatus()).isEqualTo(PaymentOutboxStatus.PENDING),
+                () -> assertThat(findOutbox.getAttempts()).isEqualTo(1),
+                () -> assertThat(findOutbox.getNextAttemptAt()).isAfter(LocalDateTime.now()),
+                () -> assertThat(findOutbox.getLastError()).contains("Read timed out")
+        );
+
+        assertThat(paymentService.processDueOutboxes()).isZero(); // backoff 동안은 처리하지 않는다.
+    }
+
+    @Test
+    @DisplayName("PG 사가 취소 요청을 거절하면 outbox 를 실패 처리한다.")
+    void processOutboxRejected() {
+        //given
+        PaymentOutbox outbox = paymentOutboxRepository.save(
+                PaymentOutbox.cancel("orderId", "paymentKey", 1000, "사용자 취소"));
+
+        given(restTemplate.postForEntity(
+                anyString(),
+                any(HttpEntity.class),
+                eq(String.class),
+                anyString()
+        )).willReturn(new ResponseEntity<>("{\"code\":\"ALREADY_CANCELED_PAYMENT\"}", HttpStatus.BAD_REQUEST));
+
+        //when
+        paymentService.processDueOutboxes();
+
+        //then
+        PaymentOutbox findOutbox = paymentOutboxRepository.findById(outbox.getPaymentOutboxId()).orElseThrow();
+
+        assertThat(findOutbox.getOutboxStatus()).isEqualTo(PaymentOutboxStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("결제 승인 outbox 가 거절되면 주문을 결제 전 상태로 되돌려 다시 결제할 수 있게 한다.")
+    void processConfirmOutboxCompensation() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video = createAndSaveVideo(owner.getChannel());
+
+        Member member = createAndSaveMember();
+        Order order = createAndSaveOrderWithPurchaseComplete(member, List.of(video), 0);
+
+        PaymentOutbox outbox = paymentOutboxRepository.save(
+                PaymentOutbox.confirm(order.getOrderId(), "paymentKey", order.getTotalPayAmount(), LocalDateTime.now()));
+
+        given(restTemplate.postForEntity(
+                anyString(),
+                any(HttpEntity.class),
+                eq(PaymentServiceResponse.class),
+                anyString()
+        )).willReturn(new ResponseEntity<>(null, HttpStatus.BAD_REQUEST));
+
+        //when
+        paymentService.processDueOutboxes();
+
+        //then
+        Order findOrder = orderRepository.findById(order.getOrderId()).orElseThrow();
+        List<PaymentOutbox> outboxes = paymentOutboxRepository.findByOrderId(order.getOrderId());
+
+        assertAll("결제 전 상태로 복구",
+                () -> assertThat(findOrder.getOrderStatus()).isEqualTo(OrderStatus.ORDERED),
+                () -> assertThat(findOrder.getPaymentKey()).isNull(),
+                () -> assertThat(findOrder.getCompletedDate()).isNull(),
+                () -> assertThat(findOrder.getOrderVideos()).extracting("orderStatus").containsOnly(OrderStatus.ORDERED)
+        );
+        assertThat(outboxes).extracting("paymentType", "outboxStatus")
+                .containsExactly(
+                        tuple(PaymentOutboxType.CONFIRM, PaymentOutboxStatus.FAILED)
+                );
+        assertThat(events.stream(OrderCompletedEvent.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("워커가 결제 승인 outbox 를 승인받으면 그때 장바구니 정리를 요청한다.")
+    void processConfirmOutboxApproved() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video = createAndSaveVideo(owner.getChannel());
+
+        Member member = createAndSaveMember();
+        Order order = createAndSaveOrderWithPurchaseComplete(member, List.of(video), 0);
+
+        PaymentOutbox outbox = paymentOutboxRepository.save(
+                PaymentOutbox.confirm(order.getOrderId(), "paymentKey", order.getTotalPayAmount(), LocalDateTime.now()));
+
+        setPayResponseEntitySuccess(order.getTotalPayAmount());
+
+        //when
+        paymentService.processDueOutboxes();
+
+        //then
+        PaymentOutbox findOutbox = paymentOutboxRepository.findById(outbox.getPaymentOutboxId()).orElseThrow();
+
+        assertThat(findOutbox.getOutboxStatus()).isEqualTo(PaymentOutboxStatus.COMPLETED);
+        assertThat(events.stream(OrderCompletedEvent.class)).hasSize(1)
+                .first()
+                .satisfies(event -> {
+                    assertThat(event.getOrderId()).isEqualTo(order.getOrderId());
+                    assertThat(event.getMemberId()).isEqualTo(member.getMemberId());
+                    assertThat(event.getVideoIds()).containsExactly(video.getVideoId());
+                });
+    }
+
+    @Test
+    @DisplayName("결제 요청 중 PG 사가 승인을 거절하면 주문을 결제 전 상태로 되돌리고 장바구니는 그대로 둔다.")
+    void requestFinalPaymentRejected() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video = createAndSaveVideo(owner.getChannel());
+
+        Member member = createAndSaveMember();
+        createAndSaveCart(member, video);
+        Order order = createAndSaveOrder(member, List.of(video), 0);
+
+        given(redisService.setIfAbsent(anyString(), anyString(), anyLong())).willReturn(true);
+        given(restTemplate.postForEntity(
+                anyString(),
+                any(HttpEntity.class),
+                eq(PaymentServiceResponse.class),
+                anyString()
+        )).willReturn(new ResponseEntity<>(null, HttpStatus.BAD_REQUEST));
+
+        //when
+        assertThatThrownBy(() -> paymentService.requestFinalPayment(
+                member.getMemberId(), "paymentKey", order.getOrderId(), order.getTotalPayAmount(), LocalDateTime.now()))
+                .isInstanceOf(OrderNotValidException.class);
+
+        //then
+        Order findOrder = orderRepository.findById(order.getOrderId()).orElseThrow();
+
+        assertThat(findOrder.getOrderStatus()).isEqualTo(OrderStatus.ORDERED);
+        assertThat(findOrder.getPaymentKey()).isNull();
+
+        // 다시 결제할 수 있도록 장바구니 정리를 요청하지 않는다.
+        assertThat(events.stream(OrderCompletedEvent.class)).isEmpty();
+        assertThat(cartRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("lease 가 만료된 뒤 늦게 끝난 처리 결과는 먼저 반영된 결과를 덮어쓰지 않는다.")
+    void finishAfterReclaimed() {
+        //given
+        PaymentOutbox outbox = paymentOutboxRepository.save(
+                PaymentOutbox.cancel("orderId", "paymentKey", 1000, "사용자 취소"));
+
+        paymentOutboxService.claim(outbox.getPaymentOutboxId()); // 다른 인스턴스의 선점으로 version 이 바뀐다.
+
+        //when
+        boolean completed = paymentOutboxService.complete(outbox.getPaymentOutboxId());
+        boolean failed = paymentOutboxService.fail(outbox.getPaymentOutboxId(), "late failure");
+
+        //then
+        PaymentOutbox findOutbox = paymentOutboxRepository.findById(outbox.getPaymentOutboxId()).orElseThrow();
+
+        assertThat(completed).isTrue();
+        assertThat(failed).isFalse();
+        assertThat(findOutbox.getOutboxStatus()).isEqualTo(PaymentOutboxStatus.COMPLETED);
+        assertThat(findOutbox.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("여러 인스턴스가 동시에 같은 outbox 를 처리해도 PG 사에는 한 번만 요청한다.")
+    void processDueOutboxesConcurrently() throws Exception {
+        //given
+        PaymentOutbox outbox = paymentOutboxRepository.save(
+                PaymentOutbox.cancel("orderId", "paymentKey", 1000, "사용자 취소"));
+
+        given(restTemplate.postForEntity(
+                anyString(),
+                any(HttpEntity.class),
+                eq(String.class),
+                anyString()
+        )).willAnswer(invocation -> {
+            Thread.sleep(200);
+            return new ResponseEntity<>("", HttpStatus.OK);
+        });
+
+        int workers = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(workers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            //when
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                results.add(executorService.submit(() -> {
+                    start.await();
+                    return paymentService.processDueOutboxes();
+                }));
+            }
+            start.countDown();
+
+            int processed = 0;
+            for (Future<Integer> result : results) {
+                processed += result.get(10, TimeUnit.SECONDS);
+            }
+
+            //then
+            PaymentOutbox findOutbox = paymentOutboxRepository.findById(outbox.getPaymentOutboxId()).orElseThrow();
+
+            assertThat(processed).isEqualTo(1);
+            verify(restTemplate, times(1)).postForEntity(
+                    anyString(), any(HttpEntity.class), eq(String.class), anyString());
+            assertThat(findOutbox.getOutboxStatus()).isEqualTo(PaymentOutboxStatus.COMPLETED);
+            assertThat(findOutbox.getAttempts()).isEqualTo(1);
+
+        } finally {
+            executorService.shutdownNow();
+            paymentOutboxRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @DisplayName("PG 사가 거절한 취소 요청을 조회하고 다시 처리하도록 되돌린다.")
+    void requeueFailedCancel() {
+        //given
+        PaymentOutbox outbox = paymentOutboxRepository.save(
+                PaymentOutbox.cancel("orderId", "paymentKey", 1000, "사용자 취소"));
+        paymentOutboxService.fail(outbox.getPaymentOutboxId(), "{\"code\":\"NOT_CANCELABLE_AMOUNT\"}");
+
+        //when
+        List<FailedCancelResponse> failedCancels = paymentOutboxEndpoint.failedCancels();
+        boolean requeued = paymentOutboxEndpoint.requeue(outbox.getPaymentOutboxId());
+
+        //then
+        PaymentOutbox findOutbox = paymentOutboxRepository.findById(outbox.getPaymentOutboxId()).orElseThrow();
+
+        assertThat(failedCancels).extracting("paymentOutboxId", "orderId")
+                .containsExactly(tuple(outbox.getPaymentOutboxId(), "orderId"));
+        assertThat(requeued).isTrue();
+        assertThat(findOutbox.getOutboxStatus()).isEqualTo(PaymentOutboxStatus.PENDING);
+        assertThat(findOutbox.getAttempts()).isZero();
+        assertThat(paymentOutboxEndpoint.failedCancels()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 승인된 결제 요청이 다시 들어오면 기록된 응답을 DB 와 PG 사 호출 없이 반환한다.")
+    void requestFinalPaymentCompletedDuplicate() {
+        //given
+        given(redisService.setIfAbsent(anyString(), anyString(), anyLong())).willReturn(false);
+        given(redisService.getData(anyString())).willReturn(
+                "{\"paymentKey\":\"paymentKey\",\"orderId\":\"orderId\",\"status\":\"DONE\",\"totalAmount\":1000}");
+
+        //when
+        PaymentServiceResponse response = paymentService.requestFinalPayment(
+                1L, "paymentKey", "orderId", 1000, LocalDateTime.now());
+
+        //then
+        assertAll("기록된 응답 반환",
+                () -> assertThat(response.getOrderId()).isEqualTo("orderId"),
+                () -> assertThat(response.getStatus()).isEqualTo("DONE"),
+                () -> assertThat(response.getTotalAmount()).isEqualTo(1000)
+        );
+        verifyNoPaymentRequest();
+    }
+
+    @Test
+    @DisplayName("같은 결제 요청이 처리 중이면 처리 중 응답을 반환한다.")
+    void requestFinalPaymentInFlightDuplicate() {
+        //given
+        given(redisService.setIfAbsent(anyString(), anyString(), anyLong())).willReturn(false);
+        given(redisService.getData(anyString())).willReturn("IN_FLIGHT:otherOwner");
+
+        //when
+        PaymentServiceResponse response = paymentService.requestFinalPayment(
+                1L, "paymentKey", "orderId", 1000, LocalDateTime.now());
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(PaymentService.PAYMENT_IN_PROGRESS);
+        verifyNoPaymentRequest();
+    }
+
+    @Test
+    @DisplayName("결제 요청이 실패하면 멱등성 기록을 삭제해 재시도할 수 있도록 한다.")
+    void requestFinalPaymentReleaseOnFailure() {
+        //given
+        given(redisService.setIfAbsent(anyString(), anyString(), anyLong())).willReturn(true);
+
+        //when
+        assertThatThrownBy(() -> paymentService.requestFinalPayment(
+                1L, "paymentKey", "notExistOrderId", 1000, LocalDateTime.now()))
+                .isInstanceOf(RuntimeException.class);
+
+        //then
+        verify(redisService).deleteIfEquals(anyString(), startsWith("IN_FLIGHT:"));
+        verify(redisService, never()).setIfAbsentOrEquals(anyString(), anyString(), anyString(), anyLong());
+    }
+
+    private void setPayResponseEntitySuccess(int price) {
+
+        PaymentServiceResponse paymentServiceResponse = PaymentServiceResponse.builder()
+                .paymentKey("paymentKey")
+                .orderName("orderName")
+                .totalAmount(price)
+                .build();
+
+        given(restTemplate.postForEntity(
+                anyString(),
+                any(HttpEntity.class),
+                eq(PaymentServiceResponse.class),
+                anyString()
+        )).willReturn(new ResponseEntity<>(paymentServiceResponse, HttpStatus.OK));
+    }
+
+    private void verifyNoPaymentRequest() {
+        verify(restTemplate, never()).postForEntity(
+                anyString(), any(HttpEntity.class), eq(PaymentServiceResponse.class), anyString());
+        assertThat(paymentOutboxRepository.findByOrderId("orderId")).isEmpty();
+    }
+}
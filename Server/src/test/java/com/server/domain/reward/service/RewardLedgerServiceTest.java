@@ -0,0 +1,92 @@
+package com.server.domain.reward.service;
+
+import com.server.domain.member.entity.Member;
+import com.server.domain.reward.entity.RewardLedger;
+import com.server.domain.reward.entity.RewardLedgerType;
+import com.server.domain.reward.repository.RewardLedgerRepository;
+import com.server.global.exception.businessexception.orderexception.RewardNotEnoughException;
+import com.server.global.testhelper.ServiceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RewardLedgerServiceTest extends ServiceTest {
+
+    @Autowired RewardLedgerService rewardLedgerService;
+    @Autowired RewardLedgerRepository rewardLedgerRepository;
+
+    @Test
+    @DisplayName("회원 엔티티를 조회하지 않고 리워드를 적립하고 ledger 를 남긴다.")
+    void credit() {
+        //given
+        Member member = createMemberWithChannel();
+        int beforeReward = member.getReward();
+
+        //when
+        rewardLedgerService.credit(member.getMemberId(), 100, RewardLedgerType.REWARD_GRANT, "1");
+
+        //then
+        assertThat(findRewardFromDb(member)).isEqualTo(beforeReward + 100);
+
+        List<RewardLedger> ledgers = rewardLedgerRepository.findByMemberIdOrderByRewardLedgerIdAsc(member.getMemberId());
+        assertThat(ledgers).hasSize(1)
+                .extracting("amount", "ledgerType", "referenceId")
+                .containsExactly(tuple(100, RewardLedgerType.REWARD_GRANT, "1"));
+    }
+
+    @Test
+    @DisplayName("잔액보다 많은 리워드를 차감하면 RewardNotEnoughException 이 발생하고 잔액은 변하지 않는다.")
+    void debitNotEnough() {
+        //given
+        Member member = createMemberWithChannel();
+        int beforeReward = member.getReward();
+
+        //when & then
+        assertThatThrownBy(() -> rewardLedgerService.debit(
+                member.getMemberId(), beforeReward + 1, RewardLedgerType.ORDER_PAYMENT, "order"))
+                .isInstanceOf(RewardNotEnoughException.class);
+
+        assertThat(findRewardFromDb(member)).isEqualTo(beforeReward);
+        assertThat(rewardLedgerRepository.findByMemberIdOrderByRewardLedgerIdAsc(member.getMemberId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경량이 0 이면 잔액을 바꾸지 않고 ledger 도 남기지 않는다.")
+    void creditZero() {
+        //given
+        Member member = createMemberWithChannel();
+        int beforeReward = member.getReward();
+
+        //when
+        rewardLedgerService.credit(member.getMemberId(), 0, RewardLedgerType.ORDER_REFUND, "order");
+
+        //then
+        assertThat(findRewardFromDb(member)).isEqualTo(beforeReward);
+        assertThat(rewardLedgerRepository.findByMemberIdOrderByRewardLedgerIdAsc(member.getMemberId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("엔티티의 리워드만 바꾸면 DB 에 반영되지 않는다. (잔액은 RewardLedgerService 로만 바꾼다)")
+    void entityRewardIsNotUpdated() {
+        //given
+        Member member = createMemberWithChannel();
+        int beforeReward = member.getReward();
+
+        //when
+        member.addReward(300);
+
+        //then
+        assertThat(findRewardFromDb(member)).isEqualTo(beforeReward);
+    }
+
+    private int findRewardFromDb(Member member) {
+        em.flush();
+        em.clear();
+
+        return memberRepository.findById(member.getMemberId()).orElseThrow().getReward();
+    }
+}
@@ -5,6 +5,7 @@ import com.server.domain.order.entity.Order;
 import com.server.domain.order.entity.OrderVideo;
 import com.server.domain.question.entity.Question;
 import com.server.domain.reward.entity.*;
+import com.server.domain.reward.repository.RewardLedgerRepository;
 import com.server.domain.video.entity.Video;
 import com.server.global.testhelper.ServiceTest;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.DynamicTest.*;
@@ -22,6 +24,7 @@ import static org.junit.jupiter.api.DynamicTest.*;
 class RewardServiceTest extends ServiceTest {
 
     @Autowired RewardService rewardService;
+    @Autowired RewardLedgerRepository rewardLedgerRepository;
 
     @Test
     @DisplayName("비디오를 통해 리워드를 생성한다.")
@@ -61,6 +64,84 @@ class RewardServiceTest extends ServiceTest {
         assertThat(loginMember.getReward()).isEqualTo(beforeReward + video.getRewardPoint());
     }
 
+    @Test
+    @DisplayName("리워드를 생성하면 DB 잔액이 증가하고 적립된 리워드마다 리워드 id 로 ledger 를 남긴다.")
+    void createVideoRewardsLedger() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+
+        Member loginMember = createMemberWithChannel();
+        int beforeReward = loginMember.getReward();
+
+        //when
+        rewardService.createVideoRewardsIfNotPresent(List.of(video1, video2), loginMember);
+
+        //then
+        List<Reward> rewards = rewardRepository.findAll();
+
+        em.flush();
+        em.clear();
+
+        assertThat(memberRepository.findById(loginMember.getMemberId()).orElseThrow().getReward())
+                .isEqualTo(beforeReward + video1.getRewardPoint() + video2.getRewardPoint());
+
+        assertThat(rewardLedgerRepository.findByMemberIdOrderByRewardLedgerIdAsc(loginMember.getMemberId()))
+                .extracting("ledgerType", "referenceId")
+                .containsExactlyInAnyOrderElementsOf(rewards.stream()
+                        .map(reward -> tuple(RewardLedgerType.REWARD_GRANT, String.valueOf(reward.getRewardId())))
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("비디오 리스트를 통해 리워드를 한 번에 생성한다.")
+    void createVideoRewardsIfNotPresent() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+
+        Member loginMember = createMemberWithChannel();
+        int beforeReward = loginMember.getReward();
+
+        //when
+        rewardService.createVideoRewardsIfNotPresent(List.of(video1, video2), loginMember);
+
+        //then
+        List<Reward> rewards = rewardRepository.findAll();
+        assertThat(rewards).hasSize(2)
+                .extracting("video").containsOnly(video1, video2);
+        assertThat(rewards).extracting("rewardType").containsOnly(RewardType.VIDEO);
+        assertThat(loginMember.getReward())
+                .isEqualTo(beforeReward + video1.getRewardPoint() + video2.getRewardPoint());
+    }
+
+    @Test
+    @DisplayName("비디오 리스트를 통해 리워드를 생성할 때 취소되지 않은 리워드가 이미 있는 비디오는 제외한다.")
+    void createVideoRewardsIfPresent() {
+        //given
+        Member owner = createMemberWithChannel();
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+        Video video3 = createAndSaveVideo(owner.getChannel());
+
+        Member loginMember = createMemberWithChannel();
+
+        createAndSaveReward(loginMember, video1);
+        Reward canceledReward = createAndSaveReward(loginMember, video2);
+        canceledReward.cancelReward();
+
+        //when
+        rewardService.createVideoRewardsIfNotPresent(List.of(video1, video2, video3), loginMember);
+
+        //then
+        List<Reward> rewards = rewardRepository.findAll();
+        assertThat(rewards).hasSize(4);
+        assertThat(rewards).filteredOn(reward -> !reward.isCanceled())
+                .extracting("video").containsExactlyInAnyOrder(video1, video2, video3);
+    }
+
     @Test
     @DisplayName("문제를 통해 리워드를 생성한다.")
     void createQuestionRewardIfNotPresent() {
@@ -305,7 +386,7 @@ class RewardServiceTest extends ServiceTest {
         createAndSaveReward(loginMember, video);
         createAndSaveReward(loginMember, question);
 
-        loginMember.minusReward(loginMember.getReward()); // 리워드를 0 으로 만든다.
+        minusReward(loginMember, loginMember.getReward()); // 리워드를 0 으로 만든다.
 
         int currentPoint = order.getRemainRefundReward();
 
@@ -407,7 +488,7 @@ class RewardServiceTest extends ServiceTest {
         createAndSaveReward(loginMember, video);
         createAndSaveReward(loginMember, question);
 
-        loginMember.minusReward(loginMember.getReward()); // 리워드 소멸
+        minusReward(loginMember, loginMember.getReward()); // 리워드 소멸
 
         //when
         rewardService.cancelVideoReward(orderVideo);
@@ -433,7 +514,7 @@ class RewardServiceTest extends ServiceTest {
         createAndSaveReward(loginMember, video);
         createAndSaveReward(loginMember, question);
 
-        loginMember.minusReward(loginMember.getReward() - 10); // 10원만 남기고 리워드 소멸
+        minusReward(loginMember, loginMember.getReward() - 10); // 10원만 남기고 리워드 소멸
         int beforeMemberReward = loginMember.getReward();
 
         //when
@@ -461,7 +542,7 @@ class RewardServiceTest extends ServiceTest {
         createAndSaveReward(member, video);
         createAndSaveReward(member, question);
 
-        member.minusReward(member.getReward()); // 리워드 소멸
+        minusReward(member, member.getReward()); // 리워드 소멸
 
         //when
         rewardService.cancelVideoReward(orderVideo);
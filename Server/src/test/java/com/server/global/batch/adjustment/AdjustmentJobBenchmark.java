@@ -0,0 +1,119 @@
+package com.server.global.batch.adjustment;
+
+import com.server.domain.account.domain.Account;
+import com.server.domain.account.domain.Bank;
+import com.server.domain.adjustment.repository.AdjustmentRepository;
+import com.server.domain.adjustment.repository.dto.AdjustmentFirmBank;
+import com.server.domain.member.entity.Member;
+import com.server.domain.order.entity.Order;
+import com.server.domain.video.entity.Video;
+import com.server.global.batch.reader.JpaKeysetItemReader;
+import com.server.global.testhelper.BenchmarkRunner;
+import com.server.global.testhelper.ServiceTest;
+import com.server.module.firmbank.FirmBankService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 펌뱅킹 응답 지연이 있을 때 순차 이체와 파티션 + 비동기 이체 정산 job 의 소요 시간을 비교한다.
+ * job 은 배치 메타 테이블을 사용하므로 테스트 트랜잭션 없이 실행한다.
+ *
+ * ./gradlew benchmark --tests '*AdjustmentJobBenchmark' -Pbenchmark.creators=200 -Pbenchmark.firmbank-latency-ms=20 \
+ *     -Pbenchmark.warmup=1 -Pbenchmark.iterations=5
+ */
+@EnabledIfSystemProperty(named = BenchmarkRunner.ENABLED_PROPERTY, matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdjustmentJobBenchmark extends ServiceTest {
+
+    private final int creators = Integer.getInteger("benchmark.creators", 100);
+
+    @DynamicPropertySource
+    static void firmBankLatency(DynamicPropertyRegistry registry) {
+        registry.add("firmbank.mock.latency-ms", () -> Integer.getInteger("benchmark.firmbank-latency-ms", 20));
+    }
+
+    @Autowired JobLauncher jobLauncher;
+    @Autowired @Qualifier("adjustmentJob") Job adjustmentJob;
+    @Autowired FirmBankService firmBankService;
+    @Autowired AdjustmentRepository adjustmentRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("크리에이터별 순차 이체와 정산 job 의 소요 시간을 비교한다.")
+    void adjustmentJob() {
+        //given
+        LocalDateTime lastMonth = LocalDateTime.now().minusMonths(1);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Member buyer = createAndSaveMember();
+
+            for (int i = 0; i < creators; i++) {
+                Member creator = createMemberWithChannel();
+                Account.createAccount("creator" + i, "1234-" + i, Bank.HN, creator);
+                Video video = createAndSaveVideo(creator.getChannel());
+
+                Order order = Order.createOrder(buyer, List.of(video), 0);
+                order.completeOrder(lastMonth, "paymentKey");
+                orderRepository.save(order);
+            }
+        });
+
+        YearMonth adjustmentMonth = YearMonth.from(lastMonth);
+        List<AdjustmentFirmBank> targets = em.createQuery(AdjustmentJobConfig.MONTHLY_AMOUNT_QUERY, AdjustmentFirmBank.class)
+                .setParameter("start", adjustmentMonth.atDay(1).atStartOfDay())
+                .setParameter("end", adjustmentMonth.plusMonths(1).atDay(1).atStartOfDay())
+                .setParameter("minId", 0L)
+                .setParameter("maxId", Long.MAX_VALUE)
+                .setParameter(JpaKeysetItemReader.LAST_ID, 0L)
+                .setParameter("year", adjustmentMonth.getYear())
+                .setParameter("month", adjustmentMonth.getMonthValue())
+                .getResultList();
+
+        assertThat(targets).hasSize(creators);
+
+        //when & then
+        BenchmarkRunner.measure("adjustment sequential transfer x" + creators, () ->
+                targets.forEach(target -> firmBankService.adjustment(
+                        target.getName(), target.getAccount(), target.getBank(), target.getAmount())));
+
+        BenchmarkRunner.measure("adjustment partitioned job x" + creators, () -> {
+            adjustmentRepository.deleteAllInBatch();
+
+            JobExecution execution = runAdjustmentJob();
+
+            assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+            assertThat(adjustmentRepository.count()).isEqualTo(creators);
+        });
+    }
+
+    private JobExecution runAdjustmentJob() {
+        try {
+            return jobLauncher.run(adjustmentJob,
+                    new JobParametersBuilder()
+                            .addString("time", LocalDateTime.now().toString())
+                            .toJobParameters());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
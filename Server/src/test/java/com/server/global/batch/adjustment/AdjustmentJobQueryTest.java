@@ -0,0 +1,133 @@
+package com.server.global.batch.adjustment;
+
+import com.server.domain.adjustment.repository.dto.AdjustmentFirmBank;
+import com.server.domain.member.entity.Member;
+import com.server.domain.order.entity.Order;
+import com.server.domain.order.entity.OrderVideo;
+import com.server.domain.video.entity.Video;
+import com.server.global.batch.reader.JpaKeysetItemReader;
+import com.server.global.testhelper.RepositoryTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdjustmentJobQueryTest extends RepositoryTest {
+
+    @Test
+    @DisplayName("기간 내 결제 완료된 주문을 크리에이터별로 한 번에 집계하고, 정산 금액이 없는 크리에이터는 제외한다.")
+    void monthlyAmountQuery() {
+        //given
+        Member owner = createMemberWithChannel();
+        createAndSaveAccount(owner);
+        Video video1 = createAndSaveVideo(owner.getChannel());
+        Video video2 = createAndSaveVideo(owner.getChannel());
+
+        Member otherOwner = createMemberWithChannel();
+        createAndSaveAccount(otherOwner);
+        Video otherVideo = createAndSaveVideo(otherOwner.getChannel());
+
+        Member member1 = createMemberWithChannel();
+        Member member2 = createMemberWithChannel();
+
+        Order order1 = createAndSaveOrderComplete(member1, List.of(video1, video2));
+        createAndSaveOrderComplete(member2, List.of(video1, video2));
+        Order otherOrder = createAndSaveOrderComplete(member2, List.of(otherVideo));
+
+        OrderVideo canceled = order1.getOrderVideos().get(0);
+        order1.cancelVideoOrder(canceled);
+        otherOrder.cancelVideoOrder(otherOrder.getOrderVideos().get(0));
+
+        em.flush();
+        em.clear();
+
+        int expectedAmount = (video1.getPrice() + video2.getPrice()) * 2 - canceled.getPrice();
+
+        YearMonth thisMonth = YearMonth.now();
+
+        //when
+        List<AdjustmentFirmBank> results = findMonthlyAmounts(thisMonth, 0L, Long.MAX_VALUE);
+
+        //then
+        assertThat(results).hasSize(1)
+                .extracting("memberId", "name", "account", "amount")
+                .containsExactly(tuple(owner.getMemberId(), "kim", "1234", expectedAmount));
+    }
+
+    @Test
+    @DisplayName("기간이 지난 주문은 집계하지 않는다.")
+    void monthlyAmountQueryOutOfRange() {
+        //given
+        Member owner = createMemberWithChannel();
+        createAndSaveAccount(owner);
+        Video video = createAndSaveVideo(owner.getChannel());
+
+        createAndSaveOrderComplete(createMemberWithChannel(), List.of(video));
+
+        em.flush();
+        em.clear();
+
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+
+        //when
+        List<AdjustmentFirmBank> results = findMonthlyAmounts(lastMonth, 0L, Long.MAX_VALUE);
+
+        //then
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파티션의 member id 구간 밖이거나 이미 정산 내역이 있는 크리에이터는 집계하지 않는다.")
+    void monthlyAmountQueryExcludesOtherPartitionAndAdjusted() {
+        //given
+        Member owner = createMemberWithChannel();
+        createAndSaveAccount(owner);
+        Video video = createAndSaveVideo(owner.getChannel());
+
+        Member adjustedOwner = createMemberWithChannel();
+        createAndSaveAccount(adjustedOwner);
+        Video adjustedVideo = createAndSaveVideo(adjustedOwner.getChannel());
+
+        createAndSaveOrderComplete(createMemberWithChannel(), List.of(video, adjustedVideo));
+
+        YearMonth thisMonth = YearMonth.now();
+        createAndSaveAdjustment(adjustedOwner, thisMonth.getYear(), thisMonth.getMonthValue());
+
+        em.flush();
+        em.clear();
+
+        //when
+        List<AdjustmentFirmBank> all = findMonthlyAmounts(thisMonth, 0L, Long.MAX_VALUE);
+        List<AdjustmentFirmBank> otherPartition = findMonthlyAmounts(thisMonth, 0L, owner.getMemberId() - 1);
+
+        //then
+        assertThat(all).extracting("memberId").containsExactly(owner.getMemberId());
+        assertThat(otherPartition).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정산 대상 월은 job 실행 시각의 지난달이다.")
+    void adjustmentMonth() {
+        //when
+        YearMonth adjustmentMonth = AdjustmentJobConfig.adjustmentMonth("2024-01-15T02:00:00");
+
+        //then
+        assertThat(adjustmentMonth).isEqualTo(YearMonth.of(2023, 12));
+    }
+
+    private List<AdjustmentFirmBank> findMonthlyAmounts(YearMonth month, Long minId, Long maxId) {
+
+        return em.createQuery(AdjustmentJobConfig.MONTHLY_AMOUNT_QUERY, AdjustmentFirmBank.class)
+                .setParameter("start", month.atDay(1).atStartOfDay())
+                .setParameter("end", month.plusMonths(1).atDay(1).atStartOfDay())
+                .setParameter("minId", minId)
+                .setParameter("maxId", maxId)
+                .setParameter(JpaKeysetItemReader.LAST_ID, 0L)
+                .setParameter("year", month.getYear())
+                .setParameter("month", month.getMonthValue())
+                .getResultList();
+    }
+}
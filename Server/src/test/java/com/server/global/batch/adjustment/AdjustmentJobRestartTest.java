@@ -0,0 +1,123 @@
+package com.server.global.batch.adjustment;
+
+import com.server.domain.account.domain.Account;
+import com.server.domain.account.domain.Bank;
+import com.server.domain.adjustment.domain.Adjustment;
+import com.server.domain.adjustment.domain.AdjustmentStatus;
+import com.server.domain.adjustment.repository.AdjustmentCacheRepository;
+import com.server.domain.adjustment.repository.AdjustmentRepository;
+import com.server.domain.member.entity.Member;
+import com.server.domain.order.entity.Order;
+import com.server.domain.video.entity.Video;
+import com.server.global.testhelper.ServiceTest;
+import com.server.module.firmbank.FirmBankService;
+import com.server.module.firmbank.response.AdjustmentResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 이체 이후 chunk 가 롤백되어도 재시작한 정산 job 이 같은 크리에이터에게 다시 이체하지 않는지 확인한다.
+ * job 은 배치 메타 테이블을 사용하므로 테스트 트랜잭션 없이 실행하고, 저장한 데이터는 직접 지운다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdjustmentJobRestartTest extends ServiceTest {
+
+    private static final int CREATORS = 3;
+
+    @Autowired JobLauncher jobLauncher;
+    @Autowired @Qualifier("adjustmentJob") Job adjustmentJob;
+    @Autowired AdjustmentRepository adjustmentRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @MockBean FirmBankService firmBankService;
+    @SpyBean AdjustmentCacheRepository adjustmentCacheRepository;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            adjustmentRepository.deleteAllInBatch();
+            orderRepository.deleteAll();
+            videoRepository.deleteAll();
+            channelRepository.deleteAll();
+            memberRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("이체 후 writer 가 실패해 chunk 가 롤백되어도, 재시작한 job 은 다시 이체하지 않고 정산 내역은 이체 결과로 남는다.")
+    void restartAfterWriterFailureDoesNotTransferAgain() throws Exception {
+        //given
+        LocalDateTime lastMonth = LocalDateTime.now().minusMonths(1);
+        saveCreatorsWithSales(lastMonth);
+
+        given(firmBankService.adjustment(anyString(), anyString(), any(Bank.class), anyInt()))
+                .willReturn(AdjustmentResult.builder()
+                        .status(AdjustmentStatus.ADJUSTED)
+                        .reason(AdjustmentStatus.ADJUSTED.getDescription())
+                        .build());
+
+        // 이체가 끝난 뒤 첫 chunk 의 writer 가 실패한다.
+        doThrow(new IllegalStateException("writer failure"))
+                .doCallRealMethod()
+                .when(adjustmentCacheRepository).deleteSettledMonths(anyCollection());
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("time", LocalDateTime.now().toString())
+                .toJobParameters();
+
+        //when
+        JobExecution failed = jobLauncher.run(adjustmentJob, jobParameters);
+        JobExecution restarted = jobLauncher.run(adjustmentJob, jobParameters);
+
+        //then
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        verify(firmBankService, times(CREATORS)).adjustment(anyString(), anyString(), any(Bank.class), anyInt());
+
+        List<Adjustment> adjustments = adjustmentRepository.findAll();
+        assertThat(adjustments).hasSize(CREATORS)
+                .extracting(Adjustment::getAdjustmentStatus)
+                .containsOnly(AdjustmentStatus.ADJUSTED);
+    }
+
+    private void saveCreatorsWithSales(LocalDateTime completedDate) {
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Member buyer = createAndSaveMember();
+
+            for (int i = 0; i < CREATORS; i++) {
+                Member creator = createMemberWithChannel();
+                Account.createAccount("creator" + i, "1234-" + i, Bank.HN, creator);
+                Video video = createAndSaveVideo(creator.getChannel());
+
+                Order order = Order.createOrder(buyer, List.of(video), 0);
+                order.completeOrder(completedDate, "paymentKey");
+                orderRepository.save(order);
+            }
+        });
+    }
+}
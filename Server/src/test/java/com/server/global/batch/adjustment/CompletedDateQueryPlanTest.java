@@ -0,0 +1,120 @@
+package com.server.global.batch.adjustment;
+
+import com.server.global.query.DatePeriod;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 완료일 범위 조건이 MySQL 에서 idx_orders_completed_date 를 타는지 실행 계획으로 확인한다.
+ * 조건은 {@link DatePeriod} 의 범위로 만들고, 실제 쿼리가 이 형태의 조건을 만드는지는 {@link CompletedDateQuerySqlTest} 에서 확인한다.
+ * H2 는 실행 계획이 달라 MySQL 컨테이너에서 실행하며, docker 가 없으면 건너뛴다.
+ */
+class CompletedDateQueryPlanTest {
+
+    private static final String MYSQL_DOCKER_IMAGE = "mysql:8.0";
+    private static final String INDEX_NAME = "idx_orders_completed_date";
+
+    private static GenericContainer<?> mysql;
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "docker 가 없어 실행 계획 테스트를 건너뜁니다.");
+
+        mysql = new GenericContainer<>(DockerImageName.parse(MYSQL_DOCKER_IMAGE))
+                .withEnv("MYSQL_ROOT_PASSWORD", "test")
+                .withEnv("MYSQL_DATABASE", "test")
+                .withExposedPorts(3306)
+                .waitingFor(Wait.forLogMessage(".*ready for connections.*port: 3306.*\\n", 1));
+        mysql.start();
+
+        connection = DriverManager.getConnection(
+                "jdbc:mysql://" + mysql.getHost() + ":" + mysql.getMappedPort(3306) + "/test", "root", "test");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE orders (" +
+                    "order_id VARCHAR(255) NOT NULL, " +
+                    "payment_key VARCHAR(255), " +
+                    "total_pay_amount INT, " +
+                    "completed_date DATETIME(6), " +
+                    "PRIMARY KEY (order_id))");
+
+            // 2년 동안 고르게 완료된 주문 (한 달은 전체의 약 4%)
+            statement.execute("INSERT INTO orders (order_id, payment_key, total_pay_amount, completed_date) " +
+                    "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000) " +
+                    "SELECT CONCAT('order-', n), 'paymentKey', 1000, TIMESTAMP('2023-01-01') + INTERVAL (n % 730) DAY FROM seq");
+
+            statement.execute(migration("db/migration/V7__add_orders_completed_date_index.sql"));
+            statement.execute("ANALYZE TABLE orders");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null) connection.close();
+        if (mysql != null) mysql.stop();
+    }
+
+    @Test
+    @DisplayName("[start, end) 범위 조건은 완료일 인덱스로 range 조회한다.")
+    void rangePredicateUsesIndex() throws Exception {
+        //given
+        DatePeriod period = DatePeriod.of(YearMonth.of(2023, 9));
+
+        //when
+        ResultSet plan = explain("SELECT o.order_id, o.total_pay_amount FROM orders o " +
+                "WHERE o.payment_key IS NOT NULL AND o.completed_date >= ? AND o.completed_date < ?", period);
+
+        //then
+        assertThat(plan.getString("key")).isEqualTo(INDEX_NAME);
+        assertThat(plan.getString("type")).isEqualTo("range");
+    }
+
+    @Test
+    @DisplayName("컬럼에 YEAR(), MONTH() 를 씌우면 인덱스를 쓰지 못하고 전체를 읽는다.")
+    void functionPredicateScansTable() throws Exception {
+        //when
+        ResultSet plan = explain("SELECT o.order_id, o.total_pay_amount FROM orders o " +
+                "WHERE o.payment_key IS NOT NULL AND YEAR(o.completed_date) = 2023 AND MONTH(o.completed_date) = 9", null);
+
+        //then
+        assertThat(plan.getString("key")).isNull();
+        assertThat(plan.getString("type")).isEqualTo("ALL");
+    }
+
+    private ResultSet explain(String sql, DatePeriod period) throws SQLException {
+
+        PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+
+        if (period != null) {
+            statement.setTimestamp(1, Timestamp.valueOf(period.getStart()));
+            statement.setTimestamp(2, Timestamp.valueOf(period.getEnd()));
+        }
+
+        ResultSet resultSet = statement.executeQuery();
+        resultSet.next();
+        return resultSet;
+    }
+
+    private static String migration(String path) throws Exception {
+        return StreamUtils.copyToString(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8)
+                .lines()
+                .filter(line -> !line.startsWith("--"))
+                .reduce("", (a, b) -> a + b + "\n");
+    }
+}
@@ -0,0 +1,64 @@
+package com.server.global.batch.adjustment;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.server.global.query.DatePeriod;
+import com.server.global.testhelper.RepositoryTest;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static com.server.domain.order.entity.QOrder.order;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 완료일, 주문일 조건이 실제로 만들어지는 SQL 에서 컬럼을 함수로 감싸지 않은 범위 조건인지 확인한다.
+ * 이 형태의 조건이 MySQL 에서 인덱스를 타는지는 {@link CompletedDateQueryPlanTest} 에서 확인한다.
+ */
+class CompletedDateQuerySqlTest extends RepositoryTest {
+
+    @Test
+    @DisplayName("정산 job 의 집계 쿼리는 완료일을 start 이상, end 미만으로 비교한다.")
+    void monthlyAmountQuerySql() {
+        //when
+        String sql = toSql(AdjustmentJobConfig.MONTHLY_AMOUNT_QUERY);
+
+        //then
+        assertThat(sql)
+                .containsPattern("\\.completed_date\\s*>=\\s*\\?")
+                .containsPattern("\\.completed_date\\s*<\\s*\\?")
+                .doesNotContain("year(", "month(", "extract(");
+    }
+
+    @Test
+    @DisplayName("querydsl 로 만든 기간 조건은 주문일을 start 이상, end 미만으로 비교한다.")
+    void datePeriodSql() {
+        //given
+        String jpql = new JPAQuery<>(em)
+                .select(order.orderId)
+                .from(order)
+                .where(DatePeriod.recentMonths(1, LocalDate.now()).contains(order.createdDate))
+                .toString();
+
+        //when
+        String sql = toSql(jpql);
+
+        //then
+        assertThat(sql)
+                .containsPattern("\\.created_date\\s*>=\\s*\\?")
+                .containsPattern("\\.created_date\\s*<\\s*\\?")
+                .doesNotContain("year(", "month(", "extract(", "between");
+    }
+
+    private String toSql(String jpql) {
+
+        SessionFactoryImplementor sessionFactory = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+
+        return String.join(" ", sessionFactory.getQueryPlanCache()
+                        .getHQLQueryPlan(jpql, false, Collections.emptyMap())
+                        .getSqlStrings())
+                .toLowerCase();
+    }
+}
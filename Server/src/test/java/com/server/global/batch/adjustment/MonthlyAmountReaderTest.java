@@ -0,0 +1,158 @@
+package com.server.global.batch.adjustment;
+
+import com.server.domain.account.domain.Account;
+import com.server.domain.account.domain.Bank;
+import com.server.domain.adjustment.domain.Adjustment;
+import com.server.domain.adjustment.domain.AdjustmentStatus;
+import com.server.domain.adjustment.repository.AdjustmentRepository;
+import com.server.domain.adjustment.repository.dto.AdjustmentFirmBank;
+import com.server.domain.member.entity.Member;
+import com.server.domain.order.entity.Order;
+import com.server.domain.video.entity.Video;
+import com.server.global.batch.reader.JpaKeysetItemReader;
+import com.server.global.testhelper.ServiceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정산 job 의 reader 를 실제 쿼리와 DB 로 확인한다.
+ * reader 는 페이지마다 새 EntityManager 로 읽으므로 테스트 트랜잭션 없이 저장하고, 저장한 데이터는 직접 지운다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MonthlyAmountReaderTest extends ServiceTest {
+
+    private static final int CREATORS = 5;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired AdjustmentRepository adjustmentRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            adjustmentRepository.deleteAllInBatch();
+            orderRepository.deleteAll();
+            videoRepository.deleteAll();
+            channelRepository.deleteAll();
+            memberRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("writer 가 읽은 크리에이터의 정산 내역을 저장해 조회 결과에서 빠져도, 다음 페이지에서 건너뛰는 크리에이터 없이 모두 읽는다.")
+    void readAllWhileWriterClaims() {
+        //given
+        YearMonth month = YearMonth.now();
+        List<Long> creatorIds = saveCreatorsWithSales();
+
+        JpaKeysetItemReader<AdjustmentFirmBank> reader = createReader(month);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+
+        //when
+        List<Long> read = new ArrayList<>();
+        List<AdjustmentFirmBank> chunk;
+        while (!(chunk = readChunk(reader)).isEmpty()) {
+            chunk.forEach(item -> read.add(item.getMemberId()));
+            // writer 가 정산 내역을 먼저 저장(선점)하면 NOT EXISTS 조건으로 이후 조회에서 빠진다.
+            saveAdjustments(chunk, month);
+            reader.update(executionContext);
+        }
+        reader.close();
+
+        //then
+        assertThat(read).containsExactlyElementsOf(creatorIds);
+    }
+
+    @Test
+    @DisplayName("재시작하면 저장된 마지막 크리에이터 다음부터 읽고, 커밋되지 않은 chunk 의 크리에이터는 다시 읽는다.")
+    void restartFromSavedLastKey() {
+        //given
+        YearMonth month = YearMonth.now();
+        List<Long> creatorIds = saveCreatorsWithSales();
+        ExecutionContext executionContext = new ExecutionContext();
+
+        JpaKeysetItemReader<AdjustmentFirmBank> failed = createReader(month);
+        failed.open(executionContext);
+        readChunk(failed);
+        failed.update(executionContext);
+        // 두 번째 chunk 는 커밋 전에 실패해 저장되지 않는다.
+        readChunk(failed);
+        failed.close();
+
+        //when
+        JpaKeysetItemReader<AdjustmentFirmBank> restarted = createReader(month);
+        restarted.open(executionContext);
+
+        List<Long> read = new ArrayList<>();
+        List<AdjustmentFirmBank> chunk;
+        while (!(chunk = readChunk(restarted)).isEmpty()) {
+            chunk.forEach(item -> read.add(item.getMemberId()));
+        }
+        restarted.close();
+
+        //then
+        assertThat(read).containsExactlyElementsOf(creatorIds.subList(PAGE_SIZE, CREATORS));
+    }
+
+    private JpaKeysetItemReader<AdjustmentFirmBank> createReader(YearMonth month) {
+        return AdjustmentJobConfig.createMonthlyAmountReader(entityManagerFactory, month, 0L, Long.MAX_VALUE, PAGE_SIZE);
+    }
+
+    private List<AdjustmentFirmBank> readChunk(JpaKeysetItemReader<AdjustmentFirmBank> reader) {
+
+        List<AdjustmentFirmBank> chunk = new ArrayList<>();
+        AdjustmentFirmBank item;
+        while (chunk.size() < PAGE_SIZE && (item = reader.read()) != null) {
+            chunk.add(item);
+        }
+        return chunk;
+    }
+
+    private List<Long> saveCreatorsWithSales() {
+
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Member buyer = createAndSaveMember();
+            List<Long> creatorIds = new ArrayList<>();
+
+            for (int i = 0; i < CREATORS; i++) {
+                Member creator = createMemberWithChannel();
+                Account.createAccount("creator" + i, "1234-" + i, Bank.HN, creator);
+                Video video = createAndSaveVideo(creator.getChannel());
+
+                Order order = Order.createOrder(buyer, List.of(video), 0);
+                order.completeOrder(LocalDateTime.now(), "paymentKey");
+                orderRepository.save(order);
+
+                creatorIds.add(creator.getMemberId());
+            }
+
+            return creatorIds;
+        });
+    }
+
+    private void saveAdjustments(List<AdjustmentFirmBank> targets, YearMonth month) {
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> targets.forEach(target ->
+                adjustmentRepository.save(Adjustment.createAdjustment(month.getYear(), month.getMonthValue(),
+                        memberRepository.getReferenceById(target.getMemberId()),
+                        target.getName(), target.getAccount(), target.getBank(), target.getAmount(),
+                        AdjustmentStatus.ADJUSTED, AdjustmentStatus.ADJUSTED.getDescription()))));
+    }
+}
@@ -0,0 +1,134 @@
+package com.server.global.batch.cancelvideo;
+
+import com.server.domain.member.entity.Member;
+import com.server.domain.video.entity.Video;
+import com.server.global.batch.reader.JpaKeysetItemReader;
+import com.server.global.testhelper.ServiceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업로드가 끝나지 않은 video 를 지우는 job 의 reader 를 실제 쿼리와 DB 로 확인한다.
+ * reader 는 페이지마다 새 EntityManager 로 읽으므로 테스트 트랜잭션 없이 저장하고, 저장한 데이터는 직접 지운다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VideoReaderTest extends ServiceTest {
+
+    private static final int UPLOADING_VIDEOS = 5;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            videoRepository.deleteAll();
+            channelRepository.deleteAll();
+            memberRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("writer 가 읽은 video 를 삭제해도 다음 페이지에서 건너뛰는 video 없이 UPLOADING 상태인 video 만 모두 읽는다.")
+    void readAllWhileWriterDeletes() {
+        //given
+        List<Long> uploadingIds = saveVideos();
+
+        JpaKeysetItemReader<Video> reader = createReader();
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+
+        //when
+        List<Long> read = new ArrayList<>();
+        List<Video> chunk;
+        while (!(chunk = readChunk(reader)).isEmpty()) {
+            chunk.forEach(video -> read.add(video.getVideoId()));
+            // cancelVideoStep 의 writer 와 같이 읽은 video 를 삭제한다.
+            videoRepository.deleteAllInBatch(chunk);
+            reader.update(executionContext);
+        }
+        reader.close();
+
+        //then
+        assertThat(read).containsExactlyElementsOf(uploadingIds);
+        assertThat(videoRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("재시작하면 저장된 마지막 videoId 다음부터 읽고, 커밋되지 않은 chunk 의 video 는 다시 읽는다.")
+    void restartFromSavedLastKey() {
+        //given
+        List<Long> uploadingIds = saveVideos();
+        ExecutionContext executionContext = new ExecutionContext();
+
+        JpaKeysetItemReader<Video> failed = createReader();
+        failed.open(executionContext);
+        videoRepository.deleteAllInBatch(readChunk(failed));
+        failed.update(executionContext);
+        // 두 번째 chunk 는 삭제가 커밋되기 전에 실패해 저장되지 않는다.
+        readChunk(failed);
+        failed.close();
+
+        //when
+        JpaKeysetItemReader<Video> restarted = createReader();
+        restarted.open(executionContext);
+
+        List<Long> read = new ArrayList<>();
+        List<Video> chunk;
+        while (!(chunk = readChunk(restarted)).isEmpty()) {
+            chunk.forEach(video -> read.add(video.getVideoId()));
+        }
+        restarted.close();
+
+        //then
+        assertThat(read).containsExactlyElementsOf(uploadingIds.subList(PAGE_SIZE, UPLOADING_VIDEOS));
+    }
+
+    private JpaKeysetItemReader<Video> createReader() {
+        // 방금 저장한 video 도 대상이 되도록 생성 시각 기준을 현재 이후로 둔다.
+        return CancelVideoJobConfig.createVideoReader(entityManagerFactory, LocalDateTime.now().plusMinutes(1), PAGE_SIZE);
+    }
+
+    private List<Video> readChunk(JpaKeysetItemReader<Video> reader) {
+
+        List<Video> chunk = new ArrayList<>();
+        Video item;
+        while (chunk.size() < PAGE_SIZE && (item = reader.read()) != null) {
+            chunk.add(item);
+        }
+        return chunk;
+    }
+
+    // UPLOADING 상태인 video 와 업로드가 끝난 video 하나를 저장하고, UPLOADING video 의 id 를 반환한다.
+    private List<Long> saveVideos() {
+
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Member member = createMemberWithChannel();
+
+            List<Video> uploading = new ArrayList<>();
+            for (int i = 0; i < UPLOADING_VIDEOS; i++) {
+                uploading.add(videoRepository.save(Video.createVideo(member.getChannel(), "uploading" + i)));
+            }
+
+            createAndSaveVideo(member.getChannel());
+
+            return uploading.stream().map(Video::getVideoId).collect(Collectors.toList());
+        });
+    }
+}
@@ -0,0 +1,384 @@
+package com.server.global.batch.lock;
+
+import com.server.global.batch.reader.KeysetItemReader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 같은 redis 를 바라보는 여러 노드(ClusteredJobLauncher 인스턴스)로 job 실행 잠금을 확인한다.
+ * docker 가 없으면 건너뛴다.
+ */
+class ClusteredJobLauncherTest {
+
+    private static final String REDIS_DOCKER_IMAGE = "redis:5.0.3-alpine";
+
+    private static final long LEASE_MS = 500;
+    private static final long RENEW_INTERVAL_MS = 150;
+    private static final long RETRY_INTERVAL_MS = 50;
+    private static final long FAILOVER_WINDOW_MS = 5000;
+
+    private static GenericContainer<?> redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static BatchJobLock batchJobLock;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "docker 가 없어 분산 잠금 테스트를 건너뜁니다.");
+
+        redis = new GenericContainer<>(DockerImageName.parse(REDIS_DOCKER_IMAGE))
+                .withExposedPorts(6379);
+        redis.start();
+
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        batchJobLock = new BatchJobLock(stringRedisTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (connectionFactory != null) connectionFactory.destroy();
+        if (redis != null) redis.stop();
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 같은 job 을 실행해도 한 노드에서 한 번만 실행된다.")
+    void runOnceAcrossNodes() throws Exception {
+        //given
+        FakeJobStore jobStore = new FakeJobStore(200);
+        Job job = job("runOnceJob");
+
+        int nodes = 3;
+        ExecutorService executorService = Executors.newFixedThreadPool(nodes);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<JobExecution>>> results = new ArrayList<>();
+
+        for (int i = 0; i < nodes; i++) {
+            ClusteredJobLauncher node = jobStore.launcher();
+            results.add(executorService.submit(() -> {
+                start.await();
+                return node.run(job, new JobParameters());
+            }));
+        }
+
+        //when
+        start.countDown();
+
+        int ranOnThisNode = 0;
+        for (Future<Optional<JobExecution>> result : results) {
+            if (result.get(10, TimeUnit.SECONDS).isPresent()) ranOnThisNode++;
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(jobStore.launchCount.get()).isEqualTo(1);
+        assertThat(ranOnThisNode).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행하던 노드가 죽으면 임대가 만료된 뒤 다른 노드가 이전 실행을 정리하고 재시작하며, 이전 노드의 fencing token 은 무효가 된다.")
+    void failoverAfterLeaseExpired() throws Exception {
+        //given
+        FakeJobStore jobStore = new FakeJobStore(0);
+        Job job = job("failoverJob");
+
+        // 잠금을 얻고 실행하다가 임대를 연장하지 못하고 죽은 노드
+        BatchJobLease deadLease = batchJobLock.tryAcquire("failoverJob", "dead-node", Duration.ofMillis(LEASE_MS))
+                .orElseThrow();
+        JobExecution staleExecution = jobStore.save(BatchStatus.STARTED);
+        StepExecution staleStep = staleExecution.createStepExecution("failoverStep");
+        staleStep.setStatus(BatchStatus.STARTED);
+
+        //when
+        Optional<JobExecution> execution = jobStore.launcher().run(job, new JobParameters());
+
+        //then
+        assertThat(execution).isPresent();
+        assertThat(jobStore.launchCount.get()).isEqualTo(1);
+        assertThat(staleExecution.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(staleStep.getStatus()).isEqualTo(BatchStatus.FAILED);
+        verify(jobStore.jobRepository).update(staleExecution);
+        verify(jobStore.jobRepository).update(staleStep);
+
+        Long newToken = execution.get().getJobParameters().getLong(ClusteredJobLauncher.FENCING_TOKEN);
+        assertThat(newToken).isGreaterThan(deadLease.getToken());
+        verify(jobStore.batchJobFencer).advance("failoverJob", newToken);
+        assertThatThrownBy(() -> batchJobLock.checkFencingToken("failoverJob", deadLease.getToken()))
+                .isInstanceOf(LeaseLostException.class);
+        assertThatCode(() -> batchJobLock.checkFencingToken("failoverJob", newToken))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("실행하던 노드가 죽으면 다른 노드가 같은 job 인스턴스를 재시작해 마지막으로 커밋된 chunk 다음부터 처리한다.")
+    void resumeAfterLastCommittedChunk() throws Exception {
+        //given
+        BatchInfrastructure batch = new BatchInfrastructure();
+        List<Long> written = new CopyOnWriteArrayList<>();
+        AtomicBoolean crash = new AtomicBoolean(true);
+
+        Job job = batch.job("resumeJob", 10, items -> {
+            if (crash.get() && items.contains(5L)) throw new IllegalStateException("node crashed");
+            written.addAll(items);
+        });
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("time", "2024-01-01T01:00")
+                .toJobParameters();
+
+        // 잠금을 얻고 두 chunk(1~4)를 커밋한 뒤 세 번째 chunk 에서 죽은 노드
+        batchJobLock.tryAcquire("resumeJob", "dead-node", Duration.ofMillis(LEASE_MS)).orElseThrow();
+        JobExecution dead = batch.jobLauncher.run(job, jobParameters);
+        batch.markRunning(dead);
+        crash.set(false);
+
+        //when
+        Optional<JobExecution> execution = batch.launcher().run(job, jobParameters);
+
+        //then
+        assertThat(execution).isPresent();
+        assertThat(execution.get().getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(execution.get().getJobInstance().getId()).isEqualTo(dead.getJobInstance().getId());
+        assertThat(batch.jobExplorer.getJobExecution(dead.getId()).getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(written).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    @DisplayName("임대를 연장하지 못하면 이 노드의 실행을 멈춘다.")
+    void stopWhenLeaseLost() throws Exception {
+        //given
+        BatchInfrastructure batch = new BatchInfrastructure();
+        List<Long> written = new CopyOnWriteArrayList<>();
+        CountDownLatch firstChunk = new CountDownLatch(1);
+
+        Job job = batch.job("stopJob", 1000, items -> {
+            written.addAll(items);
+            firstChunk.countDown();
+            Thread.sleep(20);
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<Optional<JobExecution>> result = executorService.submit(() -> batch.launcher().run(job, new JobParameters()));
+
+        //when
+        // 임대가 만료되어 다른 노드가 잠금을 가져갔다.
+        assertThat(firstChunk.await(5, TimeUnit.SECONDS)).isTrue();
+        stringRedisTemplate.delete("batch:lock:stopJob");
+        batchJobLock.tryAcquire("stopJob", "other-node", Duration.ofSeconds(10)).orElseThrow();
+
+        Optional<JobExecution> execution = result.get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertThat(execution).isPresent();
+        assertThat(execution.get().getStatus()).isEqualTo(BatchStatus.STOPPED);
+        assertThat(written.size()).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 잠금은 연장하거나 해제할 수 없다.")
+    void cannotRenewOrReleaseOthersLease() {
+        //given
+        BatchJobLease lease = batchJobLock.tryAcquire("ownerJob", "node-a", Duration.ofSeconds(10)).orElseThrow();
+        BatchJobLease other = new BatchJobLease("ownerJob", "node-b", lease.getToken());
+
+        //when
+        boolean renewed = batchJobLock.renew(other, Duration.ofSeconds(10));
+        batchJobLock.release(other);
+
+        //then
+        assertThat(renewed).isFalse();
+        assertThat(batchJobLock.tryAcquire("ownerJob", "node-b", Duration.ofSeconds(10))).isEmpty();
+
+        batchJobLock.release(lease);
+        assertThat(batchJobLock.tryAcquire("ownerJob", "node-b", Duration.ofSeconds(10))).isPresent();
+    }
+
+    private Job job(String name) {
+        Job job = mock(Job.class);
+        given(job.getName()).willReturn(name);
+        return job;
+    }
+
+    /**
+     * 모든 노드가 공유하는 job 저장소(JobRepository 메타 테이블)를 흉내낸다.
+     */
+    private static class FakeJobStore {
+
+        private final long runMillis;
+        private final AtomicReference<JobExecution> lastExecution = new AtomicReference<>();
+        private final AtomicInteger launchCount = new AtomicInteger();
+        private final JobExplorer jobExplorer = mock(JobExplorer.class);
+        private final JobRepository jobRepository = mock(JobRepository.class);
+        private final JobLauncher jobLauncher = mock(JobLauncher.class);
+        private final BatchJobFencer batchJobFencer = mock(BatchJobFencer.class);
+
+        FakeJobStore(long runMillis) throws Exception {
+            this.runMillis = runMillis;
+
+            given(jobExplorer.getJobInstance(anyString(), any())).willAnswer(invocation ->
+                    lastExecution.get() == null ? null : lastExecution.get().getJobInstance());
+            given(jobExplorer.getLastJobExecution(any())).willAnswer(invocation -> lastExecution.get());
+
+            given(jobLauncher.run(any(), any())).willAnswer(invocation -> {
+                launchCount.incrementAndGet();
+                JobExecution execution = save(BatchStatus.STARTED, invocation.getArgument(1));
+                Thread.sleep(this.runMillis);
+                execution.setStatus(BatchStatus.COMPLETED);
+                return execution;
+            });
+        }
+
+        JobExecution save(BatchStatus status) {
+            return save(status, new JobParameters());
+        }
+
+        JobExecution save(BatchStatus status, JobParameters jobParameters) {
+            JobExecution execution = new JobExecution(new JobInstance(1L, "job"), jobParameters);
+            execution.setStatus(status);
+            lastExecution.set(execution);
+            return execution;
+        }
+
+        ClusteredJobLauncher launcher() {
+            return new ClusteredJobLauncher(batchJobLock, batchJobFencer, jobLauncher, jobExplorer, jobRepository,
+                    LEASE_MS, RENEW_INTERVAL_MS, RETRY_INTERVAL_MS, FAILOVER_WINDOW_MS);
+        }
+    }
+
+    /**
+     * 임베디드 H2 의 배치 메타 테이블을 쓰는 실제 JobRepository 로 chunk 커밋과 재시작을 확인한다.
+     */
+    private static class BatchInfrastructure {
+
+        private final PlatformTransactionManager transactionManager;
+        private final JobRepository jobRepository;
+        private final JobExplorer jobExplorer;
+        private final SimpleJobLauncher jobLauncher;
+
+        BatchInfrastructure() throws Exception {
+            EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .addScript("classpath:org/springframework/batch/core/schema-h2.sql")
+                    .build();
+
+            transactionManager = new DataSourceTransactionManager(dataSource);
+
+            JobRepositoryFactoryBean jobRepositoryFactory = new JobRepositoryFactoryBean();
+            jobRepositoryFactory.setDataSource(dataSource);
+            jobRepositoryFactory.setTransactionManager(transactionManager);
+            jobRepositoryFactory.afterPropertiesSet();
+            jobRepository = jobRepositoryFactory.getObject();
+
+            JobExplorerFactoryBean jobExplorerFactory = new JobExplorerFactoryBean();
+            jobExplorerFactory.setDataSource(dataSource);
+            jobExplorerFactory.afterPropertiesSet();
+            jobExplorer = jobExplorerFactory.getObject();
+
+            jobLauncher = new SimpleJobLauncher();
+            jobLauncher.setJobRepository(jobRepository);
+            jobLauncher.afterPropertiesSet();
+        }
+
+        /**
+         * 1 ~ size 를 2 건씩 chunk 로 처리하는 job. reader 는 커밋된 chunk 의 마지막 key 를 저장한다.
+         */
+        Job job(String name, long size, ItemWriter<Long> writer) {
+
+            Step step = new StepBuilder(name + "Step")
+                    .repository(jobRepository)
+                    .transactionManager(transactionManager)
+                    .<Long, Long>chunk(2)
+                    .reader(new NumberReader(size))
+                    .writer(writer)
+                    .build();
+
+            return new JobBuilder(name)
+                    .repository(jobRepository)
+                    .start(step)
+                    .build();
+        }
+
+        /**
+         * 실행 중에 프로세스가 죽으면 메타 테이블에는 실행 중(STARTED) 상태가 그대로 남는다.
+         */
+        void markRunning(JobExecution execution) {
+
+            for (StepExecution stepExecution : execution.getStepExecutions()) {
+                stepExecution.setStatus(BatchStatus.STARTED);
+                stepExecution.setEndTime(null);
+                jobRepository.update(stepExecution);
+            }
+
+            execution.setStatus(BatchStatus.STARTED);
+            execution.setEndTime(null);
+            jobRepository.update(execution);
+        }
+
+        ClusteredJobLauncher launcher() {
+            return new ClusteredJobLauncher(batchJobLock, mock(BatchJobFencer.class), jobLauncher, jobExplorer, jobRepository,
+                    LEASE_MS, RENEW_INTERVAL_MS, RETRY_INTERVAL_MS, FAILOVER_WINDOW_MS);
+        }
+    }
+
+    private static class NumberReader extends KeysetItemReader<Long> {
+
+        private final long size;
+
+        NumberReader(long size) {
+            super(number -> number, 2, 0L);
+            this.size = size;
+            setName("numberReader");
+        }
+
+        @Override
+        protected List<Long> fetchPage(long lastKey, int pageSize) {
+            return LongStream.rangeClosed(lastKey + 1, Math.min(lastKey + pageSize, size))
+                    .boxed()
+                    .collect(Collectors.toList());
+        }
+    }
+}
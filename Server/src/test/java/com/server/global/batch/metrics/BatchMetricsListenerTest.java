@@ -0,0 +1,128 @@
+package com.server.global.batch.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BatchMetricsListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BatchMetrics batchMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchMetrics = new BatchMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("step 이 끝나면 파티션 step 을 step 단위로 묶어 읽기/처리/쓰기 건수를 기록한다.")
+    void stepMetrics() {
+        //given
+        StepExecution stepExecution = createJobExecution("adjustmentJob")
+                .createStepExecution("adjustmentWorkerStep:partition0");
+        stepExecution.setStartTime(new Date(System.currentTimeMillis() - 1000));
+        stepExecution.setStatus(BatchStatus.COMPLETED);
+        stepExecution.setReadCount(100);
+        stepExecution.setFilterCount(10);
+        stepExecution.setWriteCount(90);
+
+        //when
+        new StepMetricsListener(batchMetrics).afterStep(stepExecution);
+
+        //then
+        assertThat(itemCount("read")).isEqualTo(100);
+        assertThat(itemCount("process")).isEqualTo(90);
+        assertThat(itemCount("write")).isEqualTo(90);
+        assertThat(itemCount("filter")).isEqualTo(10);
+        assertThat(meterRegistry.get("batch.step.throughput").tag("step", "adjustmentWorkerStep").summary().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("chunk 처리 시간을 커밋/실패 결과별로 기록한다.")
+    void chunkMetrics() {
+        //given
+        ChunkMetricsListener listener = new ChunkMetricsListener(batchMetrics);
+        StepExecution stepExecution = createJobExecution("cancelVideoJob").createStepExecution("cancelVideoStep");
+
+        ChunkContext committed = new ChunkContext(new StepContext(stepExecution));
+        ChunkContext failed = new ChunkContext(new StepContext(stepExecution));
+
+        //when
+        listener.beforeChunk(committed);
+        listener.afterChunk(committed);
+        listener.beforeChunk(failed);
+        listener.afterChunkError(failed);
+
+        //then
+        assertThat(meterRegistry.get("batch.chunk.duration").tag("outcome", "committed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("batch.chunk.duration").tag("outcome", "failed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("job 이 끝나면 실행 시간을 기록하고 step 별 요약을 마지막 실행 결과로 남긴다.")
+    void jobMetrics() {
+        //given
+        JobExecution jobExecution = createJobExecution("cancelVideoJob");
+        jobExecution.setStartTime(new Date(System.currentTimeMillis() - 2000));
+        jobExecution.setEndTime(new Date());
+        jobExecution.setStatus(BatchStatus.FAILED);
+        jobExecution.addFailureException(new IllegalStateException("s3 error"));
+
+        StepExecution stepExecution = jobExecution.createStepExecution("cancelVideoStep");
+        stepExecution.setStatus(BatchStatus.FAILED);
+        stepExecution.setReadCount(1000);
+        stepExecution.setWriteCount(0);
+
+        //when
+        new JobMetricsListener(batchMetrics).afterJob(jobExecution);
+
+        //then
+        assertThat(meterRegistry.get("batch.job.duration").tag("status", "FAILED").timer().count()).isEqualTo(1);
+
+        BatchJobSummary summary = new BatchJobsEndpoint(batchMetrics).lastExecution("cancelVideoJob");
+        assertThat(summary.getStatus()).isEqualTo("FAILED");
+        assertThat(summary.getDurationMs()).isGreaterThanOrEqualTo(2000);
+        assertThat(summary.getFailures()).containsExactly("IllegalStateException: s3 error");
+        assertThat(summary.getSteps()).extracting("stepName", "readCount", "writeCount")
+                .containsExactly(tuple("cancelVideoStep", 1000, 0));
+    }
+
+    @Test
+    @DisplayName("외부 연동 호출 시간을 성공/실패 결과별로 기록하고 예외는 그대로 던진다.")
+    void externalCallMetrics() {
+        //when
+        String result = batchMetrics.recordExternalCall("firmbank.transfer", () -> "ok");
+
+        Throwable thrown = catchThrowable(() -> batchMetrics.recordExternalCall("s3.delete", () -> {
+            throw new IllegalStateException("s3 error");
+        }));
+
+        //then
+        assertThat(result).isEqualTo("ok");
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get(BatchMetrics.EXTERNAL_CALL)
+                .tags("target", "firmbank.transfer", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(BatchMetrics.EXTERNAL_CALL)
+                .tags("target", "s3.delete", "outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    private double itemCount(String type) {
+        return meterRegistry.get("batch.step.items")
+                .tags("job", "adjustmentJob", "step", "adjustmentWorkerStep", "type", type)
+                .counter().count();
+    }
+
+    private JobExecution createJobExecution(String jobName) {
+        return new JobExecution(new JobInstance(1L, jobName), new JobParameters());
+    }
+}
@@ -0,0 +1,111 @@
+package com.server.global.batch.reader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeysetItemReaderTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    @Test
+    @DisplayName("writer 가 읽은 항목을 삭제해도 다음 페이지에서 건너뛰는 항목 없이 모두 읽는다.")
+    void readAllWhileWriterDeletes() {
+        //given
+        TreeMap<Long, String> table = createTable(10);
+        KeysetItemReader<String> reader = new InMemoryKeysetItemReader(table);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+
+        //when
+        List<String> read = new ArrayList<>();
+        List<String> chunk;
+        while (!(chunk = readChunk(reader)).isEmpty()) {
+            read.addAll(chunk);
+            // writer 가 chunk 의 항목을 삭제한다.
+            chunk.forEach(item -> table.remove(keyOf(item)));
+            reader.update(executionContext);
+        }
+        reader.close();
+
+        //then
+        assertThat(read).containsExactlyElementsOf(createTable(10).values());
+        assertThat(table).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시작하면 ExecutionContext 에 저장된 마지막 key 다음부터 읽는다.")
+    void restartFromLastKey() {
+        //given
+        TreeMap<Long, String> table = createTable(10);
+        ExecutionContext executionContext = new ExecutionContext();
+
+        KeysetItemReader<String> failed = new InMemoryKeysetItemReader(table);
+        failed.open(executionContext);
+        readChunk(failed);
+        readChunk(failed);
+        failed.update(executionContext);
+        // 세 번째 chunk 는 커밋 전에 실패해 저장되지 않는다.
+        readChunk(failed);
+        failed.close();
+
+        //when
+        KeysetItemReader<String> restarted = new InMemoryKeysetItemReader(table);
+        restarted.open(executionContext);
+
+        List<String> read = new ArrayList<>();
+        List<String> chunk;
+        while (!(chunk = readChunk(restarted)).isEmpty()) {
+            read.addAll(chunk);
+        }
+
+        //then
+        assertThat(read).containsExactly("item7", "item8", "item9", "item10");
+    }
+
+    private List<String> readChunk(KeysetItemReader<String> reader) {
+
+        List<String> chunk = new ArrayList<>();
+        String item;
+        while (chunk.size() < PAGE_SIZE && (item = reader.read()) != null) {
+            chunk.add(item);
+        }
+        return chunk;
+    }
+
+    private TreeMap<Long, String> createTable(int size) {
+        return LongStream.rangeClosed(1, size)
+                .boxed()
+                .collect(Collectors.toMap(id -> id, id -> "item" + id, (a, b) -> a, TreeMap::new));
+    }
+
+    private static long keyOf(String item) {
+        return Long.parseLong(item.substring("item".length()));
+    }
+
+    private static class InMemoryKeysetItemReader extends KeysetItemReader<String> {
+
+        private final TreeMap<Long, String> table;
+
+        InMemoryKeysetItemReader(TreeMap<Long, String> table) {
+            super(KeysetItemReaderTest::keyOf, PAGE_SIZE, 0L);
+            this.table = table;
+            setName("inMemoryReader");
+        }
+
+        @Override
+        protected List<String> fetchPage(long lastKey, int pageSize) {
+            return table.tailMap(lastKey, false).values().stream()
+                    .limit(pageSize)
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.server.global.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class AsyncConfigTest {
+
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("장바구니 정리 executor 는 큐가 가득 차면 호출한 스레드에서 실행하지 않고 작업을 버린다.")
+    void cartCleanupExecutorDiscardsWhenFull() throws InterruptedException {
+        //given
+        executor = new AsyncConfig().cartCleanupExecutor(1, 1, 1);
+        executor.initialize();
+
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release)); // 실행 중
+        executor.execute(() -> await(release)); // 큐 대기
+
+        Thread caller = Thread.currentThread();
+        AtomicBoolean ranOnCaller = new AtomicBoolean();
+        AtomicBoolean ran = new AtomicBoolean();
+
+        //when
+        assertThatNoException().isThrownBy(() -> executor.execute(() -> {
+            ran.set(true);
+            ranOnCaller.set(Thread.currentThread() == caller);
+        }));
+
+        //then
+        release.countDown();
+        executor.getThreadPoolExecutor().shutdown();
+        assertThat(executor.getThreadPoolExecutor().awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ranOnCaller).isFalse();
+        assertThat(ran).isFalse();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.server.global.config;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.TimeoutOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisClientConfigTest {
+
+    @Test
+    @DisplayName("Lettuce 옵션을 바꿀 때 Spring Boot 가 만든 명령 timeout 설정을 유지한다.")
+    void keepBootClientOptions() {
+        //given
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder().timeoutOptions(TimeoutOptions.enabled()).build());
+
+        //when
+        new RedisClientConfig().lettuceClientCustomizer(100).customize(builder);
+
+        //then
+        ClientOptions options = builder.build().getClientOptions().orElseThrow();
+        assertThat(options.getTimeoutOptions().isTimeoutCommands()).isTrue();
+        assertThat(options.getDisconnectedBehavior()).isEqualTo(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS);
+        assertThat(options.getRequestQueueSize()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,87 @@
+package com.server.global.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("최소 호출 수 이상에서 실패율이 임계치를 넘으면 OPEN 되고 호출을 거절한다.")
+    void open() {
+        //given
+        CircuitBreaker circuitBreaker = new CircuitBreaker(10, 4, 50, 1000, 1, now::get);
+
+        //when
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        //then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최소 호출 수보다 적으면 모두 실패해도 OPEN 되지 않는다.")
+    void notOpenBeforeMinimumCalls() {
+        //given
+        CircuitBreaker circuitBreaker = new CircuitBreaker(10, 4, 50, 1000, 1, now::get);
+
+        //when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        //then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("OPEN 후 대기 시간이 지나면 HALF_OPEN 으로 시험 호출을 허용하고 성공하면 CLOSED 된다.")
+    void halfOpenToClosed() {
+        //given
+        CircuitBreaker circuitBreaker = openedCircuitBreaker();
+
+        //when
+        now.addAndGet(1000);
+
+        //then
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse(); // 시험 호출은 1번만 허용
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 상태에서 시험 호출이 실패하면 다시 OPEN 된다.")
+    void halfOpenToOpen() {
+        //given
+        CircuitBreaker circuitBreaker = openedCircuitBreaker();
+        now.addAndGet(1000);
+        circuitBreaker.tryAcquirePermission();
+
+        //when
+        circuitBreaker.onFailure();
+
+        //then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private CircuitBreaker openedCircuitBreaker() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(4, 2, 50, 1000, 1, now::get);
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,111 @@
+package com.server.global.http;
+
+import com.server.global.testhelper.StubPaymentServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExternalHttpClientFactoryTest {
+
+    private StubPaymentServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+    private ExternalHttpClientFactory factory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = new StubPaymentServer();
+        meterRegistry = new SimpleMeterRegistry();
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("http.client.default.max-connections", "10")
+                .withProperty("http.client.default.max-connections-per-route", "10")
+                .withProperty("http.client.default.connect-timeout-ms", "500")
+                .withProperty("http.client.default.connection-request-timeout-ms", "500")
+                .withProperty("http.client.default.read-timeout-ms", "5000")
+                .withProperty("http.client.default.keep-alive-ms", "30000")
+                .withProperty("http.client.default.max-concurrent-calls", "10")
+                .withProperty("http.client.default.bulkhead-wait-ms", "0")
+                .withProperty("http.client.default.circuit-breaker.window-size", "4")
+                .withProperty("http.client.default.circuit-breaker.minimum-calls", "2")
+                .withProperty("http.client.default.circuit-breaker.failure-rate-threshold", "50")
+                .withProperty("http.client.default.circuit-breaker.open-duration-ms", "60000")
+                .withProperty("http.client.default.circuit-breaker.half-open-calls", "1")
+                .withProperty("http.client.test.read-timeout-ms", "300");
+
+        factory = new ExternalHttpClientFactory(environment, new RestTemplateBuilder(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.destroy();
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("연동별 read timeout 설정이 적용된다.")
+    void readTimeout() {
+        //given
+        RestTemplate restTemplate = factory.create("test");
+        stubServer.delay(1000);
+
+        //when & then
+        assertThatThrownBy(() -> restTemplate.getForEntity(stubServer.getUrl(), String.class))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    @DisplayName("5xx 응답이 임계치를 넘으면 서킷 브레이커가 열려 호출을 보내지 않는다.")
+    void circuitBreakerOpen() {
+        //given
+        RestTemplate restTemplate = factory.create("test");
+        stubServer.respond(500, "{}");
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> restTemplate.getForEntity(stubServer.getUrl(), String.class))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        //then
+        assertThatThrownBy(() -> restTemplate.getForEntity(stubServer.getUrl(), String.class))
+                .isInstanceOf(CallNotPermittedException.class);
+
+        assertThat(stubServer.getRequests()).hasSize(2);
+        assertThat(meterRegistry.get("http.client.rejected").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("http.client.circuit.state").tag("client", "test").gauge().value())
+                .isEqualTo(CircuitBreaker.State.OPEN.ordinal());
+    }
+
+    @Test
+    @DisplayName("연동마다 서킷 브레이커가 분리되어 다른 연동의 장애에 영향을 받지 않는다.")
+    void isolatedPerClient() {
+        //given
+        RestTemplate failing = factory.create("test");
+        RestTemplate healthy = factory.create("other");
+        stubServer.respond(500, "{}");
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> failing.getForEntity(stubServer.getUrl(), String.class))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        //when
+        stubServer.respond(200, "{}");
+
+        //then
+        assertThat(healthy.getForEntity(stubServer.getUrl(), String.class).getStatusCodeValue()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,48 @@
+package com.server.global.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static com.server.domain.order.entity.QOrder.order;
+import static org.assertj.core.api.Assertions.*;
+
+class DatePeriodTest {
+
+    @Test
+    @DisplayName("연월은 해당 월 1일부터 다음 달 1일 전까지의 범위가 된다.")
+    void ofYearMonth() {
+        //when
+        DatePeriod period = DatePeriod.of(YearMonth.of(2023, 12));
+
+        //then
+        assertThat(period.getStart()).isEqualTo(LocalDateTime.of(2023, 12, 1, 0, 0));
+        assertThat(period.getEnd()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("최근 n 개월 범위는 n 개월 전 1일부터 오늘 자정 전까지다.")
+    void recentMonths() {
+        //when
+        DatePeriod period = DatePeriod.recentMonths(2, LocalDate.of(2023, 3, 15));
+
+        //then
+        assertThat(period.getStart()).isEqualTo(LocalDateTime.of(2023, 1, 1, 0, 0));
+        assertThat(period.getEnd()).isEqualTo(LocalDateTime.of(2023, 3, 16, 0, 0));
+    }
+
+    @Test
+    @DisplayName("조건은 컬럼을 함수로 감싸지 않고 start 이상, end 미만으로 비교한다.")
+    void contains() {
+        //given
+        DatePeriod period = DatePeriod.of(YearMonth.of(2023, 9));
+
+        //when & then
+        assertThat(period.contains(order.completedDate))
+                .isEqualTo(order.completedDate.goe(LocalDateTime.of(2023, 9, 1, 0, 0))
+                        .and(order.completedDate.lt(LocalDateTime.of(2023, 10, 1, 0, 0))));
+    }
+}
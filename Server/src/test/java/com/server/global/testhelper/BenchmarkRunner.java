@@ -0,0 +1,50 @@
+package com.server.global.testhelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+
+/**
+ * 벤치마크 테스트에서 같은 작업을 반복 실행하고 소요 시간을 기록한다.
+ *
+ * ./gradlew benchmark -Pbenchmark.iterations=200
+ */
+@Slf4j
+public final class BenchmarkRunner {
+
+    public static final String ENABLED_PROPERTY = "benchmark";
+
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 20);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 100);
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * @return 측정 구간의 중앙값 (마이크로초)
+     */
+    public static long measure(String name, Runnable task) {
+
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            elapsed[i] = (System.nanoTime() - start) / 1_000;
+        }
+
+        Arrays.sort(elapsed);
+
+        long p50 = elapsed[ITERATIONS / 2];
+        long p99 = elapsed[Math.min(ITERATIONS - 1, ITERATIONS * 99 / 100)];
+
+        log.info("[benchmark] {} iterations={} p50={}us p99={}us max={}us",
+                name, ITERATIONS, p50, p99, elapsed[ITERATIONS - 1]);
+
+        return p50;
+    }
+}
@@ -20,6 +20,7 @@ import com.server.chat.controller.AdminChatController;
 import com.server.chat.controller.UserChatController;
 import com.server.chat.service.ChatService;
 import com.server.domain.adjustment.controller.AdjustmentController;
+import com.server.domain.adjustment.service.AdjustmentExportService;
 import com.server.domain.adjustment.service.AdjustmentService;
 import com.server.domain.announcement.controller.AnnouncementController;
 import com.server.domain.announcement.service.AnnouncementService;
@@ -71,6 +72,7 @@ import com.server.domain.member.entity.Member;
 import com.server.domain.member.service.MemberService;
 import com.server.domain.order.controller.OrderController;
 import com.server.domain.order.service.OrderService;
+import com.server.domain.payment.service.PaymentService;
 import com.server.domain.question.controller.QuestionController;
 import com.server.domain.question.service.QuestionService;
 import com.server.domain.reply.controller.ReplyController;
@@ -121,6 +123,8 @@ public class ControllerTest {
 	@MockBean
 	protected OrderService orderService;
 	@MockBean
+	protected PaymentService paymentService;
+	@MockBean
 	protected QuestionService questionService;
 	@MockBean
 	protected ReplyService replyService;
@@ -140,6 +144,8 @@ public class ControllerTest {
 	@MockBean
 	protected AdjustmentService adjustmentService;
 	@MockBean
+	protected AdjustmentExportService adjustmentExportService;
+	@MockBean
 	protected ChatService chatService;
 
 	// 컨트롤러 테스트에 필요한 것들
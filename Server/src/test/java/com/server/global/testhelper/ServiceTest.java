@@ -58,6 +58,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static com.server.global.config.GlobalConfig.OAUTH_REST_TEMPLATE;
+import static com.server.global.config.GlobalConfig.TOSS_REST_TEMPLATE;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @Transactional
@@ -83,7 +86,8 @@ public abstract class ServiceTest {
     @Autowired protected EntityManager em;
 
     @MockBean protected RedisService redisService;
-    @MockBean protected RestTemplate restTemplate;
+    @MockBean(name = TOSS_REST_TEMPLATE) protected RestTemplate restTemplate;
+    @MockBean(name = OAUTH_REST_TEMPLATE) protected RestTemplate oauthRestTemplate;
     @MockBean protected MailService mailService;
     @MockBean protected AwsService awsService;
     @MockBean protected DefaultOAuth2UserService defaultOAuth2UserService;
@@ -105,6 +109,17 @@ public abstract class ServiceTest {
         return member;
     }
 
+    // 리워드 잔액은 엔티티 update 로 반영되지 않으므로 DB 와 엔티티를 함께 바꾼다.
+    protected void addReward(Member member, int reward) {
+        memberRepository.applyRewardDelta(member.getMemberId(), reward);
+        member.addReward(reward);
+    }
+
+    protected void minusReward(Member member, int reward) {
+        memberRepository.applyRewardDelta(member.getMemberId(), -reward);
+        member.minusReward(reward);
+    }
+
     protected Member createMemberWithChannel() {
         Member member = Member.builder()
                 .email("test@gmail.com")
@@ -0,0 +1,109 @@
+package com.server.global.testhelper;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 토스 결제 API 를 흉내내는 로컬 PG 서버
+ */
+public class StubPaymentServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+
+    private volatile int status = 200;
+    private volatile String body = "{}";
+    private volatile long delayMillis = 0;
+
+    public StubPaymentServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/v1/payments/", this::handle);
+        this.server.start();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/payments/";
+    }
+
+    public void respond(int status, String body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    public void delay(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public List<RecordedRequest> getRequests() {
+        return requests;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        requests.add(new RecordedRequest(
+                exchange.getRequestURI().getPath(),
+                exchange.getRequestHeaders().getFirst("Idempotency-Key"),
+                exchange.getRequestHeaders().getFirst("Authorization"),
+                new String(exchange.getRequestBody().readAllBytes(), UTF_8)));
+
+        if(delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] response = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, response.length);
+
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(response);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    public static class RecordedRequest {
+
+        private final String path;
+        private final String idempotencyKey;
+        private final String authorization;
+        private final String body;
+
+        public RecordedRequest(String path, String idempotencyKey, String authorization, String body) {
+            this.path = path;
+            this.idempotencyKey = idempotencyKey;
+            this.authorization = authorization;
+            this.body = body;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getIdempotencyKey() {
+            return idempotencyKey;
+        }
+
+        public String getAuthorization() {
+            return authorization;
+        }
+
+        public String getBody() {
+            return body;
+        }
+    }
+}
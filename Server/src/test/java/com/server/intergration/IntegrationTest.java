@@ -11,8 +11,11 @@ import java.util.Random;
 
 import javax.persistence.EntityManager;
 
+import static com.server.global.config.GlobalConfig.WARMUP_REST_TEMPLATE;
+
 import com.server.domain.announcement.entity.Announcement;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -94,7 +97,7 @@ public class IntegrationTest {
 	// 테스트 유틸 클래스
 	@Autowired protected MockMvc mockMvc;
 	@Autowired protected ObjectMapper objectMapper;
-	@Autowired protected RestTemplate restTemplate;
+	@Autowired @Qualifier(WARMUP_REST_TEMPLATE) protected RestTemplate restTemplate;
 	@Autowired protected EntityManager em;
 
 	// AWS
@@ -0,0 +1,126 @@
+package com.server.module.s3.service;
+
+import com.server.module.s3.service.dto.FileType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * S3 호환 stub(adobe/s3mock) 에 버킷을 띄워 deleteFiles 의 DeleteObjects 일괄 삭제를 확인한다.
+ * docker 가 없으면 건너뛴다.
+ */
+class AwsServiceDeleteFilesTest {
+
+    private static final String S3_MOCK_DOCKER_IMAGE = "adobe/s3mock:2.11.0";
+    private static final String VIDEO_BUCKET = "itprometheus-videos";
+    private static final String IMAGE_BUCKET = "itprometheus-images";
+
+    private static GenericContainer<?> s3Mock;
+    private static S3Client s3Client;
+    private static ThreadPoolTaskExecutor executor;
+    private static AwsService awsService;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "docker 가 없어 S3 stub 테스트를 건너뜁니다.");
+
+        s3Mock = new GenericContainer<>(DockerImageName.parse(S3_MOCK_DOCKER_IMAGE))
+                .withEnv("initialBuckets", VIDEO_BUCKET + "," + IMAGE_BUCKET)
+                .withExposedPorts(9090)
+                .waitingFor(Wait.forHttp("/").forPort(9090));
+        s3Mock.start();
+
+        StaticCredentialsProvider credentialsProvider =
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+
+        s3Client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentialsProvider)
+                .endpointOverride(URI.create("http://" + s3Mock.getHost() + ":" + s3Mock.getMappedPort(9090)))
+                .forcePathStyle(true)
+                .build();
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.initialize();
+
+        S3Presigner s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentialsProvider)
+                .build();
+
+        awsService = new AwsServiceImpl(s3Client, s3Presigner, executor);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (executor != null) executor.shutdown();
+        if (s3Client != null) s3Client.close();
+        if (s3Mock != null) s3Mock.stop();
+    }
+
+    @Test
+    @DisplayName("1000개가 넘는 파일도 버킷별로 나눠 모두 삭제하고, 없는 파일과 null 은 무시한다.")
+    void deleteFiles() {
+        //given
+        List<String> videoFiles = new ArrayList<>();
+        for (int i = 0; i < AwsServiceImpl.DELETE_BATCH_SIZE + 5; i++) {
+            String fileName = "1/videos/" + i;
+            putObject(VIDEO_BUCKET, fileName);
+            videoFiles.add(fileName);
+        }
+        videoFiles.add("1/videos/not-exist");
+        videoFiles.add(null);
+
+        putObject(IMAGE_BUCKET, "1/videos/thumbnail");
+        putObject(IMAGE_BUCKET, "1/previews/preview");
+        putObject(IMAGE_BUCKET, "1/profile/keep");
+
+        //when
+        awsService.deleteFiles(Map.of(
+                FileType.VIDEO, videoFiles,
+                FileType.THUMBNAIL, List.of("1/videos/thumbnail"),
+                FileType.PREVIEW, List.of("1/previews/preview")));
+
+        //then
+        assertThat(keys(VIDEO_BUCKET)).isEmpty();
+        assertThat(keys(IMAGE_BUCKET)).containsExactly("1/profile/keep");
+    }
+
+    private void putObject(String bucket, String key) {
+        s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(),
+                RequestBody.fromString(key));
+    }
+
+    private List<String> keys(String bucket) {
+        List<String> keys = new ArrayList<>();
+        s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder().bucket(bucket).build())
+                .contents()
+                .forEach(object -> keys.add(object.key()));
+        return keys;
+    }
+}